@@ -0,0 +1,41 @@
+package org.tetris.game.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.tetris.game.model.blocks.*;
+
+/**
+ * 블럭 회전과 다음 블럭 생성 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockBenchmark {
+
+    private Block tBlock;
+    private Block iBlock;
+    private NextBlockModel nextBlockModel;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        tBlock = new TBlock();
+        iBlock = new IBlock();
+        nextBlockModel = new NextBlockModel(NextBlockModel.DEFAULT_BLOCK_PROB_LIST, 5, 42L);
+    }
+
+    @Benchmark
+    public Block rotateCW() {
+        tBlock.rotateCW();
+        iBlock.rotateCW();
+        return tBlock;
+    }
+
+    @Benchmark
+    public Block nextBlock() {
+        return nextBlockModel.getBlock();
+    }
+}
@@ -0,0 +1,94 @@
+package org.tetris.game.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tetris.game.model.blocks.*;
+
+/**
+ * Board 핫 패스 벤치마크 (충돌 검사, 하드 드롭, 줄 탐색/압축, 공격 줄 밀어올리기)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    private Board board;
+    private Block block;
+    private int[] garbageRow;
+
+    // 보드 아래쪽 절반을 구멍 뚫린 줄로 채움 (실제 게임 중반과 비슷한 상태)
+    private void fillGarbage(Board target) {
+        int[][] cells = target.getBoard();
+        int h = cells.length;
+        int w = cells[0].length;
+        for (int r = h / 2; r < h; r++) {
+            int hole = (r * 7) % w;
+            for (int c = 0; c < w; c++) {
+                cells[r][c] = (c == hole) ? 0 : 8;
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        board = new Board();
+        fillGarbage(board);
+        block = new TBlock();
+        board.setActiveBlock(block);
+
+        garbageRow = new int[board.getSize().c];
+        for (int c = 1; c < garbageRow.length; c++)
+            garbageRow[c] = 8;
+    }
+
+    @Benchmark
+    public void isValidPos(Blackhole bh) {
+        for (int r = 0; r < 20; r++) {
+            for (int c = 0; c < 10; c++) {
+                bh.consume(board.isValidPos(r, c, block, false));
+            }
+        }
+    }
+
+    @Benchmark
+    public int hardDrop() {
+        board.removeCurrentBlock();
+        board.setActiveBlock(block);
+        return board.hardDrop();
+    }
+
+    @Benchmark
+    public List<Integer> findFullRows() {
+        return board.findFullRows();
+    }
+
+    @Benchmark
+    public void fillClearCollapse() {
+        // 아랫줄 4개를 가득 채우고 지운 뒤 압축 (테트리스 한 번)
+        int[][] cells = board.getBoard();
+        int h = cells.length;
+        for (int r = h - 4; r < h; r++)
+            Arrays.fill(cells[r], 1);
+        for (int r = h - 4; r < h; r++)
+            board.clearRow(r);
+        board.collapse();
+        fillGarbage(board);
+    }
+
+    @Benchmark
+    public boolean pushUp() {
+        board.reset();
+        List<int[]> rows = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++)
+            rows.add(garbageRow);
+        return board.pushUp(rows);
+    }
+}
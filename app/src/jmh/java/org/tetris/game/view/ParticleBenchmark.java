@@ -0,0 +1,44 @@
+package org.tetris.game.view;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 줄 삭제 효과가 계속 터지는 상황에서 입자 풀의 프레임당 갱신 비용.
+ *
+ * 매 프레임 네 줄(줄당 40개)의 입자를 만들고 전체를 한 번 움직입니다.
+ * 풀이 가득 차서 덮어쓰는 구간까지 포함하며, -prof gc로 보면 할당이 0이어야 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParticleBenchmark {
+
+    private static final double WIDTH = 340;
+    private static final double CELL = 34;
+
+    private ParticleSystem particles;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY, 42);
+    }
+
+    @Benchmark
+    public int tetrisEveryFrame() {
+        for (int row = 16; row < 20; row++) {
+            for (int i = 0; i < 20; i++) {
+                double x = particles.nextDouble() * WIDTH;
+                double y = row * CELL + particles.nextDouble() * CELL;
+                particles.spawn(x, y, 0);
+                particles.spawn(x, y, 1);
+            }
+        }
+        particles.update();
+        return particles.size();
+    }
+}
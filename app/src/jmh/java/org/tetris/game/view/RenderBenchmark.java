@@ -0,0 +1,95 @@
+package org.tetris.game.view;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.tetris.game.model.Board;
+import org.tetris.game.model.blocks.*;
+import org.util.Point;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * 1400x820 대전 화면(보드 두 개) 한 프레임의 보드 렌더링 비용.
+ *
+ * 보드 아래 절반이 쌓인 상태에서 매 프레임 블럭이 한 칸씩 움직입니다.
+ * fullRedraw는 예전처럼 매 프레임 전체를 지우고 다시 그리고, incremental은 고정된 블럭 층은 그대로 두고
+ * 조작 중인 블럭 층의 바뀐 칸만 다시 그립니다.
+ * 화면에 붙지 않은 캔버스라 GraphicsContext 명령을 쌓는 (FX 스레드) 비용만 잽니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Dprism.order=sw" })
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    // 1400x820 대전 화면: 보드 영역 700 x 683 -> min(700 / 10, 683 / 20)
+    private static final int DUAL_CELL_SIZE = 34;
+
+    private final Board[] boards = new Board[2];
+    private final GameViewRenderer[] renderers = new GameViewRenderer[2];
+    private int frame = 0;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        for (int i = 0; i < 2; i++) {
+            Board board = new Board();
+            int[][] cells = board.getBoard();
+            for (int r = 10; r < 20; r++) {
+                for (int c = 0; c < 10; c++)
+                    cells[r][c] = (c == (r * 3) % 10) ? 0 : 1 + (r + c) % 7;
+            }
+            board.setActiveBlock(new TBlock());
+
+            boards[i] = board;
+            renderers[i] = new GameViewRenderer(new Pane(), null, null, new Point(20, 10), DUAL_CELL_SIZE, 0);
+            renderers[i].renderBoard(board, null, false, false);
+        }
+    }
+
+    // 블럭을 좌우로 한 칸씩 (벽에 닿으면 위로 되돌림)
+    private void moveActiveBlocks() {
+        frame++;
+        for (Board board : boards) {
+            boolean moved = (frame & 8) == 0 ? board.moveRight() : board.moveLeft();
+            if (!moved)
+                board.moveDown();
+        }
+    }
+
+    @Benchmark
+    public void fullRedraw() {
+        moveActiveBlocks();
+        for (int i = 0; i < 2; i++) {
+            renderers[i].boardReset();
+            renderers[i].renderBoard(boards[i], null, false, false);
+        }
+    }
+
+    @Benchmark
+    public void incremental() {
+        moveActiveBlocks();
+        for (int i = 0; i < 2; i++) {
+            // 화면에 붙지 않은 캔버스는 펄스가 없어 명령 버퍼가 비워지지 않음 -> 가끔 전체를 덮어 비움
+            if ((frame & 1023) == 0)
+                renderers[i].boardReset();
+            renderers[i].renderBoard(boards[i], null, false, false);
+        }
+    }
+
+    @Benchmark
+    public void incrementalWithEffects() {
+        moveActiveBlocks();
+        for (int i = 0; i < 2; i++) {
+            // 줄 삭제 효과가 끊이지 않는 상황 (효과 층만 매 프레임 다시 그림)
+            if (frame % 20 == 0)
+                renderers[i].triggerLineClearEffect(19);
+            renderers[i].updateEffects();
+            if ((frame & 1023) == 0)
+                renderers[i].boardReset();
+            renderers[i].renderBoard(boards[i], null, false, false);
+        }
+    }
+}
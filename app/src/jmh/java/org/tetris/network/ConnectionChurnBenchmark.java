@@ -0,0 +1,134 @@
+package org.tetris.network;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.tetris.network.protocol.BinaryCommandChannel;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드에서 연결 N개를 열고 닫는 비용과 메모리 사용량 비교.
+ * 연결 하나는 ServerThread(송신+수신) + ClientThread(수신+Ping) 루프 4개로 이루어집니다.
+ * 프로토콜 협상은 측정에서 제외하기 위해 미리 만든 바이너리 채널을 사용합니다.
+ *
+ * 예: ./gradlew jmh -Pjmh.include=ConnectionChurnBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ConnectionChurnBenchmark {
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    public NetworkThreads.Mode mode;
+
+    @Param({ "500" })
+    public int connections;
+
+    private ServerSocket listener;
+    private final List<ServerThread> servers = new ArrayList<>();
+    private final List<ClientThread> clients = new ArrayList<>();
+
+    /**
+     * 연결을 모두 연 상태에서 측정한 메모리 (iteration 평균)
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long rssKb;
+        public long heapKb;
+        public long platformThreads;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        NetworkThreads.setMode(mode);
+        listener = new ServerSocket(0, connections);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        listener.close();
+        NetworkThreads.setMode(NetworkThreads.Mode.PLATFORM);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeAll() {
+        closeConnections();
+    }
+
+    private void openConnections() throws IOException {
+        for (int i = 0; i < connections; i++) {
+            Socket clientSocket = new Socket("localhost", listener.getLocalPort());
+            // 반복 측정 중 TIME_WAIT로 임시 포트가 고갈되지 않도록 RST로 닫음
+            clientSocket.setSoLinger(true, 0);
+            Socket serverSocket = listener.accept();
+
+            ServerThread server = new ServerThread(serverSocket,
+                    new BinaryCommandChannel(serverSocket.getInputStream(), serverSocket.getOutputStream()));
+            server.start();
+            servers.add(server);
+
+            ClientThread client = new ClientThread();
+            client.attach(clientSocket,
+                    new BinaryCommandChannel(clientSocket.getInputStream(), clientSocket.getOutputStream()));
+            clients.add(client);
+        }
+    }
+
+    private void closeConnections() {
+        for (ClientThread client : clients)
+            client.disconnect();
+        for (ServerThread server : servers)
+            server.close();
+        clients.clear();
+        servers.clear();
+    }
+
+    /**
+     * 연결 N개를 열고 모두 닫는 데 걸리는 시간
+     */
+    @Benchmark
+    public void churn() throws IOException {
+        openConnections();
+        closeConnections();
+    }
+
+    /**
+     * 연결 N개를 연 상태의 메모리/스레드 수 (시간은 열기 비용)
+     * 보조 카운터는 iteration마다 합산되므로 측정 iteration을 하나로 둡니다.
+     */
+    @Benchmark
+    @Measurement(iterations = 1)
+    public void footprint(Footprint footprint) throws IOException {
+        openConnections();
+
+        System.gc();
+        Runtime rt = Runtime.getRuntime();
+        footprint.heapKb = (rt.totalMemory() - rt.freeMemory()) / 1024;
+        footprint.platformThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        footprint.rssKb = readRssKb();
+    }
+
+    // 리눅스에서만 측정 (/proc/self/status의 VmRSS), 그 외에는 0
+    private static long readRssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:"))
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        } catch (IOException | RuntimeException e) {
+            // 지원하지 않는 플랫폼
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,56 @@
+package org.tetris.network.comand;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 블럭 고정마다 전송되는 UpdateStateCommand 직렬화/역직렬화 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UpdateStateCommandBenchmark {
+
+    private int[][] board;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        board = new int[20][10];
+        for (int r = 10; r < 20; r++) {
+            for (int c = 0; c < 10; c++) {
+                board[r][c] = (c == r % 10) ? 0 : 1 + (r + c) % 7;
+            }
+        }
+        serialized = serialize(new UpdateStateCommand(board, 0, 5, 12345));
+    }
+
+    private static byte[] serialize(Object command) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(command);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializeCommand() throws IOException {
+        return serialize(new UpdateStateCommand(board, 0, 5, 12345));
+    }
+
+    @Benchmark
+    public Object deserializeCommand() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+}
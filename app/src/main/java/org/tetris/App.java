@@ -2,6 +2,7 @@ package org.tetris;
 
 import org.tetris.network.GameClient;
 import org.tetris.network.GameServer;
+import org.tetris.scoreboard.model.ScoreBoard;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -37,6 +38,9 @@ public class App extends Application {
         } catch (Exception e) {
             System.err.println("[APP] Error stopping server: " + e.getMessage());
         }
+
+        // 창을 닫아 종료해도 남은 점수 기록을 마침
+        ScoreBoard.closeAll();
         
         System.out.println("[APP] Cleanup complete.");
     }
@@ -15,10 +15,15 @@ import org.tetris.game.controller.GameController;
 import org.tetris.game.controller.P2PGameController;
 import org.tetris.game.model.GameMode;
 import org.tetris.scoreboard.controller.ScoreBoardController;
+import org.tetris.scoreboard.model.MatchHistory;
+import org.tetris.scoreboard.model.MatchRecord;
 import org.tetris.scoreboard.model.ScoreBoard;
 import org.tetris.shared.*;
 import org.util.ScreenPreset;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
@@ -37,6 +42,8 @@ public final class Router {
 
     private MvcBundle<?, ViewWrap, ?> current; // 현재 화면
 
+    private MatchHistory matchHistory; // 처음 기록할 때 열림
+
     public Router(Stage stage) {
         this.stage = stage;
         this.setting = new Setting();
@@ -45,6 +52,7 @@ public final class Router {
         this.settingsFactory = new SettingMenuFactory(setting);
         this.gameFactory = new GameFactory();
         this.scoreBoardFactory = new ScoreBoardFactory();
+        ScoreBoard.openDefaultFiles(); // 점수판을 열 때 디스크를 기다리지 않도록 시작할 때 한 번 복구
         this.networkMenuFactory = new NetworkMenuFactory();
         this.dualGameFactory = new DualGameFactory();
         this.p2pGameFactory = new P2PGameFactory();
@@ -93,10 +101,18 @@ public final class Router {
     }
 
     public void showDualGamePlaceholder(GameMode mode) {
+        showDualGamePlaceholder(mode, false);
+    }
+
+    /**
+     * @param vsComputer true면 2P를 컴퓨터가 맡음
+     */
+    public void showDualGamePlaceholder(GameMode mode, boolean vsComputer) {
         setStageSize(1400, 820);
         var controller = show(dualGameFactory);
-        if (controller instanceof DualGameController gameController) {
+        if (controller instanceof DualGameController<?> gameController) {
             gameController.setUpGameMode(mode);
+            gameController.setPlayer2Ai(vsComputer);
             gameController.initialize();
         }
     }
@@ -125,10 +141,36 @@ public final class Router {
         showPopup(scoreBoardFactory, "Score Board");
     }
 
+    /**
+     * 끝난 게임을 매치 기록 파일에 추가합니다. 실패해도 게임 진행에는 영향을 주지 않습니다.
+     */
+    public void recordMatch(MatchRecord record) {
+        try {
+            if (matchHistory == null)
+                matchHistory = MatchHistory.open(Paths.get(MatchHistory.DEFAULT_FILE_NAME));
+            matchHistory.append(record);
+        } catch (IOException e) {
+            System.err.println("[MatchHistory] 기록 실패: " + e.getMessage());
+        }
+    }
+
     public void exitGame() {
+        closeMatchHistory();
+        ScoreBoard.closeAll(); // 아직 쓰지 못한 점수 기록을 마치고 로그 파일을 닫음
         stage.close();
     }
 
+    private void closeMatchHistory() {
+        if (matchHistory == null)
+            return;
+        try {
+            matchHistory.close();
+        } catch (IOException e) {
+            System.err.println("[MatchHistory] 닫기 실패: " + e.getMessage());
+        }
+        matchHistory = null;
+    }
+
     // Setting getter (필요한 경우)
     public Setting getSetting() {
         return setting;
@@ -5,13 +5,18 @@ import java.util.List;
 import org.tetris.Router;
 import org.tetris.game.model.AttackModel;
 import org.tetris.game.model.DualGameModel;
+import org.tetris.game.model.FixedTimestep;
 import org.tetris.game.model.GameMode;
 import org.tetris.game.model.GameModel;
+import org.tetris.game.model.GameSimulation.Input;
 import org.tetris.game.model.PlayerSlot;
+import org.tetris.game.model.ai.AiPlayer;
 import org.tetris.game.model.items.ItemActivation;
 import org.tetris.game.view.GameViewRenderer;
+import org.tetris.scoreboard.model.MatchRecord;
 import org.tetris.shared.BaseController;
 import org.tetris.shared.RouterAware;
+import org.util.Difficulty;
 import org.util.KeyLayout;
 import org.util.PlayerId;
 import org.util.Point;
@@ -119,21 +124,27 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
     protected Router router;
     private AnimationTimer gameLoop;
 
-    protected long lastUpdate = 0L;
-    private static final long FRAME_TIME = 16_666_667L; // ~60 FPS (나노초)
-    private long lastLogTime = 0L;
+    // 화면 주사율과 관계없이 게임 로직은 초당 60틱으로 진행
+    protected final FixedTimestep timestep = new FixedTimestep();
 
     // 플래시 애니메이션 파라미터
     private static final int FLASH_TIMES = 2;
     private static final int FLASH_TOGGLES = FLASH_TIMES * 2;
-    private static final long FLASH_INTERVAL_NANOS = 100_000_000L; // 100ms
+    private static final int FLASH_INTERVAL_TICKS = 6; // 100ms
     private static final int MIN_CELL_SIZE = 16;
     private static final double PREVIEW_RATIO = 0.8;
     
+    // 컴퓨터 플레이어는 몇 프레임마다 입력 하나 (사람처럼 보이도록, 60 FPS 기준 초당 15회)
+    private static final int AI_INPUT_INTERVAL_FRAMES = 4;
+
     private boolean isTimeAttackMode = false;
     private boolean isGameOver = false;
     protected boolean firstTriggered = false; // 게임 초기화 후 첫 프레임 트리거 플래그 -> 블록이 미리 떨어짐을 방지
-    private double playTime = 0.0;
+    private long playTicks = 0L; // 일시정지를 뺀 진행 틱 수 (타임어택, 기록용 게임 시간)
+
+    // 2P 자리를 컴퓨터가 맡으면 null이 아님
+    private AiPlayer player2Ai;
+    private int aiFrameCount = 0;
 
     public DualGameController(M model) {
         super(model);
@@ -185,6 +196,17 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         updateTimeAttackVisibility();
     }
 
+    /**
+     * 2P를 컴퓨터 플레이어로 바꿉니다. (2P 키 입력은 무시)
+     */
+    public void setPlayer2Ai(boolean enabled) {
+        player2Ai = enabled ? new AiPlayer() : null;
+    }
+
+    public boolean isPlayer2Ai() {
+        return player2Ai != null;
+    }
+
     // PlayerSlot 생성 로직 통합
     private void setupPlayerSlots() {
         if (root.getScene() == null || root.getScene().getWindow() == null) {
@@ -345,12 +367,14 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
                 KeyLayout.getDownKey(PlayerId.PLAYER1),
                 KeyLayout.getHardDropKey(PlayerId.PLAYER1));
 
-        handlePlayerInput(e, player2, 
-                KeyLayout.getLeftKey(PlayerId.PLAYER2), 
-                KeyLayout.getRightKey(PlayerId.PLAYER2),
-                KeyLayout.getUpKey(PlayerId.PLAYER2),
-                KeyLayout.getDownKey(PlayerId.PLAYER2),
-                KeyLayout.getHardDropKey(PlayerId.PLAYER2));
+        if (player2Ai == null) {
+            handlePlayerInput(e, player2, 
+                    KeyLayout.getLeftKey(PlayerId.PLAYER2), 
+                    KeyLayout.getRightKey(PlayerId.PLAYER2),
+                    KeyLayout.getUpKey(PlayerId.PLAYER2),
+                    KeyLayout.getDownKey(PlayerId.PLAYER2),
+                    KeyLayout.getHardDropKey(PlayerId.PLAYER2));
+        }
 
         updateScoreDisplay();
         e.consume();
@@ -366,37 +390,68 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
             return;
 
         KeyCode code = e.getCode();
-        boolean updateNeeded = false;
+        Input input = null;
 
         if (code == left) {
-            player.boardModel.moveLeft();
-            updateNeeded = true;
+            input = Input.LEFT;
         } else if (code == right) {
-            player.boardModel.moveRight();
-            updateNeeded = true;
+            input = Input.RIGHT;
         } else if (code == rotate) {
-            player.boardModel.rotate();
-            updateNeeded = true;
+            input = Input.ROTATE;
         } else if (code == down) {
-            if (player.boardModel.moveDown()) {
-                player.scoreModel.softDrop(1);
-            }
-            updateNeeded = true;
+            input = Input.SOFT_DROP;
         } else if (code == hardDrop) {
-            handleHardDrop(player);
-            return;
+            input = Input.HARD_DROP;
         }
 
-        if (updateNeeded) {
-            updateUI();
+        if (input != null) {
+            applyInput(player, input);
+        }
+    }
+
+    // 키 입력과 컴퓨터 플레이어 입력 공통 처리
+    protected void applyInput(PlayerSlot player, Input input) {
+        switch (input) {
+            case LEFT:
+                player.boardModel.moveLeft();
+                break;
+            case RIGHT:
+                player.boardModel.moveRight();
+                break;
+            case ROTATE:
+                player.boardModel.rotate();
+                break;
+            case SOFT_DROP:
+                if (player.boardModel.moveDown()) {
+                    player.scoreModel.softDrop(1);
+                }
+                break;
+            case HARD_DROP:
+                handleHardDrop(player);
+                return;
         }
+        updateUI();
+    }
+
+    // 컴퓨터 플레이어: 탐색은 백그라운드에서 하고, 여기서는 정해진 입력만 적용 (게임 루프를 막지 않음)
+    private void updateAi(PlayerSlot player, AiPlayer ai) {
+        if (ai == null || player.isFlashing || player.gameModel.isGameOver())
+            return;
+        if (++aiFrameCount < AI_INPUT_INTERVAL_FRAMES)
+            return;
+
+        Input input = ai.nextInput(player.boardModel, player.nextBlockModel);
+        if (input == null)
+            return; // 아직 탐색 중 -> 다음 프레임에 다시
+        aiFrameCount = 0;
+        applyInput(player, input);
     }
 
     protected void handleHardDrop(PlayerSlot player) {
         int dropDistance = player.boardModel.hardDrop();
         player.scoreModel.add(dropDistance * 2);
 
-        player.lastDropTime = System.nanoTime();
+        player.framesSinceDrop = 0;
         
         // Trigger Hard Drop Effect
         player.renderer.triggerHardDropEffect();
@@ -412,9 +467,6 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
     // === 게임 루프 ===
     protected void startGameLoop() {
         gameLoop = new AnimationTimer() {
-            double deltaTime = 0.0;
-            long previousTime = System.nanoTime();
-
             @Override
             public void handle(long now) {
                 if (player1 == null || player2 == null)
@@ -424,86 +476,91 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
                     return;
                 }
 
-                if (lastUpdate == 0L) {
-                    lastUpdate = now;
-                    player1.lastDropTime = now;
-                    player2.lastDropTime = now;
-                    return;
-                }
-
-                deltaTime = (now - previousTime) / 1_000_000_000.0;
-                previousTime = now;
-
-                if (!isPaused()) {
-                    playTime += deltaTime; // 초 단위
-                }
-
-                long elapsed = now - lastUpdate;
-                if (elapsed >= FRAME_TIME) {
-                    update(now);
-                    lastUpdate = now;
-                }
+                // 흐른 시간만큼 고정 틱을 진행하고(0틱일 수도, 여러 틱일 수도 있음) 화면은 한 번만 그림
+                int ticks = timestep.advance(now);
+                for (int i = 0; i < ticks && !isGameOver; i++)
+                    update();
+                renderFrame(ticks > 0);
             }
         };
         gameLoop.start();
     }
 
-    private void update(long now) {
+    // 게임 로직 한 틱 (1/60초)
+    private void update() {
         if (isPaused())
             return;
 
-        if (lastLogTime == 0L) {
-            lastLogTime = now;
-        } else if (now - lastLogTime >= 1_000_000_000L) {
-            System.out.println(dualGameModel.getTimeAttack().getRemainingSeconds(playTime) + " seconds left");
-            lastLogTime = now;
-        }
-
         if (player1 == null || player2 == null)
             return;
 
+        playTicks++;
+        if (playTicks % timestep.getTicksPerSecond() == 0)
+            System.out.println(dualGameModel.getTimeAttack().getRemainingSeconds(getPlaySeconds()) + " seconds left");
+
         // Update Effects Animation
-        player1.renderer.updateEffects(now);
-        player2.renderer.updateEffects(now);
+        player1.renderer.updateEffects();
+        player2.renderer.updateEffects();
 
-        handlePlayerUpdate(player1, now);
-        handlePlayerUpdate(player2, now);
+        updateAi(player2, player2Ai);
+
+        handlePlayerUpdate(player1);
+        handlePlayerUpdate(player2);
 
-        updateUI();
         checkGameOverState();
     }
 
-    private void handlePlayerUpdate(PlayerSlot player, long now) {
+    // 화면 프레임마다: 효과는 틱 사이로 보간해 그리고, 점수판 등은 틱이 진행된 프레임에만 갱신
+    private void renderFrame(boolean ticked) {
+        if (isPaused())
+            return;
+
+        player1.renderer.setInterpolation(timestep.alpha());
+        player2.renderer.setInterpolation(timestep.alpha());
+        if (ticked) {
+            updateUI();
+        } else {
+            updateGameBoard(player1);
+            updateGameBoard(player2);
+        }
+    }
+
+    // 일시정지를 뺀 게임 시간 (초)
+    private double getPlaySeconds() {
+        return (double) playTicks / timestep.getTicksPerSecond();
+    }
+
+    protected void handlePlayerUpdate(PlayerSlot player) {
         GameModel gm = player.gameModel;
         if (gm.isGameOver())
             return;
 
         if (player.isFlashing) {
-            tickFlash(player, now);
+            tickFlash(player);
             return;
         }
 
-        int dropIntervalFrames = gm.getDropInterval();
-        long dropIntervalNanos = dropIntervalFrames * FRAME_TIME;
-
-        if (now - player.lastDropTime >= dropIntervalNanos) {
+        // 레벨에 따른 블록 낙하 간격 (틱 기준)
+        player.framesSinceDrop++;
+        if (player.framesSinceDrop >= gm.getDropInterval()) {
+            player.framesSinceDrop = 0;
             boolean moved = player.boardModel.moveDown();
             if (moved) {
                 player.scoreModel.blockDropped();
             } else {
                 lockCurrentBlock(player);
             }
-            player.lastDropTime = now;
         }
     }
 
     protected void checkGameOverState() {
+        boolean wasGameOver = isGameOver;
         isGameOver = false;
 
         boolean p1Over = player1.gameModel.isGameOver();
         boolean p2Over = player2.gameModel.isGameOver();
 
-        if (dualGameModel.getTimeAttack().getRemainingSeconds(playTime) == 0) {
+        if (dualGameModel.getTimeAttack().getRemainingSeconds(getPlaySeconds()) == 0) {
             int score1 = player1.scoreModel.getScore();
             int score2 = player2.scoreModel.getScore();
 
@@ -525,10 +582,29 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         if (gameLoop != null)
             gameLoop.stop();
         showGameOverlay();
+        if (!wasGameOver)
+            recordMatches();
 
         setWinnerLabel(p1Over, p2Over);
     }
 
+    // 끝난 게임을 매치 기록에 추가 (두 플레이어 모두)
+    protected void recordMatches() {
+        recordMatch(player1);
+        recordMatch(player2);
+    }
+
+    protected void recordMatch(PlayerSlot player) {
+        if (router == null || player == null)
+            return;
+
+        GameModel gm = player.gameModel;
+        GameMode mode = isTimeAttackMode ? GameMode.TIME_ATTACK
+                : gm.isItemMode() ? GameMode.ITEM : GameMode.NORMAL;
+        router.recordMatch(new MatchRecord(player.scoreModel.getScore(), gm.getTotalLinesCleared(), gm.getLevel(),
+                mode, Difficulty.getCurrentDifficulty(), (int) timestep.ticksToMillis(playTicks), System.currentTimeMillis()));
+    }
+
     private void setWinnerLabel(boolean p1Over, boolean p2Over) {
         String result;
 
@@ -576,7 +652,7 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         }
 
         if (!player.clearingRows.isEmpty() || !player.clearingCols.isEmpty() || !player.clearingCells.isEmpty()) {
-            beginFlash(player, System.nanoTime());
+            beginFlash(player);
             return;
         }
 
@@ -595,24 +671,26 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         
     }
 
-    private void beginFlash(PlayerSlot player, long now) {
+    private void beginFlash(PlayerSlot player) {
         player.isFlashing = true;
         player.flashMask = player.renderer.buildFlashMask(player.clearingRows, player.clearingCols,
                 player.clearingCells);
         player.flashOn = false;
         player.flashToggleCount = 0;
-        player.nextFlashAt = now;
+        player.flashTicksLeft = 0; // 다음 틱에 바로 첫 깜빡임
     }
 
-    private void tickFlash(PlayerSlot player, long now) {
+    private void tickFlash(PlayerSlot player) {
         if (player == null || !player.isFlashing || player.flashMask == null)
             return;
-        if (now < player.nextFlashAt)
+        if (player.flashTicksLeft > 0) {
+            player.flashTicksLeft--;
             return;
+        }
 
         player.flashOn = !player.flashOn;
         player.flashToggleCount++;
-        player.nextFlashAt = now + FLASH_INTERVAL_NANOS;
+        player.flashTicksLeft = FLASH_INTERVAL_TICKS - 1;
 
         if (player.flashToggleCount >= FLASH_TOGGLES) {
             player.isFlashing = false;
@@ -680,11 +758,8 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
     }
 
     private void deleteCompletedCells(PlayerSlot player) {
-        int h = player.boardModel.getSize().r, w = player.boardModel.getSize().c;
-        for (Point p : player.clearingCells) {
-            if (p.r >= 0 && p.r < h && p.c >= 0 && p.c < w)
-                player.boardModel.getBoard()[p.r][p.c] = 0;
-        }
+        for (Point p : player.clearingCells)
+            player.boardModel.clearCell(p.r, p.c);
         player.clearingCells.clear();
     }
 
@@ -714,7 +789,7 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         if (player == null)
             return;
 
-        player.renderer.renderBoard(player.boardModel.getBoard(), player.flashMask, player.isFlashing, player.flashOn);
+        player.renderer.renderBoard(player.boardModel, player.flashMask, player.isFlashing, player.flashOn);
     }
 
     private void updateScoreDisplay() {
@@ -742,7 +817,7 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
             return;
         }
 
-        int remainingSeconds = (int) Math.ceil(dualGameModel.getTimeAttack().getRemainingSeconds(playTime));
+        int remainingSeconds = (int) Math.ceil(dualGameModel.getTimeAttack().getRemainingSeconds(getPlaySeconds()));
         String formatted = formatSeconds(Math.max(remainingSeconds, 0));
 
         if (timerLabel1 != null)
@@ -778,7 +853,7 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         hidePauseOverlay();
         if (gameLoop != null) {
             gameLoop.stop(); // Stop the game loop
-            lastUpdate = 0L;
+            timestep.resync();
         }
     }
 
@@ -794,7 +869,8 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
         player2.gameModel.setPaused(false);
         hidePauseOverlay();
         if (gameLoop != null) {
-            lastUpdate = 0L;
+            // 멈춰 있던 시간은 따라잡지 않음
+            timestep.resync();
             gameLoop.start();
         } else
             startGameLoop();
@@ -829,17 +905,20 @@ public class DualGameController<M extends DualGameModel> extends BaseController<
     }
 
     protected void resetGameController() {
-        playTime = 0.0;
+        playTicks = 0L;
 
         if (gameLoop != null)
             gameLoop.stop();
 
-        lastUpdate = 0L;
+        timestep.reset();
 
         if (player1 != null)
             player1.reset();
         if (player2 != null)
             player2.reset();
+        if (player2Ai != null)
+            player2Ai.reset();
+        aiFrameCount = 0;
     }
 
     protected void showGameOverlay() {
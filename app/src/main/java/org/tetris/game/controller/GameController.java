@@ -5,6 +5,8 @@ import java.util.List;
 import org.tetris.Router;
 
 import org.tetris.game.model.Board;
+import org.tetris.game.model.FixedTimestep;
+import org.tetris.game.model.GameMode;
 import org.tetris.game.model.GameModel;
 import org.tetris.game.model.ScoreModel;
 import org.tetris.game.model.blocks.Block;
@@ -12,10 +14,12 @@ import org.tetris.game.model.items.ItemActivation;
 import org.tetris.game.model.NextBlockModel;
 import org.tetris.game.model.PlayerSlot;
 import org.tetris.game.view.GameViewRenderer;
+import org.tetris.scoreboard.model.MatchRecord;
 
 import org.tetris.shared.BaseController;
 import org.tetris.shared.RouterAware;
 
+import org.util.Difficulty;
 import org.util.KeyLayout;
 import org.util.PlayerId;
 import org.util.Point;
@@ -94,14 +98,15 @@ public class GameController extends BaseController<GameModel> implements RouterA
     private PlayerSlot player; // 싱글플레이용 슬롯 1개
 
     private AnimationTimer gameLoop;
-    private long lastUpdate = 0;
-    private long lastDropTime = 0; // 마지막 블록 낙하 시간
-    private static final long FRAME_TIME = 16_666_667; // ~60 FPS (나노초)
+    // 화면 주사율과 관계없이 게임 로직은 초당 60틱으로 진행
+    private final FixedTimestep timestep = new FixedTimestep();
+    private int framesSinceDrop = 0; // 마지막 자동 낙하 이후 지난 틱 수
+    private long playFrames = 0; // 일시정지를 뺀 진행 틱 수 (기록용 게임 시간)
 
     // 플래시 애니메이션 파라미터
     private static final int FLASH_TIMES = 2;
     private static final int FLASH_TOGGLES = FLASH_TIMES * 2; // on/off 합계
-    private static final long FLASH_INTERVAL_NANOS = 100_000_000L; // 100ms
+    private static final int FLASH_INTERVAL_TICKS = 6; // 100ms
 
     // ===== ItemActivation 구현 (아이템이 지울 행/열/셀 추가) =====
 
@@ -159,8 +164,9 @@ public class GameController extends BaseController<GameModel> implements RouterA
 
         // 게임 상태 초기화
         gameModel.reset();
-        lastUpdate = 0;
-        lastDropTime = 0;
+        timestep.reset();
+        framesSinceDrop = 0;
+        playFrames = 0;
 
         // Stage 크기가 잡힌 후 PlayerSlot + UI 세팅
         Platform.runLater(() -> {
@@ -316,7 +322,7 @@ public class GameController extends BaseController<GameModel> implements RouterA
 
         int dropDistance = player.boardModel.hardDrop();
         player.scoreModel.add(dropDistance * 2); // 하드 드롭 보너스
-        lastDropTime = System.nanoTime(); // 하드 드롭 후 타이머 리셋
+        framesSinceDrop = 0; // 하드 드롭 후 낙하 타이머 리셋
         
         // Trigger Hard Drop Effect
         player.renderer.triggerHardDropEffect();
@@ -342,58 +348,53 @@ public class GameController extends BaseController<GameModel> implements RouterA
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                if (lastUpdate == 0) {
-                    lastUpdate = now;
-                    lastDropTime = now;
-                    return;
-                }
-
-                long elapsed = now - lastUpdate;
-                if (elapsed >= FRAME_TIME) {
-                    updateGameLoop(now);
-                    lastUpdate = now;
-                }
+                // 흐른 시간만큼 고정 틱을 진행하고(0틱일 수도, 여러 틱일 수도 있음) 화면은 한 번만 그림
+                int ticks = timestep.advance(now);
+                for (int i = 0; i < ticks; i++)
+                    updateGameLoop();
+                renderFrame(ticks > 0);
             }
         };
         gameLoop.start();
     }
 
-    private void updateGameLoop(long now) {
-        if (gameModel.isPaused() || gameModel.isGameOver()) {
+    // 게임 로직 한 틱 (1/60초)
+    private void updateGameLoop() {
+        if (player == null || gameModel.isPaused() || gameModel.isGameOver()) {
             return;
         }
+        playFrames++;
 
         // Update Effects Animation
-        if (player != null) {
-            player.renderer.updateEffects(now);
-        }
+        player.renderer.updateEffects();
 
-        if (player != null && player.isFlashing) {
-            tickFlash(now);
-            updateGameBoard();
+        if (player.isFlashing) {
+            tickFlash();
             return;
         }
 
-        // 레벨에 따른 블록 낙하 간격 (프레임 기준)
-        int dropIntervalFrames = gameModel.getDropInterval();
-        long dropIntervalNanos = dropIntervalFrames * FRAME_TIME;
-
-        long timeSinceLastDrop = now - lastDropTime;
-        if (timeSinceLastDrop >= dropIntervalNanos) {
+        // 레벨에 따른 블록 낙하 간격 (틱 기준)
+        framesSinceDrop++;
+        if (framesSinceDrop >= gameModel.getDropInterval()) {
+            framesSinceDrop = 0;
             boolean moved = player.boardModel.autoDown();
-
-            if (player != null) {
-                if (moved) {
-                    player.scoreModel.blockDropped();
-                } else {
-                    lockCurrentBlock();
-                }
+            if (moved) {
+                player.scoreModel.blockDropped();
+            } else {
+                lockCurrentBlock();
             }
-
-            lastDropTime = now;
         }
+    }
+
+    // 화면 프레임마다: 효과는 틱 사이로 보간해 그리고, 점수판은 틱이 진행된 프레임에만 갱신
+    private void renderFrame(boolean ticked) {
+        if (player == null || gameModel.isPaused())
+            return;
 
+        player.renderer.setInterpolation(timestep.alpha());
         updateGameBoard();
+        if (!ticked)
+            return;
         updateScoreDisplay();
         updateLevelDisplay();
         updateLinesDisplay();
@@ -428,7 +429,7 @@ public class GameController extends BaseController<GameModel> implements RouterA
                 !player.clearingCols.isEmpty() ||
                 !player.clearingCells.isEmpty()) {
 
-            beginFlash(System.nanoTime());
+            beginFlash();
             return; // 플래시 종료 후 실제 삭제
         }
 
@@ -440,7 +441,7 @@ public class GameController extends BaseController<GameModel> implements RouterA
     }
 
     // 플래시 애니메이션 시작
-    private void beginFlash(long now) {
+    private void beginFlash() {
         player.isFlashing = true;
 
         player.flashMask = player.renderer.buildFlashMask(
@@ -450,20 +451,22 @@ public class GameController extends BaseController<GameModel> implements RouterA
 
         player.flashOn = false;
         player.flashToggleCount = 0;
-        player.nextFlashAt = now;
+        player.flashTicksLeft = 0; // 다음 틱에 바로 첫 깜빡임
     }
 
     // 플래시 애니메이션 틱
-    private void tickFlash(long now) {
+    private void tickFlash() {
         if (player == null || !player.isFlashing || player.flashMask == null)
             return;
 
-        if (now < player.nextFlashAt)
+        if (player.flashTicksLeft > 0) {
+            player.flashTicksLeft--;
             return;
+        }
 
         player.flashOn = !player.flashOn;
         player.flashToggleCount++;
-        player.nextFlashAt = now + FLASH_INTERVAL_NANOS;
+        player.flashTicksLeft = FLASH_INTERVAL_TICKS - 1;
 
         if (player.flashToggleCount >= FLASH_TOGGLES) {
             player.isFlashing = false;
@@ -514,13 +517,8 @@ public class GameController extends BaseController<GameModel> implements RouterA
 
     // 셀 실제 삭제 처리
     private void deleteCompletedCells() {
-        int boardHeight = player.boardModel.getSize().r;
-        int boardWidth = player.boardModel.getSize().c;
-
         for (Point p : player.clearingCells) {
-            if (p.r >= 0 && p.r < boardHeight && p.c >= 0 && p.c < boardWidth) {
-                player.boardModel.getBoard()[p.r][p.c] = 0;
-            }
+            player.boardModel.clearCell(p.r, p.c);
         }
 
         player.clearingCells.clear();
@@ -529,8 +527,8 @@ public class GameController extends BaseController<GameModel> implements RouterA
     // ===== 렌더링 =====
 
     private void updateGameBoard() {
-        int[][] board = player.boardModel.getBoard();
-        player.renderer.renderBoard(board, player.flashMask, player.isFlashing, player.flashOn);
+        // 조작 중인 블럭은 따로 그리고, 고정된 블럭은 바뀐 행만 다시 그리도록 Board를 그대로 넘김
+        player.renderer.renderBoard(player.boardModel, player.flashMask, player.isFlashing, player.flashOn);
     }
 
     private void updateNextBlockPreview() {
@@ -592,8 +590,8 @@ public class GameController extends BaseController<GameModel> implements RouterA
         hidePauseOverlay();
 
         if (gameLoop != null) {
-            lastUpdate = 0;
-            lastDropTime = 0;
+            // 멈춰 있던 시간은 따라잡지 않음
+            timestep.resync();
             gameLoop.start();
         } else {
             startGameLoop();
@@ -642,8 +640,9 @@ public class GameController extends BaseController<GameModel> implements RouterA
             gameLoop.stop();
         }
 
-        lastUpdate = 0;
-        lastDropTime = 0;
+        timestep.reset();
+        framesSinceDrop = 0;
+        playFrames = 0;
     }
 
     private void resetPlayerSlot() {
@@ -661,10 +660,23 @@ public class GameController extends BaseController<GameModel> implements RouterA
 
     private void showGameOver() {
         showGameOverlay();
+        recordMatch();
 
         router.showScoreBoard(true, gameModel.isItemMode(), player.scoreModel.getScore());
     }
 
+    // 끝난 게임을 매치 기록에 추가
+    private void recordMatch() {
+        if (router == null)
+            return;
+
+        GameMode mode = gameModel.isItemMode() ? GameMode.ITEM : GameMode.NORMAL;
+        int durationMillis = (int) timestep.ticksToMillis(playFrames);
+        router.recordMatch(new MatchRecord(player.scoreModel.getScore(), gameModel.getTotalLinesCleared(),
+                gameModel.getLevel(), mode, Difficulty.getCurrentDifficulty(), durationMillis,
+                System.currentTimeMillis()));
+    }
+
     @Override
     public void cleanup() {
         if (gameLoop != null) {
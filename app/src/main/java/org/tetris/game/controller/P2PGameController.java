@@ -3,6 +3,7 @@ package org.tetris.game.controller;
 import org.tetris.network.comand.*;
 import org.tetris.network.GameClient;
 import org.tetris.network.GameServer;
+import org.tetris.game.model.GameSimulation;
 import org.tetris.game.model.P2PGameModel;
 import org.tetris.game.model.PlayerSlot;
 import org.tetris.game.model.blocks.Block;
@@ -17,9 +18,14 @@ import javafx.application.Platform;
 
 import java.util.Arrays;
 import org.tetris.network.dto.MatchSettings;
+import org.tetris.network.sync.BoardDeltaDecoder;
+import org.tetris.network.sync.BoardDeltaEncoder;
+import org.tetris.network.sync.LockstepSession;
+import org.tetris.network.sync.PredictedPieceSimulation;
+import org.tetris.network.sync.RollbackEngine;
+import org.util.Difficulty;
 import org.util.KeyLayout;
 import org.util.PlayerId;
-import org.util.Point;
 
 import java.util.Random;
 
@@ -42,6 +48,25 @@ public class P2PGameController extends DualGameController<P2PGameModel>
 
     private GameClient client;
 
+    // 블록 고정 시 보드 델타 송수신
+    private final BoardDeltaEncoder boardDeltaEncoder = new BoardDeltaEncoder();
+    // 상대 프로그램이 처리할 수 있는 커맨드 (기존 프로그램이면 0 -> 예전 커맨드만 보냄)
+    private int opponentFeatures = MatchSettings.ALL_FEATURES;
+    private final BoardDeltaDecoder boardDeltaDecoder = new BoardDeltaDecoder();
+
+    // 락스텝 대전 세션 (MatchSettings.isLockstep()일 때만, 그 외에는 null)
+    private LockstepSession lockstep;
+
+    // 원격 블럭 예측 (프레임 입력 롤백), gameStart에서 생성
+    private PredictedPieceSimulation remotePrediction;
+    private RollbackEngine remoteRollback;
+
+    // 게임 시작 후 진행한 고정 틱 수 (일시정지 구간 제외) - 보내는 입력에 찍는 번호
+    private int gameFrame = 0;
+
+    // 이번 게임을 매치 기록에 추가했는지 (패배 시 gameOver와 onGameResult가 모두 호출됨)
+    private boolean matchRecorded = false;
+
     // 상대방 연결 끊김 플래그
     private volatile boolean opponentDisconnected = false;
 
@@ -148,29 +173,41 @@ public class P2PGameController extends DualGameController<P2PGameModel>
         }
 
         KeyCode code = e.getCode();
-        GameCommand command = null;
+
+        // 락스텝: 보드는 세션이 틱 단위로 진행하므로 입력만 모아 둠
+        if (lockstep != null) {
+            GameSimulation.Input input = toInput(code);
+            if (input != null) {
+                lockstep.addLocalInput(input);
+                e.consume();
+            }
+            return;
+        }
+
+        GameSimulation.Input input = null;
         boolean updateNeeded = false;
 
         if (code == KeyLayout.getLeftKey(PlayerId.PLAYER1)) {
-            command = new MoveLeftCommand();
+            input = GameSimulation.Input.LEFT;
             localPlayer.boardModel.moveLeft();
             updateNeeded = true;
         } else if (code == KeyLayout.getRightKey(PlayerId.PLAYER1)) {
-            command = new MoveRightCommand();
+            input = GameSimulation.Input.RIGHT;
             localPlayer.boardModel.moveRight();
             updateNeeded = true;
         } else if (code == KeyLayout.getUpKey(PlayerId.PLAYER1)) {
-            command = new RotateCommand();
+            input = GameSimulation.Input.ROTATE;
             localPlayer.boardModel.rotate();
             updateNeeded = true;
         } else if (code == KeyLayout.getDownKey(PlayerId.PLAYER1)) {
-            command = new SoftDropCommand();
+            input = GameSimulation.Input.SOFT_DROP;
             if (localPlayer.boardModel.moveDown()) {
                 localPlayer.scoreModel.softDrop(1);
             }
             updateNeeded = true;
         } else if (code == KeyLayout.getHardDropKey(PlayerId.PLAYER1)) {
-            command = new HardDropCommand();
+            // 고정 시 보내는 보드보다 먼저 도착해야 이전 블럭에 적용되므로 먼저 전송
+            sendInput(GameSimulation.Input.HARD_DROP);
             handleHardDrop(localPlayer);
         }
 
@@ -179,9 +216,32 @@ public class P2PGameController extends DualGameController<P2PGameModel>
             localPlayer.renderer.renderNextBlock(localPlayer.nextBlockModel.peekNext());
         }
 
-        if (command != null) {
-            client.sendCommand(command);
+        if (input != null) {
+            sendInput(input);
+        }
+    }
+
+    // 상대가 프레임 입력을 모르면 기존 조작 커맨드로 보냄
+    private void sendInput(GameSimulation.Input input) {
+        if ((opponentFeatures & MatchSettings.FEATURE_FRAME_INPUT) == 0) {
+            client.sendCommand(FrameInputCommand.toLegacyCommand(input));
+            return;
         }
+        client.sendCommand(new FrameInputCommand(gameFrame, input));
+    }
+
+    private static GameSimulation.Input toInput(KeyCode code) {
+        if (code == KeyLayout.getLeftKey(PlayerId.PLAYER1))
+            return GameSimulation.Input.LEFT;
+        if (code == KeyLayout.getRightKey(PlayerId.PLAYER1))
+            return GameSimulation.Input.RIGHT;
+        if (code == KeyLayout.getUpKey(PlayerId.PLAYER1))
+            return GameSimulation.Input.ROTATE;
+        if (code == KeyLayout.getDownKey(PlayerId.PLAYER1))
+            return GameSimulation.Input.SOFT_DROP;
+        if (code == KeyLayout.getHardDropKey(PlayerId.PLAYER1))
+            return GameSimulation.Input.HARD_DROP;
+        return null;
     }
 
     /**
@@ -394,61 +454,164 @@ public class P2PGameController extends DualGameController<P2PGameModel>
         }
     }
 
+    // 로컬 플레이어의 게임만 기록 (상대 기록은 상대 쪽에 남음)
+    @Override
+    protected void recordMatches() {
+        if (matchRecorded)
+            return;
+        matchRecorded = true;
+        recordMatch(getLocalPlayer());
+    }
+
     // --- GameCommandExecutor Implementation (Remote Player Updates) ---
 
+    // 프레임 번호가 없는 기존 이동 커맨드는 다음 프레임 입력으로 처리
+
     @Override
     public void moveLeft() {
-        Platform.runLater(() -> {
-            PlayerSlot remotePlayer = getRemotePlayer();
-            System.out.println("[P2P-CONTROLLER] moveLeft() - playerNumber=" + model.getPlayerNumber()
-                    + ", remotePlayer=" + (remotePlayer != null ? "exists" : "null"));
-            if (remotePlayer != null) {
-                remotePlayer.boardModel.moveLeft();
-                updateUI();
-            }
-        });
+        Platform.runLater(() -> applyRemoteInput(-1, GameSimulation.Input.LEFT));
     }
 
     @Override
     public void moveRight() {
-        Platform.runLater(() -> {
-            PlayerSlot remotePlayer = getRemotePlayer();
-            System.out.println("[P2P-CONTROLLER] moveRight() - playerNumber=" + model.getPlayerNumber()
-                    + ", remotePlayer=" + (remotePlayer != null ? "exists" : "null"));
-            if (remotePlayer != null) {
-                remotePlayer.boardModel.moveRight();
-                updateUI();
-            }
-        });
+        Platform.runLater(() -> applyRemoteInput(-1, GameSimulation.Input.RIGHT));
     }
 
     @Override
     public void rotate() {
+        Platform.runLater(() -> applyRemoteInput(-1, GameSimulation.Input.ROTATE));
+    }
+
+    @Override
+    public void softDrop() {
+        Platform.runLater(() -> applyRemoteInput(-1, GameSimulation.Input.SOFT_DROP));
+    }
+
+    @Override
+    public void hardDrop() {
+
+    }
+
+    /**
+     * 상대방 프레임 기준으로 찍힌 입력. 이미 지나간 프레임이면 롤백 후 재시뮬레이션합니다.
+     * (FrameInputCommand에 의해 호출됨)
+     */
+    @Override
+    public void onFrameInput(int frame, GameSimulation.Input input) {
+        Platform.runLater(() -> applyRemoteInput(frame, input));
+    }
+
+    // frame < 0이면 다음 프레임에 적용
+    private void applyRemoteInput(int frame, GameSimulation.Input input) {
+        PlayerSlot remotePlayer = getRemotePlayer();
+        if (remotePlayer == null || remoteRollback == null || remotePlayer.gameModel.isGameOver()) {
+            return;
+        }
+        remoteRollback.addInput(frame < 0 ? remoteRollback.getFrame() : frame, input);
+        updateUI();
+    }
+
+    @Override
+    public void onLockstepInput(int tick, int inputs) {
         Platform.runLater(() -> {
-            PlayerSlot remotePlayer = getRemotePlayer();
-            if (remotePlayer != null) {
-                remotePlayer.boardModel.rotate();
-                updateUI();
+            if (lockstep != null) {
+                lockstep.onRemoteInput(tick, inputs);
             }
         });
     }
 
     @Override
-    public void softDrop() {
+    public void onStateHash(int tick, long hash) {
         Platform.runLater(() -> {
-            PlayerSlot remotePlayer = getRemotePlayer();
-            if (remotePlayer != null) {
-                if (remotePlayer.boardModel.moveDown()) {
-                    remotePlayer.scoreModel.softDrop(1);
-                }
-                updateUI();
+            if (lockstep != null) {
+                lockstep.onRemoteHash(tick, hash);
             }
         });
     }
 
+    /**
+     * 락스텝 세션을 만듭니다. 두 보드를 같은 난이도/시드로 다시 리셋해 양쪽 클라이언트의 시작 상태를 맞춥니다.
+     */
+    private LockstepSession createLockstepSession(MatchSettings settings) {
+        if (settings.getDifficulty() != null) {
+            Difficulty.setCurrentDifficulty(settings.getDifficulty());
+        }
+
+        PlayerSlot localPlayer = getLocalPlayer();
+        PlayerSlot remotePlayer = getRemotePlayer();
+        localPlayer.gameModel.reset(settings.getMySeed());
+        remotePlayer.gameModel.reset(settings.getOtherSeed());
+
+        GameSimulation localSim = new GameSimulation(localPlayer.gameModel, localPlayer.attackModel);
+        GameSimulation remoteSim = new GameSimulation(remotePlayer.gameModel, remotePlayer.attackModel);
+        GameSimulation.connect(localSim, remoteSim);
+
+        boolean host = settings.getPlayerNumber() == 1;
+        LockstepSession session = new LockstepSession(host ? localSim : remoteSim, host ? remoteSim : localSim,
+                settings.getPlayerNumber(), new LockstepSession.Transport() {
+                    @Override
+                    public void sendInput(int tick, int inputs) {
+                        client.sendCommand(new LockstepInputCommand(tick, inputs));
+                    }
+
+                    @Override
+                    public void sendHash(int tick, long hash) {
+                        client.sendCommand(new StateHashCommand(tick, hash));
+                    }
+                });
+        session.setDivergenceListener((tick, localHash, remoteHash) -> {
+            System.out.println("[P2P-LOCKSTEP] State diverged at tick " + tick
+                    + " (local=" + Long.toHexString(localHash) + ", remote=" + Long.toHexString(remoteHash) + ")");
+            stopGame();
+            showDisconnectOverlay("상대방과 게임 상태가 어긋났습니다.");
+        });
+
+        System.out.println("[P2P-LOCKSTEP] Lockstep match started (input delay " + session.getInputDelay() + " ticks)");
+        return session;
+    }
+
+    /**
+     * 원격 플레이어는 로컬 중력 대신 롤백 엔진이 프레임 단위로 입력과 중력을 진행합니다.
+     */
     @Override
-    public void hardDrop() {
+    protected void handlePlayerUpdate(PlayerSlot player) {
+        if (lockstep != null) {
+            // 두 보드 모두 락스텝 세션이 진행 (프레임마다 한 번)
+            if (player == getLocalPlayer()) {
+                lockstep.update();
+            }
+            return;
+        }
+
+        if (player != getRemotePlayer() || remoteRollback == null) {
+            if (player == getLocalPlayer()) {
+                gameFrame++; // 틱마다 한 번 (화면 주사율과 무관)
+            }
+            super.handlePlayerUpdate(player);
+            return;
+        }
 
+        if (player.gameModel.isGameOver()) {
+            return;
+        }
+
+        if (player.isFlashing) {
+            // 줄 삭제 애니메이션 중에는 예측하지 않음 (끝나면 새 블럭 기준으로 다시 시작)
+            super.handlePlayerUpdate(player);
+            rebaseRemotePrediction();
+            return;
+        }
+
+        remoteRollback.advanceTo(gameFrame);
+    }
+
+    // 원격 보드가 보정되거나 새 블럭이 나온 뒤 예측 기록을 현재 프레임부터 다시 시작
+    private void rebaseRemotePrediction() {
+        if (remoteRollback == null) {
+            return;
+        }
+        remoteRollback.rebase(gameFrame);
+        remotePrediction.resetGravity();
     }
 
     @Override
@@ -496,7 +659,7 @@ public class P2PGameController extends DualGameController<P2PGameModel>
                 stopGame();
 
                 // 게임 루프 변수 리셋
-                lastUpdate = 0L;
+                timestep.reset();
                 firstTriggered = false;
 
                 // Initialize seeds for both players
@@ -517,9 +680,28 @@ public class P2PGameController extends DualGameController<P2PGameModel>
                 setUpGameMode(settings.getGameMode());
                 System.out.println("[P2P-CONTROLLER] GameMode set to: " + settings.getGameMode());
 
+                opponentFeatures = settings.getOpponentFeatures();
+                // 상대가 락스텝을 모르면 (기존 서버가 보낸 설정 등) 일반 대전으로 진행
+                boolean useLockstep = settings.isLockstep()
+                        && settings.opponentSupports(MatchSettings.FEATURE_LOCKSTEP);
+                if (settings.isLockstep() && !useLockstep)
+                    System.out.println("[P2P-CONTROLLER] Opponent does not support lockstep, falling back to normal play");
+                lockstep = useLockstep ? createLockstepSession(settings) : null;
+
                 // 일시정지 소유자 초기화
                 pauseOwner = 0;
                 opponentDisconnected = false;
+                matchRecorded = false;
+
+                // 보드 동기화 상태 초기화 (첫 전송은 키프레임)
+                boardDeltaEncoder.reset();
+                boardDeltaDecoder.reset();
+
+                // 프레임 카운터와 원격 블럭 예측 초기화
+                gameFrame = 0;
+                remotePrediction = new PredictedPieceSimulation(getRemotePlayer().gameModel,
+                        RollbackEngine.slotCount(RollbackEngine.DEFAULT_WINDOW));
+                remoteRollback = new RollbackEngine(remotePrediction, RollbackEngine.DEFAULT_WINDOW);
 
                 // Unpause the game to start playing
                 player1.gameModel.setPaused(false);
@@ -554,6 +736,7 @@ public class P2PGameController extends DualGameController<P2PGameModel>
 
             localPlayer.gameModel.setGameOver(true);
             remotePlayer.gameModel.setGameOver(true);
+            recordMatches();
 
             showGameOverDialog("Defeat", "You Lost\nMy Score: " + score + "\nOpponent Score: " + remotePlayer.scoreModel.getScore());
         });
@@ -576,6 +759,7 @@ public class P2PGameController extends DualGameController<P2PGameModel>
 
             localPlayer.gameModel.setGameOver(true);
             remotePlayer.gameModel.setGameOver(true);
+            recordMatches();
 
             String title = isWinner ? "Victory!" : "Defeat";
             String message = (isWinner ? "You Won!" : "You Lost") +"\nMy Score: " + localPlayer.scoreModel.getScore() + "\nOpponent Score: " + score;
@@ -660,28 +844,58 @@ public class P2PGameController extends DualGameController<P2PGameModel>
      */
     @Override
     public void updateState(int[][] boardData, int currentPosRow, int currentPosCol, int score) {
+        Platform.runLater(() -> applyRemoteState(boardData, currentPosRow, currentPosCol, score));
+    }
+
+    /**
+     * 상대방으로부터 수신한 보드 델타를 적용합니다.
+     * 델타를 이어 붙일 수 없으면 보드는 그대로 두고 키프레임을 요청합니다.
+     * (BoardDeltaCommand에 의해 호출됨)
+     */
+    @Override
+    public void updateBoardDelta(BoardDeltaCommand delta) {
         Platform.runLater(() -> {
-            PlayerSlot remotePlayer = getRemotePlayer();
-            if (remotePlayer != null) {
-                // 1. 보드 데이터 덮어쓰기 (Correction)
-                int[][] currentBoard = remotePlayer.boardModel.getBoard();
-                if (boardData.length == currentBoard.length && boardData[0].length == currentBoard[0].length) {
-                    for (int i = 0; i < boardData.length; i++) {
-                        System.arraycopy(boardData[i], 0, currentBoard[i], 0, boardData[i].length);
-                    }
-                }
-                remotePlayer.boardModel.setCurPos(new Point(currentPosRow, currentPosCol));
-                remotePlayer.scoreModel.setScore(score);
+            int[][] boardData = boardDeltaDecoder.apply(delta);
+            if (boardData == null) {
+                System.out.println("[P2P-SYNC] Board delta out of sync, requesting keyframe.");
+                client.sendCommand(new RequestBoardResyncCommand());
+            }
+            applyRemoteState(boardData, delta.getCurrentPosRow(), delta.getCurrentPosCol(), delta.getScore());
+        });
+    }
 
-                // 수신된 보드 상태를 기반으로 로컬 시뮬레이션(Attack, Line Clear 등)을 수행
-                super.lockCurrentBlock(remotePlayer);
+    /**
+     * 상대방이 델타 동기화에 실패해 전체 보드를 요청한 경우, 다음 전송을 키프레임으로 보냅니다.
+     */
+    @Override
+    public void onBoardResyncRequested() {
+        Platform.runLater(boardDeltaEncoder::requestKeyframe);
+    }
 
-                // 3. 화면 갱신
-                // updateGameBoard(remotePlayer); // lockCurrentBlock 내부에서 수행됨
+    // boardData가 null이면 보드 보정 없이 위치/점수만 반영
+    private void applyRemoteState(int[][] boardData, int currentPosRow, int currentPosCol, int score) {
+        PlayerSlot remotePlayer = getRemotePlayer();
+        if (remotePlayer == null) {
+            return;
+        }
 
-                System.out.println("[P2P-SYNC] Remote board state corrected.");
+        // 1. 보드 데이터 덮어쓰기 (Correction)
+        int[][] currentBoard = remotePlayer.boardModel.getBoard();
+        if (boardData != null && boardData.length == currentBoard.length
+                && boardData[0].length == currentBoard[0].length) {
+            for (int i = 0; i < boardData.length; i++) {
+                System.arraycopy(boardData[i], 0, currentBoard[i], 0, boardData[i].length);
             }
-        });
+        }
+        remotePlayer.boardModel.setCurPos(currentPosRow, currentPosCol);
+        remotePlayer.scoreModel.setScore(score);
+
+        // 2. 수신된 보드 상태를 기반으로 로컬 시뮬레이션(Attack, Line Clear 등)을 수행
+        // (화면 갱신은 lockCurrentBlock 내부에서 수행됨)
+        super.lockCurrentBlock(remotePlayer);
+
+        // 3. 새 블럭(또는 줄 삭제 대기) 기준으로 예측을 다시 시작
+        rebaseRemotePrediction();
     }
 
     /**
@@ -704,11 +918,21 @@ public class P2PGameController extends DualGameController<P2PGameModel>
     protected void onBlockLocked(PlayerSlot player) {
         // 로컬 플레이어(나)의 블록이 고정된 경우에만 전송
         if (player == getLocalPlayer()) {
-            int[][] myBoard = player.boardModel.getBoard();
-            Point myPos = player.boardModel.getCurPos();
+            int[][] myBoard = player.boardModel.getColorPlane();
+
+            if ((opponentFeatures & MatchSettings.FEATURE_BOARD_DELTA) == 0) {
+                // 기존 프로그램은 델타를 모르므로 전체 보드 (전송 스레드가 직렬화하므로 복사본)
+                int[][] copy = new int[myBoard.length][];
+                for (int r = 0; r < myBoard.length; r++)
+                    copy[r] = myBoard[r].clone();
+                client.sendCommand(new UpdateStateCommand(copy, player.boardModel.getCurRow(),
+                        player.boardModel.getCurCol(), player.scoreModel.getScore()));
+                return;
+            }
 
-            // 상태 전송
-            client.sendCommand(new UpdateStateCommand(myBoard, myPos.r, myPos.c, player.scoreModel.getScore()));
+            // 상태 전송 (바뀐 행만 담은 델타, 주기적으로 키프레임)
+            client.sendCommand(boardDeltaEncoder.encode(myBoard, player.boardModel.getCurRow(),
+                    player.boardModel.getCurCol(), player.scoreModel.getScore()));
             // System.out.println("[P2P-SYNC] Sent board state update.");
         }
     }
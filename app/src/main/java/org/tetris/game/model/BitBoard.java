@@ -0,0 +1,286 @@
+package org.tetris.game.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 행 단위 점유 비트마스크 기반 보드 표현.
+ * rows[r]의 c번째 비트가 1이면 (r, c) 칸이 차 있음을 의미하며,
+ * cells는 렌더링과 공격 줄 생성에만 쓰이는 색상(셀 값) 평면입니다.
+ * 두 평면은 항상 cells[r][c] != 0 ⇔ rows[r]의 c번째 비트 관계를 유지합니다.
+ * 내용이 바뀐 행은 dirty 비트로 기록해 두어 렌더러가 바뀐 행만 다시 그릴 수 있습니다.
+ */
+public final class BitBoard {
+    public static final int MAX_WIDTH = Integer.SIZE - 1;
+
+    private final int height;
+    private final int width;
+    private final int fullRowMask;
+
+    private final int[] rows;
+    private final int[][] cells;
+
+    // cells 배열이 외부에 노출되어 직접 수정되었을 수 있음 -> 다음 조회 전에 rows 재계산
+    private boolean stale = false;
+
+    // 마지막 clearDirtyRows 이후 내용이 바뀌었을 수 있는 행 (r번째 비트 = dirty[r / 64]의 r % 64번째 비트)
+    private final long[] dirty;
+
+    public BitBoard(int height, int width) {
+        if (width <= 0 || width > MAX_WIDTH)
+            throw new IllegalArgumentException("width는 1 이상 " + MAX_WIDTH + " 이하이어야 합니다: " + width);
+
+        this.height = height;
+        this.width = width;
+        this.fullRowMask = (1 << width) - 1;
+
+        rows = new int[height];
+        cells = new int[height][width];
+        dirty = new long[(height + Long.SIZE - 1) / Long.SIZE];
+        markAllDirty();
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int getFullRowMask() {
+        return fullRowMask;
+    }
+
+    /**
+     * 색상 평면을 반환합니다. 반환된 배열을 수정해도 되며, 다음 조회 시 비트마스크가 재계산됩니다.
+     * (기존 Board.getBoard() 호환용)
+     */
+    public int[][] exposeCells() {
+        stale = true;
+        markAllDirty(); // 어느 칸이 바뀔지 모름
+        return cells;
+    }
+
+    /**
+     * 렌더링용 색상 평면을 반환합니다. 읽기 전용으로만 사용해야 합니다.
+     */
+    public int[][] getCells() {
+        return cells;
+    }
+
+    /**
+     * 색상 평면이 외부에서 수정되었다면 비트마스크를 다시 계산합니다.
+     */
+    public void sync() {
+        if (!stale)
+            return;
+
+        for (int r = 0; r < height; r++) {
+            int mask = 0;
+            int[] row = cells[r];
+            for (int c = 0; c < width; c++) {
+                if (row[c] != 0)
+                    mask |= 1 << c;
+            }
+            rows[r] = mask;
+        }
+        stale = false;
+    }
+
+    public int getRow(int r) {
+        sync();
+        return rows[r];
+    }
+
+    public int get(int r, int c) {
+        return cells[r][c];
+    }
+
+    public boolean isOccupied(int r, int c) {
+        sync();
+        return (rows[r] & (1 << c)) != 0;
+    }
+
+    public boolean isInBound(int r, int c) {
+        return r >= 0 && r < height && c >= 0 && c < width;
+    }
+
+    /**
+     * 한 칸의 값을 설정합니다. 0이면 칸을 비웁니다.
+     */
+    public void set(int r, int c, int value) {
+        sync();
+        if (cells[r][c] != value)
+            markDirty(r);
+        cells[r][c] = value;
+        if (value != 0)
+            rows[r] |= 1 << c;
+        else
+            rows[r] &= ~(1 << c);
+    }
+
+    /**
+     * 조각의 행 마스크들이 보드에 들어갈 수 있는지 검사합니다.
+     * 보드 위쪽(r < 0)으로 튀어나온 행은 충돌 검사에서 제외됩니다.
+     *
+     * @param pieceRows 조각의 행별 점유 마스크 (bit c = 조각 내 c열)
+     * @param top 조각 0행이 놓일 보드 행
+     * @param left 조각 0열이 놓일 보드 열
+     * @param force true면 기존 블럭과의 충돌은 무시하고 경계만 검사
+     * @return 배치 가능 여부
+     */
+    public boolean fits(int[] pieceRows, int top, int left, boolean force) {
+        sync();
+
+        for (int i = 0; i < pieceRows.length; i++) {
+            int mask = pieceRows[i];
+            if (mask == 0)
+                continue;
+
+            int shifted;
+            if (left >= 0) {
+                if (left >= width || (mask >>> (width - left)) != 0)
+                    return false; // 오른쪽 경계 밖
+                shifted = mask << left;
+            } else {
+                if (-left >= Integer.SIZE || (mask & ((1 << -left) - 1)) != 0)
+                    return false; // 왼쪽 경계 밖
+                shifted = mask >>> -left;
+            }
+
+            int r = top + i;
+            if (r >= height)
+                return false;
+            if (r < 0)
+                continue;
+
+            if (!force && (rows[r] & shifted) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isRowFull(int r) {
+        sync();
+        return rows[r] == fullRowMask;
+    }
+
+    public boolean isRowEmpty(int r) {
+        sync();
+        return rows[r] == 0;
+    }
+
+    /**
+     * 가득 찬 행의 인덱스를 위에서부터 out에 추가합니다.
+     */
+    public void findFullRows(List<Integer> out) {
+        sync();
+        for (int r = 0; r < height; r++) {
+            if (rows[r] == fullRowMask)
+                out.add(r);
+        }
+    }
+
+    public void clearRow(int r) {
+        sync();
+        rows[r] = 0;
+        Arrays.fill(cells[r], 0);
+        markDirty(r);
+    }
+
+    public void clearColumn(int c) {
+        sync();
+        int keep = ~(1 << c);
+        for (int r = 0; r < height; r++) {
+            if (cells[r][c] != 0)
+                markDirty(r);
+            rows[r] &= keep;
+            cells[r][c] = 0;
+        }
+    }
+
+    /**
+     * 빈 행을 제거하고 남은 행을 아래로 압축합니다.
+     * 행 배열 자체는 교체하지 않고 내용만 복사합니다. (외부에서 잡고 있는 참조 유지)
+     */
+    public void collapse() {
+        sync();
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] != 0) {
+                if (write != read) {
+                    rows[write] = rows[read];
+                    System.arraycopy(cells[read], 0, cells[write], 0, width);
+                    markDirty(write);
+                }
+                write--;
+            }
+        }
+        for (int r = write; r >= 0; r--) {
+            if (rows[r] != 0)
+                markDirty(r);
+            rows[r] = 0;
+            Arrays.fill(cells[r], 0);
+        }
+    }
+
+    /**
+     * 보드 전체를 한 줄 위로 올리고 맨 아래에 newRow를 추가합니다.
+     *
+     * @return 밀어올리기 전 맨 윗줄이 비어있었는지 여부
+     */
+    public boolean pushUp(int[] newRow) {
+        sync();
+        boolean topWasEmpty = rows[0] == 0;
+
+        for (int r = 0; r < height - 1; r++) {
+            rows[r] = rows[r + 1];
+            System.arraycopy(cells[r + 1], 0, cells[r], 0, width);
+        }
+
+        int mask = 0;
+        int[] bottom = cells[height - 1];
+        for (int c = 0; c < width; c++) {
+            bottom[c] = newRow[c];
+            if (newRow[c] != 0)
+                mask |= 1 << c;
+        }
+        rows[height - 1] = mask;
+        markAllDirty();
+
+        return topWasEmpty;
+    }
+
+    public void clear() {
+        Arrays.fill(rows, 0);
+        for (int[] row : cells)
+            Arrays.fill(row, 0);
+        stale = false;
+        markAllDirty();
+    }
+
+    // ===== 변경 행 추적 =====
+
+    /**
+     * 마지막 clearDirtyRows 이후 r행의 내용이 바뀌었을 수 있는지 여부
+     */
+    public boolean isRowDirty(int r) {
+        return (dirty[r >>> 6] & (1L << r)) != 0;
+    }
+
+    /**
+     * 바뀐 행 표시를 모두 지웁니다. (렌더러가 다시 그린 뒤 호출)
+     */
+    public void clearDirtyRows() {
+        Arrays.fill(dirty, 0);
+    }
+
+    public void markAllDirty() {
+        Arrays.fill(dirty, -1L);
+    }
+
+    private void markDirty(int r) {
+        dirty[r >>> 6] |= 1L << r;
+    }
+}
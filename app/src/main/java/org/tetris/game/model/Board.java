@@ -1,7 +1,6 @@
 package org.tetris.game.model;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import org.tetris.game.model.blocks.*;
@@ -12,10 +11,11 @@ public class Board extends BaseModel {
     private final int height;
     private final int width;
 
-    private int[][] board;
+    private final BitBoard board;
     public Block activeBlock;
-    private Point curPos;
-    private Point initialPos;
+    private int curRow;
+    private int curCol;
+    private final Point initialPos;
 
     // Board 생성자
     public Board() {
@@ -26,96 +26,149 @@ public class Board extends BaseModel {
         this.height = h;
         this.width = w;
 
-        board = new int[height][width];
+        board = new BitBoard(height, width);
         activeBlock = null;
 
         initialPos = new Point(0, width / 2);
-        curPos = new Point(initialPos);
+        curRow = initialPos.r;
+        curCol = initialPos.c;
     }
 
+    /**
+     * 보드 셀 배열을 반환합니다. 반환된 배열을 직접 수정해도 다음 연산에 반영됩니다.
+     */
     public int[][] getBoard() {
+        return board.exposeCells();
+    }
+
+    /**
+     * 렌더링용 셀 배열을 반환합니다. 읽기 전용으로만 사용해야 합니다.
+     */
+    public int[][] getColorPlane() {
+        return board.getCells();
+    }
+
+    public BitBoard getBitBoard() {
         return board;
     }
 
+    public void clearCell(int r, int c) {
+        if (isInBound(r, c))
+            board.set(r, c, 0);
+    }
+
     public Point getSize() {
         return new Point(height, width);
     }
 
     // 블럭 배치
     public void placeBlock(Point pos, Block block) {
-        for (Point p : block.getBlockPoints()) {
-            Point blockPoint = pos.add(block.toPivot(p));
-            if (isInBound(blockPoint))
-                board[blockPoint.r][blockPoint.c] = block.getCell(p);
-        }
+        writeBlock(pos.r, pos.c, block, true);
     }
 
     public void removeBlock(Point pos, Block block) {
-        for (Point p : block.getBlockPoints()) {
-            Point blockPoint = pos.add(block.toPivot(p));
-            if (isInBound(blockPoint))
-                board[blockPoint.r][blockPoint.c] = 0;
+        writeBlock(pos.r, pos.c, block, false);
+    }
+
+    // 피벗 기준 셀 오프셋으로 블럭을 쓰거나 지움 (Point 생성 없음)
+    private void writeBlock(int row, int col, Block block, boolean place) {
+        int[] cellRows = block.getCellRows();
+        int[] cellCols = block.getCellCols();
+        int[] cellValues = block.getCellValues();
+
+        for (int i = 0; i < cellRows.length; i++) {
+            int r = row + cellRows[i];
+            int c = col + cellCols[i];
+            if (isInBound(r, c))
+                board.set(r, c, place ? cellValues[i] : 0);
         }
     }
 
     public void removeCurrentBlock() {
-        removeBlock(curPos, activeBlock);
+        writeBlock(curRow, curCol, activeBlock, false);
     }
 
     // 블럭이 해당 위치에 배치 가능한지 확인
     public boolean isValidPos(Point pos, Block block, boolean force) {
-        for (Point bp : block.getBlockPoints()) {
-            Point blockPoint = pos.add(block.toPivot(bp));
-
-            if (isOutBound(blockPoint))
-                return false;
-
-            if (blockPoint.r < 0)
-                continue;
-
-            if (!force && hasBlock(blockPoint))
-                return false;
-        }
-        return true;
+        return isValidPos(pos.r, pos.c, block, force);
     }
 
     public boolean isValidPos(Point pos, Block block) {
-        return isValidPos(pos, block, false);
+        return isValidPos(pos.r, pos.c, block, false);
     }
 
-    private boolean isInBound(Point pos) {
-        return pos.r >= 0 && pos.r < height && pos.c >= 0 && pos.c < width;
+    /**
+     * 블럭의 피벗을 (row, col)에 두었을 때 배치 가능한지 확인합니다.
+     * 
+     * @param row 피벗이 놓일 행
+     * @param col 피벗이 놓일 열
+     * @param block 검사할 블럭
+     * @param force true면 기존 블럭과의 충돌은 무시
+     * @return 배치 가능 여부
+     */
+    public boolean isValidPos(int row, int col, Block block, boolean force) {
+        return board.fits(block.getRowMasks(), row - block.pivot.r, col - block.pivot.c, force);
     }
 
-    private boolean isOutBound(Point pos) {
-        return pos.c < 0 || pos.c >= width || pos.r >= height;
+    private boolean isInBound(Point pos) {
+        return isInBound(pos.r, pos.c);
     }
 
-    private boolean hasBlock(Point pos) {
-        return board[pos.r][pos.c] != 0;
+    private boolean isInBound(int r, int c) {
+        return r >= 0 && r < height && c >= 0 && c < width;
     }
 
     // 새로운 블럭을 활성 블럭으로 설정 (배치 가능 여부 반환)
     public boolean setActiveBlock(Block block) {
         activeBlock = block;
-        curPos = new Point(initialPos);
+        curRow = initialPos.r;
+        curCol = initialPos.c;
 
         // 초기 위치에 배치 가능한지 확인
-        if (!isValidPos(curPos, activeBlock)) {
+        if (!isValidPos(curRow, curCol, activeBlock, false)) {
             return false; // 게임 오버
         }
 
-        placeBlock(curPos, activeBlock);
+        writeBlock(curRow, curCol, activeBlock, true);
         return true;
     }
 
-    // 현재 블럭 위치 반환
+    // 현재 블럭 위치 반환 (복사본)
     public Point getCurPos() {
-        return curPos;
+        return new Point(curRow, curCol);
+    }
+
+    // 새 블럭이 놓이는 시작 위치 반환 (복사본)
+    public Point getInitialPos() {
+        return new Point(initialPos);
+    }
+
+    public int getCurRow() {
+        return curRow;
+    }
+
+    public int getCurCol() {
+        return curCol;
     }
 
     public void setCurPos(Point currentPos) {
-        this.curPos = currentPos;
+        setCurPos(currentPos.r, currentPos.c);
+    }
+
+    public void setCurPos(int row, int col) {
+        this.curRow = row;
+        this.curCol = col;
+    }
+
+    /**
+     * 활성 블럭을 지정한 위치와 회전 상태로 되돌립니다. 충돌 검사는 하지 않습니다. (롤백 복원용)
+     */
+    public void restoreActivePose(int row, int col, int rotation) {
+        writeBlock(curRow, curCol, activeBlock, false);
+        activeBlock.setRotation(rotation);
+        curRow = row;
+        curCol = col;
+        writeBlock(curRow, curCol, activeBlock, true);
     }
 
     public boolean getIsForceDown() {
@@ -123,31 +176,37 @@ public class Board extends BaseModel {
     }
 
     // -------------------- 이동 관련 함수들 --------------------
-    // (이동할 좌표 p'을 생성하고 기존 블럭은 제거, p'에 배치가 가능하다면 curPos에 p'을 할당, 마지막으로 curPos에 블럭 배치
+    // (기존 블럭은 제거하고 (dr, dc)만큼 이동한 위치에 배치가 가능하다면 현재 위치를 갱신, 마지막으로 현재 위치에 블럭 배치
     // 후 이동 여부 반환)
 
-    private boolean tryMove(Point newPos, boolean force) {
-        removeBlock(curPos, activeBlock);
+    /**
+     * 활성 블럭을 (dr, dc)만큼 이동합니다. 힙 할당이 발생하지 않습니다.
+     * 
+     * @param dr 행 이동량
+     * @param dc 열 이동량
+     * @param force true면 기존 블럭과의 충돌을 무시하고 이동
+     * @return 이동 여부
+     */
+    public boolean moveBy(int dr, int dc, boolean force) {
+        writeBlock(curRow, curCol, activeBlock, false);
 
-        if (isValidPos(newPos, activeBlock, force)) {
-            curPos = newPos;
-            placeBlock(curPos, activeBlock);
-            return true;
+        boolean moved = isValidPos(curRow + dr, curCol + dc, activeBlock, force);
+        if (moved) {
+            curRow += dr;
+            curCol += dc;
         }
 
-        placeBlock(curPos, activeBlock);
-        return false;
+        writeBlock(curRow, curCol, activeBlock, true);
+        return moved;
     }
 
     // 아래로 한칸 이동 함수
     public boolean moveDown() {
-
-        return tryMove(curPos.down(), false);
+        return moveBy(1, 0, false);
     }
 
     public boolean moveDown(boolean force) {
-
-        return tryMove(curPos.down(), force);
+        return moveBy(1, 0, force);
     }
 
     public boolean autoDown() {
@@ -159,7 +218,7 @@ public class Board extends BaseModel {
         if (!activeBlock.getCanMove())
             return false;
 
-        return tryMove(curPos.right(), false);
+        return moveBy(0, 1, false);
     }
 
     // 왼쪽 한칸 이동 함수
@@ -167,17 +226,28 @@ public class Board extends BaseModel {
         if (!activeBlock.getCanMove())
             return false;
 
-        return tryMove(curPos.left(), false);
+        return moveBy(0, -1, false);
     }
 
     public int hardDrop() {
-
         int dropDistance = 0;
-        while (tryMove(curPos.down(), getIsForceDown())) {
+
+        // 강제 낙하(무게추)는 지나가는 칸을 지우므로 한 칸씩 이동
+        if (getIsForceDown()) {
+            while (moveBy(1, 0, true)) {
+                dropDistance++;
+            }
+            return dropDistance;
+        }
+
+        // 일반 블럭은 한 번만 지우고 착지 위치를 찾은 뒤 한 번만 배치
+        writeBlock(curRow, curCol, activeBlock, false);
+        while (isValidPos(curRow + dropDistance + 1, curCol, activeBlock, false)) {
             dropDistance++;
         }
+        curRow += dropDistance;
+        writeBlock(curRow, curCol, activeBlock, true);
 
-        // placeBlock(curPos, activeBlock); // 중복 호출 제거됨
         return dropDistance;
     }
 
@@ -187,49 +257,32 @@ public class Board extends BaseModel {
             return false;
 
         boolean isMoved = false;
-        removeBlock(curPos, activeBlock);
+        writeBlock(curRow, curCol, activeBlock, false);
 
         activeBlock.rotateCW();
 
-        if (isValidPos(curPos, activeBlock)) {
+        if (isValidPos(curRow, curCol, activeBlock, false)) {
             isMoved = true;
         } else {
             activeBlock.rotateCCW();
         }
 
-        placeBlock(curPos, activeBlock);
+        writeBlock(curRow, curCol, activeBlock, true);
         return isMoved;
     }
 
     public List<Integer> findFullRows() {
-        List<Integer> fullRows = new java.util.ArrayList<>();
-
-        for (int r = 0; r < height; r++) {
-            boolean isFull = true;
-            for (int c = 0; c < width; c++) {
-                if (board[r][c] == 0) {
-                    isFull = false;
-                    break;
-                }
-            }
-            if (isFull) {
-                fullRows.add(r);
-            }
-        }
-
+        List<Integer> fullRows = new ArrayList<>();
+        board.findFullRows(fullRows);
         return fullRows;
     }
 
     public void clearColumn(int index) {
-        for (int r = 0; r < height; r++) {
-            board[r][index] = 0;
-        }
+        board.clearColumn(index);
     }
 
     public void clearRow(int index) {
-        for (int c = 0; c < width; c++) {
-            board[index][c] = 0;
-        }
+        board.clearRow(index);
     }
 
     public List<Point> clearBomb(Point center) {
@@ -244,7 +297,7 @@ public class Board extends BaseModel {
 
                 // 비어있는 칸(0)은 굳이 추가하지 않으면 불필요한 작업을 줄일 수 있습니다.
                 // 만약 빈칸도 플래시하고 싶다면 아래 조건을 제거하세요.
-                if (board[dp.r][dp.c] == 0)
+                if (board.get(dp.r, dp.c) == 0)
                     continue;
 
                 targets.add(dp);
@@ -254,29 +307,9 @@ public class Board extends BaseModel {
         return targets;
     }
 
-    private boolean isRowEmpty(int r) {
-        for (int c = 0; c < width; c++) {
-            if (board[r][c] != 0)
-                return false;
-        }
-        return true;
-    }
-
-    // 보드 한번에 압축
+    // 보드 한번에 압축 (빈 행 제거)
     public void collapse() {
-        int write = height - 1; // 내려앉힐 위치(아래에서 위로)
-        for (int read = height - 1; read >= 0; read--) { // 위에서 가져올 행 스캐닝
-            if (!isRowEmpty(read)) {
-                if (write != read) {
-                    System.arraycopy(board[read], 0, board[write], 0, width);
-                }
-                write--;
-            }
-        }
-        // 남은 상단 구간을 전부 0으로
-        for (int r = write; r >= 0; r--) {
-            Arrays.fill(board[r], 0);
-        }
+        board.collapse();
     }
 
     public boolean pushUp(List<int[]> newRows) {        
@@ -287,18 +320,10 @@ public class Board extends BaseModel {
         boolean validPushUp = true;
         while(newRows.size() != 0){
             int[] newRow = newRows.remove(0);
-            // 1. 맨 윗줄 검사 (이미 블럭을 지웠으므로 순수 장애물만 검사됨)
-            if (!validPushUp || !isRowEmpty(0)) {
+            // 맨 윗줄 검사 (이미 블럭을 지웠으므로 순수 장애물만 검사됨) 후 전체 보드 shift + 새 줄 추가
+            if (!board.pushUp(newRow)) {
                 validPushUp = false;
             }
-            
-            // 2. 전체 보드 shift
-            for (int r = 0; r < height - 1; r++) {
-                System.arraycopy(board[r + 1], 0, board[r], 0, width);
-            }
-
-            // 3. 새 줄 추가
-            System.arraycopy(newRow, 0, board[height - 1], 0, width);
         }
 
         return validPushUp;
@@ -309,7 +334,7 @@ public class Board extends BaseModel {
      * 2. 현재 활성 블럭(activeBlock)이 있던 위치는 빈칸(0)으로 구멍을 뚫습니다. [cite: 23]
      */
     public int[] getRowForAttack(int rowIndex) {
-        int[] originalRow = board[rowIndex];
+        int[] originalRow = board.getCells()[rowIndex];
         int[] attackRow = new int[width];
 
         // 1. 해당 줄의 데이터를 복사하되, 블럭이 있는 곳은 회색(8)으로 변환
@@ -323,13 +348,16 @@ public class Board extends BaseModel {
 
         // 2. 현재 활성 블럭(이번에 줄을 지운 블럭)이 위치한 곳은 0으로 구멍 뚫기
         if (activeBlock != null) {
-            for (Point p : activeBlock.getBlockPoints()) {
+            int[] cellRows = activeBlock.getCellRows();
+            int[] cellCols = activeBlock.getCellCols();
+            for (int i = 0; i < cellRows.length; i++) {
                 // 블럭의 로컬 좌표를 보드 전체 좌표로 변환
-                Point globalP = curPos.add(activeBlock.toPivot(p));
+                int r = curRow + cellRows[i];
+                int c = curCol + cellCols[i];
 
                 // 해당 블럭 조각이 지금 처리 중인 행(rowIndex)에 있다면 구멍(0) 처리
-                if (globalP.r == rowIndex && isInBound(globalP)) {
-                    attackRow[globalP.c] = 0;
+                if (r == rowIndex && isInBound(r, c)) {
+                    attackRow[c] = 0;
                 }
             }
         }
@@ -340,19 +368,16 @@ public class Board extends BaseModel {
      * 보드를 초기 상태로 재설정합니다.
      */
     public void reset() {
-        for (int r = 0; r < height; r++) {
-            for (int c = 0; c < width; c++) {
-                board[r][c] = 0;
-            }
-        }
+        board.clear();
         activeBlock = null;
-        curPos = new Point(initialPos);
+        curRow = initialPos.r;
+        curCol = initialPos.c;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        int[][] boardCopy = getBoard();
+        int[][] boardCopy = getColorPlane();
         for (int r = 0; r < height; r++) {
             for (int c = 0; c < width; c++) {
                 sb.append(boardCopy[r][c]).append(" ");
@@ -0,0 +1,124 @@
+package org.tetris.game.model;
+
+/**
+ * 화면 주사율과 관계없이 게임을 일정한 틱(기본 60Hz)으로 진행하기 위한 고정 시간 간격 누산기.
+ *
+ * 매 화면 프레임마다 advance(now)로 흐른 시간을 쌓고, 쌓인 시간만큼 정확한 틱 수를 돌려줍니다.
+ * 시간은 "나노초 × 초당 틱 수" 단위의 정수로 쌓으므로 1/60초처럼 나누어떨어지지 않는 간격도 오차 없이 누적됩니다.
+ * 144Hz 모니터에서는 대부분의 프레임이 0틱, 30Hz로 떨어지면 프레임마다 2틱이 되어 게임 속도는 같습니다.
+ * FX 스레드가 오래 멈췄다가 돌아오면 한 프레임에 최대 maxCatchUpTicks만 따라잡고 나머지 시간은 버립니다.
+ * (한꺼번에 수십 틱을 돌려 다시 프레임이 밀리는 것을 막음)
+ * 남은 시간의 비율(alpha)은 화면을 직전 틱과 다음 틱 사이로 보간해 그리는 데 씁니다.
+ */
+public class FixedTimestep {
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int ticksPerSecond;
+    private final int maxCatchUpTicks;
+
+    private boolean started = false;
+    private long lastTime;
+    private long accumulator; // 나노초 × ticksPerSecond (NANOS_PER_SECOND가 한 틱)
+    private long ticks;
+    private long droppedTicks;
+
+    public FixedTimestep() {
+        this(DEFAULT_TICKS_PER_SECOND, DEFAULT_MAX_CATCH_UP_TICKS);
+    }
+
+    public FixedTimestep(int ticksPerSecond, int maxCatchUpTicks) {
+        if (ticksPerSecond <= 0 || maxCatchUpTicks <= 0)
+            throw new IllegalArgumentException(
+                    "ticksPerSecond와 maxCatchUpTicks는 1 이상이어야 합니다: " + ticksPerSecond + ", " + maxCatchUpTicks);
+        this.ticksPerSecond = ticksPerSecond;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * 현재 시각까지 흐른 시간을 쌓고 이번 프레임에 진행할 틱 수를 돌려줍니다.
+     * 처음 호출(또는 resync 직후)은 기준 시각만 잡고 0을 돌려줍니다.
+     *
+     * @param now 현재 시각 (나노초, AnimationTimer.handle의 인자 등)
+     * @return 진행할 틱 수 (0 ~ maxCatchUpTicks)
+     */
+    public int advance(long now) {
+        if (!started) {
+            started = true;
+            lastTime = now;
+            return 0;
+        }
+
+        long elapsed = Math.max(0, now - lastTime);
+        lastTime = now;
+        // 곱셈 오버플로 방지: 따라잡기 한도를 넘는 시간은 어차피 버림
+        long limit = (maxCatchUpTicks + 1) * NANOS_PER_SECOND / ticksPerSecond;
+        if (elapsed > limit) {
+            droppedTicks += (elapsed - limit) * ticksPerSecond / NANOS_PER_SECOND;
+            elapsed = limit;
+        }
+        accumulator += elapsed * ticksPerSecond;
+
+        int steps = (int) (accumulator / NANOS_PER_SECOND);
+        if (steps > maxCatchUpTicks) {
+            droppedTicks += steps - maxCatchUpTicks;
+            steps = maxCatchUpTicks;
+            accumulator %= NANOS_PER_SECOND;
+        } else {
+            accumulator -= steps * NANOS_PER_SECOND;
+        }
+        ticks += steps;
+        return steps;
+    }
+
+    /**
+     * 마지막 틱 이후 다음 틱까지 진행한 비율 (0.0 이상 1.0 미만, 보간 렌더링용)
+     */
+    public double alpha() {
+        return (double) accumulator / NANOS_PER_SECOND;
+    }
+
+    /**
+     * 기준 시각을 잊습니다. 일시정지 해제 후 멈춰 있던 시간을 따라잡지 않도록 할 때 씁니다. (진행한 틱 수는 유지)
+     */
+    public void resync() {
+        started = false;
+        accumulator = 0;
+    }
+
+    /**
+     * 진행한 틱 수까지 모두 처음으로 돌립니다. (새 게임)
+     */
+    public void reset() {
+        resync();
+        ticks = 0;
+        droppedTicks = 0;
+    }
+
+    /**
+     * 지금까지 진행한 틱 수
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * 따라잡기 한도를 넘어 버린 틱 수 (프레임 멈춤 진단용)
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * 틱 수를 밀리초로 환산합니다.
+     */
+    public long ticksToMillis(long tickCount) {
+        return tickCount * 1000 / ticksPerSecond;
+    }
+}
@@ -151,6 +151,26 @@ public class GameModel extends BaseModel {
 
     // 게임 리셋
     public void reset() {
+        resetState();
+        nextBlockSeed = System.currentTimeMillis();
+
+        spawnNewBlock();
+    }
+
+    /**
+     * 시드를 지정해 게임을 리셋합니다.
+     * 같은 시드로 리셋하면 블럭/아이템 순서가 항상 같습니다. (헤드리스 시뮬레이션, 리플레이용)
+     *
+     * @param seed 블럭 생성 시드
+     */
+    public void reset(long seed) {
+        resetState();
+        setNextBlockSeed(seed);
+
+        spawnNewBlock();
+    }
+
+    private void resetState() {
         board.reset();
         scoreModel.reset();
         setDifficulty();
@@ -159,9 +179,6 @@ public class GameModel extends BaseModel {
         level = 1;
         isGameOver = false;
         isPaused = false;
-        nextBlockSeed = System.currentTimeMillis();
-
-        spawnNewBlock();
     }
 
     // 레벨에 따른 낙하 속도 계산
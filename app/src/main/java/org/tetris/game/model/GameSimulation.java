@@ -0,0 +1,348 @@
+package org.tetris.game.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.tetris.game.model.blocks.Block;
+import org.tetris.game.model.items.ItemActivation;
+import org.util.Point;
+
+/**
+ * JavaFX 없이 게임 규칙 전체를 틱(프레임) 단위로 실행하는 헤드리스 시뮬레이션.
+ * 컨트롤러의 게임 루프와 같은 규칙(레벨별 중력, 블럭 고정, 줄 삭제, 아이템, 공격 줄)을 따르며,
+ * 같은 시드와 같은 입력 순서면 항상 같은 결과가 나옵니다. (봇 학습, 리플레이 검증, 부하 테스트용)
+ * 난이도는 전역 설정(Difficulty)을 그대로 사용합니다.
+ */
+public class GameSimulation implements ItemActivation {
+
+    public enum Input {
+        LEFT, RIGHT, ROTATE, SOFT_DROP, HARD_DROP
+    }
+
+    /**
+     * 매 틱마다 적용할 입력을 공급하는 인터페이스
+     */
+    @FunctionalInterface
+    public interface InputSource {
+        /**
+         * @param sim 현재 시뮬레이션
+         * @return 이번 틱에 적용할 입력 (입력이 없으면 null)
+         */
+        Input next(GameSimulation sim);
+    }
+
+    // 컨트롤러의 플래시 애니메이션(100ms 간격 4회 토글)에 해당하는 줄 삭제 지연 (60 FPS 기준)
+    public static final int DEFAULT_CLEAR_DELAY_TICKS = 18;
+
+    // 이 숫자 이상의 줄을 한 번에 지우면 상대에게 공격 (DualGameController와 동일)
+    private static final int ATTACK_LINE_THRESHOLD = 2;
+
+    // stateHash()용 FNV-1a 상수
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final GameModel gameModel;
+    private final Board board;
+    private final ScoreModel scoreModel;
+    private final AttackModel attackModel; // 이 플레이어가 받을 공격
+    private GameSimulation opponent;
+
+    private final List<Integer> clearingRows = new ArrayList<>();
+    private final List<Integer> clearingCols = new ArrayList<>();
+    private final List<Point> clearingCells = new ArrayList<>();
+
+    private long tickCount = 0;
+    private int framesSinceDrop = 0;
+
+    private int clearDelayTicks = DEFAULT_CLEAR_DELAY_TICKS;
+    private boolean isClearing = false;
+    private int clearTicksLeft = 0;
+
+    public GameSimulation(long seed, boolean itemMode) {
+        this(new GameModel(), new AttackModel());
+        this.gameModel.setItemMode(itemMode);
+        this.gameModel.reset(seed);
+    }
+
+    /**
+     * 이미 있는 모델(화면에 연결된 PlayerSlot 등)로 시뮬레이션을 실행합니다.
+     * 시드 지정과 리셋(gameModel.reset(seed))은 호출 측에서 합니다.
+     */
+    public GameSimulation(GameModel gameModel, AttackModel attackModel) {
+        this.gameModel = gameModel;
+        this.board = gameModel.getBoardModel();
+        this.scoreModel = gameModel.getScoreModel();
+        this.attackModel = attackModel;
+    }
+
+    /**
+     * 두 시뮬레이션을 대전 상대로 연결합니다. 한쪽이 지운 줄은 상대의 공격 큐로 들어갑니다.
+     */
+    public static void connect(GameSimulation a, GameSimulation b) {
+        a.opponent = b;
+        b.opponent = a;
+    }
+
+    // ===== 조회 =====
+
+    public GameModel getGameModel() {
+        return gameModel;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public ScoreModel getScoreModel() {
+        return scoreModel;
+    }
+
+    public AttackModel getAttackModel() {
+        return attackModel;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isGameOver() {
+        return gameModel.isGameOver();
+    }
+
+    public boolean isClearing() {
+        return isClearing;
+    }
+
+    /**
+     * 진행 상태(보드, 활성 블럭, 점수/레벨, 중력/줄 삭제 카운터, 받은 공격)의 64비트 해시.
+     * 같은 시드와 입력으로 진행한 두 시뮬레이션은 항상 같은 값을 가지므로 락스텝 대전의 동기화 검증에 사용합니다.
+     * 다음 블럭 큐는 peek만으로도 채워질 수 있어 상태를 바꾸지 않도록 제외합니다. (스폰되면 보드에 반영됨)
+     */
+    public long stateHash() {
+        long h = FNV_OFFSET;
+        h = mix(h, tickCount);
+        h = mix(h, framesSinceDrop);
+        h = mix(h, isClearing ? clearTicksLeft : -1);
+        h = mix(h, gameModel.isGameOver() ? 1 : 0);
+        h = mix(h, scoreModel.getScore());
+        h = mix(h, gameModel.getLevel());
+        h = mix(h, gameModel.getTotalLinesCleared());
+
+        for (int[] row : board.getColorPlane()) {
+            for (int cell : row)
+                h = mix(h, cell);
+        }
+
+        h = mix(h, board.getCurRow());
+        h = mix(h, board.getCurCol());
+        if (board.activeBlock != null)
+            h = mixBlock(h, board.activeBlock);
+
+        for (int[] attack : attackModel.getAttacks()) {
+            for (int cell : attack)
+                h = mix(h, cell);
+        }
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        return (h ^ value) * FNV_PRIME;
+    }
+
+    private static long mixBlock(long h, Block block) {
+        h = mix(h, block.getRotation());
+        for (int value : block.getCellValues())
+            h = mix(h, value);
+        return h;
+    }
+
+    /**
+     * 줄 삭제 지연 틱 수를 설정합니다. 0이면 고정 즉시 삭제합니다. (봇 학습 등 빠른 실행용)
+     */
+    public void setClearDelayTicks(int clearDelayTicks) {
+        this.clearDelayTicks = Math.max(0, clearDelayTicks);
+    }
+
+    public int getClearDelayTicks() {
+        return clearDelayTicks;
+    }
+
+    // ===== 실행 =====
+
+    /**
+     * 입력 공급자로 게임을 진행합니다. 매 틱마다 입력 하나를 적용한 뒤 한 틱 진행합니다.
+     *
+     * @param source 입력 공급자
+     * @param maxTicks 최대 진행 틱 수
+     * @return 실제 진행한 틱 수
+     */
+    public long run(InputSource source, long maxTicks) {
+        long ran = 0;
+        while (ran < maxTicks && !isGameOver()) {
+            Input input = source.next(this);
+            if (input != null)
+                apply(input);
+            tick();
+            ran++;
+        }
+        return ran;
+    }
+
+    /**
+     * 입력 하나를 즉시 적용합니다. (키 입력 처리와 동일, 줄 삭제 중에는 무시)
+     *
+     * @param input 입력
+     * @return 입력이 적용되었는지 여부
+     */
+    public boolean apply(Input input) {
+        if (isGameOver() || isClearing)
+            return false;
+
+        switch (input) {
+            case LEFT:
+                return board.moveLeft();
+            case RIGHT:
+                return board.moveRight();
+            case ROTATE:
+                return board.rotate();
+            case SOFT_DROP:
+                boolean moved = board.moveDown();
+                if (moved)
+                    scoreModel.softDrop(1);
+                return moved;
+            case HARD_DROP:
+                int dropDistance = board.hardDrop();
+                scoreModel.add(dropDistance * 2);
+                framesSinceDrop = 0;
+                lockCurrentBlock();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 한 틱(프레임) 진행합니다. 줄 삭제 지연 중이면 지연만 줄이고, 아니면 중력을 적용합니다.
+     */
+    public void tick() {
+        if (isGameOver())
+            return;
+
+        tickCount++;
+
+        if (isClearing) {
+            if (--clearTicksLeft <= 0) {
+                isClearing = false;
+                processClears();
+            }
+            return;
+        }
+
+        framesSinceDrop++;
+        if (framesSinceDrop >= gameModel.getDropInterval()) {
+            framesSinceDrop = 0;
+
+            if (board.autoDown()) {
+                scoreModel.blockDropped();
+            } else {
+                lockCurrentBlock();
+            }
+        }
+    }
+
+    // ===== 블록 고정 / 줄 삭제 / 공격 =====
+
+    private void lockCurrentBlock() {
+        clearingRows.addAll(board.findFullRows());
+
+        // 아이템 제외하고 기본 로직으로 인한 row만 전달
+        if (opponent != null && clearingRows.size() >= ATTACK_LINE_THRESHOLD) {
+            sendAttack();
+        }
+
+        gameModel.tryActivateItem(this);
+
+        if (board.getIsForceDown()) {
+            boolean moved = board.moveDown(true);
+            if (!moved) {
+                board.removeCurrentBlock();
+                gameModel.updateModels(0);
+                gameModel.spawnNewBlock();
+            }
+            return;
+        }
+
+        if (!clearingRows.isEmpty() || !clearingCols.isEmpty() || !clearingCells.isEmpty()) {
+            if (clearDelayTicks == 0) {
+                processClears();
+            } else {
+                isClearing = true;
+                clearTicksLeft = clearDelayTicks;
+            }
+            return;
+        }
+
+        processIncomingAttacks();
+        gameModel.spawnNewBlock();
+    }
+
+    private void processClears() {
+        for (int r : clearingRows)
+            board.clearRow(r);
+        int linesCleared = clearingRows.size();
+        clearingRows.clear();
+
+        for (int c : clearingCols)
+            board.clearColumn(c);
+        int colsCleared = clearingCols.size();
+        clearingCols.clear();
+
+        for (Point p : clearingCells)
+            board.clearCell(p.r, p.c);
+        clearingCells.clear();
+
+        gameModel.updateModels(linesCleared + colsCleared);
+        processIncomingAttacks();
+
+        gameModel.spawnNewBlock();
+    }
+
+    private void sendAttack() {
+        for (int row : clearingRows) {
+            opponent.attackModel.push(board.getRowForAttack(row));
+        }
+    }
+
+    private void processIncomingAttacks() {
+        var attackRows = attackModel.popAttacks();
+        if (attackRows.isEmpty())
+            return;
+
+        if (!board.pushUp(attackRows))
+            gameModel.setGameOver(true);
+    }
+
+    // ===== ItemActivation 구현 (아이템이 지울 행/열/셀 추가) =====
+
+    @Override
+    public void addClearingRow(int row) {
+        if (!clearingRows.contains(row))
+            clearingRows.add(row);
+    }
+
+    @Override
+    public void addClearingCol(int col) {
+        if (!clearingCols.contains(col))
+            clearingCols.add(col);
+    }
+
+    @Override
+    public void addClearingCells(List<Point> cells) {
+        if (cells == null)
+            return;
+        for (Point cell : cells) {
+            if (!clearingCells.contains(cell))
+                clearingCells.add(cell);
+        }
+    }
+}
@@ -14,14 +14,14 @@ public class PlayerSlot {
     public final AttackModel attackModel;
     public final GameViewRenderer renderer;
 
-    // 게임 루프 관련 변수
-    public long lastDropTime = 0;
+    // 게임 루프 관련 변수 (고정 틱 기준)
+    public int framesSinceDrop = 0; // 마지막 자동 낙하 이후 지난 틱 수
 
     // 플래시 상태 관련 변수
     public boolean isFlashing = false;
     public boolean flashOn = false;
     public int flashToggleCount = 0;
-    public long nextFlashAt = 0L;
+    public int flashTicksLeft = 0; // 다음 깜빡임까지 남은 틱 수
     public boolean[][] flashMask;
 
     public final List<Integer> clearingRows = new ArrayList<>();
@@ -47,10 +47,10 @@ public class PlayerSlot {
         isFlashing = false;
         flashOn = false;
         flashToggleCount = 0;
-        nextFlashAt = 0L;
+        flashTicksLeft = 0;
         flashMask = null;
 
-        lastDropTime = 0;
+        framesSinceDrop = 0;
 
         clearingRows.clear();
         clearingCols.clear();
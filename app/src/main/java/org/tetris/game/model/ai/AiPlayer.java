@@ -0,0 +1,222 @@
+package org.tetris.game.model.ai;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.tetris.game.model.BitBoard;
+import org.tetris.game.model.Board;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.NextBlockModel;
+import org.tetris.game.model.blocks.Block;
+import org.tetris.game.model.blocks.RotationTable;
+import org.util.Point;
+
+/**
+ * 보드를 보고 입력을 고르는 컴퓨터 플레이어.
+ *
+ * 새 블럭이 나오면 현재 블럭과 다음 블럭(peekNext)으로 PlacementSearch를 돌려 목표 배치를 정하고,
+ * 이후 호출마다 목표까지의 최단 입력(Placement.keys)을 하나씩 돌려줍니다.
+ * 중력 등으로 블럭이 계획한 위치에 있지 않으면 FinessePlanner로 지금 위치에서 다시 경로를 구합니다.
+ * 기본(비동기) 모드에서는 탐색을 ForkJoinPool에 맡기고 끝날 때까지 null(입력 없음)을 돌려주므로
+ * 게임 루프(AnimationTimer)를 막지 않습니다. 탐색은 예산(budgetNanos)이 지나면 다음 블럭을 보지 않고 마무리합니다.
+ * 이 모드의 탐색 결과는 보드 크기별 공유 전치 표(TranspositionTable.shared)에 남아 다음 수와 상대 컴퓨터 플레이어도 다시 씁니다.
+ * 헤드리스 시뮬레이션에서는 blocking 모드로 그 자리에서 탐색합니다. 이때는 시계를 보지 않고 끝까지 탐색하며
+ * 전치 표도 플레이어마다 따로 두므로, 기계 속도나 동시에 도는 다른 게임과 관계없이 같은 시드면 같은 결과를 냅니다.
+ * 단일 스레드(FX 스레드 또는 시뮬레이션 스레드)에서 호출하는 것을 전제로 합니다.
+ */
+public class AiPlayer implements GameSimulation.InputSource {
+
+    // 한 수를 고르는 기본 시간 예산
+    public static final long DEFAULT_BUDGET_NANOS = 8_000_000L;
+
+    // 모든 컴퓨터 플레이어가 함께 쓰는 탐색 풀 (FX 스레드 몫으로 코어 하나를 남김)
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    private final long budgetNanos;
+    private final boolean blocking;
+
+    private PlacementSearch search;
+    private Block plannedFor; // 목표를 정한 블럭 (새 블럭이 나오면 다시 탐색)
+    private ForkJoinTask<PlacementSearch.Placement> pending;
+    private PlacementSearch.Placement target;
+
+    // 목표까지 남은 입력과, 그 입력을 넣기 전 블럭이 있어야 할 위치
+    private int[] stack; // 탐색한 보드 (활성 블럭 제외)
+    private PlacementSearch.Piece piece;
+    private List<Input> keys;
+    private int step;
+    private int expectedRotation;
+    private int expectedRow;
+    private int expectedColumn;
+
+    // 직전 입력이 먹혔는지 확인 (막혀서 목표에 못 가면 그 자리에서 떨어뜨림)
+    private Input lastInput;
+    private int lastRotation;
+    private int lastRow;
+    private int lastColumn;
+    private boolean stuck;
+
+    public AiPlayer() {
+        this(DEFAULT_BUDGET_NANOS, false);
+    }
+
+    /**
+     * @param blocking true면 nextInput 안에서 탐색을 끝까지 기다림 (헤드리스 시뮬레이션용)
+     */
+    public AiPlayer(boolean blocking) {
+        this(DEFAULT_BUDGET_NANOS, blocking);
+    }
+
+    /**
+     * @param budgetNanos 한 수를 고르는 시간 예산 (blocking 모드에서는 쓰지 않음)
+     * @param blocking true면 nextInput 안에서 탐색을 끝까지 기다림 (헤드리스 시뮬레이션용)
+     */
+    public AiPlayer(long budgetNanos, boolean blocking) {
+        this.budgetNanos = budgetNanos;
+        this.blocking = blocking;
+    }
+
+    @Override
+    public Input next(GameSimulation sim) {
+        if (sim.isClearing())
+            return null;
+        return nextInput(sim.getBoard(), sim.getGameModel().getNextBlockModel());
+    }
+
+    /**
+     * 이번에 넣을 입력을 고릅니다.
+     *
+     * @return 입력 (탐색 중이거나 블럭이 없으면 null)
+     */
+    public Input nextInput(Board board, NextBlockModel nextBlocks) {
+        Block block = board.activeBlock;
+        if (block == null)
+            return null;
+
+        if (block != plannedFor) {
+            plannedFor = block;
+            target = null;
+            lastInput = null;
+            stuck = false;
+            pending = startSearch(board, block, nextBlocks == null ? null : nextBlocks.peekNext());
+        }
+
+        if (pending != null) {
+            if (!blocking && !pending.isDone())
+                return null;
+            target = pending.join();
+            pending = null;
+            if (target != null) {
+                keys = target.keys();
+                step = 0;
+            }
+        }
+
+        return steer(board, block);
+    }
+
+    /**
+     * 진행 중인 탐색을 버리고 처음 상태로 돌립니다. (게임 재시작 등)
+     */
+    public void reset() {
+        if (pending != null)
+            pending.cancel(false);
+        pending = null;
+        plannedFor = null;
+        target = null;
+        keys = null;
+        lastInput = null;
+        stuck = false;
+    }
+
+    // 목표 배치로 가는 다음 입력
+    private Input steer(Board board, Block block) {
+        int rotation = block.getRotation();
+        int row = board.getCurRow();
+        int column = board.getCurCol();
+
+        // 직전 회전/이동이 막혔으면 더 시도하지 않음
+        if ((lastInput == Input.ROTATE && rotation == lastRotation)
+                || ((lastInput == Input.LEFT || lastInput == Input.RIGHT) && column == lastColumn)
+                || (lastInput == Input.SOFT_DROP && row == lastRow))
+            stuck = true;
+
+        Input input;
+        if (target == null || stuck) {
+            input = Input.HARD_DROP;
+        } else {
+            // 계획한 위치가 아니면(중력으로 내려옴 등) 지금 위치에서 다시 계획
+            if (step >= keys.size() || rotation != expectedRotation || row != expectedRow
+                    || column != expectedColumn) {
+                FinessePlanner.Route route = search.planner().route(stack, piece, rotation, row, column,
+                        target.rotation(), target.row(), target.column());
+                keys = route == null ? List.of(Input.HARD_DROP) : route.keys();
+                step = 0;
+            }
+            input = keys.get(step++);
+        }
+
+        expectedRotation = input == Input.ROTATE ? (rotation + 1) & (RotationTable.STATE_COUNT - 1) : rotation;
+        expectedRow = input == Input.SOFT_DROP ? row + 1 : row;
+        expectedColumn = input == Input.LEFT ? column - 1 : input == Input.RIGHT ? column + 1 : column;
+        lastInput = input;
+        lastRotation = rotation;
+        lastRow = row;
+        lastColumn = column;
+        return input;
+    }
+
+    // 보드를 복사해 탐색을 시작 (blocking이면 끝난 작업을 돌려줌)
+    private ForkJoinTask<PlacementSearch.Placement> startSearch(Board board, Block block, Block preview) {
+        BitBoard bits = board.getBitBoard();
+        if (search == null || search.height() != bits.height() || search.width() != bits.width())
+            search = new PlacementSearch(bits.height(), bits.width(), tableFor(bits.height(), bits.width()));
+
+        int[] rows = new int[bits.height()];
+        for (int r = 0; r < rows.length; r++)
+            rows[r] = bits.getRow(r);
+
+        // 보드에 쓰여 있는 활성 블럭을 뺌
+        int curRow = board.getCurRow();
+        int curCol = board.getCurCol();
+        int[] cellRows = block.getCellRows();
+        int[] cellCols = block.getCellCols();
+        for (int i = 0; i < cellRows.length; i++) {
+            int r = curRow + cellRows[i];
+            int c = curCol + cellCols[i];
+            if (bits.isInBound(r, c))
+                rows[r] &= ~(1 << c);
+        }
+
+        PlacementSearch.Piece current = PlacementSearch.Piece.of(block);
+        PlacementSearch.Piece next = preview == null ? null : PlacementSearch.Piece.of(preview);
+        int rotation = block.getRotation();
+        stack = rows;
+        piece = current;
+        expectedRotation = rotation;
+        expectedRow = curRow;
+        expectedColumn = curCol;
+        Point spawn = board.getInitialPos();
+        // blocking이면 마감 없이 끝까지 (시계에 따라 결과가 달라지지 않도록)
+        long deadline = blocking ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+        PlacementSearch search = this.search;
+
+        ForkJoinTask<PlacementSearch.Placement> task = ForkJoinTask.adapt(
+                () -> search.search(rows, current, rotation, curRow, curCol, next, spawn, deadline, POOL));
+        if (blocking)
+            task.invoke();
+        else
+            POOL.execute(task);
+        return task;
+    }
+
+    // 비동기 모드는 공유 표를 함께 쓰고, blocking 모드는 다른 게임의 탐색 순서에 영향받지 않도록 자기 표를 만듦
+    private TranspositionTable tableFor(int height, int width) {
+        if (!blocking)
+            return TranspositionTable.shared(height, width);
+        return new TranspositionTable(height, width, TranspositionTable.DEFAULT_CAPACITY_BITS);
+    }
+}
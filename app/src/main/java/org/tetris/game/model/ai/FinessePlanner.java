@@ -0,0 +1,394 @@
+package org.tetris.game.model.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.RotationTable;
+
+/**
+ * 블럭을 시작 위치에서 각 배치까지 옮기는 가장 짧은 키 입력(좌/우/회전/소프트 드롭/하드 드롭)을 찾습니다.
+ *
+ * (회전, 행, 열) 상태를 너비 우선 탐색하며 Board와 같은 규칙을 따릅니다: 시계방향 제자리 회전(벽 차기 없음),
+ * 한 칸 이동, 한 칸 내리기, 하드 드롭. 회전/이동이 막힌 블럭(O 블럭, 아이템)은 그 입력을 쓰지 않습니다.
+ * 중력은 무시하므로 호출 측이 실제 위치가 달라지면 다시 계획합니다.
+ * 셀이 같은 배치(I, S, Z 블럭의 반대 방향 회전 등)는 하나로 셉니다.
+ *
+ * 빈 보드에서 회전/좌우 이동만으로 가는 경로표를 (블럭, 시작 회전, 시작 열)별로 한 번만 만들어 두고,
+ * 실제 보드에 덮인 빈칸(위가 막힌 빈칸)이 없으면 경로표의 각 경로가 시작 행에서 막히지 않는지만 확인합니다.
+ * 덮인 빈칸이 없으면 밀어 넣기(소프트 드롭 후 이동)로만 갈 수 있는 배치가 없고,
+ * 빈 보드의 최단 경로가 그대로 통하면 실제 보드에서도 최단이기 때문입니다.
+ * 그렇지 않을 때만 실제 보드에서 전체 탐색을 합니다.
+ *
+ * 보드는 PlacementSearch와 같은 행 비트마스크로 받으며, 여러 스레드에서 함께 써도 됩니다.
+ */
+public final class FinessePlanner {
+
+    // 피벗이 보드 밖으로 나갈 수 있는 범위 (블럭 크기 4 이하)
+    private static final int MARGIN = 4;
+
+    // 탐색 순서 = 같은 길이 경로 중 우선순위 (회전 먼저, AiPlayer의 기존 조작 순서와 같음)
+    private static final Input[] MOVES = { Input.ROTATE, Input.LEFT, Input.RIGHT, Input.SOFT_DROP };
+
+    /**
+     * 배치 하나와 그곳까지의 키 입력
+     *
+     * @param rotation 놓인 회전 상태
+     * @param row 놓인 피벗 행
+     * @param column 놓인 피벗 열
+     * @param keys 시작 위치에서의 입력 (마지막은 HARD_DROP, 수정 불가)
+     */
+    public record Route(int rotation, int row, int column, List<Input> keys) {
+    }
+
+    // 빈 보드 경로표의 키
+    private record TableKey(long piece, int rotation, int column) {
+    }
+
+    // 빈 보드에서 회전/좌우 이동만으로 가는 경로 (지나는 상태 포함)
+    private record Lateral(int[] rotations, int[] columns, List<Input> keys) {
+        int rotation() {
+            return rotations[rotations.length - 1];
+        }
+
+        int column() {
+            return columns[columns.length - 1];
+        }
+    }
+
+    // 전체 탐색용 작업 배열 (스레드마다 하나, 탐색마다 새로 할당하지 않음)
+    private static final class Scratch {
+        final int[] parent;
+        final byte[] move;
+        final boolean[] placed;
+        final int[] queue;
+
+        Scratch(int states) {
+            parent = new int[states];
+            move = new byte[states];
+            placed = new boolean[states];
+            queue = new int[states];
+        }
+    }
+
+    private final int height;
+    private final int width;
+    private final int rowSpan;
+    private final int columnSpan;
+    private final Map<TableKey, Lateral[]> emptyBoardTables = new ConcurrentHashMap<>();
+    private final ThreadLocal<Scratch> scratch;
+
+    public FinessePlanner(int height, int width) {
+        this.height = height;
+        this.width = width;
+        this.rowSpan = height + MARGIN;
+        this.columnSpan = width + 2 * MARGIN;
+        int states = RotationTable.STATE_COUNT * rowSpan * columnSpan;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(states));
+    }
+
+    // ===== 배치 나열 =====
+
+    /**
+     * 시작 위치에서 갈 수 있는 모든 배치와 최단 입력을 구합니다.
+     *
+     * @param rows 활성 블럭을 뺀 보드의 행 비트마스크 (수정하지 않음)
+     * @param piece 블럭
+     * @param rotation 시작 회전 상태
+     * @param row 시작 피벗 행
+     * @param column 시작 피벗 열
+     * @return 배치 목록 (시작 위치가 막혀 있으면 빈 목록)
+     */
+    public List<Route> reachable(int[] rows, PlacementSearch.Piece piece, int rotation, int row, int column) {
+        if (!fits(rows, piece, rotation, row, column))
+            return Collections.emptyList();
+
+        if (!hasCoveredCell(rows)) {
+            List<Route> routes = fromEmptyBoardTable(rows, piece, rotation, row, column);
+            if (routes != null)
+                return routes;
+        }
+        List<Route> routes = new ArrayList<>();
+        search(rows, piece, rotation, row, column, -1, routes);
+        return routes;
+    }
+
+    /**
+     * 시작 행에서 회전/좌우 이동 후 하드 드롭으로 갈 수 있는 배치만 구합니다. (밀어 넣기 제외)
+     * 보드와 관계없이 빈 보드 경로표를 확인만 하면 되는 경우가 대부분이라 reachable보다 훨씬 쌉니다.
+     * (다음 블럭 미리보기처럼 대략적인 평가용)
+     */
+    public List<Route> hardDropReachable(int[] rows, PlacementSearch.Piece piece, int rotation, int row,
+            int column) {
+        if (!fits(rows, piece, rotation, row, column))
+            return Collections.emptyList();
+
+        List<Route> routes = fromEmptyBoardTable(rows, piece, rotation, row, column);
+        if (routes != null)
+            return routes;
+        return toRoutes(rows, piece, row, lateral(rows, piece, rotation, row, column));
+    }
+
+    /**
+     * 시작 위치에서 목표 배치까지의 최단 입력을 구합니다.
+     *
+     * @return 목표에 놓이는 경로 (갈 수 없으면 null)
+     */
+    public Route route(int[] rows, PlacementSearch.Piece piece, int rotation, int row, int column,
+            int targetRotation, int targetRow, int targetColumn) {
+        if (!fits(rows, piece, rotation, row, column))
+            return null;
+        int target = placementIndex(piece, targetRotation, targetRow, targetColumn);
+        if (target < 0)
+            return null;
+
+        List<Route> found = new ArrayList<>(1);
+        search(rows, piece, rotation, row, column, target, found);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    // 빈 보드 경로표가 실제 보드에서도 모두 통하면 그대로 씀 (하나라도 막히면 null)
+    private List<Route> fromEmptyBoardTable(int[] rows, PlacementSearch.Piece piece, int rotation, int row,
+            int column) {
+        // 빈 보드 경로표는 보드 위 허공에서 구하므로 벽만 막음 (실제 시작 행은 여기서 확인)
+        Lateral[] table = emptyBoardTables.computeIfAbsent(
+                new TableKey(TranspositionTable.pieceKey(piece), rotation, column),
+                k -> lateral(new int[height], piece, rotation, -2 * MARGIN, column));
+
+        for (Lateral lateral : table) {
+            for (int i = 1; i < lateral.rotations.length; i++) {
+                if (!fits(rows, piece, lateral.rotations[i], row, lateral.columns[i]))
+                    return null;
+            }
+        }
+        return toRoutes(rows, piece, row, table);
+    }
+
+    private List<Route> toRoutes(int[] rows, PlacementSearch.Piece piece, int row, Lateral[] laterals) {
+        List<Route> routes = new ArrayList<>(laterals.length);
+        for (Lateral lateral : laterals) {
+            int landing = dropRow(rows, piece, lateral.rotation(), row, lateral.column());
+            routes.add(new Route(lateral.rotation(), landing, lateral.column(), lateral.keys));
+        }
+        return routes;
+    }
+
+    // 시작 행에 머문 채 (회전, 열) 상태를 너비 우선 탐색
+    private Lateral[] lateral(int[] rows, PlacementSearch.Piece piece, int rotation, int row, int column) {
+        int states = RotationTable.STATE_COUNT * columnSpan;
+        int[] parent = new int[states];
+        Arrays.fill(parent, -2);
+        boolean[] placed = new boolean[states];
+        int[] queue = new int[states];
+
+        List<Lateral> table = new ArrayList<>();
+        int head = 0;
+        int tail = 0;
+        int start = rotation * columnSpan + column + MARGIN;
+        parent[start] = -1;
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / columnSpan;
+            int c = state % columnSpan - MARGIN;
+
+            int same = canonicalRotation(piece, r);
+            int placement = same * columnSpan + c - piece.pivots()[r].c + piece.pivots()[same].c + MARGIN;
+            if (!placed[placement]) {
+                placed[placement] = true;
+                table.add(lateralTo(state, parent));
+            }
+
+            for (int m = 0; m < 3; m++) { // 회전, 좌, 우
+                if (!canUse(piece, m))
+                    continue;
+                int nr = m == 0 ? (r + 1) & (RotationTable.STATE_COUNT - 1) : r;
+                int nc = m == 1 ? c - 1 : m == 2 ? c + 1 : c;
+                if (nc < -MARGIN || nc >= width + MARGIN)
+                    continue;
+                int next = nr * columnSpan + nc + MARGIN;
+                if (parent[next] != -2 || !fits(rows, piece, nr, row, nc))
+                    continue;
+                parent[next] = state;
+                queue[tail++] = next;
+            }
+        }
+        return table.toArray(new Lateral[0]);
+    }
+
+    private Lateral lateralTo(int state, int[] parent) {
+        int length = 0;
+        for (int s = state; s != -1; s = parent[s])
+            length++;
+
+        int[] rotations = new int[length];
+        int[] columns = new int[length];
+        for (int s = state, i = length - 1; s != -1; s = parent[s], i--) {
+            rotations[i] = s / columnSpan;
+            columns[i] = s % columnSpan - MARGIN;
+        }
+
+        Input[] keys = new Input[length];
+        for (int i = 1; i < length; i++) {
+            keys[i - 1] = rotations[i] != rotations[i - 1] ? Input.ROTATE
+                    : columns[i] < columns[i - 1] ? Input.LEFT : Input.RIGHT;
+        }
+        keys[length - 1] = Input.HARD_DROP;
+        return new Lateral(rotations, columns, List.of(keys));
+    }
+
+    // 실제 보드에서 (회전, 행, 열) 상태를 너비 우선 탐색
+    // target >= 0이면 그 배치(정규화한 상태 번호)에 닿는 즉시 그 경로만 out에 넣고 끝냄
+    private void search(int[] rows, PlacementSearch.Piece piece, int rotation, int row, int column, int target,
+            List<Route> out) {
+        Scratch scratch = this.scratch.get();
+        int[] parent = scratch.parent;
+        byte[] move = scratch.move;
+        boolean[] placed = scratch.placed;
+        int[] queue = scratch.queue;
+        Arrays.fill(parent, -2);
+        Arrays.fill(placed, false);
+
+        int head = 0;
+        int tail = 0;
+        int start = stateIndex(rotation, row, column);
+        parent[start] = -1;
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / (rowSpan * columnSpan);
+            int y = state / columnSpan % rowSpan - MARGIN;
+            int c = state % columnSpan - MARGIN;
+
+            // 여기서 하드 드롭하면 놓이는 배치
+            int landing = dropRow(rows, piece, r, y, c);
+            int placement = placementIndex(piece, r, landing, c);
+            if (placement >= 0) {
+                if (!placed[placement] && (target < 0 || placement == target)) {
+                    placed[placement] = true;
+                    out.add(new Route(r, landing, c, keysTo(state, parent, move)));
+                    if (target >= 0)
+                        return;
+                }
+            }
+
+            for (int m = 0; m < MOVES.length; m++) {
+                if (!canUse(piece, m))
+                    continue;
+                int nr = m == 0 ? (r + 1) & (RotationTable.STATE_COUNT - 1) : r;
+                int ny = m == 3 ? y + 1 : y;
+                int nc = m == 1 ? c - 1 : m == 2 ? c + 1 : c;
+                if (!inRange(ny, nc))
+                    continue;
+                int next = stateIndex(nr, ny, nc);
+                if (parent[next] != -2 || !fits(rows, piece, nr, ny, nc))
+                    continue;
+                parent[next] = state;
+                move[next] = (byte) m;
+                queue[tail++] = next;
+            }
+        }
+    }
+
+    // MOVES[m] 입력이 이 블럭에 먹히는지 (먹히지 않는 입력은 상태를 바꾸지 않음)
+    private static boolean canUse(PlacementSearch.Piece piece, int m) {
+        return m == 0 ? piece.rotatable() : m == 3 || piece.movable();
+    }
+
+    private static List<Input> keysTo(int state, int[] parent, byte[] move) {
+        int length = 1;
+        for (int s = state; parent[s] != -1; s = parent[s])
+            length++;
+
+        Input[] keys = new Input[length];
+        keys[length - 1] = Input.HARD_DROP;
+        int i = length - 2;
+        for (int s = state; parent[s] != -1; s = parent[s])
+            keys[i--] = MOVES[move[s]];
+        return List.of(keys);
+    }
+
+    // ===== 충돌 검사 =====
+
+    /**
+     * BitBoard.fits와 같은 규칙 (보드 위로 튀어나온 행은 검사하지 않음)
+     */
+    boolean fits(int[] rows, PlacementSearch.Piece piece, int rotation, int row, int column) {
+        int[] masks = piece.masks()[rotation];
+        int top = row - piece.pivots()[rotation].r;
+        int left = column - piece.pivots()[rotation].c;
+        for (int i = 0; i < masks.length; i++) {
+            int mask = masks[i];
+            if (mask == 0)
+                continue;
+            if (left >= 0) {
+                if (left >= width || (mask >>> (width - left)) != 0)
+                    return false;
+            } else if ((mask & ((1 << -left) - 1)) != 0) {
+                return false;
+            }
+            int y = top + i;
+            if (y >= height)
+                return false;
+            if (y >= 0 && (rows[y] & shift(mask, left)) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * (회전, 행, 열)에서 하드 드롭하면 놓이는 피벗 행
+     */
+    int dropRow(int[] rows, PlacementSearch.Piece piece, int rotation, int row, int column) {
+        int r = row;
+        while (fits(rows, piece, rotation, r + 1, column))
+            r++;
+        return r;
+    }
+
+    static int shift(int mask, int left) {
+        return left >= 0 ? mask << left : mask >>> -left;
+    }
+
+    // 위가 막힌 빈칸이 있는지 (없으면 밀어 넣기로만 갈 수 있는 배치가 없음)
+    private boolean hasCoveredCell(int[] rows) {
+        int seen = 0;
+        for (int r = 0; r < height; r++) {
+            if ((seen & ~rows[r]) != 0)
+                return true;
+            seen |= rows[r];
+        }
+        return false;
+    }
+
+    // ===== 상태 번호 =====
+
+    // 행 마스크가 같은(셀이 같은) 가장 앞선 회전 상태
+    private static int canonicalRotation(PlacementSearch.Piece piece, int rotation) {
+        for (int r = 0; r < rotation; r++) {
+            if (Arrays.equals(piece.masks()[r], piece.masks()[rotation]))
+                return r;
+        }
+        return rotation;
+    }
+
+    // 배치의 상태 번호: 셀이 같은 배치는 같은 번호 (범위 밖이면 -1)
+    private int placementIndex(PlacementSearch.Piece piece, int rotation, int row, int column) {
+        int same = canonicalRotation(piece, rotation);
+        int r = row - piece.pivots()[rotation].r + piece.pivots()[same].r;
+        int c = column - piece.pivots()[rotation].c + piece.pivots()[same].c;
+        return inRange(r, c) ? stateIndex(same, r, c) : -1;
+    }
+
+    private boolean inRange(int row, int column) {
+        return row >= -MARGIN && row < height && column >= -MARGIN && column < width + MARGIN;
+    }
+
+    private int stateIndex(int rotation, int row, int column) {
+        return (rotation * rowSpan + row + MARGIN) * columnSpan + column + MARGIN;
+    }
+}
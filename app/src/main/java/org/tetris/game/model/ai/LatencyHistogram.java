@@ -0,0 +1,85 @@
+package org.tetris.game.model.ai;
+
+/**
+ * 지연 시간(나노초) 분포를 고정 크기 배열에 모으는 히스토그램.
+ *
+ * 2의 거듭제곱 구간마다 16칸으로 나누는 로그-선형 구간을 쓰므로 값의 크기와 관계없이 오차가 약 6% 이내이고,
+ * 기록(record)은 배열 칸 하나를 늘릴 뿐 메모리를 할당하지 않습니다.
+ * 스레드마다 하나씩 쓰고 끝난 뒤 merge로 합칩니다. (스레드 안전하지 않음)
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    // 0 ~ 15는 값 그대로, 이후 지수 4 ~ 62 구간마다 16칸
+    private static final int BUCKET_COUNT = (63 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long sum;
+    private long max;
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        if (value > max)
+            max = value;
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            counts[i] += other.counts[i];
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * @param fraction 0.0 ~ 1.0 (예: 0.99)
+     * @return 기록된 값의 fraction 이상이 이 값 이하인 가장 작은 구간의 상한 (기록이 없으면 0)
+     */
+    public long percentile(double fraction) {
+        if (count == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target)
+                return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_COUNT)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + (int) ((value >>> shift) & (SUB_COUNT - 1));
+    }
+
+    // 구간 i에 들어가는 가장 큰 값
+    static long upperBound(int index) {
+        if (index < SUB_COUNT)
+            return index;
+        int shift = index / SUB_COUNT - 1;
+        long lower = (long) (SUB_COUNT + index % SUB_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,308 @@
+package org.tetris.game.model.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.Block;
+import org.tetris.game.model.blocks.RotationTable;
+import org.util.Point;
+
+/**
+ * 현재 블럭과 다음 블럭의 모든 (회전, 열) 배치를 탐색해 가장 좋은 현재 블럭 배치를 고릅니다.
+ *
+ * 보드는 행 비트마스크(BitBoard와 같은 형식) 복사본으로 받아 스레드끼리 공유하지 않으며,
+ * 현재 블럭의 배치 후보를 ForkJoinPool에서 나눠 평가합니다. (후보마다 다음 블럭의 모든 배치를 확인)
+ * 배치는 Board와 같은 규칙으로 도달할 수 있는 것만 FinessePlanner로 나열하며
+ * (현재 블럭은 밀어 넣기 포함, 다음 블럭은 하드 드롭만), 고른 배치에는 그곳까지의 최단 키 입력이 함께 담깁니다.
+ * 마감 시각이 지나면 남은 후보는 다음 블럭을 보지 않고 현재 배치만으로 평가하므로 항상 결과를 냅니다.
+ * 전치 표(TranspositionTable)를 주면 (배치 후 보드, 다음 블럭)마다 구한 최고 점수를 기억해
+ * 다른 순서로 같은 보드가 된 후보와 이후의 탐색(다음 수, 상대 플레이어)에서 다시 씁니다.
+ */
+public final class PlacementSearch {
+
+    // 보드 평가 가중치 (높이 합, 지운 줄, 구멍, 울퉁불퉁함)
+    static final double WEIGHT_HEIGHT = -0.510066;
+    static final double WEIGHT_LINES = 0.760666;
+    static final double WEIGHT_HOLES = -0.35663;
+    static final double WEIGHT_BUMPINESS = -0.184483;
+
+    // 다음 블럭을 놓을 수 없는(게임 오버) 배치의 점수
+    private static final double GAME_OVER_SCORE = -1e9;
+
+    // 리프 작업 하나가 평가하는 현재 블럭 후보 수
+    private static final int LEAF_SIZE = 2;
+
+    /**
+     * 회전 상태별 행 마스크와 피벗 (블럭의 공유 회전 테이블에서 복사 없이 가져옴)
+     *
+     * @param rotatable 회전 입력이 먹히는지 (O 블럭, 회전 금지 아이템은 false)
+     * @param movable 좌우 이동 입력이 먹히는지 (무게추 등은 false)
+     */
+    public record Piece(int[][] masks, Point[] pivots, boolean rotatable, boolean movable) {
+        public static Piece of(Block block) {
+            int[][] masks = new int[RotationTable.STATE_COUNT][];
+            Point[] pivots = new Point[RotationTable.STATE_COUNT];
+            for (int i = 0; i < RotationTable.STATE_COUNT; i++) {
+                masks[i] = block.getRowMasks(i);
+                pivots[i] = block.getPivot(i);
+            }
+            return new Piece(masks, pivots, block.isRotatable(), block.getCanMove());
+        }
+    }
+
+    /**
+     * 고른 배치
+     *
+     * @param rotation 목표 회전 상태
+     * @param row 놓일 피벗 행
+     * @param column 목표 피벗 열
+     * @param keys 시작 위치에서 그곳까지의 최단 입력 (마지막은 HARD_DROP)
+     * @param score 평가 점수 (클수록 좋음)
+     */
+    public record Placement(int rotation, int row, int column, List<Input> keys, double score) {
+    }
+
+    private final int height;
+    private final int width;
+    private final int fullRowMask;
+    private final TranspositionTable table; // 없으면 null
+    private final FinessePlanner planner;
+
+    public PlacementSearch(int height, int width) {
+        this(height, width, null);
+    }
+
+    public PlacementSearch(int height, int width, TranspositionTable table) {
+        this.height = height;
+        this.width = width;
+        this.fullRowMask = (1 << width) - 1;
+        this.table = table;
+        this.planner = new FinessePlanner(height, width);
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    /**
+     * 배치 나열에 쓰는 경로 탐색기 (빈 보드 경로표를 공유하도록 AiPlayer도 씀)
+     */
+    public FinessePlanner planner() {
+        return planner;
+    }
+
+    /**
+     * 가장 좋은 배치를 찾습니다.
+     *
+     * @param rows 활성 블럭을 뺀 보드의 행 비트마스크 (수정하지 않음)
+     * @param current 현재 블럭
+     * @param rotation 현재 블럭의 회전 상태
+     * @param row 현재 블럭의 피벗 행
+     * @param column 현재 블럭의 피벗 열
+     * @param preview 다음 블럭 (없으면 null -> 현재 배치만 평가)
+     * @param spawn 다음 블럭이 나올 피벗 위치
+     * @param deadline 이 시각(System.nanoTime)이 지나면 다음 블럭 탐색을 생략
+     * @return 가장 좋은 배치 (놓을 곳이 없으면 null)
+     */
+    public Placement search(int[] rows, Piece current, int rotation, int row, int column,
+            Piece preview, Point spawn, long deadline, ForkJoinPool pool) {
+        List<Candidate> candidates = new ArrayList<>();
+        enumerate(rows, current, rotation, row, column, true, candidates);
+        if (candidates.isEmpty())
+            return null;
+
+        Candidate[] array = candidates.toArray(new Candidate[0]);
+        long previewKey = 0;
+        if (table != null) {
+            table.newSearch();
+            if (preview != null)
+                previewKey = TranspositionTable.pieceKey(preview);
+        }
+        Candidate best = pool.invoke(new SearchTask(array, 0, array.length, preview, previewKey, spawn, deadline));
+        return new Placement(best.route.rotation(), best.route.row(), best.route.column(), best.route.keys(),
+                best.score);
+    }
+
+    // ===== 배치 나열 =====
+
+    // 한 배치를 놓고 줄을 지운 결과
+    private static final class Candidate {
+        final int index; // 나열 순서 (같은 점수면 앞의 것을 고름)
+        final FinessePlanner.Route route;
+        final int[] rows;
+        final int lines;
+        double score;
+
+        Candidate(int index, FinessePlanner.Route route, int[] rows, int lines) {
+            this.index = index;
+            this.route = route;
+            this.rows = rows;
+            this.lines = lines;
+        }
+    }
+
+    // tucks가 false면 밀어 넣기 배치는 빼고 빠르게 나열 (다음 블럭 미리보기용)
+    private void enumerate(int[] rows, Piece piece, int rotation, int row, int column, boolean tucks,
+            List<Candidate> out) {
+        List<FinessePlanner.Route> routes = tucks
+                ? planner.reachable(rows, piece, rotation, row, column)
+                : planner.hardDropReachable(rows, piece, rotation, row, column);
+        for (FinessePlanner.Route route : routes)
+            out.add(place(rows, piece, route, out.size()));
+    }
+
+    private Candidate place(int[] rows, Piece piece, FinessePlanner.Route route, int index) {
+        int[] placed = rows.clone();
+        int[] masks = piece.masks[route.rotation()];
+        int top = route.row() - piece.pivots[route.rotation()].r;
+        int left = route.column() - piece.pivots[route.rotation()].c;
+        for (int i = 0; i < masks.length; i++) {
+            int y = top + i;
+            if (masks[i] != 0 && y >= 0)
+                placed[y] |= FinessePlanner.shift(masks[i], left);
+        }
+        int lines = clearLines(placed);
+        return new Candidate(index, route, placed, lines);
+    }
+
+    // 가득 찬 행을 지우고 위 행들을 내림
+    private int clearLines(int[] rows) {
+        int write = height - 1;
+        int lines = 0;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] == fullRowMask) {
+                lines++;
+                continue;
+            }
+            rows[write--] = rows[read];
+        }
+        while (write >= 0)
+            rows[write--] = 0;
+        return lines;
+    }
+
+    // ===== 평가 =====
+
+    /**
+     * 보드 모양 점수 (높이 합, 구멍, 울퉁불퉁함). 지운 줄은 호출 측에서 더합니다.
+     */
+    double evaluate(int[] rows) {
+        int seen = 0;
+        int holes = 0;
+        int[] heights = new int[width];
+        for (int r = 0; r < height; r++) {
+            int row = rows[r];
+            holes += Integer.bitCount(seen & ~row);
+            int tops = row & ~seen;
+            while (tops != 0) {
+                heights[Integer.numberOfTrailingZeros(tops)] = height - r;
+                tops &= tops - 1;
+            }
+            seen |= row;
+        }
+
+        int aggregate = 0;
+        int bumpiness = 0;
+        for (int c = 0; c < width; c++) {
+            aggregate += heights[c];
+            if (c > 0)
+                bumpiness += Math.abs(heights[c] - heights[c - 1]);
+        }
+        return WEIGHT_HEIGHT * aggregate + WEIGHT_HOLES * holes + WEIGHT_BUMPINESS * bumpiness;
+    }
+
+    // 현재 블럭 후보 하나의 점수: 다음 블럭까지 놓아 본 최고 점수
+    private double score(Candidate candidate, Piece preview, long previewKey, Point spawn, long deadline) {
+        if (preview == null)
+            return WEIGHT_LINES * candidate.lines + evaluate(candidate.rows);
+
+        // 다음 블럭 점수는 보드와 다음 블럭만으로 정해지므로 표에서 찾아봄 (마감이 지나도 적중하면 씀)
+        long key = 0;
+        if (table != null) {
+            key = table.key(candidate.rows, previewKey, 0);
+            double cached = table.get(key);
+            if (!Double.isNaN(cached))
+                return cached == GAME_OVER_SCORE ? cached : WEIGHT_LINES * candidate.lines + cached;
+        }
+        if (System.nanoTime() > deadline)
+            return WEIGHT_LINES * candidate.lines + evaluate(candidate.rows);
+
+        double best = bestFollowUp(candidate.rows, preview, spawn);
+        if (table != null)
+            table.put(key, best);
+        return best == GAME_OVER_SCORE ? best : WEIGHT_LINES * candidate.lines + best;
+    }
+
+    // 다음 블럭의 모든 배치 중 최고 점수 (놓을 곳이 없으면 GAME_OVER_SCORE)
+    private double bestFollowUp(int[] rows, Piece preview, Point spawn) {
+        List<Candidate> next = new ArrayList<>();
+        enumerate(rows, preview, 0, spawn.r, spawn.c, false, next);
+        if (next.isEmpty())
+            return GAME_OVER_SCORE;
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (Candidate c : next)
+            best = Math.max(best, WEIGHT_LINES * c.lines + evaluate(c.rows));
+        return best;
+    }
+
+    // 풀 안에서만 쓰고 직렬화하지 않음 (RecursiveTask가 Serializable이라 붙는 경고)
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveTask<Candidate> {
+        private final Candidate[] candidates;
+        private final int from;
+        private final int to;
+        private final Piece preview;
+        private final long previewKey;
+        private final Point spawn;
+        private final long deadline;
+
+        SearchTask(Candidate[] candidates, int from, int to, Piece preview, long previewKey, Point spawn,
+                long deadline) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.preview = preview;
+            this.previewKey = previewKey;
+            this.spawn = spawn;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Candidate compute() {
+            if (to - from <= LEAF_SIZE) {
+                Candidate best = null;
+                for (int i = from; i < to; i++) {
+                    Candidate candidate = candidates[i];
+                    candidate.score = score(candidate, preview, previewKey, spawn, deadline);
+                    best = better(best, candidate);
+                }
+                return best;
+            }
+
+            int mid = (from + to) >>> 1;
+            SearchTask left = new SearchTask(candidates, from, mid, preview, previewKey, spawn, deadline);
+            SearchTask right = new SearchTask(candidates, mid, to, preview, previewKey, spawn, deadline);
+            left.fork();
+            Candidate rightBest = right.compute();
+            return better(left.join(), rightBest);
+        }
+    }
+
+    private static Candidate better(Candidate a, Candidate b) {
+        if (a == null)
+            return b;
+        if (b == null)
+            return a;
+        if (a.score != b.score)
+            return a.score > b.score ? a : b;
+        return a.index < b.index ? a : b;
+    }
+}
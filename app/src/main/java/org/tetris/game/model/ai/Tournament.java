@@ -0,0 +1,254 @@
+package org.tetris.game.model.ai;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.tetris.game.model.DualGameModel;
+import org.tetris.game.model.GameSimulation;
+
+/**
+ * 컴퓨터 플레이어끼리 헤드리스 게임을 대량으로 돌리는 처리량 벤치마크. (JavaFX 없이 실행)
+ *
+ * 싱글 게임 N판과 DualGameModel 대전 M판을 고정 시드로 모든 코어에 나눠 돌리고,
+ * 초당 게임/틱 수, 틱당 지연(p50/p99), 게임당 할당량을 보고합니다.
+ * 게임(대전) i의 시드는 seed + i이고(대전의 2P는 ~(seed + i)) 컴퓨터 플레이어는 blocking 모드로
+ * 시간 예산 없이 플레이어마다 따로 둔 전치 표로 탐색하므로, 같은 옵션이면 스레드 수나 기계와 관계없이 줄 수와 승패가 항상 같습니다.
+ * Board, NextBlockModel, AttackModel, 아이템 처리 변경 전후로 돌려 비교하는 용도입니다.
+ *
+ * 실행: ./gradlew tournament -Ptournament.args="--games 32 --matches 16 --items"
+ */
+public final class Tournament {
+
+    /**
+     * @param games 싱글 게임 수
+     * @param matches 대전 수
+     * @param seed 첫 게임의 시드
+     * @param maxTicks 게임(대전) 하나의 최대 틱 수
+     * @param threads 게임을 돌릴 스레드 수
+     * @param itemMode 아이템 모드
+     */
+    public record Options(int games, int matches, long seed, long maxTicks, int threads, boolean itemMode) {
+
+        public static Options defaults() {
+            int cores = Runtime.getRuntime().availableProcessors();
+            return new Options(2 * cores, cores, 1L, 60 * 60 * 3, cores, false);
+        }
+
+        /**
+         * --games N --matches N --seed N --ticks N --threads N --items
+         */
+        public static Options parse(String[] args) {
+            Options d = defaults();
+            int games = d.games, matches = d.matches, threads = d.threads;
+            long seed = d.seed, maxTicks = d.maxTicks;
+            boolean itemMode = d.itemMode;
+
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--items")) {
+                    itemMode = true;
+                    continue;
+                }
+                if (i + 1 >= args.length)
+                    throw new IllegalArgumentException("값이 없는 옵션: " + arg);
+                long value = Long.parseLong(args[++i]);
+                switch (arg) {
+                    case "--games" -> games = (int) value;
+                    case "--matches" -> matches = (int) value;
+                    case "--seed" -> seed = value;
+                    case "--ticks" -> maxTicks = value;
+                    case "--threads" -> threads = (int) value;
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+                }
+            }
+
+            Options o = new Options(games, matches, seed, maxTicks, threads, itemMode);
+            if (games < 0 || matches < 0 || maxTicks <= 0 || threads <= 0)
+                throw new IllegalArgumentException("잘못된 옵션: " + o);
+            return o;
+        }
+    }
+
+    /**
+     * @param games 끝난 싱글 게임 수
+     * @param matches 끝난 대전 수
+     * @param ticks 모든 플레이어의 틱 수 합
+     * @param lines 모든 플레이어가 지운 줄 수 합
+     * @param player1Wins 대전에서 1P가 이긴 수
+     * @param player2Wins 대전에서 2P가 이긴 수
+     * @param draws 대전 무승부 수 (둘 다 최대 틱까지 버티고 점수가 같음)
+     * @param wallNanos 전체 실행 시간
+     * @param allocatedBytes 실행 중 모든 스레드(탐색 풀 포함)가 할당한 바이트 수
+     * @param tickLatency 플레이어 한 틱(입력 + 진행)의 지연 분포
+     */
+    public record Result(int games, int matches, long ticks, long lines, int player1Wins, int player2Wins,
+            int draws, long wallNanos, long allocatedBytes, LatencyHistogram tickLatency) {
+
+        public double gamesPerSecond() {
+            return (games + matches) / (wallNanos / 1e9);
+        }
+
+        public double ticksPerSecond() {
+            return ticks / (wallNanos / 1e9);
+        }
+
+        public long allocatedBytesPerGame() {
+            int total = games + matches;
+            return total == 0 ? 0 : allocatedBytes / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("games=%d matches=%d (1P %d / 2P %d / draw %d) ticks=%d lines=%d%n"
+                    + "wall=%.2fs games/s=%.2f ticks/s=%.0f%n"
+                    + "tick latency p50=%dns p99=%dns max=%dns mean=%.0fns%n"
+                    + "allocation=%dKB/game",
+                    games, matches, player1Wins, player2Wins, draws, ticks, lines,
+                    wallNanos / 1e9, gamesPerSecond(), ticksPerSecond(),
+                    tickLatency.percentile(0.50), tickLatency.percentile(0.99), tickLatency.getMax(),
+                    tickLatency.getMean(), allocatedBytesPerGame() / 1024);
+        }
+    }
+
+    // 게임 하나(싱글 또는 대전)의 결과
+    private record Outcome(long ticks, long lines, int winner, LatencyHistogram latency) {
+    }
+
+    private Tournament() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: --games N --matches N --seed N --ticks N --threads N --items");
+            System.exit(2);
+            return;
+        }
+
+        System.out.println(options);
+        System.out.println(run(options));
+    }
+
+    /**
+     * 옵션대로 모든 게임을 돌리고 결과를 모읍니다.
+     */
+    public static Result run(Options options) throws InterruptedException {
+        List<Future<Outcome>> futures = new ArrayList<>(options.games() + options.matches());
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < options.games(); i++) {
+                long seed = options.seed() + i;
+                futures.add(executor.submit(() -> playGame(options, seed)));
+            }
+            for (int i = 0; i < options.matches(); i++) {
+                long seed = options.seed() + i;
+                futures.add(executor.submit(() -> playMatch(options, seed)));
+            }
+
+            long ticks = 0;
+            long lines = 0;
+            int[] wins = new int[3]; // 무승부, 1P, 2P
+            LatencyHistogram latency = new LatencyHistogram();
+            for (int i = 0; i < futures.size(); i++) {
+                Outcome outcome = futures.get(i).get();
+                ticks += outcome.ticks();
+                lines += outcome.lines();
+                if (i >= options.games())
+                    wins[outcome.winner()]++;
+                latency.merge(outcome.latency());
+            }
+
+            long wallNanos = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            return new Result(options.games(), options.matches(), ticks, lines, wins[1], wins[2], wins[0],
+                    wallNanos, allocated, latency);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("게임 실행 중 오류", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Outcome playGame(Options options, long seed) {
+        GameSimulation sim = new GameSimulation(seed, options.itemMode());
+        AiPlayer ai = new AiPlayer(true);
+        LatencyHistogram latency = new LatencyHistogram();
+
+        while (sim.getTickCount() < options.maxTicks() && !sim.isGameOver())
+            step(sim, ai, latency);
+        return new Outcome(sim.getTickCount(), sim.getGameModel().getTotalLinesCleared(), 0, latency);
+    }
+
+    private static Outcome playMatch(Options options, long seed) {
+        DualGameModel model = new DualGameModel();
+        GameSimulation p1 = new GameSimulation(model.getPlayer1GameModel(), model.getPlayer1AttackModel());
+        GameSimulation p2 = new GameSimulation(model.getPlayer2GameModel(), model.getPlayer2AttackModel());
+        // 같은 AI가 같은 블럭 순서를 받으면 항상 비기므로 2P는 다른 시드로 시작
+        p1.getGameModel().setItemMode(options.itemMode());
+        p1.getGameModel().reset(seed);
+        p2.getGameModel().setItemMode(options.itemMode());
+        p2.getGameModel().reset(~seed);
+        GameSimulation.connect(p1, p2);
+
+        AiPlayer ai1 = new AiPlayer(true);
+        AiPlayer ai2 = new AiPlayer(true);
+        LatencyHistogram latency = new LatencyHistogram();
+
+        // DualGameController처럼 한 프레임에 1P, 2P 순서로 진행
+        long frames = 0;
+        while (frames < options.maxTicks() && !p1.isGameOver() && !p2.isGameOver()) {
+            step(p1, ai1, latency);
+            step(p2, ai2, latency);
+            frames++;
+        }
+
+        // 먼저 끝난 쪽이 지고, 둘 다 버티면 점수로 가림
+        int winner;
+        if (p1.isGameOver() != p2.isGameOver()) {
+            winner = p1.isGameOver() ? 2 : 1;
+        } else {
+            int cmp = Long.compare(p1.getScoreModel().getScore(), p2.getScoreModel().getScore());
+            winner = cmp == 0 ? 0 : cmp > 0 ? 1 : 2;
+        }
+
+        long lines = p1.getGameModel().getTotalLinesCleared() + p2.getGameModel().getTotalLinesCleared();
+        return new Outcome(p1.getTickCount() + p2.getTickCount(), lines, winner, latency);
+    }
+
+    // 입력 하나 적용 + 한 틱 진행 (GameSimulation.run과 동일), 걸린 시간을 기록
+    private static void step(GameSimulation sim, AiPlayer ai, LatencyHistogram latency) {
+        if (sim.isGameOver())
+            return;
+        long t0 = System.nanoTime();
+        GameSimulation.Input input = ai.next(sim);
+        if (input != null)
+            sim.apply(input);
+        sim.tick();
+        latency.record(System.nanoTime() - t0);
+    }
+
+    // 살아 있는 모든 스레드가 지금까지 할당한 바이트 수 (지원하지 않는 JVM이면 0)
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported())
+            return 0;
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        long total = 0;
+        for (long bytes : bean.getThreadAllocatedBytes(bean.getAllThreadIds())) {
+            if (bytes > 0)
+                total += bytes;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,223 @@
+package org.tetris.game.model.ai;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.tetris.game.model.blocks.RotationTable;
+
+/**
+ * 배치 탐색 결과를 (보드 점유, 블럭, 회전 상태)별로 기억하는 고정 크기 캐시.
+ *
+ * 키는 Zobrist 해시입니다: 칸마다 임의의 64비트 값을 정해 두고 차 있는 칸의 값을 모두 XOR한 뒤,
+ * 블럭 모양과 회전 상태의 값을 XOR합니다. 칸 값은 한 행의 8칸씩 미리 XOR해 둔 표로 찾으므로
+ * 10칸 행 하나에 두 번만 찾으면 됩니다.
+ * 표는 long 키/값 배열의 개방 주소법(4칸 묶음)이고, 묶음이 차면 가장 오래된 세대의 칸을 덮어씁니다.
+ * 세대는 새 탐색마다 하나씩 늘어나므로 지난 수에서 구한 결과도 덮어쓰이기 전까지는 다시 씁니다.
+ *
+ * 여러 탐색 스레드가 잠금 없이 함께 씁니다. 키 칸에는 키 ^ 값을 저장해 두고 읽을 때 다시 XOR해 확인하므로,
+ * 두 스레드의 쓰기가 섞인 칸은 적중이 아니라 실패로 처리됩니다.
+ */
+public final class TranspositionTable {
+
+    public static final int DEFAULT_CAPACITY_BITS = 16; // 65536칸, 약 1.1MB
+
+    private static final int BUCKET_SIZE = 4;
+    private static final int CHUNK_BITS = 8;
+
+    // 크기별로 하나씩 (두 플레이어와 매 수가 같은 표를 씀)
+    private static final Map<Long, TranspositionTable> SHARED = new ConcurrentHashMap<>();
+
+    private final int height;
+    private final int chunks;
+    // [행][8칸 묶음][묶음 안 점유 비트] -> 해당 칸들의 Zobrist 값 XOR
+    private final long[][][] cellKeys;
+    private final long[] rotationKeys = new long[RotationTable.STATE_COUNT];
+
+    private final int mask;
+    private final long[] keys; // 키 ^ 값
+    private final long[] values;
+    private final byte[] ages; // 0이면 빈 칸
+    private volatile int generation = 1;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    public TranspositionTable(int height, int width, int capacityBits) {
+        if (capacityBits < 2 || capacityBits > 28)
+            throw new IllegalArgumentException("capacityBits는 2 이상 28 이하이어야 합니다: " + capacityBits);
+
+        this.height = height;
+        this.chunks = (width + CHUNK_BITS - 1) / CHUNK_BITS;
+
+        // 고정 시드: 같은 보드는 실행마다 같은 키
+        long seed = 0x5DEECE66DL ^ ((long) height << 32) ^ width;
+        cellKeys = new long[height][chunks][1 << CHUNK_BITS];
+        for (int r = 0; r < height; r++) {
+            for (int k = 0; k < chunks; k++) {
+                long[] single = new long[CHUNK_BITS];
+                for (int i = 0; i < CHUNK_BITS; i++)
+                    single[i] = seed = splitMix(seed);
+                long[] table = cellKeys[r][k];
+                for (int bits = 1; bits < table.length; bits++) {
+                    int low = Integer.numberOfTrailingZeros(bits);
+                    table[bits] = table[bits & (bits - 1)] ^ single[low];
+                }
+            }
+        }
+        for (int i = 0; i < rotationKeys.length; i++)
+            rotationKeys[i] = seed = splitMix(seed);
+
+        int capacity = 1 << capacityBits;
+        mask = capacity - 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        ages = new byte[capacity];
+    }
+
+    /**
+     * 보드 크기별 공유 표 (기본 크기)
+     */
+    public static TranspositionTable shared(int height, int width) {
+        return SHARED.computeIfAbsent(((long) height << 32) | width,
+                k -> new TranspositionTable(height, width, DEFAULT_CAPACITY_BITS));
+    }
+
+    // ===== 키 =====
+
+    /**
+     * 보드 점유 + 블럭 + 회전 상태의 키
+     *
+     * @param rows 행 비트마스크
+     * @param pieceKey pieceKey(piece)
+     * @param rotation 회전 상태
+     */
+    public long key(int[] rows, long pieceKey, int rotation) {
+        long hash = pieceKey ^ rotationKeys[rotation & (RotationTable.STATE_COUNT - 1)];
+        for (int r = 0; r < height; r++) {
+            int row = rows[r];
+            for (int k = 0; row != 0 && k < chunks; k++) {
+                hash ^= cellKeys[r][k][row & ((1 << CHUNK_BITS) - 1)];
+                row >>>= CHUNK_BITS;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 블럭 모양(모든 회전 상태의 행 마스크와 피벗, 회전/이동 가능 여부)의 키. 아이템 블럭처럼 모양이 바뀌면 다른 키가 됩니다.
+     */
+    public static long pieceKey(PlacementSearch.Piece piece) {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < piece.masks().length; i++) {
+            for (int mask : piece.masks()[i])
+                hash = splitMix(hash ^ mask);
+            hash = splitMix(hash ^ ((long) piece.pivots()[i].r << 16) ^ piece.pivots()[i].c);
+        }
+        return splitMix(hash ^ (piece.rotatable() ? 1 : 0) ^ (piece.movable() ? 2 : 0));
+    }
+
+    // ===== 조회 / 저장 =====
+
+    /**
+     * 새 탐색을 시작합니다. 이후 저장하는 결과는 새 세대가 되어 이전 세대보다 오래 남습니다.
+     */
+    public void newSearch() {
+        int next = (generation + 1) & 0xFF;
+        generation = next == 0 ? 1 : next;
+    }
+
+    /**
+     * @return 저장된 값 (없으면 Double.NaN)
+     */
+    public double get(long key) {
+        probes.increment();
+        int base = (int) key & mask & ~(BUCKET_SIZE - 1);
+        for (int i = base; i < base + BUCKET_SIZE; i++) {
+            long value = values[i];
+            if (ages[i] != 0 && (keys[i] ^ value) == key) {
+                hits.increment();
+                ages[i] = (byte) generation; // 다시 쓰인 결과는 오래 남김
+                return Double.longBitsToDouble(value);
+            }
+        }
+        return Double.NaN;
+    }
+
+    public void put(long key, double score) {
+        int base = (int) key & mask & ~(BUCKET_SIZE - 1);
+        int gen = generation;
+        int victim = base;
+        int victimAge = -1;
+        for (int i = base; i < base + BUCKET_SIZE; i++) {
+            int age = ages[i] & 0xFF;
+            if (age == 0 || (keys[i] ^ values[i]) == key) {
+                victim = i;
+                victimAge = Integer.MAX_VALUE;
+                break;
+            }
+            int old = (gen - age) & 0xFF; // 몇 세대 전인지
+            if (old > victimAge) {
+                victim = i;
+                victimAge = old;
+            }
+        }
+        if (victimAge != Integer.MAX_VALUE)
+            replacements.increment();
+
+        long value = Double.doubleToRawLongBits(score);
+        values[victim] = value;
+        keys[victim] = key ^ value;
+        ages[victim] = (byte) gen;
+        stores.increment();
+    }
+
+    public void clear() {
+        Arrays.fill(ages, (byte) 0);
+        probes.reset();
+        hits.reset();
+        stores.reset();
+        replacements.reset();
+    }
+
+    // ===== 통계 =====
+
+    /**
+     * @param probes 조회 수
+     * @param hits 적중 수
+     * @param stores 저장 수
+     * @param replacements 다른 결과를 덮어쓴 저장 수
+     * @param memoryBytes 표가 차지하는 메모리 (키 표 포함)
+     */
+    public record Stats(long probes, long hits, long stores, long replacements, long memoryBytes) {
+        public double hitRate() {
+            return probes == 0 ? 0.0 : (double) hits / probes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("probes=%d hits=%d (%.1f%%) stores=%d replacements=%d memory=%dKB",
+                    probes, hits, hitRate() * 100, stores, replacements, memoryBytes / 1024);
+        }
+    }
+
+    public Stats getStats() {
+        long entries = (long) keys.length * (Long.BYTES * 2 + 1);
+        long keyTables = (long) height * chunks * (1 << CHUNK_BITS) * Long.BYTES;
+        return new Stats(probes.sum(), hits.sum(), stores.sum(), replacements.sum(), entries + keyTables);
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    private static long splitMix(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
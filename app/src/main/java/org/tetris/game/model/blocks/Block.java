@@ -8,12 +8,13 @@ import org.util.Point;
 import javafx.scene.paint.Color;
 
 public abstract class Block {
-    public Point pivot;
+    // 현재 회전 상태의 피벗 (블럭마다 따로 가지며 회전할 때 값만 바뀜)
+    public final Point pivot = new Point(0, 0);
 
-    private int[][] shape;
+    private final RotationTable table;
+    private RotationTable.State state;
+    private int rotation;
     private GameColor color;
-    private Point size;
-    private int blockCount;
 
     private boolean canMove;
     private boolean canRotate;
@@ -23,39 +24,42 @@ public abstract class Block {
     private boolean forceDown = false;
 
     public Block(int[][] shape, Point pivot, GameColor color) {
-        this.shape = shape;
-        this.pivot = pivot;
+        this(new RotationTable(shape, pivot), color);
+    }
+
+    /**
+     * 공유 회전 테이블로 블럭을 생성합니다. (블럭 종류별 테이블은 클래스 로드 시 한 번만 계산)
+     *
+     * @param table 회전 테이블
+     * @param color 블럭 색상
+     */
+    protected Block(RotationTable table, GameColor color) {
+        this.table = table;
         this.color = color;
         canMove = true;
         canRotate = true;
 
-        setSize();
-        setBlockCount();
-        getBlockPoints();
+        setRotation(0);
     }
 
     public Point getSize() {
-        return size;
-    }
-
-    private void setSize() {
-        this.size = new Point(shape.length, shape[0].length);
+        return new Point(state.size);
     }
 
     public int height() {
-        return size.r;
+        return state.size.r;
     }
 
     public int width() {
-        return size.c;
+        return state.size.c;
     }
 
     public int getCell(int r, int c) {
-        return shape[r][c];
+        return state.shape[r][c];
     }
 
     public int getCell(Point p) {
-        return shape[p.r][p.c];
+        return state.shape[p.r][p.c];
     }
 
     public boolean getCanRotate() {
@@ -66,6 +70,16 @@ public abstract class Block {
         return canMove;
     }
 
+    /**
+     * 회전 입력으로 회전 상태가 실제로 바뀌는지 반환 메서드 (배치 탐색용)
+     * 회전이 금지된 블럭이거나 O 블럭처럼 회전하지 않는 블럭이면 false
+     *
+     * @return 회전 가능 여부
+     */
+    public boolean isRotatable() {
+        return canRotate;
+    }
+
     public void setCanRotate(boolean canRotate) {
         this.canRotate = canRotate;
     }
@@ -91,19 +105,104 @@ public abstract class Block {
         return isItemBlock;
     }
 
+    /**
+     * 행별 점유 비트마스크 반환 메서드 (BitBoard 충돌 검사용)
+     * 반환된 배열은 수정하면 안 됩니다.
+     *
+     * @return 행별 비트마스크 배열
+     */
+    public int[] getRowMasks() {
+        return state.rowMasks;
+    }
+
+    /**
+     * 지정한 회전 상태의 행별 점유 비트마스크 반환 메서드 (현재 회전은 바꾸지 않음, 배치 탐색용)
+     * 반환된 배열은 수정하면 안 됩니다.
+     *
+     * @param rotation 회전 상태 인덱스 (4로 나눈 나머지가 사용됨)
+     * @return 행별 비트마스크 배열
+     */
+    public int[] getRowMasks(int rotation) {
+        return table.get(rotation).rowMasks;
+    }
+
+    /**
+     * 지정한 회전 상태의 피벗 반환 메서드
+     *
+     * @param rotation 회전 상태 인덱스 (4로 나눈 나머지가 사용됨)
+     * @return 피벗 좌표 (복사본)
+     */
+    public Point getPivot(int rotation) {
+        return new Point(table.get(rotation).pivot);
+    }
+
+    /**
+     * 피벗 기준 셀 행 오프셋 배열 반환 메서드 (getCellCols, getCellValues와 같은 인덱스)
+     * 반환된 배열은 수정하면 안 됩니다.
+     *
+     * @return 셀별 (r - pivot.r) 배열
+     */
+    public int[] getCellRows() {
+        return state.cellRows;
+    }
+
+    /**
+     * 피벗 기준 셀 열 오프셋 배열 반환 메서드
+     *
+     * @return 셀별 (c - pivot.c) 배열
+     */
+    public int[] getCellCols() {
+        return state.cellCols;
+    }
+
+    /**
+     * 셀 값 배열 반환 메서드
+     *
+     * @return 셀별 값 배열
+     */
+    public int[] getCellValues() {
+        return state.cellValues;
+    }
+
+    /**
+     * 실제 셀 기준 바운딩 박스 반환 메서드
+     *
+     * @return { minR, maxR, minC, maxC } (복사본)
+     */
+    public int[] getBounds() {
+        return state.bounds.clone();
+    }
+
+    /**
+     * 현재 회전 상태 인덱스 반환 메서드 (0: 원래 모양, 1: 시계방향 90도, ...)
+     *
+     * @return 회전 상태 인덱스 (0~3)
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * 회전 상태를 직접 지정하는 메서드
+     *
+     * @param rotation 회전 상태 인덱스 (4로 나눈 나머지가 사용됨)
+     */
+    public void setRotation(int rotation) {
+        this.rotation = rotation & (RotationTable.STATE_COUNT - 1);
+        this.state = table.get(this.rotation);
+        pivot.r = state.pivot.r;
+        pivot.c = state.pivot.c;
+    }
+
     /**
      * 블럭 좌표 리스트 반환 메서드
-     * 
+     *
      * @return 블럭 좌표 리스트
      */
     public ArrayList<Point> getBlockPoints() {
-        ArrayList<Point> blockPoints = new ArrayList<>();
-        for (int r = 0; r < size.r; r++) {
-            for (int c = 0; c < size.c; c++) {
-                if (shape[r][c] != 0) {
-                    blockPoints.add(new Point(r, c));
-                }
-            }
+        ArrayList<Point> blockPoints = new ArrayList<>(state.blockCount);
+        for (int i = 0; i < state.blockCount; i++) {
+            blockPoints.add(new Point(state.cellRows[i] + pivot.r, state.cellCols[i] + pivot.c));
         }
         return blockPoints;
     }
@@ -111,7 +210,7 @@ public abstract class Block {
     /**
      * 피벗 기준 좌표 변환 메서드
      * pos - pivot
-     * 
+     *
      * @param pos 기준 좌표
      * @return 변환된 좌표
      */
@@ -121,68 +220,35 @@ public abstract class Block {
 
     /**
      * 모양만 바꿔서 새로운 블록을 반환하는 메서드
-     * 
+     *
      * @param shape 변경할 모양
      * @return 새로운 블록
      */
     public Block reShape(int[][] shape) {
-        Block block = new ConcreteBlock(shape, this.pivot, this.color);
+        Block block = new ConcreteBlock(table.derive(shape, this.pivot), this.color);
         return block;
     }
 
     public Block reShape(int[][] shape, Point pivot) {
-        Block block = new ConcreteBlock(shape, pivot, this.color);
+        Block block = new ConcreteBlock(table.derive(shape, pivot), this.color);
         return block;
     }
 
     /**
      * 블록의 개수를 반환하는 메서드
-     * 
+     *
      * @return 블록의 개수
      */
     public int getBlockCount() {
-        return blockCount;
-    }
-
-    private void setBlockCount() {
-        int count = 0;
-        for (int r = 0; r < size.r; r++) {
-            for (int c = 0; c < size.c; c++) {
-                if (shape[r][c] != 0) {
-                    count++;
-                }
-            }
-        }
-        this.blockCount = count;
-    }
-
-    private void rotate(boolean clockwise) {
-        int[][] rotated = new int[size.c][size.r];
-
-        for (int r = 0; r < size.r; r++) {
-            for (int c = 0; c < size.c; c++) {
-                if (clockwise) {
-                    rotated[c][size.r - 1 - r] = shape[r][c];
-                } else {
-                    rotated[size.c - 1 - c][r] = shape[r][c];
-                }
-            }
-        }
-
-        int newRow = clockwise ? pivot.c : size.c - 1 - pivot.c;
-        int newCol = clockwise ? size.r - 1 - pivot.r : pivot.r;
-        pivot = new Point(newRow, newCol);
-
-        shape = rotated;
-        setSize();
+        return state.blockCount;
     }
 
     public void rotateCW() {
-        rotate(true);
+        setRotation(rotation + 1);
     }
 
     public void rotateCCW() {
-        rotate(false);
+        setRotation(rotation + RotationTable.STATE_COUNT - 1);
     }
 
     public Color getColor() {
@@ -192,9 +258,9 @@ public abstract class Block {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (int r = 0; r < size.r; r++) {
-            for (int c = 0; c < size.c; c++) {
-                sb.append(shape[r][c]).append(" ");
+        for (int r = 0; r < height(); r++) {
+            for (int c = 0; c < width(); c++) {
+                sb.append(state.shape[r][c]).append(" ");
             }
             sb.append("\n");
         }
@@ -9,4 +9,8 @@ public class ConcreteBlock extends Block {
         super(shape, pivot, color);
     }
 
+    ConcreteBlock(RotationTable table, GameColor color) {
+        super(table, color);
+    }
+
 }
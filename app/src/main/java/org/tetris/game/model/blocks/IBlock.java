@@ -11,9 +11,11 @@ public class IBlock extends Block {
     
     private static final Point I_POINT = new Point(0, 1);
 
+    private static final RotationTable I_TABLE = new RotationTable(I_SHAPE, I_POINT);
+
     private static final GameColor I_COLOR = GameColor.BLUE;
 
     public IBlock() {
-        super(I_SHAPE, I_POINT, I_COLOR);
+        super(I_TABLE, I_COLOR);
     }
 }
@@ -12,9 +12,11 @@ public class JBlock extends Block {
     
     private static final Point J_POINT = new Point(0, 1);
 
+    private static final RotationTable J_TABLE = new RotationTable(J_SHAPE, J_POINT);
+
     private static final GameColor J_COLOR = GameColor.ORANGE;
 
     public JBlock() {
-        super(J_SHAPE, J_POINT, J_COLOR);
+        super(J_TABLE, J_COLOR);
     }
 }
@@ -12,9 +12,11 @@ public class LBlock extends Block {
     
     private static final Point L_POINT = new Point(0, 1);
 
+    private static final RotationTable L_TABLE = new RotationTable(L_SHAPE, L_POINT);
+
     private static final GameColor L_COLOR = GameColor.YELLOW;
 
     public LBlock() {
-        super(L_SHAPE, L_POINT, L_COLOR);
+        super(L_TABLE, L_COLOR);
     }
 }
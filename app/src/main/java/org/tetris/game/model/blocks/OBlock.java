@@ -12,10 +12,12 @@ public class OBlock extends Block {
     
     private static final Point O_POINT = new Point(0, 0);
 
+    private static final RotationTable O_TABLE = new RotationTable(O_SHAPE, O_POINT);
+
     private static final GameColor O_COLOR = GameColor.GREEN;
 
     public OBlock() {
-        super(O_SHAPE, O_POINT, O_COLOR);
+        super(O_TABLE, O_COLOR);
     }
 
     @Override
@@ -27,4 +29,9 @@ public class OBlock extends Block {
     public void rotateCCW() {
         return;
     }
+
+    @Override
+    public boolean isRotatable() {
+        return false;
+    }
 }
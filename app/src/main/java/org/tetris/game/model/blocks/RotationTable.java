@@ -0,0 +1,149 @@
+package org.tetris.game.model.blocks;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.util.Point;
+
+/**
+ * 블럭 모양의 4가지 회전 상태를 미리 계산해 둔 불변 테이블.
+ * 같은 종류의 블럭들은 하나의 테이블을 공유하며, 회전은 상태 인덱스만 바꿉니다.
+ * 상태 0은 원래 모양이고, 인덱스가 1 늘어날 때마다 시계방향으로 90도 회전한 모양입니다.
+ */
+public final class RotationTable {
+    public static final int STATE_COUNT = 4;
+
+    // 한 블럭 종류에서 reShape로 파생되는 모양은 회전 상태 x 아이템 칸 x 아이템 종류로 한정되므로 이 정도면 모두 담김
+    static final int MAX_DERIVED = 128;
+
+    private final State[] states = new State[STATE_COUNT];
+
+    // 이 테이블의 블럭에서 reShape로 만든 아이템 블럭 테이블 (모양 + 피벗 기준, 최대 MAX_DERIVED개)
+    private final Map<ShapeKey, RotationTable> derived = new ConcurrentHashMap<>();
+
+    private record ShapeKey(int[][] shape, int pivotR, int pivotC) {
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ShapeKey other && pivotR == other.pivotR && pivotC == other.pivotC
+                    && Arrays.deepEquals(shape, other.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(shape) * 31 * 31 + pivotR * 31 + pivotC;
+        }
+    }
+
+    public RotationTable(int[][] shape, Point pivot) {
+        int[][] curShape = copyOf(shape);
+        Point curPivot = new Point(pivot);
+
+        for (int i = 0; i < STATE_COUNT; i++) {
+            states[i] = new State(curShape, curPivot);
+
+            // 시계방향 회전 (기존 Block.rotate와 동일한 좌표 변환)
+            int h = curShape.length;
+            int w = curShape[0].length;
+            int[][] rotated = new int[w][h];
+            for (int r = 0; r < h; r++) {
+                for (int c = 0; c < w; c++) {
+                    rotated[c][h - 1 - r] = curShape[r][c];
+                }
+            }
+            curPivot = new Point(curPivot.c, h - 1 - curPivot.r);
+            curShape = rotated;
+        }
+    }
+
+    /**
+     * 이 테이블의 블럭에서 파생된 모양(아이템 블럭)의 테이블을 찾거나 새로 만들어 반환합니다.
+     * 캐시는 블럭 종류(테이블)별로 따로 두고 크기를 제한하므로 임의의 모양이 들어와도 계속 늘어나지 않습니다.
+     *
+     * @param shape 블럭 모양
+     * @param pivot 피벗 좌표
+     * @return 회전 테이블 (캐시가 가득 차면 공유되지 않는 새 테이블)
+     */
+    public RotationTable derive(int[][] shape, Point pivot) {
+        ShapeKey key = new ShapeKey(copyOf(shape), pivot.r, pivot.c);
+        RotationTable table = derived.get(key);
+        if (table != null)
+            return table;
+        table = new RotationTable(key.shape(), pivot);
+        if (derived.size() >= MAX_DERIVED)
+            return table;
+        RotationTable existing = derived.putIfAbsent(key, table);
+        return existing != null ? existing : table;
+    }
+
+    public State get(int rotation) {
+        return states[rotation & (STATE_COUNT - 1)];
+    }
+
+    private static int[][] copyOf(int[][] shape) {
+        int[][] copy = new int[shape.length][];
+        for (int r = 0; r < shape.length; r++) {
+            copy[r] = shape[r].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * 한 회전 상태의 모양, 피벗, 크기, 바운딩 박스, 행 마스크, 셀 오프셋.
+     * 모든 배열과 Point는 공유되므로 수정하면 안 됩니다.
+     */
+    public static final class State {
+        final int[][] shape;
+        final Point pivot;
+        final Point size;
+        final int blockCount;
+
+        // minR, maxR, minC, maxC
+        final int[] bounds;
+        // 행별 점유 비트마스크 (bit c = c열에 셀 존재)
+        final int[] rowMasks;
+        // 피벗 기준 셀 오프셋과 값 (같은 인덱스)
+        final int[] cellRows;
+        final int[] cellCols;
+        final int[] cellValues;
+
+        private State(int[][] shape, Point pivot) {
+            this.shape = copyOf(shape);
+            this.pivot = new Point(pivot);
+            this.size = new Point(shape.length, shape[0].length);
+
+            int count = 0;
+            int minR = size.r, maxR = -1, minC = size.c, maxC = -1;
+            rowMasks = new int[size.r];
+            for (int r = 0; r < size.r; r++) {
+                for (int c = 0; c < size.c; c++) {
+                    if (shape[r][c] == 0)
+                        continue;
+                    count++;
+                    rowMasks[r] |= 1 << c;
+                    minR = Math.min(minR, r);
+                    maxR = Math.max(maxR, r);
+                    minC = Math.min(minC, c);
+                    maxC = Math.max(maxC, c);
+                }
+            }
+            this.blockCount = count;
+            this.bounds = new int[] { minR, maxR, minC, maxC };
+
+            cellRows = new int[count];
+            cellCols = new int[count];
+            cellValues = new int[count];
+            int i = 0;
+            for (int r = 0; r < size.r; r++) {
+                for (int c = 0; c < size.c; c++) {
+                    if (shape[r][c] != 0) {
+                        cellRows[i] = r - pivot.r;
+                        cellCols[i] = c - pivot.c;
+                        cellValues[i] = shape[r][c];
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -12,9 +12,11 @@ public class SBlock extends Block {
     
     private static final Point S_POINT = new Point(1, 1);
 
+    private static final RotationTable S_TABLE = new RotationTable(S_SHAPE, S_POINT);
+
     private static final GameColor S_COLOR = GameColor.RED;
 
     public SBlock() {
-        super(S_SHAPE, S_POINT, S_COLOR);
+        super(S_TABLE, S_COLOR);
     }
 }
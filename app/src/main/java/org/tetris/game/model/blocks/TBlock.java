@@ -12,9 +12,11 @@ public class TBlock extends Block {
     
     private static final Point T_POINT = new Point(1, 1);
 
+    private static final RotationTable T_TABLE = new RotationTable(T_SHAPE, T_POINT);
+
     private static final GameColor T_COLOR = GameColor.PURPLE;
 
     public TBlock() {
-        super(T_SHAPE, T_POINT, T_COLOR);
+        super(T_TABLE, T_COLOR);
     }
 }
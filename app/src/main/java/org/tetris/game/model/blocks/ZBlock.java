@@ -12,9 +12,11 @@ public class ZBlock extends Block {
     
     private static final Point Z_POINT = new Point(1, 1);
 
+    private static final RotationTable Z_TABLE = new RotationTable(Z_SHAPE, Z_POINT);
+
     private static final GameColor Z_COLOR = GameColor.CYAN;
 
     public ZBlock() {
-        super(Z_SHAPE, Z_POINT, Z_COLOR);
+        super(Z_TABLE, Z_COLOR);
     }
 }
@@ -0,0 +1,345 @@
+package org.tetris.game.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.tetris.game.model.GameMode;
+import org.tetris.game.model.GameSimulation;
+
+/**
+ * 한 게임의 리플레이. 시드, 게임 모드, 난이도와 틱 번호가 찍힌 입력, 주기적인 보드 스냅샷으로 구성됩니다.
+ *
+ * 파일 형식 (모든 정수는 varint, 해시/시드는 고정 8바이트):
+ * <pre>
+ * 헤더: "T7RP" 버전 | 시드 | 모드 | 난이도 문자열 | 줄 삭제 지연 틱 | 행 수 | 열 수
+ * 레코드: (이전 레코드와의 틱 차이 &lt;&lt; 3) | 종류
+ *   종류 0 ~ 4: 입력 (GameSimulation.Input 순서)
+ *   종류 5: 스냅샷 -> 점수 | 상태 해시 | 보드 칸 (값, 연속 개수) 쌍
+ *   종류 6: 끝 (이 레코드의 틱이 전체 길이)
+ * </pre>
+ * 같은 틱에서는 스냅샷이 입력보다 먼저 기록됩니다. (스냅샷은 그 틱의 입력 적용 전 상태)
+ * 입력은 대부분 1바이트라 3분 타임어택 경기도 수 KB에 들어갑니다.
+ */
+public class Replay {
+
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = { 'T', '7', 'R', 'P' };
+
+    private static final int KIND_BITS = 3;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+    private static final int KIND_SNAPSHOT = 5;
+    private static final int KIND_END = 6;
+
+    // 파일에서 읽은 크기로 배열을 만들기 전에 확인하는 상한 (손상/조작된 파일 방어)
+    private static final int MAX_DIFFICULTY_LENGTH = 64;
+    private static final int MAX_BOARD_SIZE = 64;
+
+    private static final GameSimulation.Input[] INPUTS = GameSimulation.Input.values();
+    private static final GameMode[] MODES = GameMode.values();
+
+    /**
+     * 스냅샷 틱 시작 시점(그 틱의 입력 적용 전)의 보드와 점수.
+     * 보드 칸은 활성 블럭을 포함한 화면 그대로의 값입니다.
+     */
+    public record Snapshot(int tick, int score, long stateHash, int[][] cells) {
+    }
+
+    private final long seed;
+    private final GameMode mode;
+    private final String difficulty;
+    private final int clearDelayTicks;
+    private final int rows;
+    private final int cols;
+    private final int length;
+
+    private final int[] inputTicks;
+    private final GameSimulation.Input[] inputs;
+    private final List<Snapshot> snapshots;
+
+    Replay(long seed, GameMode mode, String difficulty, int clearDelayTicks, int rows, int cols, int length,
+            int[] inputTicks, GameSimulation.Input[] inputs, List<Snapshot> snapshots) {
+        this.seed = seed;
+        this.mode = mode;
+        this.difficulty = difficulty;
+        this.clearDelayTicks = clearDelayTicks;
+        this.rows = rows;
+        this.cols = cols;
+        this.length = length;
+        this.inputTicks = inputTicks;
+        this.inputs = inputs;
+        this.snapshots = Collections.unmodifiableList(snapshots);
+    }
+
+    // ===== 조회 =====
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public int getClearDelayTicks() {
+        return clearDelayTicks;
+    }
+
+    /**
+     * 전체 길이 (틱)
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public int getInputCount() {
+        return inputs.length;
+    }
+
+    public int getInputTick(int index) {
+        return inputTicks[index];
+    }
+
+    public GameSimulation.Input getInput(int index) {
+        return inputs[index];
+    }
+
+    /**
+     * 틱 순서로 정렬된 스냅샷 목록
+     */
+    public List<Snapshot> getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * tick 이전(포함)의 가장 가까운 스냅샷. 시뮬레이션 없이 보드를 바로 보여줄 때 사용합니다.
+     *
+     * @return 스냅샷 (tick보다 이른 스냅샷이 없으면 null)
+     */
+    public Snapshot snapshotAt(int tick) {
+        int lo = 0;
+        int hi = snapshots.size() - 1;
+        Snapshot found = null;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            Snapshot s = snapshots.get(mid);
+            if (s.tick() <= tick) {
+                found = s;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    // ===== 저장 / 불러오기 =====
+
+    public void save(Path path) throws IOException {
+        Files.write(path, toBytes());
+    }
+
+    public static Replay load(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(1024);
+        try {
+            write(buf);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // 메모리 스트림에서는 발생하지 않음
+        }
+        return buf.toByteArray();
+    }
+
+    public static Replay fromBytes(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeByte(mode.ordinal());
+        byte[] difficultyBytes = difficulty.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, difficultyBytes.length);
+        out.write(difficultyBytes);
+        writeVarInt(out, clearDelayTicks);
+        writeVarInt(out, rows);
+        writeVarInt(out, cols);
+
+        int lastTick = 0;
+        int input = 0;
+        for (Snapshot snapshot : snapshots) {
+            // 같은 틱이면 스냅샷이 먼저
+            while (input < inputs.length && inputTicks[input] < snapshot.tick()) {
+                writeRecord(out, inputTicks[input] - lastTick, inputs[input].ordinal());
+                lastTick = inputTicks[input];
+                input++;
+            }
+            writeRecord(out, snapshot.tick() - lastTick, KIND_SNAPSHOT);
+            lastTick = snapshot.tick();
+            writeSnapshot(out, snapshot);
+        }
+        for (; input < inputs.length; input++) {
+            writeRecord(out, inputTicks[input] - lastTick, inputs[input].ordinal());
+            lastTick = inputTicks[input];
+        }
+        writeRecord(out, length - lastTick, KIND_END);
+        out.flush();
+    }
+
+    public static Replay read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i])
+                throw new StreamCorruptedException("리플레이 파일이 아닙니다.");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+            throw new StreamCorruptedException("지원하지 않는 리플레이 버전: " + version);
+
+        long seed = in.readLong();
+        int modeOrdinal = in.readUnsignedByte();
+        if (modeOrdinal >= MODES.length)
+            throw new StreamCorruptedException("잘못된 게임 모드: " + modeOrdinal);
+        int difficultyLength = readVarInt(in);
+        if (difficultyLength < 0 || difficultyLength > MAX_DIFFICULTY_LENGTH)
+            throw new StreamCorruptedException("잘못된 난이도 길이: " + difficultyLength);
+        byte[] difficultyBytes = new byte[difficultyLength];
+        in.readFully(difficultyBytes);
+        String difficulty = new String(difficultyBytes, StandardCharsets.UTF_8);
+        int clearDelayTicks = readVarInt(in);
+        if (clearDelayTicks < 0)
+            throw new StreamCorruptedException("잘못된 줄 삭제 지연: " + clearDelayTicks);
+        int rows = readVarInt(in);
+        int cols = readVarInt(in);
+        if (rows <= 0 || rows > MAX_BOARD_SIZE || cols <= 0 || cols > MAX_BOARD_SIZE)
+            throw new StreamCorruptedException("잘못된 보드 크기: " + rows + "x" + cols);
+
+        int[] inputTicks = new int[64];
+        GameSimulation.Input[] inputs = new GameSimulation.Input[64];
+        int inputCount = 0;
+        List<Snapshot> snapshots = new ArrayList<>();
+
+        int tick = 0;
+        while (true) {
+            int record = readVarInt(in);
+            tick += record >>> KIND_BITS;
+            if (tick < 0)
+                throw new StreamCorruptedException("잘못된 틱: " + tick);
+            int kind = record & KIND_MASK;
+
+            if (kind == KIND_END)
+                break;
+            if (kind == KIND_SNAPSHOT) {
+                snapshots.add(readSnapshot(in, tick, rows, cols));
+                continue;
+            }
+            if (kind >= INPUTS.length)
+                throw new StreamCorruptedException("잘못된 레코드 종류: " + kind);
+
+            if (inputCount == inputs.length) {
+                inputTicks = Arrays.copyOf(inputTicks, inputCount * 2);
+                inputs = Arrays.copyOf(inputs, inputCount * 2);
+            }
+            inputTicks[inputCount] = tick;
+            inputs[inputCount] = INPUTS[kind];
+            inputCount++;
+        }
+
+        return new Replay(seed, MODES[modeOrdinal], difficulty, clearDelayTicks, rows, cols, tick,
+                Arrays.copyOf(inputTicks, inputCount), Arrays.copyOf(inputs, inputCount),
+                snapshots);
+    }
+
+    // 보드 칸은 행 우선으로 (값, 연속 개수) 쌍 -> 빈 칸이 대부분인 보드는 수십 바이트
+    private static void writeSnapshot(DataOutputStream out, Snapshot snapshot) throws IOException {
+        writeVarInt(out, snapshot.score());
+        out.writeLong(snapshot.stateHash());
+
+        int[][] cells = snapshot.cells();
+        int runValue = cells[0][0];
+        int runLength = 0;
+        for (int[] row : cells) {
+            for (int cell : row) {
+                if (cell == runValue) {
+                    runLength++;
+                } else {
+                    writeVarInt(out, runValue);
+                    writeVarInt(out, runLength);
+                    runValue = cell;
+                    runLength = 1;
+                }
+            }
+        }
+        writeVarInt(out, runValue);
+        writeVarInt(out, runLength);
+    }
+
+    private static Snapshot readSnapshot(DataInputStream in, int tick, int rows, int cols) throws IOException {
+        int score = readVarInt(in);
+        long hash = in.readLong();
+
+        int[][] cells = new int[rows][cols];
+        int total = rows * cols;
+        int filled = 0;
+        while (filled < total) {
+            int value = readVarInt(in);
+            int run = readVarInt(in);
+            if (run <= 0 || run > total - filled)
+                throw new StreamCorruptedException("잘못된 스냅샷 보드");
+            for (int i = 0; i < run; i++, filled++) {
+                cells[filled / cols][filled % cols] = value;
+            }
+        }
+        return new Snapshot(tick, score, hash, cells);
+    }
+
+    private static void writeRecord(DataOutputStream out, int tickDelta, int kind) throws IOException {
+        writeVarInt(out, (tickDelta << KIND_BITS) | kind);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0)
+                throw new EOFException("리플레이가 예상보다 짧습니다.");
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return result;
+        }
+        throw new StreamCorruptedException("잘못된 varint");
+    }
+}
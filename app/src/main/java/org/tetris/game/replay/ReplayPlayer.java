@@ -0,0 +1,137 @@
+package org.tetris.game.replay;
+
+import java.util.List;
+
+import org.tetris.game.model.GameMode;
+import org.tetris.game.model.GameSimulation;
+import org.util.Difficulty;
+
+/**
+ * 리플레이를 화면 없이 틱 단위로 재생합니다.
+ *
+ * 기록된 시드와 난이도로 새 시뮬레이션을 만들고, 틱마다 기록된 입력을 같은 순서로 적용합니다.
+ * 스냅샷 틱에 도달하면 상태 해시를 기록과 비교해, 규칙이 바뀌었거나 기록이 잘못된 경우 처음 어긋난 틱을 남깁니다.
+ * 화면 갱신이 없으므로 실시간보다 수천 배 빠르게 진행됩니다.
+ */
+public final class ReplayPlayer {
+
+    private final Replay replay;
+    private final List<Replay.Snapshot> snapshots;
+
+    private GameSimulation simulation;
+    private int tick;
+    private int nextInput;
+    private int nextSnapshot;
+    private int mismatchTick;
+
+    public ReplayPlayer(Replay replay) {
+        this.replay = replay;
+        this.snapshots = replay.getSnapshots();
+        restart();
+    }
+
+    /**
+     * 처음 상태로 되돌립니다.
+     * 난이도는 전역 설정이므로 리플레이의 난이도로 바꾼 뒤 시뮬레이션을 만듭니다.
+     */
+    public void restart() {
+        Difficulty.setCurrentDifficulty(replay.getDifficulty());
+        simulation = new GameSimulation(replay.getSeed(), replay.getMode() == GameMode.ITEM);
+        simulation.setClearDelayTicks(replay.getClearDelayTicks());
+
+        tick = 0;
+        nextInput = 0;
+        nextSnapshot = 0;
+        mismatchTick = -1;
+        verifySnapshots();
+    }
+
+    /**
+     * 한 틱 재생합니다. (이 틱의 입력 적용 -> tick)
+     *
+     * @return 재생했으면 true, 이미 끝이면 false
+     */
+    public boolean step() {
+        if (tick >= replay.getLength())
+            return false;
+
+        while (nextInput < replay.getInputCount() && replay.getInputTick(nextInput) == tick) {
+            simulation.apply(replay.getInput(nextInput));
+            nextInput++;
+        }
+        simulation.tick();
+        tick++;
+
+        verifySnapshots();
+        return true;
+    }
+
+    /**
+     * 끝까지 재생합니다.
+     *
+     * @return 재생한 틱 수
+     */
+    public int playToEnd() {
+        int played = 0;
+        while (step())
+            played++;
+        return played;
+    }
+
+    /**
+     * target 틱으로 이동합니다.
+     * 앞으로는 그대로 진행하고, 뒤로 갈 때는 블럭 큐와 난수 상태를 되돌릴 수 없으므로 처음부터 다시 재생합니다.
+     * 이동하는 동안 보여줄 보드는 replay.snapshotAt(target)으로 바로 얻을 수 있습니다.
+     */
+    public void seek(int target) {
+        target = Math.max(0, Math.min(target, replay.getLength()));
+        if (target < tick)
+            restart();
+        while (tick < target)
+            step();
+    }
+
+    // 이번 틱의 스냅샷과 상태를 비교
+    private void verifySnapshots() {
+        while (nextSnapshot < snapshots.size() && snapshots.get(nextSnapshot).tick() <= tick) {
+            Replay.Snapshot snapshot = snapshots.get(nextSnapshot++);
+            if (snapshot.tick() == tick && mismatchTick < 0
+                    && (snapshot.stateHash() != simulation.stateHash()
+                            || snapshot.score() != simulation.getScoreModel().getScore())) {
+                mismatchTick = tick;
+            }
+        }
+    }
+
+    // ===== 조회 =====
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public boolean isFinished() {
+        return tick >= replay.getLength();
+    }
+
+    /**
+     * 지금까지 재생한 구간에서 기록과 어긋난 적이 있는지 여부
+     */
+    public boolean isDesynced() {
+        return mismatchTick >= 0;
+    }
+
+    /**
+     * 처음 어긋난 스냅샷 틱 (어긋나지 않았으면 -1)
+     */
+    public int getMismatchTick() {
+        return mismatchTick;
+    }
+}
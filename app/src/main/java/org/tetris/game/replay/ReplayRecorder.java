@@ -0,0 +1,120 @@
+package org.tetris.game.replay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.tetris.game.model.GameMode;
+import org.tetris.game.model.GameSimulation;
+import org.util.Difficulty;
+import org.util.Point;
+
+/**
+ * 틱 단위로 진행하는 게임을 리플레이로 기록합니다.
+ * 입력과 틱 진행을 이 클래스를 통해 호출하면 시뮬레이션에 그대로 전달하면서 기록합니다.
+ * 상태를 바꾸지 않은 입력(벽에 막힌 이동, 줄 삭제 중 입력 등)은 결과에 영향이 없으므로 기록하지 않습니다.
+ */
+public class ReplayRecorder {
+
+    // 60 FPS 기준 5초마다 스냅샷
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 300;
+
+    private final GameSimulation simulation;
+    private final GameMode mode;
+    private final String difficulty;
+    private final long seed;
+    private final int snapshotInterval;
+
+    private int tick = 0;
+    private int[] inputTicks = new int[256];
+    private GameSimulation.Input[] inputs = new GameSimulation.Input[256];
+    private int inputCount = 0;
+    private final List<Replay.Snapshot> snapshots = new ArrayList<>();
+
+    public ReplayRecorder(GameSimulation simulation, GameMode mode) {
+        this(simulation, mode, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * 게임 시작 직후(첫 입력 전)에 생성해야 합니다. 시드는 GameModel.getNextBlockSeed, 난이도는 현재 전역 설정을 기록합니다.
+     *
+     * @param simulation 기록할 시뮬레이션
+     * @param mode 게임 모드
+     * @param snapshotInterval 보드 스냅샷 간격 (틱)
+     */
+    public ReplayRecorder(GameSimulation simulation, GameMode mode, int snapshotInterval) {
+        if (snapshotInterval < 1)
+            throw new IllegalArgumentException("snapshotInterval must be positive: " + snapshotInterval);
+        this.simulation = simulation;
+        this.mode = mode;
+        this.difficulty = Difficulty.getCurrentDifficulty();
+        this.seed = simulation.getGameModel().getNextBlockSeed();
+        this.snapshotInterval = snapshotInterval;
+
+        snapshot();
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * 입력을 적용하고, 상태가 바뀌었으면 현재 틱의 입력으로 기록합니다.
+     */
+    public boolean apply(GameSimulation.Input input) {
+        boolean applied = simulation.apply(input);
+        if (applied)
+            record(input);
+        return applied;
+    }
+
+    /**
+     * 한 틱 진행합니다. 스냅샷 간격마다 보드를 저장합니다.
+     */
+    public void tick() {
+        simulation.tick();
+        tick++;
+        if (tick % snapshotInterval == 0)
+            snapshot();
+    }
+
+    /**
+     * 기록을 마치고 리플레이를 만듭니다. 마지막 상태도 스냅샷으로 남겨 재생 결과를 검증할 수 있게 합니다.
+     */
+    public Replay finish() {
+        if (snapshots.get(snapshots.size() - 1).tick() != tick)
+            snapshot();
+
+        Point size = simulation.getBoard().getSize();
+        return new Replay(seed, mode, difficulty, simulation.getClearDelayTicks(), size.r, size.c, tick,
+                Arrays.copyOf(inputTicks, inputCount), Arrays.copyOf(inputs, inputCount),
+                new ArrayList<>(snapshots));
+    }
+
+    private void record(GameSimulation.Input input) {
+        if (inputCount == inputs.length) {
+            inputTicks = Arrays.copyOf(inputTicks, inputCount * 2);
+            inputs = Arrays.copyOf(inputs, inputCount * 2);
+        }
+        inputTicks[inputCount] = tick;
+        inputs[inputCount] = input;
+        inputCount++;
+    }
+
+    private void snapshot() {
+        snapshots.add(takeSnapshot(simulation, tick));
+    }
+
+    static Replay.Snapshot takeSnapshot(GameSimulation simulation, int tick) {
+        int[][] plane = simulation.getBoard().getColorPlane();
+        int[][] cells = new int[plane.length][];
+        for (int r = 0; r < plane.length; r++) {
+            cells[r] = plane[r].clone();
+        }
+        return new Replay.Snapshot(tick, simulation.getScoreModel().getScore(), simulation.stateHash(), cells);
+    }
+}
@@ -1,13 +1,22 @@
 package org.tetris.game.view;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.tetris.game.model.BitBoard;
+import org.tetris.game.model.Board;
 import org.tetris.game.model.blocks.Block;
 import org.util.GameColor;
 import org.util.Point;
 
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -15,16 +24,22 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import java.util.function.BiFunction;
 
-public class GameViewRenderer {
+public final class GameViewRenderer {
     // 부모 Pane 레퍼런스 (레이아웃 설정용)
     // 레이아웃(위치/크기) 설정은 pane 기준으로 수행
     private final Pane boardPane;
     private final Pane nextBlockPane;
     private final Pane attackPane;
 
-    // 메인 보드용
+    // 메인 보드용: 아래부터 고정된 블럭 / 조작 중인 블럭 / 효과 캔버스를 겹쳐 둠
+    // 위치, 흔들림, 하드 드롭 깜빡임은 세 층을 묶은 boardLayers에 적용
+    private final Group boardLayers;
     private final Canvas boardCanvas;
     private final GraphicsContext boardGc; // 메인 보드 그래픽 컨텍스트 -> 캔버스에서 펜 역할
+    private final Canvas activeCanvas; // 투명 배경, 조작 중인 블럭만
+    private final GraphicsContext activeGc;
+    private final Canvas effectsCanvas; // 투명 배경, 입자와 빛줄기만
+    private final GraphicsContext effectsGc;
 
     // 다음 블록 프리뷰용
     private final Canvas previewCanvas;
@@ -42,36 +57,114 @@ public class GameViewRenderer {
     private double shakeY = 0;
     private double shakeIntensity = 0;
 
-    private final java.util.List<Particle> particles = new java.util.ArrayList<>();
-    private final java.util.List<LineBurst> lineBursts = new java.util.ArrayList<>();
+    // 부분 갱신: 캔버스에 마지막으로 그린 셀 값 (플래시로 흰색 칠한 칸은 -1 - 값)
+    private final int[][] painted;
+    private boolean fullRepaint = true;
+
+    // 조작 중인 블럭 층에 그린 셀 (r * 열 수 + c)과 값. 이번 프레임 것은 next*에 모은 뒤 비교
+    private int[] activeCells = new int[8];
+    private int[] activeValues = new int[8];
+    private int activeCount = 0;
+    private int[] nextActiveCells = new int[8];
+    private int[] nextActiveValues = new int[8];
+    private int nextActiveCount = 0;
+    // 조작 중인 블럭 층이 맡은 칸 (고정 층에서는 빈 칸으로 취급)
+    private final boolean[][] activeMask;
+    // 효과 층에 지난 프레임 그린 것이 있는지
+    private boolean effectsPainted = false;
+    private boolean[][] lastFlashMask;
+    private boolean lastFlashVisible;
+
+    // 아이템 문자 크기 측정 결과 (셀 크기별, Text 노드를 매번 만들지 않도록)
+    private final Map<Double, CellTextMetrics> textMetrics = new HashMap<>();
+    // 셀 크기별 스프라이트 아틀라스
+    private final CellAtlas boardAtlas;
+    private final CellAtlas previewAtlas;
+    // 보드에 마지막으로 그린 팔레트 (색맹 모드가 바뀌면 전체를 다시 그림)
+    private boolean paintedColorBlind = GameColor.getColorBlind();
+
+    // 입자는 고정 크기 풀에 담아 효과 중에 객체를 만들지 않음
+    private final ParticleSystem particles = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
+    private static final Color[] PARTICLE_COLORS = { Color.GOLD, Color.WHITE };
+    private static final int PARTICLE_GOLD = 0;
+    private static final int PARTICLE_WHITE = 1;
+    private static final int PARTICLES_PER_ROW = 20; // 색마다
+
+    // 줄 삭제 빛줄기: 행마다 남은 수명 (1.0 to 0.0, 0이면 없음)
+    private final double[] burstLife;
+    private int activeBursts = 0;
+    private static final double BURST_DECAY = 0.1;
+
+    // 마지막 게임 틱 이후 다음 틱까지 진행한 비율 (효과를 틱 사이로 보간해 그림)
+    private double interpolation = 0.0;
+    private static final Color BURST_GLOW = Color.rgb(255, 255, 255, 0.5);
+    private static final Color BURST_CORE = Color.rgb(255, 255, 200);
+
+    private static class CellTextMetrics {
+        final Font font;
+        final double[] widths = new double[14];
+        final double[] heights = new double[14];
+
+        CellTextMetrics(double size) {
+            this.font = Font.font("Arial", FontWeight.BOLD, size * 0.6);
+            Arrays.fill(widths, -1);
+        }
+    }
 
-    private static class Particle {
-        double x, y;
-        double vx, vy;
-        double life; // 1.0 to 0.0
-        Color color;
-        double size;
+    /**
+     * 셀 값마다(블럭 1~7, 방해 줄 8, 아이템 9~13, 그리고 각각의 흰색 플래시) 한 칸짜리 그림을
+     * 미리 그려 둔 이미지. 셀 하나를 drawImage 한 번으로 그립니다.
+     * 팔레트(일반/색맹)별로 처음 쓸 때 만들고, 셀 크기가 다르면 다른 아틀라스를 씁니다.
+     * 스냅샷을 찍을 수 없으면(FX 툴킷이 없는 환경 등) 예전처럼 직접 그립니다.
+     */
+    private final class CellAtlas {
+        static final int VALUES = 14;       // 셀 값 0~13
+        static final int FLASH = VALUES;    // 플래시 칸은 VALUES + 값 위치
+
+        private final double size;
+        private final WritableImage[] images = new WritableImage[2]; // [일반, 색맹]
+        private boolean unavailable = false;
+
+        CellAtlas(double size) {
+            this.size = size;
+        }
 
-        Particle(double x, double y, Color color) {
-            this.x = x;
-            this.y = y;
-            this.color = color;
-            this.life = 1.0;
-            double angle = Math.random() * Math.PI * 2;
-            double speed = Math.random() * 5 + 2;
-            this.vx = Math.cos(angle) * speed;
-            this.vy = Math.sin(angle) * speed;
-            this.size = Math.random() * 5 + 3;
+        /**
+         * @return 아틀라스로 그렸으면 true
+         */
+        boolean draw(GraphicsContext gc, double x, double y, int cellValue, boolean flashing) {
+            if (unavailable || cellValue < 0 || cellValue >= VALUES)
+                return false;
+
+            boolean colorBlind = GameColor.getColorBlind();
+            int palette = colorBlind ? 1 : 0;
+            if (images[palette] == null && !build(palette, colorBlind))
+                return false;
+
+            int slot = flashing ? FLASH + cellValue : cellValue;
+            gc.drawImage(images[palette], slot * size, 0, size, size, x, y, size, size);
+            return true;
         }
-    }
 
-    private static class LineBurst {
-        int row;
-        double life; // 1.0 to 0.0
+        private boolean build(int palette, boolean colorBlind) {
+            try {
+                Canvas canvas = new Canvas(VALUES * 2 * size, size);
+                GraphicsContext gc = canvas.getGraphicsContext2D();
+                for (int value = 0; value < VALUES; value++) {
+                    if (value != 0)
+                        paintCell(gc, 0, value, 0, 0, size, value, false);
+                    paintCell(gc, 0, FLASH + value, 0, 0, size, value, true);
+                }
 
-        LineBurst(int row) {
-            this.row = row;
-            this.life = 1.0;
+                SnapshotParameters params = new SnapshotParameters();
+                params.setFill(Color.TRANSPARENT);
+                images[palette] = canvas.snapshot(params,
+                        new WritableImage((int) Math.ceil(VALUES * 2 * size), (int) Math.ceil(size)));
+                return true;
+            } catch (RuntimeException | LinkageError e) { // 네이티브 글꼴 등을 못 불러옴
+                unavailable = true;
+                return false;
+            }
         }
     }
 
@@ -82,14 +175,25 @@ public class GameViewRenderer {
         this.boardSize = boardSize;
         this.cellSize = cellSize;
         this.previewCellSize = previewCellSize;
+        this.painted = new int[boardSize.r][boardSize.c];
+        this.activeMask = new boolean[boardSize.r][boardSize.c];
+        this.burstLife = new double[boardSize.r];
+        this.boardAtlas = new CellAtlas(cellSize);
+        this.previewAtlas = new CellAtlas(previewCellSize);
 
         // 1. Main Board Canvas
         int canvasWidth = boardSize.c * cellSize;
         int canvasHeight = boardSize.r * cellSize;
         this.boardCanvas = new Canvas(canvasWidth, canvasHeight);
         this.boardGc = boardCanvas.getGraphicsContext2D();
+        this.activeCanvas = new Canvas(canvasWidth, canvasHeight);
+        this.activeGc = activeCanvas.getGraphicsContext2D();
+        this.effectsCanvas = new Canvas(canvasWidth, canvasHeight);
+        this.effectsGc = effectsCanvas.getGraphicsContext2D();
+        effectsCanvas.setBlendMode(javafx.scene.effect.BlendMode.ADD); // 빛줄기는 아래 층에 더해 밝힘
+        this.boardLayers = new Group(boardCanvas, activeCanvas, effectsCanvas);
         boardPane.getChildren().clear();
-        boardPane.getChildren().add(boardCanvas);
+        boardPane.getChildren().add(boardLayers);
 
         // 2. Next Block Canvas
         if (nextBlockPane != null) {
@@ -122,87 +226,260 @@ public class GameViewRenderer {
             this.attackCanvas = null;
             this.attackGc = null;
         }
+
+        boardReset();
     }
 
     // ========================
     // 메인 보드 렌더링
     // ========================
+    /**
+     * 보드를 그립니다. 지난 프레임과 값이 달라진 셀만 다시 그립니다.
+     */
     public void renderBoard(int[][] board, boolean[][] flashMask, boolean isFlashing, boolean flashOn) {
+        renderBoard(board, null, null, 0, 0, flashMask, isFlashing, flashOn);
+    }
+
+    /**
+     * 보드를 그립니다. 블럭 이동, 고정, 줄 삭제, 공격 줄 추가로 바뀐 행(BitBoard의 dirty 행)만 살펴보고,
+     * 그중 지난 프레임과 값이 달라진 셀만 다시 그립니다.
+     */
+    public void renderBoard(BitBoard board, boolean[][] flashMask, boolean isFlashing, boolean flashOn) {
+        if (board == null)
+            return;
+        renderBoard(board.getCells(), board, null, 0, 0, flashMask, isFlashing, flashOn);
+        board.clearDirtyRows();
+    }
+
+    /**
+     * 보드를 그립니다. 조작 중인 블럭은 따로 위 층에 그리므로,
+     * 블럭이 움직이기만 한 프레임은 고정된 블럭 층을 건드리지 않고 블럭의 칸만 지우고 다시 그립니다.
+     * 고정된 블럭 층은 고정, 줄 삭제, 공격 줄 추가로 값이 바뀐 셀만 다시 그립니다.
+     */
+    public void renderBoard(Board board, boolean[][] flashMask, boolean isFlashing, boolean flashOn) {
+        if (board == null)
+            return;
+        BitBoard bitBoard = board.getBitBoard();
+        renderBoard(bitBoard.getCells(), bitBoard, board.activeBlock, board.getCurRow(), board.getCurCol(),
+                flashMask, isFlashing, flashOn);
+        bitBoard.clearDirtyRows();
+    }
+
+    // dirtySource가 null이면 모든 행을 지난 프레임과 비교, active가 null이면 모든 셀을 고정 층에 그림
+    private void renderBoard(int[][] board, BitBoard dirtySource, Block active, int activeRow, int activeCol,
+            boolean[][] flashMask, boolean isFlashing, boolean flashOn) {
         if (board == null || boardGc == null)
             return;
 
         // Apply Shake
-        boardCanvas.setTranslateX(shakeX);
-        boardCanvas.setTranslateY(shakeY);
+        boardLayers.setTranslateX(shakeX);
+        boardLayers.setTranslateY(shakeY);
 
-        boardReset();
+        // 팔레트가 바뀌면 모든 셀의 색이 바뀜
+        if (GameColor.getColorBlind() != paintedColorBlind) {
+            paintedColorBlind = GameColor.getColorBlind();
+            boardReset();
+        }
+
+        // 플래시가 켜지거나 꺼지면 플래시 대상 행을 모두 다시 확인
+        boolean flashVisible = isFlashing && flashOn && flashMask != null;
+        boolean flashChanged = flashVisible != lastFlashVisible || (flashVisible && flashMask != lastFlashMask);
+        lastFlashVisible = flashVisible;
+        lastFlashMask = flashVisible ? flashMask : null;
+
+        // 조작 중인 블럭의 칸을 모음 (플래시 대상 칸은 고정 층에서 깜빡이도록 제외)
+        collectActiveCells(board, active, activeRow, activeCol, isFlashing ? flashMask : null);
+        boolean activeChanged = fullRepaint || !sameActiveCells();
+        if (activeChanged)
+            swapActiveMask();
 
         for (int r = 0; r < boardSize.r; r++) {
-            for (int c = 0; c < boardSize.c; c++) {
-                boolean flashingThisCell = isFlashing &&
-                        flashMask != null &&
-                        flashMask[r][c] &&
-                        flashOn;
-                // 플래시 중이고 해당 셀이 플래시 대상인 경우 그리고 플래시가 켜진 상태일 때 -> 흰색으로 렌더링
+            if (!fullRepaint && !flashChanged && !(activeChanged && activeRowTouched(r))
+                    && dirtySource != null && !dirtySource.isRowDirty(r))
+                continue;
+            repaintRow(board[r], activeMask[r], r, flashVisible ? flashMask[r] : null);
+        }
+        fullRepaint = false;
 
-                int cellValue = board[r][c];
+        if (activeChanged)
+            repaintActiveLayer();
 
-                // 빈 셀이고 플래시 대상도 아니면 스킵
-                if (cellValue == 0 && !flashingThisCell) {
-                    continue;
-                }
+        // Render Effects (Particles & Bursts)
+        if (!particles.isEmpty() || activeBursts > 0) {
+            renderEffects();
+        } else if (effectsPainted) {
+            effectsGc.clearRect(0, 0, effectsCanvas.getWidth(), effectsCanvas.getHeight());
+            effectsPainted = false;
+        }
+    }
 
-                Color fill = flashingThisCell ? Color.WHITE : getCellColor(cellValue); // 플래시 중이면 흰색
+    private void collectActiveCells(int[][] board, Block active, int activeRow, int activeCol, boolean[][] flashMask) {
+        nextActiveCount = 0;
+        if (active == null)
+            return;
 
-                // flashingThisCell 이면 cellValue==0 즉 비어있는 칸이라도 강제로 칠하도록 함.
-                drawCell(
-                        boardGc,
-                        r, c,
-                        0, 0,
-                        cellSize,
-                        cellValue,
-                        fill,
-                        flashingThisCell);
-            }
+        int[] cellRows = active.getCellRows();
+        int[] cellCols = active.getCellCols();
+        if (nextActiveCells.length < cellRows.length) {
+            nextActiveCells = new int[cellRows.length];
+            nextActiveValues = new int[cellRows.length];
         }
+        for (int i = 0; i < cellRows.length; i++) {
+            int r = activeRow + cellRows[i];
+            int c = activeCol + cellCols[i];
+            if (r < 0 || r >= boardSize.r || c < 0 || c >= boardSize.c || board[r][c] == 0)
+                continue;
+            if (flashMask != null && flashMask[r][c])
+                continue;
+            nextActiveCells[nextActiveCount] = r * boardSize.c + c;
+            nextActiveValues[nextActiveCount] = board[r][c];
+            nextActiveCount++;
+        }
+    }
 
-        // Render Effects (Particles & Bursts)
-        if (!particles.isEmpty() || !lineBursts.isEmpty()) {
-            renderEffects();
+    private boolean sameActiveCells() {
+        if (nextActiveCount != activeCount)
+            return false;
+        for (int i = 0; i < activeCount; i++) {
+            if (nextActiveCells[i] != activeCells[i] || nextActiveValues[i] != activeValues[i])
+                return false;
+        }
+        return true;
+    }
+
+    // 지난 프레임 칸을 activeMask에서 지우고 이번 프레임 칸을 표시 (지난 칸 목록은 repaintActiveLayer가 씀)
+    private void swapActiveMask() {
+        for (int i = 0; i < activeCount; i++)
+            activeMask[activeCells[i] / boardSize.c][activeCells[i] % boardSize.c] = false;
+        for (int i = 0; i < nextActiveCount; i++)
+            activeMask[nextActiveCells[i] / boardSize.c][nextActiveCells[i] % boardSize.c] = true;
+    }
+
+    // 블럭 칸은 몇 개뿐이라 선형 탐색
+    private static int indexOf(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell)
+                return i;
+        }
+        return -1;
+    }
+
+    // 블럭이 지난 프레임 또는 이번 프레임에 r행을 지나는지 (고정 층의 그 행을 다시 비교해야 함)
+    private boolean activeRowTouched(int r) {
+        int from = r * boardSize.c;
+        int to = from + boardSize.c;
+        for (int i = 0; i < activeCount; i++) {
+            if (activeCells[i] >= from && activeCells[i] < to)
+                return true;
+        }
+        for (int i = 0; i < nextActiveCount; i++) {
+            if (nextActiveCells[i] >= from && nextActiveCells[i] < to)
+                return true;
+        }
+        return false;
+    }
+
+    // 조작 중인 블럭 층: 같은 자리에 같은 값으로 남는 칸은 두고, 나머지 지난 칸은 투명하게 지우고 새 칸을 그림
+    private void repaintActiveLayer() {
+        for (int i = 0; i < activeCount; i++) {
+            int next = indexOf(nextActiveCells, nextActiveCount, activeCells[i]);
+            if (next >= 0 && nextActiveValues[next] == activeValues[i])
+                continue;
+            int r = activeCells[i] / boardSize.c;
+            int c = activeCells[i] % boardSize.c;
+            activeGc.clearRect(c * cellSize, r * cellSize, cellSize, cellSize);
+        }
+        for (int i = 0; i < nextActiveCount; i++) {
+            int prev = indexOf(activeCells, activeCount, nextActiveCells[i]);
+            if (prev >= 0 && activeValues[prev] == nextActiveValues[i])
+                continue;
+            int r = nextActiveCells[i] / boardSize.c;
+            int c = nextActiveCells[i] % boardSize.c;
+            drawCell(activeGc, r, c, 0, 0, cellSize, nextActiveValues[i], false);
+        }
+
+        int[] cells = activeCells;
+        int[] values = activeValues;
+        activeCells = nextActiveCells;
+        activeValues = nextActiveValues;
+        activeCount = nextActiveCount;
+        nextActiveCells = cells;
+        nextActiveValues = values;
+    }
+
+    // 한 행에서 지난번과 값이 다른 셀만 지우고 다시 그림 (조작 중인 블럭의 칸은 빈 칸으로)
+    private void repaintRow(int[] row, boolean[] activeRow, int r, boolean[] flashRow) {
+        int[] paintedRow = painted[r];
+        for (int c = 0; c < boardSize.c; c++) {
+            int cellValue = activeRow[c] ? 0 : row[c];
+            // 플래시 중이고 해당 셀이 플래시 대상인 경우 -> 흰색으로 렌더링 (빈 칸이라도 칠함)
+            boolean flashingThisCell = flashRow != null && flashRow[c];
+            int key = flashingThisCell ? -1 - cellValue : cellValue;
+            if (key == paintedRow[c])
+                continue;
+
+            if (paintedRow[c] != 0)
+                clearCells(r, c, 1);
+            paintedRow[c] = key;
+
+            if (cellValue == 0 && !flashingThisCell)
+                continue;
+
+            drawCell(
+                    boardGc,
+                    r, c,
+                    0, 0,
+                    cellSize,
+                    cellValue,
+                    flashingThisCell);
         }
     }
 
+    // r행의 c열부터 count칸을 배경색으로 칠함
+    private void clearCells(int r, int c, int count) {
+        boardGc.setFill(Color.BLACK);
+        boardGc.fillRect(c * cellSize, r * cellSize, count * cellSize, cellSize);
+    }
+
+    // 효과 층은 효과가 있는 동안만 매 프레임 통째로 지우고 다시 그림 (아래 층은 다시 그릴 필요 없음)
     private void renderEffects() {
-        // Draw Line Bursts
-        boardGc.setGlobalBlendMode(javafx.scene.effect.BlendMode.ADD);
+        double width = effectsCanvas.getWidth();
+        effectsGc.clearRect(0, 0, width, effectsCanvas.getHeight());
+        effectsPainted = true;
+
+        // Draw Line Bursts (층 자체가 ADD로 합성되므로 여기서는 그대로 그림)
         try {
-            for (LineBurst burst : lineBursts) {
-                double opacity = burst.life;
-                boardGc.setFill(Color.rgb(255, 255, 255, opacity * 0.5));
-                double y = burst.row * cellSize;
-                boardGc.fillRect(0, y, boardCanvas.getWidth(), cellSize);
+            for (int row = 0; activeBursts > 0 && row < burstLife.length; row++) {
+                double opacity = burstLife[row] - BURST_DECAY * interpolation;
+                if (opacity <= 0)
+                    continue;
+                // 투명도는 globalAlpha로 (프레임마다 Color를 만들지 않음)
+                effectsGc.setGlobalAlpha(opacity);
+                effectsGc.setFill(BURST_GLOW);
+                double y = row * cellSize;
+                effectsGc.fillRect(0, y, width, cellSize);
                 
                 // Center bright line
-                boardGc.setFill(Color.rgb(255, 255, 200, opacity));
-                boardGc.fillRect(0, y + cellSize * 0.4, boardCanvas.getWidth(), cellSize * 0.2);
+                effectsGc.setFill(BURST_CORE);
+                effectsGc.fillRect(0, y + cellSize * 0.4, width, cellSize * 0.2);
             }
-        } finally {
-            boardGc.setGlobalBlendMode(javafx.scene.effect.BlendMode.SRC_OVER);
-        }
 
-        // Draw Particles
-        try {
-            for (Particle p : particles) {
-                boardGc.setGlobalAlpha(p.life);
-                boardGc.setFill(p.color);
-                boardGc.fillOval(p.x, p.y, p.size, p.size);
+            // Draw Particles
+            for (int i = 0; i < particles.size(); i++) {
+                double size = particles.getSize(i);
+                effectsGc.setGlobalAlpha(particles.getLife(i, interpolation));
+                effectsGc.setFill(PARTICLE_COLORS[particles.getColorIndex(i)]);
+                effectsGc.fillOval(particles.getX(i, interpolation), particles.getY(i, interpolation), size, size);
             }
         } finally {
-            boardGc.setGlobalAlpha(1.0);
+            effectsGc.setGlobalAlpha(1.0);
         }
     }
 
-    public void updateEffects(long now) {
+    /**
+     * 효과를 게임 틱 하나만큼 진행합니다. (화면 주사율과 관계없이 초당 60번)
+     */
+    public void updateEffects() {
         // Update Shake
         if (shakeIntensity > 0) {
             shakeX = (Math.random() - 0.5) * shakeIntensity;
@@ -216,32 +493,33 @@ public class GameViewRenderer {
         }
 
         // Update Particles
-        java.util.Iterator<Particle> pIt = particles.iterator();
-        while (pIt.hasNext()) {
-            Particle p = pIt.next();
-            p.x += p.vx;
-            p.y += p.vy;
-            p.life -= 0.05;
-            if (p.life <= 0) {
-                pIt.remove();
-            }
-        }
+        particles.update();
 
         // Update Line Bursts
-        java.util.Iterator<LineBurst> bIt = lineBursts.iterator();
-        while (bIt.hasNext()) {
-            LineBurst b = bIt.next();
-            b.life -= 0.1;
-            if (b.life <= 0) {
-                bIt.remove();
+        for (int row = 0; activeBursts > 0 && row < burstLife.length; row++) {
+            if (burstLife[row] <= 0)
+                continue;
+            burstLife[row] -= BURST_DECAY;
+            if (burstLife[row] <= 0) {
+                burstLife[row] = 0;
+                activeBursts--;
             }
         }
     }
 
+    /**
+     * 다음 renderBoard에서 효과를 마지막 틱과 다음 틱 사이 어디쯤으로 그릴지 정합니다.
+     *
+     * @param alpha 0.0(마지막 틱) ~ 1.0(다음 틱)
+     */
+    public void setInterpolation(double alpha) {
+        interpolation = Math.max(0.0, Math.min(1.0, alpha));
+    }
+
     public void triggerHardDropEffect() {
         this.shakeIntensity = 5.0;
         // Flash effect on canvas
-        javafx.animation.FadeTransition flash = new javafx.animation.FadeTransition(javafx.util.Duration.millis(50), boardCanvas);
+        javafx.animation.FadeTransition flash = new javafx.animation.FadeTransition(javafx.util.Duration.millis(50), boardLayers);
         flash.setFromValue(1.0);
         flash.setToValue(0.6);
         flash.setCycleCount(2);
@@ -250,14 +528,19 @@ public class GameViewRenderer {
     }
 
     public void triggerLineClearEffect(int row) {
-        lineBursts.add(new LineBurst(row));
+        if (row < 0 || row >= burstLife.length)
+            return;
+        if (burstLife[row] <= 0)
+            activeBursts++;
+        burstLife[row] = 1.0;
         
-        // Spawn particles across the row
-        for (int i = 0; i < 20; i++) {
-            double x = Math.random() * boardCanvas.getWidth();
-            double y = row * cellSize + Math.random() * cellSize;
-            particles.add(new Particle(x, y, Color.GOLD));
-            particles.add(new Particle(x, y, Color.WHITE));
+        // Spawn particles across the row (풀이 가득 차면 오래된 입자를 덮어씀)
+        double width = boardCanvas.getWidth();
+        for (int i = 0; i < PARTICLES_PER_ROW; i++) {
+            double x = particles.nextDouble() * width;
+            double y = row * cellSize + particles.nextDouble() * cellSize;
+            particles.spawn(x, y, PARTICLE_GOLD);
+            particles.spawn(x, y, PARTICLE_WHITE);
         }
     }
 
@@ -355,8 +638,6 @@ public class GameViewRenderer {
                     continue;
                 }
 
-                Color fillColor = getCellColor(cellValue);
-
                 // 프리뷰는 빈 셀을 강제로 칠할 일은 없으니 drawEvenIfEmpty=false
                 drawCell(
                         previewGc,
@@ -364,16 +645,24 @@ public class GameViewRenderer {
                         offsetX, offsetY,
                         previewCellSize,
                         cellValue,
-                        fillColor,
                         false);
             }
         }
     }
 
     public void boardReset() {
-        // 배경 초기화
+        // 배경 초기화 -> 캔버스가 비었으니 다음 프레임은 전체를 다시 그림
+        double width = boardSize.c * cellSize;
+        double height = boardSize.r * cellSize;
         boardGc.setFill(Color.BLACK);
-        boardGc.fillRect(0, 0, boardSize.c * cellSize, boardSize.r * cellSize);
+        boardGc.fillRect(0, 0, width, height);
+        activeGc.clearRect(0, 0, width, height);
+        for (int[] row : painted)
+            Arrays.fill(row, 0);
+        for (int i = 0; i < activeCount; i++)
+            activeMask[activeCells[i] / boardSize.c][activeCells[i] % boardSize.c] = false;
+        activeCount = 0;
+        fullRepaint = true;
     }
 
     // ========================
@@ -384,6 +673,7 @@ public class GameViewRenderer {
             // (paneSize - canvasSize) / 2 → 가운데 정렬
             bindCanvasPosition(
                     boardPane,
+                    boardLayers,
                     boardCanvas,
                     (paneW, canvasW) -> (paneW - canvasW) / 2.0, // X
                     (paneH, canvasH) -> (paneH - canvasH) / 2.0 // Y
@@ -395,6 +685,7 @@ public class GameViewRenderer {
             bindCanvasPosition(
                     nextBlockPane,
                     previewCanvas,
+                    previewCanvas,
                     (paneW, canvasW) -> (paneW - canvasW) / 2.0, // X 중앙
                     (paneH, canvasH) -> (paneH - canvasH) / 2.0 // Y 중앙
             );
@@ -418,9 +709,10 @@ public class GameViewRenderer {
     // 내부 헬퍼 메서드들
     // ========================
 
-    // 캔버스 위치를 부모 Pane 크기에 맞춰 동적으로 위치를 조정하는 헬퍼
+    // 캔버스(node) 위치를 부모 Pane 크기에 맞춰 동적으로 위치를 조정하는 헬퍼 (크기는 canvas 기준)
     private void bindCanvasPosition(
             Pane pane,
+            Node node,
             Canvas canvas,
             BiFunction<Double, Double, Double> layoutXFunc,
             BiFunction<Double, Double, Double> layoutYFunc) {
@@ -429,26 +721,26 @@ public class GameViewRenderer {
         double w = pane.getWidth();
         double h = pane.getHeight();
         if (w > 0 && h > 0) {
-            canvas.setLayoutX(layoutXFunc.apply(w, canvas.getWidth()));
-            canvas.setLayoutY(layoutYFunc.apply(h, canvas.getHeight()));
+            node.setLayoutX(layoutXFunc.apply(w, canvas.getWidth()));
+            node.setLayoutY(layoutYFunc.apply(h, canvas.getHeight()));
         }
 
         // width 변화에 따라 X 위치 갱신
         pane.widthProperty().addListener((obs, oldVal, newVal) -> {
             double paneW = newVal.doubleValue();
             double canvasW = canvas.getWidth();
-            canvas.setLayoutX(layoutXFunc.apply(paneW, canvasW));
+            node.setLayoutX(layoutXFunc.apply(paneW, canvasW));
         });
 
         // height 변화에 따라 Y 위치 갱신
         pane.heightProperty().addListener((obs, oldVal, newVal) -> {
             double paneH = newVal.doubleValue();
             double canvasH = canvas.getHeight();
-            canvas.setLayoutY(layoutYFunc.apply(paneH, canvasH));
+            node.setLayoutY(layoutYFunc.apply(paneH, canvasH));
         });
     }
 
-    // 보드/프리뷰 공통: 타일(사각형 + 아이템 텍스트) 하나 그리기
+    // 보드/프리뷰 공통: 타일 하나 그리기 (아틀라스에서 복사, 안 되면 직접 그림)
     private void drawCell(
             GraphicsContext gc,
             int row,
@@ -457,7 +749,6 @@ public class GameViewRenderer {
             double offsetY,
             double size,
             int cellValue,
-            Color fillColor,
             boolean flashingCell) {
 
         // 일반 모드에서는 0 그리고 플래시 모드가 아닌 경우 스킵
@@ -465,6 +756,26 @@ public class GameViewRenderer {
             return;
         }
 
+        CellAtlas atlas = size == cellSize ? boardAtlas : previewAtlas;
+        if (atlas.size == size && atlas.draw(gc, offsetX + col * size, offsetY + row * size, cellValue, flashingCell))
+            return;
+
+        paintCell(gc, row, col, offsetX, offsetY, size, cellValue, flashingCell);
+    }
+
+    // 타일(사각형 + 아이템 텍스트) 하나를 도형으로 직접 그리기 (아틀라스 생성에도 사용)
+    private void paintCell(
+            GraphicsContext gc,
+            int row,
+            int col,
+            double offsetX,
+            double offsetY,
+            double size,
+            int cellValue,
+            boolean flashingCell) {
+
+        Color fillColor = flashingCell ? Color.WHITE : getCellColor(cellValue); // 플래시 중이면 흰색
+
         final double strokeWidth = 1.0;
         final double cellInset = 1.0;
 
@@ -495,14 +806,19 @@ public class GameViewRenderer {
             return;
         }
 
-        gc.setFill(Color.BLACK);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, size * 0.6));
+        CellTextMetrics metrics = textMetrics.computeIfAbsent(size, CellTextMetrics::new);
+        if (metrics.widths[cellValue] < 0) {
+            Text text = new Text(cellText);
+            text.setFont(metrics.font);
+            metrics.widths[cellValue] = text.getBoundsInLocal().getWidth();
+            metrics.heights[cellValue] = text.getBoundsInLocal().getHeight();
+        }
 
-        Text text = new Text(cellText);
-        text.setFont(gc.getFont());
+        gc.setFill(Color.BLACK);
+        gc.setFont(metrics.font);
 
-        double textWidth = text.getBoundsInLocal().getWidth();
-        double textHeight = text.getBoundsInLocal().getHeight();
+        double textWidth = metrics.widths[cellValue];
+        double textHeight = metrics.heights[cellValue];
 
         double textX = x + (size - textWidth) / 2;
         double textY = y + (size + textHeight) / 2 - 2;
@@ -510,29 +826,12 @@ public class GameViewRenderer {
         gc.fillText(cellText, textX, textY);
     }
 
-    // Block의 실제 바운딩 박스 계산 (minR, maxR, minC, maxC 반환)
+    // Block의 실제 바운딩 박스 (minR, maxR, minC, maxC 반환, 회전 테이블에 미리 계산됨)
     private int[] computeBlockBounds(Block block, int blockWidth, int blockHeight) {
-        int minR = blockHeight, maxR = -1;
-        int minC = blockWidth, maxC = -1;
-
-        for (int r = 0; r < blockHeight; r++) {
-            for (int c = 0; c < blockWidth; c++) {
-                if (block.getCell(r, c) != 0) {
-                    if (r < minR)
-                        minR = r;
-                    if (r > maxR)
-                        maxR = r;
-                    if (c < minC)
-                        minC = c;
-                    if (c > maxC)
-                        maxC = c;
-                }
-            }
-        }
-
-        if (maxR == -1)
+        int[] bounds = block.getBounds();
+        if (bounds[1] == -1)
             return null; // 활성 셀이 하나도 없는 경우
-        return new int[] { minR, maxR, minC, maxC };
+        return bounds;
     }
 
     private void markFlashRows(List<Integer> rows, boolean[][] mask) {
@@ -0,0 +1,170 @@
+package org.tetris.game.view;
+
+/**
+ * 줄 삭제 불꽃 같은 입자 효과를 담는 고정 크기 풀.
+ *
+ * 입자 하나를 객체로 만들지 않고 속성별 기본형 배열(x, y, vx, vy, life, size, colorIndex)에 나눠 담습니다.
+ * 살아 있는 입자는 항상 앞쪽 [0, count)에 모여 있고, 죽은 입자는 마지막 입자를 그 자리로 옮겨(swap-remove) 지웁니다.
+ * 난수는 자체 xorshift로 만들어 생성 후에는 메모리를 할당하지 않습니다.
+ * 가득 차면 기존 입자를 앞에서부터 돌아가며 덮어쓰므로,
+ * 부하가 커져도 새 효과는 나타나고 기존 입자 일부가 일찍 사라질 뿐입니다.
+ */
+public class ParticleSystem {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // 한 프레임마다 줄어드는 수명
+    private static final double LIFE_DECAY = 0.05;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx;
+    private final double[] vy;
+    private final double[] life; // 1.0 to 0.0
+    private final double[] size;
+    private final byte[] colorIndex;
+    private int count = 0;
+
+    // 가득 찼을 때 덮어쓸 위치 (앞에서부터 돌아가며)
+    private int overwriteCursor = 0;
+    private long seed;
+
+    public ParticleSystem(int capacity) {
+        this(capacity, System.nanoTime());
+    }
+
+    public ParticleSystem(int capacity, long seed) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+
+        x = new double[capacity];
+        y = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        life = new double[capacity];
+        size = new double[capacity];
+        colorIndex = new byte[capacity];
+        this.seed = seed == 0 ? 0x9E3779B97F4A7C15L : seed;
+    }
+
+    /**
+     * (px, py)에서 임의의 방향으로 튀는 입자를 하나 만듭니다.
+     *
+     * @param color 렌더러 팔레트의 색 번호
+     * @return 빈 자리가 있었으면 true, 가득 차서 오래된 입자를 덮어썼으면 false
+     */
+    public boolean spawn(double px, double py, int color) {
+        int i;
+        boolean free = count < x.length;
+        if (free) {
+            i = count++;
+        } else {
+            i = overwriteCursor;
+            overwriteCursor = (overwriteCursor + 1) % x.length;
+        }
+
+        double angle = nextDouble() * Math.PI * 2;
+        double speed = nextDouble() * 5 + 2;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = Math.cos(angle) * speed;
+        vy[i] = Math.sin(angle) * speed;
+        life[i] = 1.0;
+        size[i] = nextDouble() * 5 + 3;
+        colorIndex[i] = (byte) color;
+        return free;
+    }
+
+    /**
+     * 모든 입자를 한 프레임 움직이고 수명이 다한 입자를 지웁니다.
+     */
+    public void update() {
+        int i = 0;
+        while (i < count) {
+            x[i] += vx[i];
+            y[i] += vy[i];
+            life[i] -= LIFE_DECAY;
+            if (life[i] <= 0) {
+                removeAt(i); // 마지막 입자가 i로 옴 -> 같은 i를 다시 처리
+            } else {
+                i++;
+            }
+        }
+        if (overwriteCursor >= count)
+            overwriteCursor = 0;
+    }
+
+    public void clear() {
+        count = 0;
+        overwriteCursor = 0;
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        size[i] = size[last];
+        colorIndex[i] = colorIndex[last];
+    }
+
+    /**
+     * [0, 1) 범위의 난수 (xorshift64*)
+     */
+    public double nextDouble() {
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        return ((seed * 0x2545F4914F6CDD1DL) >>> 11) * 0x1.0p-53;
+    }
+
+    // region 조회 (렌더링용, 0 <= i < size())
+    public int size() {
+        return count;
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * 다음 프레임 쪽으로 alpha(0.0 ~ 1.0)만큼 진행한 x (고정 틱 사이 보간 렌더링용, 등속이므로 정확함)
+     */
+    public double getX(int i, double alpha) {
+        return x[i] + vx[i] * alpha;
+    }
+
+    public double getY(int i, double alpha) {
+        return y[i] + vy[i] * alpha;
+    }
+
+    public double getLife(int i) {
+        return life[i];
+    }
+
+    public double getLife(int i, double alpha) {
+        return Math.max(0.0, life[i] - LIFE_DECAY * alpha);
+    }
+
+    public double getSize(int i) {
+        return size[i];
+    }
+
+    public int getColorIndex(int i) {
+        return colorIndex[i];
+    }
+    // endregion
+}
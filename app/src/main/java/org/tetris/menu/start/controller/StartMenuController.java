@@ -39,6 +39,7 @@ public class StartMenuController extends BaseController<StartMenuModel> implemen
     private static final String TEXT_NORMALSCOREBOARD = "일반 스코어보드";
     private static final String TEXT_ITEM_SCOREBOARD = "아이템 스코어보드";
     private static final String TEXT_LOCAL_MULTI = "로컬";
+    private static final String TEXT_VS_COMPUTER = "컴퓨터 대전";
     private static final String TEXT_P2P_MULTI = "P2P";
     private static final String TEXT_P2P_HOST = "호스트";
     private static final String TEXT_P2P_CLIENT = "클라이언트";
@@ -111,6 +112,7 @@ public class StartMenuController extends BaseController<StartMenuModel> implemen
     private void showMultiGameMenu() {
         buildMenu(List.of(
                 new MenuEntry(TEXT_LOCAL_MULTI, this::showLocalMultiGameMenu),
+                new MenuEntry(TEXT_VS_COMPUTER, this::showVsComputerGameMenu),
                 new MenuEntry(TEXT_P2P_MULTI, this::onP2PMultiplayer),
                 new MenuEntry(TEXT_BACK, this::showMainMenu)));
     }
@@ -123,6 +125,14 @@ public class StartMenuController extends BaseController<StartMenuModel> implemen
                 new MenuEntry(TEXT_BACK, this::showMultiGameMenu)));
     }
 
+    private void showVsComputerGameMenu() {
+        buildMenu(List.of(
+                new MenuEntry(TEXT_NORMAL_MODE, () -> router.showDualGamePlaceholder(GameMode.NORMAL, true)),
+                new MenuEntry(TEXT_ITEM_MODE, () -> router.showDualGamePlaceholder(GameMode.ITEM, true)),
+                new MenuEntry(TEXT_TIME_ATTACK_MODE, () -> router.showDualGamePlaceholder(GameMode.TIME_ATTACK, true)),
+                new MenuEntry(TEXT_BACK, this::showMultiGameMenu)));
+    }
+
     private void showP2PRoleMenu() {
         buildMenu(List.of(
                 new MenuEntry(TEXT_P2P_HOST, this::onP2PHostSelected),
@@ -1,10 +1,9 @@
 package org.tetris.network;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.tetris.network.comand.Command;
 import org.tetris.network.comand.DisconnectCommand;
@@ -13,6 +12,8 @@ import org.tetris.network.comand.GameCommandExecutor;
 import org.tetris.network.comand.GameMenuCommand;
 import org.tetris.network.comand.GameMenuCommandExecutor;
 import org.tetris.network.comand.PingCommand;
+import org.tetris.network.protocol.CommandChannel;
+import org.tetris.network.protocol.ProtocolNegotiator;
 
 /**
  * 클라이언트가 서버와 통신하기 위한 핸들러 클래스. 서버 -> 클라이언트를 처리하는 클래스 소켓 연결, 데이터 송수신, 비동기 수신 스레드 관리를 캡슐화하여
@@ -20,13 +21,20 @@ import org.tetris.network.comand.PingCommand;
  */
 public class ClientThread {
     private Socket socket;
-    private ObjectOutputStream oos;
-    private ObjectInputStream ois;
+    private CommandChannel channel;
     private GameCommandExecutor gameExecutor;
     private GameMenuCommandExecutor menuExecutor;
-    private volatile boolean connected = false;
-    private Thread receiverThread;
-    private Thread pingThread;
+    // disconnect가 여러 스레드(UI, 수신, Ping)에서 동시에 불려도 한 번만 정리하도록 compareAndSet으로 바꿈
+    private final AtomicBoolean connected = new AtomicBoolean(false);
+    // 수신/송신/Ping 루프 (NetworkThreads 모드에 따라 플랫폼 또는 가상 스레드)
+    private NetworkThreads.TaskGroup tasks;
+    // 송신 큐 (sendCommand를 호출한 스레드는 소켓 I/O를 하지 않음)
+    private OutboundSender outbound;
+
+    // 연결 종료 시 남은 커맨드를 보내기 위해 기다리는 최대 시간 (UI 스레드에서 불리므로 짧게)
+    private static final long DRAIN_TIMEOUT_MS = 50;
+    // 소켓을 닫은 뒤 루프가 끝나기를 기다리는 최대 시간 (닫힌 소켓에서 바로 빠져나오므로 보통 즉시)
+    private static final long SHUTDOWN_TIMEOUT_MS = 50;
 
     // 타임아웃 설정
     private static final long READ_TIMEOUT_MS = 10000; // 10초
@@ -69,71 +77,92 @@ public class ClientThread {
      * @param port 서버 포트 번호
      */
     public void connect(String host, int port) throws IOException, UnknownHostException {
-        if (connected) {
+        if (connected.get()) {
             System.out.println("[CLIENT-FACADE] Already connected.");
             return;
         }
-        socket = new Socket(host, port);
-        oos = new ObjectOutputStream(socket.getOutputStream());
-        ois = new ObjectInputStream(socket.getInputStream());
-        connected = true;
+        Socket newSocket = new Socket(host, port);
+        CommandChannel newChannel;
+        try {
+            // 서버와 프로토콜 협상 (바이너리 미지원 서버면 기존 직렬화 사용)
+            newChannel = ProtocolNegotiator.connectClient(newSocket);
+        } catch (IOException e) {
+            newSocket.close();
+            throw e;
+        }
+        attach(newSocket, newChannel);
 
-        // 서버로부터 커맨드를 수신하는 별도의 스레드를 시작합니다.
-        receiverThread = new Thread(new CommandReceiver());
-        receiverThread.start();
+        System.out.println("[CLIENT-FACADE] Connected to server at " + host + ":" + port
+                + " (" + channel.getProtocolName() + ")");
+    }
 
-        // Ping을 주기적으로 전송하는 스레드를 시작합니다.
-        pingThread = new Thread(new PingSender());
-        pingThread.start();
+    /**
+     * 이미 협상된 채널로 수신/Ping 루프를 시작합니다.
+     */
+    void attach(Socket socket, CommandChannel channel) {
+        this.socket = socket;
+        this.channel = channel;
+        this.lastResponseTime = System.currentTimeMillis();
+        connected.set(true);
 
-        System.out.println("[CLIENT-FACADE] Connected to server at " + host + ":" + port);
+        outbound = new OutboundSender(OutboundSender.DEFAULT_CAPACITY, OutboundSender.OverflowPolicy.DROP,
+                null, "[CLIENT-FACADE]");
+        outbound.setChannel(channel);
+
+        tasks = new NetworkThreads.TaskGroup();
+        // 서버로부터 커맨드를 수신하는 루프
+        tasks.fork(new CommandReceiver());
+        // 송신 큐를 비우는 루프
+        tasks.fork(outbound);
+        // Ping을 주기적으로 전송하는 루프
+        tasks.fork(new PingSender());
     }
 
     /**
-     * 서버로 GameCommand 객체를 전송합니다.
+     * 서버로 GameCommand 객체를 전송합니다. (송신 큐에 넣고 바로 반환)
      * 
      * @param command 전송할 커맨드
      */
     public void sendCommand(Command command) {
-        if (!connected) {
+        if (!connected.get()) {
             System.err.println("[CLIENT-FACADE] Not connected. Cannot send command.");
             return;
         }
-        try {
-            synchronized (oos) {
-                oos.writeObject(command);
-                oos.flush();
-            }
-        } catch (IOException e) {
-            System.err.println("[CLIENT-FACADE] Error sending command: " + e.getMessage());
-        }
+        outbound.offer(command);
     }
 
     /**
-     * 서버와의 연결을 종료합니다.
+     * 송신 큐 통계 (연결 전이면 null)
+     */
+    public OutboundSender.Stats getOutboundStats() {
+        return outbound == null ? null : outbound.getStats();
+    }
+
+    /**
+     * 서버와의 연결을 종료합니다. 송신 큐를 비우고 루프가 끝나기를 각각 최대 50ms만 기다립니다.
      */
     public void disconnect() {
-        if (!connected) {
+        if (!connected.compareAndSet(true, false)) {
             return;
         }
-        connected = false;
+
+        // 큐에 남은 커맨드(예: DisconnectCommand)를 먼저 보냄
+        if (outbound != null) {
+            outbound.close();
+            outbound.awaitTermination(DRAIN_TIMEOUT_MS);
+        }
         try {
-            if (oos != null)
-                oos.close();
-            if (ois != null)
-                ois.close();
+            if (channel != null)
+                channel.close();
             if (socket != null && !socket.isClosed()) {
                 socket.close();
             }
-            if (receiverThread != null) {
-                receiverThread.interrupt();
-            }
-            if (pingThread != null) {
-                pingThread.interrupt();
-            }
         } catch (IOException e) {
             e.printStackTrace();
         }
+        if (tasks != null) {
+            tasks.shutdown(SHUTDOWN_TIMEOUT_MS);
+        }
         System.out.println("[CLIENT-FACADE] Disconnected.");
     }
 
@@ -141,22 +170,16 @@ public class ClientThread {
      * 연결 상태를 반환합니다.
      */
     public boolean isConnected() {
-        return connected;
+        return connected.get();
     }
 
     /**
      * 서버에 연결 끊김을 알리고 연결을 종료합니다.
      */
     public void disconnectGracefully() {
-        if (connected) {
-            // 서버에 연결 끊김 알림 전송
+        if (connected.get()) {
+            // 서버에 연결 끊김 알림 전송 (disconnect가 송신 큐를 비운 뒤 연결을 닫음)
             sendCommand(new DisconnectCommand("플레이어가 게임을 종료했습니다."));
-            // 짧은 지연 후 연결 종료 (메시지 전송 완료 대기)
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
             disconnect();
         }
     }
@@ -170,11 +193,11 @@ public class ClientThread {
         public void run() {
             try {
                 // 첫 ping은 즉시 전송
-                if (connected) {
+                if (connected.get()) {
                     sendCommand(new PingCommand());
                 }
 
-                while (connected && !Thread.currentThread().isInterrupted()) {
+                while (connected.get() && !Thread.currentThread().isInterrupted()) {
                     Thread.sleep(PING_INTERVAL);
                     
                     // 타임아웃 체크
@@ -187,12 +210,11 @@ public class ClientThread {
                             gameExecutor.onOpponentDisconnect("연결 시간 초과 (Timeout)");
                         }
                         
-                        connected = false;
-                        disconnect(); 
+                        disconnect();
                         break;
                     }
 
-                    if (connected) {
+                    if (connected.get()) {
                         sendCommand(new PingCommand());
                     }
                 }
@@ -209,15 +231,18 @@ public class ClientThread {
         @Override
         public void run() {
             try {
-                while (connected && !Thread.currentThread().isInterrupted()) {
+                while (connected.get() && !Thread.currentThread().isInterrupted()) {
                     // 서버로부터 커맨드를 수신 대기합니다. (Blocking call)
-                    Command command = (Command) ois.readObject();
+                    Command command = channel.receive();
                     
                     // 데이터 수신 시 마지막 응답 시간 갱신
                     lastResponseTime = System.currentTimeMillis();
 
-                    System.out.println("[CLIENT-RECEIVER] Received command from server: "
-                            + command.getClass().getSimpleName());
+                    // 틱마다 오가는 커맨드는 로그를 남기지 않음
+                    boolean verbose = !CommandChannel.isHighFrequency(command);
+                    if (verbose)
+                        System.out.println("[CLIENT-RECEIVER] Received command from server: "
+                                + command.getClass().getSimpleName());
                     // 수신된 커맨드를 로컬 게임 엔진에서 실행합니다.
                     if (command instanceof GameMenuCommand) {
                         if (menuExecutor != null) {
@@ -226,7 +251,8 @@ public class ClientThread {
                     }
                     if (command instanceof GameCommand) {
                         if (gameExecutor != null) {
-                            System.out.println("[CLIENT-RECEIVER] Executing GameCommand on gameExecutor");
+                            if (verbose)
+                                System.out.println("[CLIENT-RECEIVER] Executing GameCommand on gameExecutor");
                             ((GameCommand) command).execute(gameExecutor);
                         } else {
                             System.out.println("[CLIENT-RECEIVER] WARNING: gameExecutor is null, cannot execute command");
@@ -234,7 +260,7 @@ public class ClientThread {
                     }
                 }
             } catch (IOException | ClassNotFoundException e) {
-                if (connected) {
+                if (connected.get()) {
                     System.err.println("[CLIENT-RECEIVER] Connection lost: " + e.getMessage());
                     // 연결 끊김 시 gameExecutor에 알림
                     if (gameExecutor != null) {
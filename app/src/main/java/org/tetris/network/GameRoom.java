@@ -0,0 +1,313 @@
+package org.tetris.network;
+
+import java.util.function.LongSupplier;
+
+import org.tetris.game.model.GameMode;
+import org.tetris.network.comand.*;
+import org.tetris.network.dto.MatchSettings;
+
+/**
+ * 1:1 대전 방 하나의 상태(두 플레이어, Ready 상태, 시드, 게임 진행 여부)와 커맨드 처리 규칙.
+ * LAN 호스트(GameServer)는 방 하나를, 전용 서버(NioGameServer)는 RoomRegistry를 통해 여러 방을 사용합니다.
+ */
+public class GameRoom {
+
+    /**
+     * 방에 참가하는 연결 (ServerThread, NioConnection 등)
+     */
+    public interface Member {
+        void sendCommand(Command command);
+
+        /**
+         * 이 연결의 프로그램이 처리할 수 있는 기능 (MatchSettings.FEATURE_*, 상대에게 알려줌)
+         */
+        default int getFeatures() {
+            return MatchSettings.ALL_FEATURES;
+        }
+    }
+
+    public static final String LOCKSTEP_PROPERTY = "tetris.network.lockstep";
+
+    private final int id;
+    private final LongSupplier seedSource;
+
+    private Member player1;
+    private Member player2;
+    private boolean player1Ready = false;
+    private boolean player2Ready = false;
+
+    // 호스트가 설정한 게임 모드 및 난이도
+    private GameMode gameMode = GameMode.NORMAL;
+    private String difficulty = "EASY";
+
+    // true면 두 플레이어가 모두 Ready일 때 바로 시작 (호스트 UI가 없는 전용 서버용)
+    private boolean autoStart = false;
+
+    // true면 락스텝 대전으로 시작 (-Dtetris.network.lockstep=true 또는 setLockstep())
+    private boolean lockstep = Boolean.getBoolean(LOCKSTEP_PROPERTY);
+
+    // 게임 진행 상태 추적
+    private volatile boolean gameInProgress = false;
+
+    public GameRoom(int id) {
+        this(id, System::currentTimeMillis);
+    }
+
+    public GameRoom(int id, LongSupplier seedSource) {
+        this.id = id;
+        this.seedSource = seedSource;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setGameMode(GameMode mode) {
+        this.gameMode = mode;
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public void setAutoStart(boolean autoStart) {
+        this.autoStart = autoStart;
+    }
+
+    public void setLockstep(boolean lockstep) {
+        this.lockstep = lockstep;
+    }
+
+    public boolean isLockstep() {
+        return lockstep;
+    }
+
+    // ===== 참가/퇴장 =====
+
+    /**
+     * 플레이어를 빈 자리에 앉힙니다.
+     *
+     * @return 방이 가득 차 있으면 false
+     */
+    public synchronized boolean join(Member member) {
+        if (player1 == null) {
+            player1 = member;
+            player1Ready = false;
+            player2Ready = false;
+        } else if (player2 == null) {
+            player2 = member;
+            player2Ready = false;
+        } else {
+            return false;
+        }
+        notifyConnectionState();
+        return true;
+    }
+
+    /**
+     * 플레이어를 방에서 내보냅니다.
+     * 게임 진행 중 연결이 끊기면 남은 플레이어에게 승리 처리합니다.
+     */
+    public synchronized void leave(Member member) {
+        Member remaining;
+        String disconnectedPlayer;
+
+        if (player1 == member) {
+            player1 = null;
+            player1Ready = false;
+            remaining = player2;
+            disconnectedPlayer = "Player 1";
+        } else if (player2 == member) {
+            player2 = null;
+            player2Ready = false;
+            remaining = player1;
+            disconnectedPlayer = "Player 2";
+        } else {
+            return;
+        }
+        System.out.println("[ROOM " + id + "] " + disconnectedPlayer + " disconnected.");
+
+        // 게임 진행 중이었다면 남은 플레이어에게 승리 통보
+        if (gameInProgress && remaining != null) {
+            System.out.println("[ROOM " + id + "] " + disconnectedPlayer + " left during game. Notifying winner...");
+            remaining.sendCommand(new DisconnectCommand("상대방이 게임을 종료했습니다."));
+            remaining.sendCommand(new GameResultCommand(true, 0));
+        }
+        gameInProgress = false;
+
+        notifyConnectionState();
+    }
+
+    // ===== 커맨드 처리 =====
+
+    /**
+     * 플레이어로부터 받은 커맨드를 처리합니다.
+     * 서버가 직접 처리하는 커맨드 외에는 상대방에게 릴레이합니다.
+     */
+    public void handle(Member sender, Command command) {
+        if (command instanceof PingCommand pingCmd) {
+            // Ping 요청에 대한 Pong 응답
+            sender.sendCommand(new PongCommand(pingCmd.getTimestamp()));
+        } else if (command instanceof ReadyCommand readyCmd) {
+            onReady(sender, readyCmd.getIsReady());
+        } else if (command instanceof DisconnectCommand) {
+            // 연결 끊김 알림 - 상대방에게 전달하고 게임 종료
+            relay(sender, command);
+            endGame();
+        } else if (command instanceof RestartCommand) {
+            // 재시작 요청 - 호스트만 허용
+            if (isHost(sender)) {
+                restartGame();
+            } else {
+                System.out.println("[ROOM " + id + "] Restart request ignored - only host can restart");
+            }
+        } else if (command instanceof RequestSyncCommand) {
+            // Ready 상태 동기화 요청 - 상대방의 현재 Ready 상태를 응답
+            syncReadyState(sender);
+        } else {
+            // 그 외의 커맨드(이동, 공격, 일시정지 등)는 상대방에게 릴레이
+            relay(sender, command);
+        }
+    }
+
+    public synchronized void onReady(Member member, boolean isReady) {
+        if (member == player1) {
+            player1Ready = isReady;
+        } else if (member == player2) {
+            player2Ready = isReady;
+        }
+
+        // 상대방에게 Ready 상태 알림
+        relay(member, new ReadyCommand(isReady));
+
+        if (autoStart)
+            startGameIfReady();
+    }
+
+    public synchronized boolean startGameIfReady() {
+        if (player1 != null && player2 != null && player1Ready && player2Ready) {
+            startGame();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 게임을 재시작합니다. 새로운 seed를 생성하여 양쪽에 전송합니다.
+     */
+    public synchronized void restartGame() {
+        if (player1 == null || player2 == null) {
+            System.out.println("[ROOM " + id + "] Cannot restart: not all players connected");
+            return;
+        }
+        startGame();
+    }
+
+    private void startGame() {
+        System.out.println("[ROOM " + id + "] Both players ready. Starting game...");
+
+        long seed1 = seedSource.getAsLong();
+        long seed2 = seed1 + 1000; // Different seed for player 2
+
+        gameInProgress = true;
+
+        // 한쪽이라도 락스텝을 모르면 일반 대전으로 시작
+        int features1 = player1.getFeatures();
+        int features2 = player2.getFeatures();
+        boolean useLockstep = lockstep && (features1 & features2 & MatchSettings.FEATURE_LOCKSTEP) != 0;
+
+        // player1: playerNumber=1, mySeed = seed1, otherSeed = seed2
+        player1.sendCommand(new GameStartCommand(
+                new MatchSettings(1, seed1, seed2, gameMode, difficulty, useLockstep, features2)));
+        // player2: playerNumber=2, mySeed = seed2, otherSeed = seed1
+        player2.sendCommand(new GameStartCommand(
+                new MatchSettings(2, seed2, seed1, gameMode, difficulty, useLockstep, features1)));
+
+        player1Ready = false;
+        player2Ready = false;
+    }
+
+    /**
+     * sender를 제외한 다른 플레이어에게 커맨드를 전송합니다. (Relay)
+     */
+    public synchronized void relay(Member sender, Command command) {
+        if (sender == player1 && player2 != null) {
+            player2.sendCommand(command);
+        } else if (sender == player2 && player1 != null) {
+            player1.sendCommand(command);
+        }
+    }
+
+    /**
+     * 방의 모든 플레이어에게 커맨드를 전송합니다.
+     */
+    public synchronized void broadcast(Command command) {
+        if (player1 != null)
+            player1.sendCommand(command);
+        if (player2 != null)
+            player2.sendCommand(command);
+    }
+
+    /**
+     * 요청한 플레이어에게 상대방의 Ready 상태를 알려줍니다.
+     * 게임 화면에서 메뉴로 돌아올 때 호출됩니다.
+     */
+    public synchronized void syncReadyState(Member requester) {
+        boolean opponentReady = (requester == player1) ? player2Ready : player1Ready;
+        requester.sendCommand(new SyncReadyStateCommand(opponentReady));
+    }
+
+    private void notifyConnectionState() {
+        boolean bothConnected = player1 != null && player2 != null;
+        broadcast(new PlayerConnectionCommand(bothConnected));
+    }
+
+    // ===== 상태 조회 =====
+
+    /**
+     * 해당 플레이어가 호스트(player1)인지 확인합니다.
+     */
+    public synchronized boolean isHost(Member member) {
+        return member == player1;
+    }
+
+    public synchronized boolean isFull() {
+        return player1 != null && player2 != null;
+    }
+
+    public synchronized boolean isEmpty() {
+        return player1 == null && player2 == null;
+    }
+
+    public synchronized boolean hasMember(Member member) {
+        return member != null && (member == player1 || member == player2);
+    }
+
+    public boolean isGameInProgress() {
+        return gameInProgress;
+    }
+
+    public void endGame() {
+        gameInProgress = false;
+    }
+
+    /**
+     * 남은 플레이어는 그대로 두고 지난 게임의 Ready 상태와 진행 상태를 지웁니다. (새 상대를 받기 전)
+     */
+    public synchronized void resetMatch() {
+        player1Ready = false;
+        player2Ready = false;
+        gameInProgress = false;
+    }
+
+    /**
+     * 모든 플레이어를 내보내고 상태를 초기화합니다. (알림 없음)
+     */
+    public synchronized void clear() {
+        player1 = null;
+        player2 = null;
+        player1Ready = false;
+        player2Ready = false;
+        gameInProgress = false;
+    }
+}
@@ -0,0 +1,97 @@
+package org.tetris.network;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자 / 단일 소비자용 고정 크기 lock-free 큐 (칸마다 sequence를 두는 링 버퍼).
+ * offer는 어느 스레드에서든 호출할 수 있고 가득 차면 기다리지 않고 false를 반환합니다.
+ * poll은 소비자 스레드 하나에서만 호출해야 합니다.
+ */
+public final class MpscBoundedQueue<E> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    // 칸 i의 sequence == 위치: 비어 있음(생산자 차례), 위치 + 1: 채워짐(소비자 차례)
+    private final AtomicLongArray sequence;
+
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자만 갱신 (size 계산을 위해 volatile)
+    private volatile long head = 0;
+
+    /**
+     * @param capacity 최대 원소 수 (2의 거듭제곱으로 올림)
+     */
+    public MpscBoundedQueue(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30))
+            throw new IllegalArgumentException("capacity: " + capacity);
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequence = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++)
+            sequence.set(i, i);
+    }
+
+    /**
+     * 원소를 넣습니다.
+     *
+     * @return 큐가 가득 찼으면 false
+     */
+    public boolean offer(E e) {
+        if (e == null)
+            throw new NullPointerException();
+
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos & mask);
+            long diff = sequence.get(index) - pos;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    sequence.set(index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            // 다른 생산자가 먼저 자리를 차지함 -> 다시 시도
+        }
+    }
+
+    /**
+     * 가장 오래된 원소를 꺼냅니다. (소비자 스레드 전용)
+     *
+     * @return 비어 있으면 null
+     */
+    public E poll() {
+        long pos = head;
+        int index = (int) (pos & mask);
+        if (sequence.get(index) != pos + 1)
+            return null;
+
+        E e = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequence.set(index, pos + capacity);
+        head = pos + 1;
+        return e;
+    }
+
+    /**
+     * 현재 원소 수 (동시에 offer/poll 중이면 근삿값)
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
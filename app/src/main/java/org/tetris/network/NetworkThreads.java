@@ -0,0 +1,119 @@
+package org.tetris.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 연결별 송수신/Ping 루프를 실행할 스레드 종류를 관리합니다.
+ *
+ * PLATFORM(기본값)은 기존과 같이 루프마다 OS 스레드를 하나씩 사용하고,
+ * VIRTUAL은 같은 루프를 가상 스레드에서 실행해 연결이 많아도 OS 스레드/스택 메모리가 늘지 않습니다.
+ * 시스템 프로퍼티 -Dtetris.network.threads=virtual 또는 setMode()로 선택합니다.
+ */
+public final class NetworkThreads {
+
+    public enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    public static final String MODE_PROPERTY = "tetris.network.threads";
+
+    // 모든 연결이 공유하는 스레드 팩토리 (모드별)
+    private static final ThreadFactory PLATFORM_FACTORY = Thread.ofPlatform().name("net-", 0).factory();
+    private static final ThreadFactory VIRTUAL_FACTORY = Thread.ofVirtual().name("net-v-", 0).factory();
+
+    private static volatile Mode mode = parseMode(System.getProperty(MODE_PROPERTY));
+
+    private NetworkThreads() {
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 이후에 시작되는 연결에 적용할 실행 모드를 설정합니다. (이미 실행 중인 루프는 그대로)
+     */
+    public static void setMode(Mode newMode) {
+        mode = newMode;
+    }
+
+    static Mode parseMode(String value) {
+        if (value != null && value.trim().equalsIgnoreCase("virtual"))
+            return Mode.VIRTUAL;
+        return Mode.PLATFORM;
+    }
+
+    private static ThreadFactory factory() {
+        return mode == Mode.VIRTUAL ? VIRTUAL_FACTORY : PLATFORM_FACTORY;
+    }
+
+    /**
+     * 한 연결이 띄운 루프들의 묶음. shutdown()으로 한꺼번에 중단하고 종료를 기다립니다.
+     */
+    public static final class TaskGroup {
+        // 종료 대기 시간 (소켓을 닫은 뒤라 보통 즉시 끝남)
+        static final long SHUTDOWN_TIMEOUT_MS = 1000;
+
+        private final List<Thread> threads = new ArrayList<>();
+        private boolean shutdown = false;
+
+        /**
+         * 현재 모드의 스레드에서 task를 실행합니다. shutdown 이후에는 무시됩니다.
+         */
+        public synchronized void fork(Runnable task) {
+            if (shutdown)
+                return;
+            Thread thread = factory().newThread(task);
+            threads.add(thread);
+            thread.start();
+        }
+
+        /**
+         * 모든 루프를 interrupt하고 끝날 때까지 기다립니다.
+         * 그룹 안의 루프가 직접 호출해도 자기 자신은 기다리지 않습니다.
+         */
+        public void shutdown() {
+            shutdown(SHUTDOWN_TIMEOUT_MS);
+        }
+
+        /**
+         * 모든 루프를 interrupt하고 최대 timeoutMs 동안 끝나기를 기다립니다.
+         * (UI 스레드에서 부를 때처럼 오래 기다리면 안 되는 경우 짧게 줌, 0이면 기다리지 않음)
+         */
+        public void shutdown(long timeoutMs) {
+            List<Thread> toJoin;
+            synchronized (this) {
+                shutdown = true;
+                toJoin = new ArrayList<>(threads);
+                threads.clear();
+            }
+
+            Thread current = Thread.currentThread();
+            for (Thread thread : toJoin) {
+                if (thread != current)
+                    thread.interrupt();
+            }
+
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            for (Thread thread : toJoin) {
+                if (thread == current)
+                    continue;
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0)
+                    break;
+                try {
+                    thread.join(remaining);
+                } catch (InterruptedException e) {
+                    current.interrupt();
+                    return;
+                }
+            }
+        }
+
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.tetris.network;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.tetris.network.comand.Command;
+import org.tetris.network.protocol.CommandChannel;
+
+/**
+ * 연결 하나의 송신 루프.
+ * 호출 스레드(JavaFX 스레드, 다른 연결의 수신 루프 등)는 offer로 큐에 넣기만 하고 소켓 I/O는 하지 않습니다.
+ * 송신 루프는 깨어날 때마다 쌓인 커맨드를 모두 버퍼에 쓰고 flush를 한 번만 호출합니다.
+ */
+public class OutboundSender implements Runnable {
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        // 새 커맨드를 버리고 dropped 카운트 증가
+        DROP,
+        // 새 커맨드를 버리고 onOverflow 콜백으로 연결을 끊음 (읽지 않는 상대)
+        DISCONNECT
+    }
+
+    /**
+     * 송신 통계 스냅샷
+     *
+     * @param enqueued      큐에 넣은 커맨드 수
+     * @param dropped       큐가 가득 차거나 닫혀서 버린 커맨드 수
+     * @param written       소켓에 쓴 커맨드 수
+     * @param flushes       flush 횟수 (written / flushes = 평균 묶음 크기)
+     * @param highWaterMark 송신 루프가 깨어났을 때 관측한 최대 대기 커맨드 수
+     */
+    public record Stats(long enqueued, long dropped, long written, long flushes, int highWaterMark) {
+        public double averageBatch() {
+            return flushes == 0 ? 0 : (double) written / flushes;
+        }
+    }
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final MpscBoundedQueue<Command> queue;
+    private final OverflowPolicy policy;
+    private final Runnable onOverflow;
+    private final String logTag;
+
+    private volatile CommandChannel channel;
+    private volatile Thread writer;
+    private volatile boolean waiting = false;
+    private volatile boolean closed = false;
+    private final AtomicBoolean overflowed = new AtomicBoolean(false);
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    // 생산자 측 카운터
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // 송신 루프만 갱신
+    private volatile long written = 0;
+    private volatile long flushes = 0;
+    private volatile int highWaterMark = 0;
+
+    /**
+     * @param capacity   큐 크기
+     * @param policy     큐가 가득 찼을 때의 처리 방식
+     * @param onOverflow DISCONNECT 정책에서 처음 넘쳤을 때 한 번 호출 (null 가능)
+     * @param logTag     로그 접두어 (예: "[SERVER-THREAD]")
+     */
+    public OutboundSender(int capacity, OverflowPolicy policy, Runnable onOverflow, String logTag) {
+        this.queue = new MpscBoundedQueue<>(capacity);
+        this.policy = policy;
+        this.onOverflow = onOverflow;
+        this.logTag = logTag;
+    }
+
+    /**
+     * 송신할 채널을 지정합니다. 송신 루프(run)를 시작하기 전에 호출해야 합니다.
+     */
+    public void setChannel(CommandChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 커맨드를 송신 큐에 넣습니다. 블로킹하지 않습니다.
+     *
+     * @return 큐가 가득 찼거나 이미 닫혀서 버렸으면 false
+     */
+    public boolean offer(Command command) {
+        if (command == null)
+            throw new NullPointerException("command");
+
+        if (closed || !queue.offer(command)) {
+            onDropped(command);
+            return false;
+        }
+        enqueued.increment();
+
+        if (waiting) {
+            Thread w = writer;
+            if (w != null)
+                LockSupport.unpark(w);
+        }
+        return true;
+    }
+
+    private void onDropped(Command command) {
+        dropped.increment();
+        long count = dropped.sum();
+        if (count == 1 || count % 100 == 0) {
+            System.err.println(logTag + " Send queue full. Dropping command: "
+                    + command.getClass().getSimpleName() + " (dropped " + count + ")");
+        }
+
+        if (!closed && policy == OverflowPolicy.DISCONNECT && overflowed.compareAndSet(false, true)) {
+            System.err.println(logTag + " Peer is not reading. Closing connection.");
+            if (onOverflow != null)
+                onOverflow.run();
+        }
+    }
+
+    @Override
+    public void run() {
+        writer = Thread.currentThread();
+        try {
+            while (true) {
+                if (drain() > 0)
+                    continue;
+                if (closed || Thread.currentThread().isInterrupted())
+                    break;
+
+                // 생산자가 waiting을 본 뒤 unpark 하므로, 다시 확인한 다음 대기
+                waiting = true;
+                if (queue.isEmpty() && !closed)
+                    LockSupport.park(this);
+                waiting = false;
+            }
+        } catch (IOException e) {
+            if (!closed)
+                System.err.println(logTag + " Error sending command: " + e.getMessage());
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    // 쌓인 커맨드를 모두 쓰고 flush 한 번
+    private int drain() throws IOException {
+        int depth = queue.size();
+        if (depth > highWaterMark)
+            highWaterMark = depth;
+
+        int count = 0;
+        Command command;
+        while ((command = queue.poll()) != null) {
+            channel.write(command);
+            count++;
+        }
+        if (count > 0) {
+            channel.flush();
+            written += count;
+            flushes++;
+        }
+        return count;
+    }
+
+    /**
+     * 더 이상 커맨드를 받지 않고, 송신 루프가 남은 커맨드를 보낸 뒤 끝나도록 합니다.
+     */
+    public void close() {
+        closed = true;
+        Thread w = writer;
+        if (w != null)
+            LockSupport.unpark(w);
+    }
+
+    /**
+     * 송신 루프가 끝날 때까지 기다립니다.
+     *
+     * @return 시간 안에 끝났으면 true
+     */
+    public boolean awaitTermination(long timeoutMs) {
+        if (Thread.currentThread() == writer)
+            return false;
+        try {
+            return finished.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public Stats getStats() {
+        return new Stats(enqueued.sum(), dropped.sum(), written, flushes, highWaterMark);
+    }
+}
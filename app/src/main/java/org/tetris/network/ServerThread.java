@@ -1,50 +1,58 @@
 package org.tetris.network;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
 
 import org.tetris.network.comand.*;
+import org.tetris.network.dto.MatchSettings;
+import org.tetris.network.protocol.CommandChannel;
+import org.tetris.network.protocol.ProtocolNegotiator;
 
 /**
  * 서버 측에서 개별 클라이언트와의 통신을 담당하는 Runnable 클래스.
  * 클라이언트 -> 서버를 처리하는 클래스
  * ClientHandler는 별도의 스레드에서 실행됩니다.
  */
-public class ServerThread {
+public class ServerThread implements GameRoom.Member {
     private final Socket socket;
-    private ObjectOutputStream oos;
-    private ObjectInputStream ois;
+    private CommandChannel channel;
     private volatile boolean running = true;
 
-    private final java.util.concurrent.BlockingQueue<Command> sendQueue = new java.util.concurrent.LinkedBlockingQueue<>();
-    private Thread senderThread;
-    private Thread receiverThread;
+    // 송신 큐 (상대가 읽지 않아 가득 차면 연결을 끊음)
+    private final OutboundSender outbound = new OutboundSender(OutboundSender.DEFAULT_CAPACITY,
+            OutboundSender.OverflowPolicy.DISCONNECT, this::abort, "[SERVER-THREAD]");
+    // 전송/수신 루프 (NetworkThreads 모드에 따라 플랫폼 또는 가상 스레드)
+    private final NetworkThreads.TaskGroup tasks = new NetworkThreads.TaskGroup();
 
     public ServerThread(Socket socket) {
         this.socket = socket;
     }
 
+    /**
+     * 이미 협상된 채널로 생성합니다. (벤치마크/테스트용)
+     */
+    ServerThread(Socket socket, CommandChannel channel) {
+        this.socket = socket;
+        this.channel = channel;
+    }
+
     public java.net.InetAddress getClientIP() {
         return socket.getInetAddress();
     }
 
     public void start() {
         try {
-            // 스트림을 한 번만 초기화합니다.
-            this.oos = new ObjectOutputStream(socket.getOutputStream());
-            this.ois = new ObjectInputStream(socket.getInputStream());
-
-            // 전송 스레드 시작
-            senderThread = new Thread(new CommandSender());
-            senderThread.start();
+            // 클라이언트와 프로토콜을 협상하고 채널을 한 번만 초기화합니다.
+            if (channel == null)
+                this.channel = ProtocolNegotiator.acceptServer(socket);
 
-            // 수신 스레드 시작
-            receiverThread = new Thread(new CommandReceiver());
-            receiverThread.start();
+            // 전송/수신 루프 시작
+            outbound.setChannel(channel);
+            tasks.fork(outbound);
+            tasks.fork(new CommandReceiver());
 
-            System.out.println("[SERVER-THREAD] Handler started for client: " + socket.getInetAddress());
+            System.out.println("[SERVER-THREAD] Handler started for client: " + socket.getInetAddress()
+                    + " (" + channel.getProtocolName() + ")");
 
         } catch (IOException e) {
             System.out.println("[SERVER-THREAD] Error initializing streams: " + e.getMessage());
@@ -57,57 +65,50 @@ public class ServerThread {
      * 
      * @param command 전송할 커맨드
      */
+    @Override
     public void sendCommand(Command command) {
-        if (!sendQueue.offer(command)) {
-            System.err.println(
-                    "[SERVER-THREAD] Send queue full. Dropping command: " + command.getClass().getSimpleName());
+        outbound.offer(command);
+    }
+
+    // 기존 클라이언트는 새 커맨드 클래스를 모름
+    @Override
+    public int getFeatures() {
+        CommandChannel current = channel;
+        return current != null && current.isLegacyPeer() ? 0 : MatchSettings.ALL_FEATURES;
+    }
+
+    public OutboundSender.Stats getOutboundStats() {
+        return outbound.getStats();
+    }
+
+    // 소켓만 닫아 수신 루프가 정상 종료 경로(close + removeClient)를 타도록 함
+    private void abort() {
+        try {
+            if (socket != null)
+                socket.close();
+        } catch (IOException e) {
+            System.err.println("[SERVER-THREAD] Error aborting connection: " + e.getMessage());
         }
     }
 
     /**
-     * 소켓과 스트림을 닫습니다.
+     * 소켓과 스트림을 닫고 전송/수신 루프가 끝날 때까지 기다립니다.
      */
     public void close() {
         running = false;
+        outbound.close();
         try {
-            if (senderThread != null)
-                senderThread.interrupt();
-            if (receiverThread != null)
-                receiverThread.interrupt();
-            if (ois != null)
-                ois.close();
-            if (oos != null)
-                oos.close();
+            if (channel != null)
+                channel.close();
             if (socket != null && !socket.isClosed())
                 socket.close();
         } catch (IOException ex) {
             System.err.println("[SERVER-THREAD] Error closing resources: " + ex.getMessage());
         }
+        tasks.shutdown();
         System.out.println("[SERVER-THREAD] Connection closed for client: " + socket.getInetAddress());
     }
 
-    /**
-     * 큐에서 커맨드를 꺼내 전송하는 내부 스레드
-     */
-    private class CommandSender implements Runnable {
-        @Override
-        public void run() {
-            try {
-                while (running && !Thread.currentThread().isInterrupted()) {
-                    Command command = sendQueue.take(); // 큐가 빌 때까지 대기 (Blocking)
-                    synchronized (oos) {
-                        oos.writeObject(command);
-                        oos.flush();
-                    }
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } catch (IOException e) {
-                System.err.println("[SERVER-THREAD] Error sending command: " + e.getMessage());
-            }
-        }
-    }
-
     /**
      * 클라이언트로부터 커맨드를 수신하는 내부 스레드
      */
@@ -117,44 +118,14 @@ public class ServerThread {
             try {
                 while (running && !Thread.currentThread().isInterrupted()) {
                     // 클라이언트로부터 커맨드를 읽어옵니다.
-                    Command command = (Command) ois.readObject();
-
-                    // 서버 콘솔에 수신된 커맨드 정보를 출력합니다.
-                    System.out.println("[SERVER-THREAD] Received command: " + command.getClass().getSimpleName());
-
-                    if (command instanceof PingCommand) {
-                        // Ping 요청에 대한 Pong 응답
-                        PingCommand pingCmd = (PingCommand) command;
-                        PongCommand pongCmd = new PongCommand(pingCmd.getTimestamp());
-                        sendCommand(pongCmd);
-                    } else if (command instanceof ReadyCommand) {
-                        ReadyCommand readyCmd = (ReadyCommand) command;
-                        GameServer.getInstance().onClientReady(ServerThread.this, readyCmd.getIsReady());
-                    } else if (command instanceof PauseCommand) {
-                        // 일시정지 커맨드는 상대방에게 릴레이
-                        PauseCommand pauseCmd = (PauseCommand) command;
-                        System.out.println("[SERVER-THREAD] PauseCommand received: isPaused=" + pauseCmd.isPaused());
-                        GameServer.getInstance().sendToOtherClient(ServerThread.this, command);
-                    } else if (command instanceof DisconnectCommand) {
-                        // 연결 끊김 알림 - 상대방에게 전달하고 게임 종료
-                        GameServer.getInstance().sendToOtherClient(ServerThread.this, command);
-                        GameServer.getInstance().endGame();
-                    } else if (command instanceof RestartCommand) {
-                        // 재시작 요청 - 호스트만 허용
-                        if (GameServer.getInstance().isHost(ServerThread.this)) {
-                            System.out.println("[SERVER-THREAD] Restart requested by host");
-                            GameServer.getInstance().restartGame();
-                        } else {
-                            System.out.println("[SERVER-THREAD] Restart request ignored - only host can restart");
-                        }
-                    } else if (command instanceof RequestSyncCommand) {
-                        // Ready 상태 동기화 요청 - 상대방의 현재 Ready 상태를 응답
-                        System.out.println("[SERVER-THREAD] RequestSyncCommand received");
-                        GameServer.getInstance().syncReadyState(ServerThread.this);
-                    } else {
-                        // 그 외의 커맨드(이동, 공격 등)는 상대방에게 릴레이
-                        GameServer.getInstance().sendToOtherClient(ServerThread.this, command);
-                    }
+                    Command command = channel.receive();
+
+                    // 서버 콘솔에 수신된 커맨드 정보를 출력합니다. (틱마다 오가는 커맨드는 제외)
+                    if (!CommandChannel.isHighFrequency(command))
+                        System.out.println("[SERVER-THREAD] Received command: " + command.getClass().getSimpleName());
+
+                    // Ping/Ready/Restart 등은 서버가 처리하고, 나머지는 상대방에게 릴레이
+                    GameServer.getInstance().handleCommand(ServerThread.this, command);
                 }
             } catch (IOException | ClassNotFoundException e) {
                 if (running) {
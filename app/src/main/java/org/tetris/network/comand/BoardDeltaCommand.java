@@ -0,0 +1,91 @@
+package org.tetris.network.comand;
+
+/**
+ * UpdateStateCommand의 델타 버전. 직전에 보낸 보드와 달라진 행만 (행 번호 + 압축된 행) 형태로 전송합니다.
+ * 한 행은 칸당 4비트로 long 하나에 압축되며, 주기적으로 모든 행을 담은 키프레임을 보냅니다.
+ * 수신 측은 checksum으로 복원 결과를 검증하고, 어긋나면 RequestBoardResyncCommand로 키프레임을 요청합니다.
+ */
+public class BoardDeltaCommand implements GameCommand {
+    private static final long serialVersionUID = 1L;
+
+    private final int sequence;
+    private final int baseSequence;
+    private final boolean keyframe;
+    private final int rows;
+    private final int cols;
+    private final int[] rowIndices;
+    private final long[] packedRows;
+    private final int checksum;
+
+    private final int currentPosRow;
+    private final int currentPosCol;
+    private final int score;
+
+    public BoardDeltaCommand(int sequence, int baseSequence, boolean keyframe, int rows, int cols,
+            int[] rowIndices, long[] packedRows, int checksum,
+            int currentPosRow, int currentPosCol, int score) {
+        this.sequence = sequence;
+        this.baseSequence = baseSequence;
+        this.keyframe = keyframe;
+        this.rows = rows;
+        this.cols = cols;
+        this.rowIndices = rowIndices;
+        this.packedRows = packedRows;
+        this.checksum = checksum;
+        this.currentPosRow = currentPosRow;
+        this.currentPosCol = currentPosCol;
+        this.score = score;
+    }
+
+    @Override
+    public void execute(GameCommandExecutor executor) {
+        executor.updateBoardDelta(this);
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 이 델타가 기준으로 삼는 이전 상태의 sequence (키프레임이면 의미 없음)
+     */
+    public int getBaseSequence() {
+        return baseSequence;
+    }
+
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int[] getRowIndices() {
+        return rowIndices;
+    }
+
+    public long[] getPackedRows() {
+        return packedRows;
+    }
+
+    public int getChecksum() {
+        return checksum;
+    }
+
+    public int getCurrentPosRow() {
+        return currentPosRow;
+    }
+
+    public int getCurrentPosCol() {
+        return currentPosCol;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
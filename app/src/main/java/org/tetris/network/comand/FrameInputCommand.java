@@ -0,0 +1,52 @@
+package org.tetris.network.comand;
+
+import org.tetris.game.model.GameSimulation;
+
+/**
+ * 보낸 쪽의 게임 프레임 번호가 찍힌 조작 입력.
+ * 수신 측은 이 프레임을 기준으로 원격 블럭 예측을 되돌린 뒤(롤백) 입력을 끼워 넣고 현재 프레임까지 다시 시뮬레이션합니다.
+ */
+public class FrameInputCommand implements GameCommand {
+    private static final long serialVersionUID = 1L;
+
+    private final int frame;
+    private final GameSimulation.Input input;
+
+    public FrameInputCommand(int frame, GameSimulation.Input input) {
+        this.frame = frame;
+        this.input = input;
+    }
+
+    public int getFrame() {
+        return frame;
+    }
+
+    public GameSimulation.Input getInput() {
+        return input;
+    }
+
+    /**
+     * 프레임 입력을 모르는 상대에게 보낼 기존 조작 커맨드 (프레임 번호 없이 도착 즉시 적용됨)
+     */
+    public static GameCommand toLegacyCommand(GameSimulation.Input input) {
+        switch (input) {
+            case LEFT:
+                return new MoveLeftCommand();
+            case RIGHT:
+                return new MoveRightCommand();
+            case ROTATE:
+                return new RotateCommand();
+            case SOFT_DROP:
+                return new SoftDropCommand();
+            case HARD_DROP:
+                return new HardDropCommand();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void execute(GameCommandExecutor executor) {
+        executor.onFrameInput(frame, input);
+    }
+}
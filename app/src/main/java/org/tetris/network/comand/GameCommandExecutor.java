@@ -1,5 +1,6 @@
 package org.tetris.network.comand;
 
+import org.tetris.game.model.GameSimulation;
 import org.tetris.game.model.blocks.Block;
 import org.tetris.network.dto.MatchSettings;
 import org.util.Point;
@@ -20,6 +21,14 @@ public interface GameCommandExecutor {
 
     void hardDrop();
 
+    // 프레임 번호가 찍힌 입력 (롤백 예측용)
+    void onFrameInput(int frame, GameSimulation.Input input);
+
+    // 락스텝 대전 (틱별 입력 비트셋, 상태 해시)
+    void onLockstepInput(int tick, int inputs);
+
+    void onStateHash(int tick, long hash);
+
     // 게임 상태
     void gameStart(MatchSettings settings);
 
@@ -40,6 +49,8 @@ public interface GameCommandExecutor {
 
     // 기타
     void updateState(int[][] board, int currentPosRow, int currentPosCol, int score);
+    void updateBoardDelta(BoardDeltaCommand delta);
+    void onBoardResyncRequested();
 
     void updatePing(long ping);
 
@@ -9,6 +9,14 @@ public class GameResultCommand implements GameCommand {
         this.score = score;
     }
 
+    public boolean isWinner() {
+        return isWinner;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
     @Override
     public void execute(GameCommandExecutor executor) {
         executor.onGameResult(isWinner, score);
@@ -9,6 +9,10 @@ public class GameStartCommand implements GameCommand, GameMenuCommand {
         this.settings = settings;
     }
 
+    public MatchSettings getSettings() {
+        return settings;
+    }
+
     @Override
     public void execute(GameCommandExecutor executor) {
         executor.gameStart(settings);
@@ -0,0 +1,30 @@
+package org.tetris.network.comand;
+
+/**
+ * 락스텝 대전에서 한 틱 동안의 입력. 비트 i는 GameSimulation.Input의 i번째 입력입니다.
+ * 양쪽 클라이언트는 이 입력만 주고받고 두 보드를 각자 같은 순서로 시뮬레이션합니다.
+ */
+public class LockstepInputCommand implements GameCommand {
+    private static final long serialVersionUID = 1L;
+
+    private final int tick;
+    private final int inputs;
+
+    public LockstepInputCommand(int tick, int inputs) {
+        this.tick = tick;
+        this.inputs = inputs;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getInputs() {
+        return inputs;
+    }
+
+    @Override
+    public void execute(GameCommandExecutor executor) {
+        executor.onLockstepInput(tick, inputs);
+    }
+}
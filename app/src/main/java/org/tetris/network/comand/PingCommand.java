@@ -8,7 +8,15 @@ public class PingCommand implements GameCommand, GameMenuCommand {
     private final long timestamp;
 
     public PingCommand() {
-        this.timestamp = System.currentTimeMillis();
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * 전송 시각을 지정하는 생성자 (수신 측 디코딩용)
+     * @param timestamp Ping 전송 시각 (ms)
+     */
+    public PingCommand(long timestamp) {
+        this.timestamp = timestamp;
     }
 
     public long getTimestamp() {
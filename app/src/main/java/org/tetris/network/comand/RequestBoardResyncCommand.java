@@ -0,0 +1,13 @@
+package org.tetris.network.comand;
+
+/**
+ * 델타 보드 동기화가 어긋났을 때(sequence 누락, checksum 불일치) 상대에게 키프레임 재전송을 요청하는 커맨드.
+ */
+public class RequestBoardResyncCommand implements GameCommand {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public void execute(GameCommandExecutor executor) {
+        executor.onBoardResyncRequested();
+    }
+}
@@ -0,0 +1,29 @@
+package org.tetris.network.comand;
+
+/**
+ * 락스텝 대전에서 주기적으로 보내는 상태 해시. 같은 틱의 해시가 다르면 두 클라이언트의 시뮬레이션이 어긋난 것입니다.
+ */
+public class StateHashCommand implements GameCommand {
+    private static final long serialVersionUID = 1L;
+
+    private final int tick;
+    private final long hash;
+
+    public StateHashCommand(int tick, long hash) {
+        this.tick = tick;
+        this.hash = hash;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    @Override
+    public void execute(GameCommandExecutor executor) {
+        executor.onStateHash(tick, hash);
+    }
+}
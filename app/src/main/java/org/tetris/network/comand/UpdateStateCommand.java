@@ -38,4 +38,16 @@ public class UpdateStateCommand implements GameCommand {
     public Point getCurrentPos() {
         return new Point(currentPosRow, currentPosCol);
     }
+
+    public int getCurrentPosRow() {
+        return currentPosRow;
+    }
+
+    public int getCurrentPosCol() {
+        return currentPosCol;
+    }
+
+    public int getScore() {
+        return score;
+    }
 }
@@ -5,6 +5,7 @@ import java.io.Serializable;
 import org.tetris.game.model.GameMode;
 
 public class MatchSettings implements Serializable {
+    // 필드를 추가해도 올리지 않음: 기존 프로그램은 모르는 필드를 무시하고, 없는 필드는 기본값(false/0)으로 읽힘
     private static final long serialVersionUID = 3L;
 
     private final int playerNumber; // 1 or 2 - 이 클라이언트가 Player 1인지 Player 2인지
@@ -12,13 +13,46 @@ public class MatchSettings implements Serializable {
     private final long otherSeed;
     private final GameMode gameMode;
     private final String difficulty;
+    // true면 락스텝 대전: 틱별 입력만 주고받고 두 보드를 양쪽이 각자 시드로 시뮬레이션
+    private final boolean lockstep;
+    // 상대 프로그램이 처리할 수 있는 커맨드 (FEATURE_*). 기존 서버가 보낸 설정에는 없으므로 0으로 읽힘
+    private final int opponentFeatures;
+
+    /**
+     * 상대가 BoardDeltaCommand / RequestBoardResyncCommand를 처리할 수 있음
+     */
+    public static final int FEATURE_BOARD_DELTA = 1;
+    /**
+     * 상대가 FrameInputCommand(프레임 번호가 찍힌 입력, 롤백 예측)를 처리할 수 있음
+     */
+    public static final int FEATURE_FRAME_INPUT = 2;
+    /**
+     * 상대가 락스텝 대전(LockstepInputCommand / StateHashCommand)을 처리할 수 있음
+     */
+    public static final int FEATURE_LOCKSTEP = 4;
+    /**
+     * 이 프로그램이 처리할 수 있는 모든 기능
+     */
+    public static final int ALL_FEATURES = FEATURE_BOARD_DELTA | FEATURE_FRAME_INPUT | FEATURE_LOCKSTEP;
 
     public MatchSettings(int playerNumber, long mySeed, long otherSeed, GameMode gameMode, String difficulty) {
+        this(playerNumber, mySeed, otherSeed, gameMode, difficulty, false);
+    }
+
+    public MatchSettings(int playerNumber, long mySeed, long otherSeed, GameMode gameMode, String difficulty,
+            boolean lockstep) {
+        this(playerNumber, mySeed, otherSeed, gameMode, difficulty, lockstep, ALL_FEATURES);
+    }
+
+    public MatchSettings(int playerNumber, long mySeed, long otherSeed, GameMode gameMode, String difficulty,
+            boolean lockstep, int opponentFeatures) {
         this.playerNumber = playerNumber;
         this.mySeed = mySeed;
         this.otherSeed = otherSeed;
         this.gameMode = gameMode;
         this.difficulty = difficulty;
+        this.lockstep = lockstep;
+        this.opponentFeatures = opponentFeatures;
     }
 
     public int getPlayerNumber() {
@@ -40,4 +74,33 @@ public class MatchSettings implements Serializable {
     public String getDifficulty() {
         return difficulty;
     }
+
+    public boolean isLockstep() {
+        return lockstep;
+    }
+
+    public int getOpponentFeatures() {
+        return opponentFeatures;
+    }
+
+    /**
+     * 상대가 feature(FEATURE_*)를 모두 지원하는지
+     */
+    public boolean opponentSupports(int feature) {
+        return (opponentFeatures & feature) == feature;
+    }
+
+    /**
+     * Player 1 보드의 시드 (양쪽 클라이언트에서 같은 값)
+     */
+    public long getPlayer1Seed() {
+        return playerNumber == 1 ? mySeed : otherSeed;
+    }
+
+    /**
+     * Player 2 보드의 시드 (양쪽 클라이언트에서 같은 값)
+     */
+    public long getPlayer2Seed() {
+        return playerNumber == 1 ? otherSeed : mySeed;
+    }
 }
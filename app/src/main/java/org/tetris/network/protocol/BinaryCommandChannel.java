@@ -0,0 +1,104 @@
+package org.tetris.network.protocol;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+
+import org.tetris.network.comand.Command;
+
+/**
+ * 길이 접두어(varint) + BinaryCommandCodec 페이로드로 이루어진 프레임을 주고받는 채널.
+ */
+public class BinaryCommandChannel implements CommandChannel {
+    // 비정상 프레임으로 인한 과도한 메모리 할당 방지
+    public static final int MAX_FRAME_SIZE = 1 << 20;
+
+    private final InputStream in;
+    private final OutputStream out;
+
+    // 송신용 버퍼 (write는 synchronized 이므로 재사용)
+    private final BinaryCommandCodec.Writer payload = new BinaryCommandCodec.Writer(256);
+    private final BinaryCommandCodec.Writer header = new BinaryCommandCodec.Writer(5);
+
+    // 수신용 버퍼 (수신 스레드 하나에서만 사용)
+    private byte[] readBuf = new byte[256];
+
+    public BinaryCommandChannel(InputStream in, OutputStream out) {
+        this.in = new BufferedInputStream(in);
+        this.out = new BufferedOutputStream(out);
+    }
+
+    @Override
+    public synchronized void send(Command command) throws IOException {
+        write(command);
+        out.flush();
+    }
+
+    @Override
+    public synchronized void write(Command command) throws IOException {
+        payload.reset();
+        BinaryCommandCodec.encode(command, payload);
+
+        header.reset();
+        header.writeVarInt(payload.size());
+
+        out.write(header.array(), 0, header.size());
+        out.write(payload.array(), 0, payload.size());
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public Command receive() throws IOException, ClassNotFoundException {
+        int length = readLength();
+        if (length <= 0 || length > MAX_FRAME_SIZE)
+            throw new StreamCorruptedException("잘못된 프레임 길이: " + length);
+
+        if (readBuf.length < length)
+            readBuf = new byte[Math.max(length, readBuf.length * 2)];
+
+        int read = 0;
+        while (read < length) {
+            int n = in.read(readBuf, read, length - read);
+            if (n < 0)
+                throw new EOFException("프레임 수신 중 연결이 끊어졌습니다.");
+            read += n;
+        }
+
+        return BinaryCommandCodec.decode(readBuf, length);
+    }
+
+    private int readLength() throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0)
+                throw new EOFException();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return result;
+        }
+        throw new StreamCorruptedException("잘못된 프레임 길이");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            in.close();
+        }
+    }
+
+    @Override
+    public String getProtocolName() {
+        return "binary";
+    }
+}
@@ -0,0 +1,609 @@
+package org.tetris.network.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.tetris.game.model.GameMode;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.network.comand.*;
+import org.tetris.network.dto.MatchSettings;
+import org.tetris.network.sync.BoardPacking;
+
+/**
+ * 커맨드를 1바이트 opcode + varint 필드로 인코딩/디코딩하는 바이너리 코덱.
+ * 프레임 길이 접두어는 BinaryCommandChannel이 붙이며, 이 클래스는 페이로드만 다룹니다.
+ * 여기에 등록되지 않은 커맨드는 OP_SERIALIZED로 Java 직렬화 바이트를 그대로 담아 보냅니다.
+ */
+public final class BinaryCommandCodec {
+
+    // ===== opcode =====
+    static final byte OP_MOVE_LEFT = 0x01;
+    static final byte OP_MOVE_RIGHT = 0x02;
+    static final byte OP_ROTATE = 0x03;
+    static final byte OP_SOFT_DROP = 0x04;
+    static final byte OP_HARD_DROP = 0x05;
+    static final byte OP_UPDATE_STATE = 0x06;
+    static final byte OP_PAUSE = 0x07;
+    static final byte OP_DISCONNECT = 0x08;
+    static final byte OP_GAME_RESULT = 0x09;
+    static final byte OP_GAME_START = 0x0A;
+    static final byte OP_PING = 0x0B;
+    static final byte OP_PING_INFO = 0x0C;
+    static final byte OP_PONG = 0x0D;
+    static final byte OP_PLAYER_CONNECTION = 0x0E;
+    static final byte OP_READY = 0x0F;
+    static final byte OP_REQUEST_SYNC = 0x10;
+    static final byte OP_RESTART = 0x11;
+    static final byte OP_SYNC_READY_STATE = 0x12;
+    static final byte OP_BOARD_DELTA = 0x13;
+    static final byte OP_REQUEST_BOARD_RESYNC = 0x14;
+    static final byte OP_FRAME_INPUT = 0x15;
+    static final byte OP_LOCKSTEP_INPUT = 0x16;
+    static final byte OP_STATE_HASH = 0x17;
+    // 바이너리 매핑이 없는 커맨드 (Java 직렬화 바이트)
+    static final byte OP_SERIALIZED = 0x7F;
+
+    // 수신한 보드 크기의 상한 (잘못된 프레임이 큰 배열을 만들지 않도록)
+    static final int MAX_BOARD_ROWS = 64;
+    static final int MAX_BOARD_COLS = Integer.SIZE - 1; // 행 비트마스크에 들어가는 열 수
+
+    private BinaryCommandCodec() {
+    }
+
+    // ===== 인코딩 =====
+
+    /**
+     * 커맨드를 out에 인코딩합니다. (out은 호출 전 비워져 있어야 함)
+     */
+    public static void encode(Command command, Writer out) throws IOException {
+        if (command instanceof MoveLeftCommand) {
+            out.writeByte(OP_MOVE_LEFT);
+        } else if (command instanceof MoveRightCommand) {
+            out.writeByte(OP_MOVE_RIGHT);
+        } else if (command instanceof RotateCommand) {
+            out.writeByte(OP_ROTATE);
+        } else if (command instanceof SoftDropCommand) {
+            out.writeByte(OP_SOFT_DROP);
+        } else if (command instanceof HardDropCommand) {
+            out.writeByte(OP_HARD_DROP);
+        } else if (command instanceof UpdateStateCommand cmd) {
+            out.writeByte(OP_UPDATE_STATE);
+            writeBoard(out, cmd.getBoard());
+            out.writeSignedVarInt(cmd.getCurrentPosRow());
+            out.writeSignedVarInt(cmd.getCurrentPosCol());
+            out.writeSignedVarInt(cmd.getScore());
+        } else if (command instanceof PauseCommand cmd) {
+            out.writeByte(OP_PAUSE);
+            out.writeBoolean(cmd.isPaused());
+        } else if (command instanceof DisconnectCommand cmd) {
+            out.writeByte(OP_DISCONNECT);
+            out.writeString(cmd.getReason());
+        } else if (command instanceof GameResultCommand cmd) {
+            out.writeByte(OP_GAME_RESULT);
+            out.writeBoolean(cmd.isWinner());
+            out.writeSignedVarInt(cmd.getScore());
+        } else if (command instanceof GameStartCommand cmd) {
+            out.writeByte(OP_GAME_START);
+            writeSettings(out, cmd.getSettings());
+        } else if (command instanceof PingCommand cmd) {
+            out.writeByte(OP_PING);
+            out.writeSignedVarLong(cmd.getTimestamp());
+        } else if (command instanceof PingInfoCommand cmd) {
+            out.writeByte(OP_PING_INFO);
+            out.writeSignedVarLong(cmd.getPing());
+        } else if (command instanceof PongCommand cmd) {
+            out.writeByte(OP_PONG);
+            out.writeSignedVarLong(cmd.getOriginalTimestamp());
+        } else if (command instanceof PlayerConnectionCommand cmd) {
+            out.writeByte(OP_PLAYER_CONNECTION);
+            out.writeBoolean(cmd.isOpponentConnected());
+        } else if (command instanceof ReadyCommand cmd) {
+            out.writeByte(OP_READY);
+            out.writeBoolean(cmd.getIsReady());
+        } else if (command instanceof RequestSyncCommand) {
+            out.writeByte(OP_REQUEST_SYNC);
+        } else if (command instanceof RestartCommand) {
+            out.writeByte(OP_RESTART);
+        } else if (command instanceof SyncReadyStateCommand cmd) {
+            out.writeByte(OP_SYNC_READY_STATE);
+            out.writeBoolean(cmd.isOpponentReady());
+        } else if (command instanceof BoardDeltaCommand cmd) {
+            out.writeByte(OP_BOARD_DELTA);
+            writeBoardDelta(out, cmd);
+        } else if (command instanceof RequestBoardResyncCommand) {
+            out.writeByte(OP_REQUEST_BOARD_RESYNC);
+        } else if (command instanceof FrameInputCommand cmd) {
+            out.writeByte(OP_FRAME_INPUT);
+            out.writeVarInt(cmd.getFrame());
+            out.writeVarInt(cmd.getInput().ordinal());
+        } else if (command instanceof LockstepInputCommand cmd) {
+            out.writeByte(OP_LOCKSTEP_INPUT);
+            out.writeVarInt(cmd.getTick());
+            out.writeVarInt(cmd.getInputs());
+        } else if (command instanceof StateHashCommand cmd) {
+            out.writeByte(OP_STATE_HASH);
+            out.writeVarInt(cmd.getTick());
+            out.writeLong(cmd.getHash());
+        } else {
+            out.writeByte(OP_SERIALIZED);
+            out.writeBytes(serialize(command));
+        }
+    }
+
+    /**
+     * 커맨드를 새 바이트 배열로 인코딩합니다. (테스트/벤치마크용)
+     */
+    public static byte[] encode(Command command) throws IOException {
+        Writer out = new Writer(64);
+        encode(command, out);
+        return out.toByteArray();
+    }
+
+    // 행마다 점유 비트마스크(varint) + 채워진 칸의 값(varint)만 기록
+    private static void writeBoard(Writer out, int[][] board) {
+        int rows = board.length;
+        int cols = rows == 0 ? 0 : board[0].length;
+        out.writeVarInt(rows);
+        out.writeVarInt(cols);
+
+        for (int[] row : board) {
+            int mask = 0;
+            for (int c = 0; c < cols; c++) {
+                if (row[c] != 0)
+                    mask |= 1 << c;
+            }
+            out.writeVarInt(mask);
+            for (int c = 0; c < cols; c++) {
+                if (row[c] != 0)
+                    out.writeSignedVarInt(row[c]);
+            }
+        }
+    }
+
+    // 바뀐 행마다 행 번호(varint) + 4비트 압축 행(varlong)
+    private static void writeBoardDelta(Writer out, BoardDeltaCommand delta) {
+        out.writeVarInt(delta.getSequence());
+        out.writeVarInt(delta.getBaseSequence());
+        out.writeBoolean(delta.isKeyframe());
+        out.writeVarInt(delta.getRows());
+        out.writeVarInt(delta.getCols());
+
+        int[] rowIndices = delta.getRowIndices();
+        long[] packedRows = delta.getPackedRows();
+        out.writeVarInt(rowIndices.length);
+        for (int i = 0; i < rowIndices.length; i++) {
+            out.writeVarInt(rowIndices[i]);
+            out.writeVarLong(packedRows[i]);
+        }
+
+        out.writeSignedVarInt(delta.getChecksum());
+        out.writeSignedVarInt(delta.getCurrentPosRow());
+        out.writeSignedVarInt(delta.getCurrentPosCol());
+        out.writeSignedVarInt(delta.getScore());
+    }
+
+    private static void writeSettings(Writer out, MatchSettings settings) {
+        out.writeVarInt(settings.getPlayerNumber());
+        out.writeSignedVarLong(settings.getMySeed());
+        out.writeSignedVarLong(settings.getOtherSeed());
+        // null 표현을 위해 ordinal + 1 (0 = null)
+        out.writeVarInt(settings.getGameMode() == null ? 0 : settings.getGameMode().ordinal() + 1);
+        out.writeString(settings.getDifficulty());
+        out.writeBoolean(settings.isLockstep());
+        out.writeVarInt(settings.getOpponentFeatures());
+    }
+
+    private static byte[] serialize(Command command) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(command);
+        }
+        return bytes.toByteArray();
+    }
+
+    // ===== 디코딩 =====
+
+    /**
+     * 페이로드(buf[0, length))를 커맨드로 디코딩합니다.
+     */
+    public static Command decode(byte[] buf, int length) throws IOException, ClassNotFoundException {
+        return decode(buf, 0, length);
+    }
+
+    /**
+     * 페이로드(buf[offset, offset + length))를 커맨드로 디코딩합니다.
+     * 잘못된 페이로드는 항상 검사 예외(StreamCorruptedException 등)로 거부합니다. (받는 쪽 루프가 unchecked 예외로 죽지 않도록)
+     */
+    public static Command decode(byte[] buf, int offset, int length) throws IOException, ClassNotFoundException {
+        try {
+            return decodeFrame(buf, offset, length);
+        } catch (RuntimeException e) {
+            StreamCorruptedException corrupted = new StreamCorruptedException("잘못된 프레임: " + e);
+            corrupted.initCause(e);
+            throw corrupted;
+        }
+    }
+
+    /**
+     * 페이로드가 Java 직렬화 바이트를 담은 프레임(OP_SERIALIZED)인지 확인합니다. (바이너리 전용 서버에서 거부용)
+     */
+    public static boolean isSerializedFrame(byte[] buf, int offset, int length) {
+        return length > 0 && buf[offset] == OP_SERIALIZED;
+    }
+
+    private static Command decodeFrame(byte[] buf, int offset, int length) throws IOException, ClassNotFoundException {
+        Reader in = new Reader(buf, offset, offset + length);
+        byte op = in.readByte();
+
+        Command command;
+        switch (op) {
+            case OP_MOVE_LEFT:
+                command = new MoveLeftCommand();
+                break;
+            case OP_MOVE_RIGHT:
+                command = new MoveRightCommand();
+                break;
+            case OP_ROTATE:
+                command = new RotateCommand();
+                break;
+            case OP_SOFT_DROP:
+                command = new SoftDropCommand();
+                break;
+            case OP_HARD_DROP:
+                command = new HardDropCommand();
+                break;
+            case OP_UPDATE_STATE: {
+                int[][] board = readBoard(in);
+                int row = in.readSignedVarInt();
+                int col = in.readSignedVarInt();
+                int score = in.readSignedVarInt();
+                command = new UpdateStateCommand(board, row, col, score);
+                break;
+            }
+            case OP_PAUSE:
+                command = new PauseCommand(in.readBoolean());
+                break;
+            case OP_DISCONNECT:
+                command = new DisconnectCommand(in.readString());
+                break;
+            case OP_GAME_RESULT: {
+                boolean isWinner = in.readBoolean();
+                command = new GameResultCommand(isWinner, in.readSignedVarInt());
+                break;
+            }
+            case OP_GAME_START:
+                command = new GameStartCommand(readSettings(in));
+                break;
+            case OP_PING:
+                command = new PingCommand(in.readSignedVarLong());
+                break;
+            case OP_PING_INFO:
+                command = new PingInfoCommand(in.readSignedVarLong());
+                break;
+            case OP_PONG:
+                command = new PongCommand(in.readSignedVarLong());
+                break;
+            case OP_PLAYER_CONNECTION:
+                command = new PlayerConnectionCommand(in.readBoolean());
+                break;
+            case OP_READY:
+                command = new ReadyCommand(in.readBoolean());
+                break;
+            case OP_REQUEST_SYNC:
+                command = new RequestSyncCommand();
+                break;
+            case OP_RESTART:
+                command = new RestartCommand();
+                break;
+            case OP_SYNC_READY_STATE:
+                command = new SyncReadyStateCommand(in.readBoolean());
+                break;
+            case OP_BOARD_DELTA:
+                command = readBoardDelta(in);
+                break;
+            case OP_REQUEST_BOARD_RESYNC:
+                command = new RequestBoardResyncCommand();
+                break;
+            case OP_FRAME_INPUT: {
+                int frame = in.readVarInt();
+                command = new FrameInputCommand(frame, readInput(in));
+                break;
+            }
+            case OP_LOCKSTEP_INPUT: {
+                int tick = in.readVarInt();
+                command = new LockstepInputCommand(tick, in.readVarInt());
+                break;
+            }
+            case OP_STATE_HASH: {
+                int tick = in.readVarInt();
+                command = new StateHashCommand(tick, in.readLong());
+                break;
+            }
+            case OP_SERIALIZED:
+                command = deserialize(in.readRemaining());
+                break;
+            default:
+                throw new StreamCorruptedException("알 수 없는 opcode: " + op);
+        }
+
+        if (in.remaining() != 0)
+            throw new StreamCorruptedException("프레임 끝에 남은 바이트: " + in.remaining());
+        return command;
+    }
+
+    private static int[][] readBoard(Reader in) throws IOException {
+        int rows = in.readVarInt();
+        int cols = in.readVarInt();
+        checkBoardSize(rows, cols, MAX_BOARD_COLS);
+
+        int[][] board = new int[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            int mask = in.readVarInt();
+            for (int c = 0; c < cols; c++) {
+                if ((mask & (1 << c)) != 0)
+                    board[r][c] = in.readSignedVarInt();
+            }
+        }
+        return board;
+    }
+
+    private static BoardDeltaCommand readBoardDelta(Reader in) throws IOException {
+        int sequence = in.readVarInt();
+        int baseSequence = in.readVarInt();
+        boolean keyframe = in.readBoolean();
+        int rows = in.readVarInt();
+        int cols = in.readVarInt();
+        checkBoardSize(rows, cols, BoardPacking.MAX_WIDTH);
+
+        int count = in.readVarInt();
+        if (count < 0 || count > rows)
+            throw new StreamCorruptedException("델타 행 수가 보드 높이보다 큽니다: " + count);
+        int[] rowIndices = new int[count];
+        long[] packedRows = new long[count];
+        for (int i = 0; i < count; i++) {
+            rowIndices[i] = in.readVarInt();
+            packedRows[i] = in.readVarLong();
+        }
+
+        int checksum = in.readSignedVarInt();
+        int row = in.readSignedVarInt();
+        int col = in.readSignedVarInt();
+        int score = in.readSignedVarInt();
+        return new BoardDeltaCommand(sequence, baseSequence, keyframe, rows, cols, rowIndices, packedRows,
+                checksum, row, col, score);
+    }
+
+    private static void checkBoardSize(int rows, int cols, int maxCols) throws StreamCorruptedException {
+        if (rows <= 0 || rows > MAX_BOARD_ROWS)
+            throw new StreamCorruptedException("잘못된 보드 높이: " + rows);
+        if (cols <= 0 || cols > maxCols)
+            throw new StreamCorruptedException("잘못된 보드 너비: " + cols);
+    }
+
+    private static GameSimulation.Input readInput(Reader in) throws IOException {
+        int ordinal = in.readVarInt();
+        GameSimulation.Input[] inputs = GameSimulation.Input.values();
+        if (ordinal < 0 || ordinal >= inputs.length)
+            throw new StreamCorruptedException("알 수 없는 입력: " + ordinal);
+        return inputs[ordinal];
+    }
+
+    private static MatchSettings readSettings(Reader in) throws IOException {
+        int playerNumber = in.readVarInt();
+        long mySeed = in.readSignedVarLong();
+        long otherSeed = in.readSignedVarLong();
+        int mode = in.readVarInt();
+        GameMode[] modes = GameMode.values();
+        if (mode < 0 || mode > modes.length)
+            throw new StreamCorruptedException("알 수 없는 게임 모드: " + mode);
+        GameMode gameMode = mode == 0 ? null : modes[mode - 1];
+        String difficulty = in.readString();
+        boolean lockstep = in.readBoolean();
+        int opponentFeatures = in.readVarInt();
+        return new MatchSettings(playerNumber, mySeed, otherSeed, gameMode, difficulty, lockstep, opponentFeatures);
+    }
+
+    private static Command deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            Object object = ois.readObject();
+            if (!(object instanceof Command))
+                throw new StreamCorruptedException("커맨드가 아닌 객체: "
+                        + (object == null ? "null" : object.getClass().getName()));
+            return (Command) object;
+        }
+    }
+
+    // ===== varint 버퍼 =====
+
+    /**
+     * 재사용 가능한 가변 길이 바이트 버퍼 (varint / zigzag 인코딩)
+     */
+    public static final class Writer {
+        private byte[] buf;
+        private int size;
+
+        public Writer(int capacity) {
+            buf = new byte[Math.max(16, capacity)];
+        }
+
+        public void reset() {
+            size = 0;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public byte[] array() {
+            return buf;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length)
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+        }
+
+        public void writeByte(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        public void writeBoolean(boolean v) {
+            writeByte(v ? 1 : 0);
+        }
+
+        public void writeVarInt(int v) {
+            ensure(5);
+            while ((v & ~0x7F) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        public void writeSignedVarInt(int v) {
+            writeVarInt((v << 1) ^ (v >> 31));
+        }
+
+        public void writeVarLong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        public void writeSignedVarLong(long v) {
+            writeVarLong((v << 1) ^ (v >> 63));
+        }
+
+        // 해시처럼 상위 비트까지 고르게 쓰이는 값은 varint보다 고정 8바이트가 짧음
+        public void writeLong(long v) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[size++] = (byte) (v >>> shift);
+            }
+        }
+
+        public void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        // 길이 + 1 (0 = null) 다음에 UTF-8 바이트
+        public void writeString(String s) {
+            if (s == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes);
+        }
+    }
+
+    /**
+     * 페이로드 읽기용 커서
+     */
+    static final class Reader {
+        private final byte[] buf;
+        private final int limit;
+        private int pos;
+
+        Reader(byte[] buf, int limit) {
+            this(buf, 0, limit);
+        }
+
+        Reader(byte[] buf, int offset, int limit) {
+            this.buf = buf;
+            this.pos = offset;
+            this.limit = limit;
+        }
+
+        int remaining() {
+            return limit - pos;
+        }
+
+        byte readByte() throws IOException {
+            if (pos >= limit)
+                throw new StreamCorruptedException("프레임이 예상보다 짧습니다.");
+            return buf[pos++];
+        }
+
+        boolean readBoolean() throws IOException {
+            return readByte() != 0;
+        }
+
+        int readVarInt() throws IOException {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return result;
+            }
+            throw new StreamCorruptedException("잘못된 varint");
+        }
+
+        int readSignedVarInt() throws IOException {
+            int v = readVarInt();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long readVarLong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return result;
+            }
+            throw new StreamCorruptedException("잘못된 varint");
+        }
+
+        long readSignedVarLong() throws IOException {
+            long v = readVarLong();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long readLong() throws IOException {
+            long result = 0;
+            for (int i = 0; i < 8; i++) {
+                result = (result << 8) | (readByte() & 0xFF);
+            }
+            return result;
+        }
+
+        String readString() throws IOException {
+            int len = readVarInt();
+            if (len == 0)
+                return null;
+            if (len < 0)
+                throw new StreamCorruptedException("잘못된 문자열 길이: " + len);
+            len -= 1;
+            if (len > remaining())
+                throw new StreamCorruptedException("문자열 길이가 프레임을 넘습니다.");
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+
+        byte[] readRemaining() {
+            byte[] bytes = Arrays.copyOfRange(buf, pos, limit);
+            pos = limit;
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.tetris.network.protocol;
+
+import java.io.IOException;
+
+import org.tetris.network.comand.BoardDeltaCommand;
+import org.tetris.network.comand.Command;
+import org.tetris.network.comand.FrameInputCommand;
+import org.tetris.network.comand.LockstepInputCommand;
+import org.tetris.network.comand.PingCommand;
+import org.tetris.network.comand.PingInfoCommand;
+import org.tetris.network.comand.PongCommand;
+import org.tetris.network.comand.StateHashCommand;
+
+/**
+ * 소켓 위에서 커맨드를 주고받는 채널.
+ * 연결 시 ProtocolNegotiator가 양쪽이 지원하는 방식(바이너리 / Java 직렬화)으로 생성합니다.
+ * send/write/flush는 여러 스레드에서 동시에 호출해도 되며, receive는 수신 스레드 하나에서만 호출해야 합니다.
+ */
+public interface CommandChannel {
+    /**
+     * 커맨드를 전송하고 즉시 flush 합니다.
+     */
+    void send(Command command) throws IOException;
+
+    /**
+     * 커맨드를 송신 버퍼에만 기록합니다. (여러 개를 모아 flush 한 번으로 보낼 때 사용)
+     */
+    void write(Command command) throws IOException;
+
+    /**
+     * write로 모아 둔 데이터를 소켓으로 내보냅니다.
+     */
+    void flush() throws IOException;
+
+    /**
+     * 다음 커맨드를 수신합니다. (Blocking)
+     */
+    Command receive() throws IOException, ClassNotFoundException;
+
+    void close() throws IOException;
+
+    /**
+     * 로그 출력용 프로토콜 이름
+     */
+    String getProtocolName();
+
+    /**
+     * 상대가 협상을 모르는 기존(직렬화 전용) 프로그램인지.
+     * 이 시리즈에서 추가한 커맨드 클래스를 역직렬화하지 못하므로 보내면 안 됩니다.
+     */
+    default boolean isLegacyPeer() {
+        return false;
+    }
+
+    /**
+     * 매 틱/프레임 또는 주기적으로 오가는 커맨드인지. 수신 로그에서 제외할 때 사용합니다.
+     */
+    static boolean isHighFrequency(Command command) {
+        return command instanceof FrameInputCommand
+                || command instanceof LockstepInputCommand
+                || command instanceof StateHashCommand
+                || command instanceof BoardDeltaCommand
+                || command instanceof PingCommand
+                || command instanceof PongCommand
+                || command instanceof PingInfoCommand;
+    }
+}
@@ -0,0 +1,91 @@
+package org.tetris.network.protocol;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import org.tetris.network.comand.Command;
+
+/**
+ * 기존 Java 직렬화(ObjectOutputStream) 기반 채널. 바이너리 프로토콜을 지원하지 않는 상대와 통신할 때 사용합니다.
+ */
+public class ObjectCommandChannel implements CommandChannel {
+    private final ObjectOutputStream oos;
+    private final ObjectInputStream ois;
+    private boolean legacyPeer = false;
+
+    public ObjectCommandChannel(InputStream in, OutputStream out) throws IOException {
+        this(in, out, true);
+    }
+
+    /**
+     * @param writeHeader false면 직렬화 스트림 헤더를 보내지 않음 (협상 중 이미 보낸 경우)
+     */
+    public ObjectCommandChannel(InputStream in, OutputStream out, boolean writeHeader) throws IOException {
+        // 양쪽이 모두 출력 스트림 헤더를 먼저 보내야 입력 스트림 생성이 블로킹되지 않음
+        this.oos = writeHeader
+                ? new ObjectOutputStream(new BufferedOutputStream(out))
+                : new ObjectOutputStream(new BufferedOutputStream(out)) {
+                    @Override
+                    protected void writeStreamHeader() {
+                    }
+                };
+        this.oos.flush();
+        this.ois = new ObjectInputStream(in);
+    }
+
+    @Override
+    public void send(Command command) throws IOException {
+        synchronized (oos) {
+            oos.writeObject(command);
+            oos.flush();
+        }
+    }
+
+    @Override
+    public void write(Command command) throws IOException {
+        synchronized (oos) {
+            oos.writeObject(command);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (oos) {
+            oos.flush();
+        }
+    }
+
+    @Override
+    public Command receive() throws IOException, ClassNotFoundException {
+        return (Command) ois.readObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            oos.close();
+        } finally {
+            ois.close();
+        }
+    }
+
+    @Override
+    public String getProtocolName() {
+        return legacyPeer ? "serialization (legacy)" : "serialization";
+    }
+
+    @Override
+    public boolean isLegacyPeer() {
+        return legacyPeer;
+    }
+
+    // 협상 중 상대를 기존 프로그램으로 판단한 경우 (ProtocolNegotiator)
+    ObjectCommandChannel markLegacyPeer() {
+        legacyPeer = true;
+        return this;
+    }
+}
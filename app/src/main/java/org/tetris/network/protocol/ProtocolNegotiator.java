@@ -0,0 +1,220 @@
+package org.tetris.network.protocol;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.StreamCorruptedException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+
+/**
+ * 연결 직후 사용할 커맨드 프로토콜을 협상합니다.
+ *
+ * 기존(직렬화 전용) 프로그램은 양쪽 모두 연결 즉시 ObjectOutputStream 헤더(0xACED0005)를 보내고 상대의 헤더를 기다립니다.
+ * 1. 새 클라이언트는 연결 즉시 직렬화 헤더 + TC_RESET(0x79)을 보냅니다.
+ *    기존 서버에게는 올바른 스트림 헤더와 아무 일도 하지 않는 리셋일 뿐이므로 그대로 직렬화로 통신할 수 있습니다.
+ * 2. 서버는 헤더 다음 바이트가 TC_RESET이면 새 클라이언트로 보고 곧바로 HELLO(매직 + 지원 프로토콜)를 보냅니다.
+ *    기존 클라이언트는 헤더 뒤에 커맨드를 보내기 전까지 아무것도 보내지 않으므로,
+ *    잠시 기다려도 다음 바이트가 오지 않는 경우에만 기존 클라이언트로 판단합니다. (새 클라이언트는 기다리지 않음)
+ * 3. 클라이언트는 첫 4바이트가 직렬화 헤더면(기존 서버) 기존 방식, HELLO면 사용할 프로토콜을 골라 응답합니다.
+ */
+public final class ProtocolNegotiator {
+
+    // 'T' '7' 'P' + 버전 (직렬화 헤더 0xAC와 첫 바이트가 겹치지 않음)
+    static final byte[] MAGIC = { 'T', '7', 'P', 1 };
+    static final byte[] SERIALIZATION_HEADER = { (byte) 0xAC, (byte) 0xED, 0x00, 0x05 };
+    // ObjectStreamConstants.TC_RESET: 기존 ObjectInputStream이 무시하고 넘어가는 바이트
+    static final int TC_RESET = 0x79;
+    // 새 클라이언트가 연결 즉시 보내는 바이트 (직렬화 헤더 + TC_RESET)
+    static final byte[] CLIENT_PREAMBLE = { (byte) 0xAC, (byte) 0xED, 0x00, 0x05, (byte) TC_RESET };
+
+    static final int CODEC_SERIALIZATION = 0x01;
+    static final int CODEC_BINARY = 0x02;
+
+    // 직렬화 헤더 다음 바이트가 없을 때 기존 클라이언트로 판단하기까지 서버가 기다리는 시간
+    static final int LEGACY_DETECT_TIMEOUT_MS = 300;
+    // 협상 메시지 전체 대기 시간
+    static final int HANDSHAKE_TIMEOUT_MS = 5000;
+
+    // false면 바이너리를 제안/선택하지 않음 (디버깅 및 호환성 테스트용)
+    private static volatile boolean binaryEnabled = true;
+
+    private ProtocolNegotiator() {
+    }
+
+    public static void setBinaryEnabled(boolean enabled) {
+        binaryEnabled = enabled;
+    }
+
+    public static boolean isBinaryEnabled() {
+        return binaryEnabled;
+    }
+
+    /**
+     * 서버 측 협상. 클라이언트 소켓을 받은 직후 호출합니다.
+     */
+    public static CommandChannel acceptServer(Socket socket) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(socket.getInputStream(), CLIENT_PREAMBLE.length);
+        OutputStream out = socket.getOutputStream();
+        int prevTimeout = socket.getSoTimeout();
+
+        try {
+            // 1) 새 클라이언트와 기존 클라이언트 모두 연결 즉시 직렬화 헤더를 보냄
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            byte[] first = new byte[SERIALIZATION_HEADER.length];
+            readFully(in, first);
+            if (!Arrays.equals(first, SERIALIZATION_HEADER))
+                throw new StreamCorruptedException("알 수 없는 클라이언트 프로토콜");
+
+            // 헤더 다음이 TC_RESET이 아니거나 잠시 기다려도 오지 않으면 기존 클라이언트
+            socket.setSoTimeout(LEGACY_DETECT_TIMEOUT_MS);
+            int next = readByteUntilTimeout(in);
+            if (next != TC_RESET) {
+                if (next >= 0)
+                    in.unread(next);
+                in.unread(first);
+                return new ObjectCommandChannel(in, out).markLegacyPeer();
+            }
+
+            // 2) 새 클라이언트: 바로 HELLO 전송 후 클라이언트 선택 수신
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            int supported = CODEC_SERIALIZATION | (binaryEnabled ? CODEC_BINARY : 0);
+            out.write(MAGIC);
+            out.write(supported);
+            out.flush();
+
+            byte[] reply = new byte[MAGIC.length + 1];
+            readFully(in, reply);
+            if (!Arrays.equals(Arrays.copyOf(reply, MAGIC.length), MAGIC))
+                throw new StreamCorruptedException("잘못된 프로토콜 협상 응답");
+
+            int chosen = reply[MAGIC.length];
+            if ((chosen & supported) == 0)
+                throw new StreamCorruptedException("지원하지 않는 프로토콜: " + chosen);
+
+            return createChannel(chosen, in, out);
+        } finally {
+            socket.setSoTimeout(prevTimeout);
+        }
+    }
+
+    /**
+     * 클라이언트 측 협상. 서버에 연결한 직후 호출합니다.
+     */
+    public static CommandChannel connectClient(Socket socket) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(socket.getInputStream(), MAGIC.length);
+        OutputStream out = socket.getOutputStream();
+        int prevTimeout = socket.getSoTimeout();
+
+        try {
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            out.write(CLIENT_PREAMBLE);
+            out.flush();
+
+            byte[] first = new byte[MAGIC.length];
+            readFully(in, first);
+
+            // 기존 서버: 직렬화 헤더를 돌려놓고 그대로 직렬화 채널 생성 (우리 헤더는 이미 보냄)
+            if (Arrays.equals(first, SERIALIZATION_HEADER)) {
+                in.unread(first);
+                return new ObjectCommandChannel(in, out, false).markLegacyPeer();
+            }
+
+            if (!Arrays.equals(first, MAGIC))
+                throw new StreamCorruptedException("알 수 없는 서버 프로토콜");
+
+            int supported = in.read();
+            if (supported < 0)
+                throw new EOFException();
+
+            int chosen = (binaryEnabled && (supported & CODEC_BINARY) != 0)
+                    ? CODEC_BINARY
+                    : CODEC_SERIALIZATION;
+            out.write(MAGIC);
+            out.write(chosen);
+            out.flush();
+
+            return createChannel(chosen, in, out);
+        } finally {
+            socket.setSoTimeout(prevTimeout);
+        }
+    }
+
+    /**
+     * 논블로킹 서버(NioGameServer)용 HELLO 메시지. 바이너리 프로토콜만 제안합니다.
+     * 이 서버는 기존 클라이언트를 받지 않으므로 클라이언트의 첫 바이트를 기다리지 않고 연결 즉시 보냅니다.
+     */
+    public static byte[] binaryOnlyHello() {
+        byte[] hello = Arrays.copyOf(MAGIC, MAGIC.length + 1);
+        hello[MAGIC.length] = CODEC_BINARY;
+        return hello;
+    }
+
+    /**
+     * 새 클라이언트가 연결 즉시 보내는 바이트 길이 (HELLO 응답 앞에 옴)
+     */
+    public static int clientPreambleLength() {
+        return CLIENT_PREAMBLE.length;
+    }
+
+    /**
+     * data[offset, offset + clientPreambleLength())가 새 클라이언트의 첫 바이트인지 확인합니다.
+     */
+    public static boolean isClientPreamble(byte[] data, int offset) {
+        for (int i = 0; i < CLIENT_PREAMBLE.length; i++) {
+            if (data[offset + i] != CLIENT_PREAMBLE[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * HELLO에 대한 클라이언트 응답 길이 (매직 + 선택한 프로토콜)
+     */
+    public static int clientReplyLength() {
+        return MAGIC.length + 1;
+    }
+
+    /**
+     * 클라이언트 응답(reply[offset, offset + clientReplyLength()))이 바이너리 선택인지 확인합니다.
+     */
+    public static boolean isBinaryReply(byte[] reply, int offset) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (reply[offset + i] != MAGIC[i])
+                return false;
+        }
+        return reply[offset + MAGIC.length] == CODEC_BINARY;
+    }
+
+    private static CommandChannel createChannel(int codec, InputStream in, OutputStream out) throws IOException {
+        if (codec == CODEC_BINARY)
+            return new BinaryCommandChannel(in, out);
+        return new ObjectCommandChannel(in, out);
+    }
+
+    // 타임아웃 전에 온 바이트 하나 (아무것도 오지 않았으면 -1)
+    private static int readByteUntilTimeout(InputStream in) throws IOException {
+        int b;
+        try {
+            b = in.read();
+        } catch (SocketTimeoutException e) {
+            return -1;
+        }
+        if (b < 0)
+            throw new EOFException();
+        return b;
+    }
+
+    private static void readFully(InputStream in, byte[] buf) throws IOException {
+        int read = 0;
+        while (read < buf.length) {
+            int n = in.read(buf, read, buf.length - read);
+            if (n < 0)
+                throw new EOFException("프로토콜 협상 중 연결이 끊어졌습니다.");
+            read += n;
+        }
+    }
+}
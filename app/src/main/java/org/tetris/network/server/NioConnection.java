@@ -0,0 +1,232 @@
+package org.tetris.network.server;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.tetris.network.GameRoom;
+import org.tetris.network.MpscBoundedQueue;
+import org.tetris.network.comand.Command;
+import org.tetris.network.protocol.BinaryCommandChannel;
+import org.tetris.network.protocol.BinaryCommandCodec;
+import org.tetris.network.protocol.ProtocolNegotiator;
+
+/**
+ * NioGameServer의 클라이언트 연결 하나.
+ * 읽기/쓰기는 셀렉터 스레드에서만 수행하고, sendCommand는 어느 스레드에서든 호출할 수 있습니다.
+ * 프레임 형식은 BinaryCommandChannel과 같습니다. (varint 길이 + BinaryCommandCodec 페이로드)
+ */
+final class NioConnection implements GameRoom.Member {
+    // 상대가 읽지 않아 쌓인 송신 데이터가 이보다 커지면 연결을 끊음
+    static final int MAX_PENDING_BYTES = 1 << 20;
+    // 인코딩 전 대기 커맨드 수 한도 (넘치면 연결을 끊음)
+    static final int OUTBOX_CAPACITY = 1024;
+
+    private final NioGameServer server;
+    private final SocketChannel channel;
+    private SelectionKey key;
+
+    private ByteBuffer in = ByteBuffer.allocate(1024);
+    // 쓰기 모드 유지 (position = 보낼 데이터 끝)
+    private ByteBuffer out = ByteBuffer.allocate(1024);
+
+    private final MpscBoundedQueue<Command> outbox = new MpscBoundedQueue<>(OUTBOX_CAPACITY);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private volatile boolean overflowed = false;
+    private final BinaryCommandCodec.Writer payload = new BinaryCommandCodec.Writer(256);
+    private final BinaryCommandCodec.Writer header = new BinaryCommandCodec.Writer(5);
+
+    private boolean preambleRead = false;
+    private boolean handshaken = false;
+    private GameRoom room;
+    private volatile boolean closed = false;
+
+    NioConnection(NioGameServer server, SocketChannel channel) {
+        this.server = server;
+        this.channel = channel;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    GameRoom getRoom() {
+        return room;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 바이너리 전용 HELLO를 보냅니다. (클라이언트 ProtocolNegotiator.connectClient가 응답)
+     */
+    void sendHello() throws IOException {
+        out.put(ProtocolNegotiator.binaryOnlyHello());
+        flush();
+    }
+
+    @Override
+    public void sendCommand(Command command) {
+        if (closed || command == null)
+            return;
+        if (!outbox.offer(command))
+            overflowed = true;
+        if (flushScheduled.compareAndSet(false, true))
+            server.requestFlush(this);
+    }
+
+    /**
+     * 쌓인 커맨드를 모두 인코딩해 한 번에 씁니다. (셀렉터 스레드)
+     * 다 쓰지 못하면 OP_WRITE를 등록해 소켓이 비워질 때 이어서 씁니다.
+     */
+    void flush() throws IOException {
+        flushScheduled.set(false);
+        if (overflowed)
+            throw new IOException("송신 큐 초과 (상대가 데이터를 읽지 않음)");
+
+        Command command;
+        while ((command = outbox.poll()) != null)
+            writeFrame(command);
+
+        if (out.position() > 0) {
+            out.flip();
+            channel.write(out);
+            out.compact();
+        }
+
+        int ops = key.interestOps();
+        int wanted = out.position() > 0 ? (ops | SelectionKey.OP_WRITE) : (ops & ~SelectionKey.OP_WRITE);
+        if (wanted != ops)
+            key.interestOps(wanted);
+    }
+
+    private void writeFrame(Command command) throws IOException {
+        payload.reset();
+        BinaryCommandCodec.encode(command, payload);
+        header.reset();
+        header.writeVarInt(payload.size());
+
+        int frameSize = header.size() + payload.size();
+        if (out.remaining() < frameSize) {
+            int needed = out.position() + frameSize;
+            if (needed > MAX_PENDING_BYTES)
+                throw new IOException("송신 버퍼 초과 (상대가 데이터를 읽지 않음)");
+            ByteBuffer grown = ByteBuffer.allocate(Math.min(MAX_PENDING_BYTES, Math.max(needed, out.capacity() * 2)));
+            out.flip();
+            grown.put(out);
+            out = grown;
+        }
+        out.put(header.array(), 0, header.size());
+        out.put(payload.array(), 0, payload.size());
+    }
+
+    /**
+     * 소켓에서 읽을 수 있는 만큼 읽고 완성된 프레임을 처리합니다. (셀렉터 스레드)
+     *
+     * @return 연결이 끊겼으면 false
+     */
+    boolean read() throws IOException, ClassNotFoundException {
+        int n = channel.read(in);
+        if (n < 0)
+            return false;
+
+        in.flip();
+        try {
+            processFrames();
+        } finally {
+            in.compact();
+        }
+        return true;
+    }
+
+    private void processFrames() throws IOException, ClassNotFoundException {
+        while (!closed) {
+            if (!preambleRead) {
+                // 새 클라이언트가 HELLO 응답 앞에 보내는 직렬화 헤더 + TC_RESET
+                int preambleLength = ProtocolNegotiator.clientPreambleLength();
+                if (in.remaining() < preambleLength)
+                    return;
+                if (!ProtocolNegotiator.isClientPreamble(in.array(), in.position()))
+                    throw new StreamCorruptedException("알 수 없는 클라이언트 프로토콜");
+                in.position(in.position() + preambleLength);
+                preambleRead = true;
+                continue;
+            }
+
+            if (!handshaken) {
+                int replyLength = ProtocolNegotiator.clientReplyLength();
+                if (in.remaining() < replyLength)
+                    return;
+                if (!ProtocolNegotiator.isBinaryReply(in.array(), in.position()))
+                    throw new StreamCorruptedException("바이너리 프로토콜을 지원하지 않는 클라이언트");
+                in.position(in.position() + replyLength);
+                handshaken = true;
+                room = server.getRooms().assign(this);
+                continue;
+            }
+
+            int start = in.position();
+            int length = readLength();
+            if (length < 0) {
+                in.position(start);
+                return;
+            }
+            if (length == 0 || length > BinaryCommandChannel.MAX_FRAME_SIZE)
+                throw new StreamCorruptedException("잘못된 프레임 길이: " + length);
+
+            if (in.remaining() < length) {
+                in.position(start);
+                ensureReadCapacity(in.position() - start + length + 5);
+                return;
+            }
+
+            // 바이너리 전용 서버이므로 신뢰할 수 없는 입력을 ObjectInputStream으로 읽지 않음
+            if (BinaryCommandCodec.isSerializedFrame(in.array(), in.position(), length))
+                throw new StreamCorruptedException("직렬화 프레임은 지원하지 않습니다.");
+            Command command = BinaryCommandCodec.decode(in.array(), in.position(), length);
+            in.position(in.position() + length);
+            room.handle(this, command);
+        }
+    }
+
+    // varint 길이를 읽음, 아직 다 도착하지 않았으면 -1
+    private int readLength() throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (!in.hasRemaining())
+                return -1;
+            byte b = in.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return result;
+        }
+        throw new StreamCorruptedException("잘못된 프레임 길이");
+    }
+
+    // 한 프레임이 버퍼보다 크면 키움 (in은 읽기 모드, compact 이전)
+    private void ensureReadCapacity(int frameSize) {
+        if (frameSize <= in.capacity())
+            return;
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(frameSize, in.capacity() * 2));
+        grown.put(in);
+        grown.flip();
+        in = grown;
+    }
+
+    void close() {
+        if (closed)
+            return;
+        closed = true;
+        if (key != null)
+            key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[NIO-SERVER] Error closing connection: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.tetris.network.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.tetris.network.GameRoom;
+
+/**
+ * 여러 1:1 대전 방을 한 JVM에서 호스팅하는 전용 서버.
+ * java.nio Selector 스레드 하나가 모든 연결의 accept/read/write를 처리하므로
+ * 연결 수가 늘어나도 연결당 스레드가 생기지 않습니다.
+ *
+ * LAN 호스트용 GameServer와 달리 바이너리 프로토콜만 지원합니다.
+ * (기존 직렬화 전용 클라이언트는 HELLO 단계에서 연결이 끊어지고, 직렬화 바이트를 담은 프레임도 거부합니다.)
+ * 한 연결에서 생긴 예외는 그 연결만 닫고 다른 방/연결에는 영향을 주지 않습니다.
+ */
+public class NioGameServer {
+    private final RoomRegistry rooms;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running = false;
+
+    // 셀렉터 스레드 밖에서 sendCommand된 연결 (다음 루프에서 flush)
+    private final Queue<NioConnection> pendingFlush = new ConcurrentLinkedQueue<>();
+    // 셀렉터 스레드에서만 접근
+    private final Set<NioConnection> connections = new HashSet<>();
+    private volatile int connectionCount = 0;
+
+    public NioGameServer() {
+        this(new RoomRegistry());
+    }
+
+    public NioGameServer(RoomRegistry rooms) {
+        this.rooms = rooms;
+    }
+
+    public RoomRegistry getRooms() {
+        return rooms;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * 서버를 시작합니다.
+     *
+     * @param port 0이면 임의의 빈 포트 사용 (getPort()로 확인)
+     */
+    public synchronized void start(int port) throws IOException {
+        if (running) {
+            System.out.println("[NIO-SERVER] Server is already running.");
+            return;
+        }
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+
+        selectorThread = new Thread(this::runLoop, "nio-game-server");
+        selectorThread.start();
+
+        System.out.println("[NIO-SERVER] Game Server is running on port " + getPort());
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * 서버를 중지하고 모든 연결을 닫습니다.
+     */
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            if (!running)
+                return;
+            running = false;
+            thread = selectorThread;
+            selector.wakeup();
+        }
+
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("[NIO-SERVER] Server stopped.");
+    }
+
+    /**
+     * 셀렉터 스레드에 flush를 요청합니다. (NioConnection.sendCommand에서 호출)
+     */
+    void requestFlush(NioConnection connection) {
+        pendingFlush.add(connection);
+        if (Thread.currentThread() != selectorThread)
+            selector.wakeup();
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                flushPending();
+                selector.select();
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            NioConnection connection = (NioConnection) key.attachment();
+                            if (key.isReadable())
+                                handleRead(connection);
+                            if (key.isValid() && key.isWritable())
+                                handleWrite(connection);
+                        }
+                    } catch (CancelledKeyException e) {
+                        // 처리 도중 닫힌 연결
+                    } catch (RuntimeException e) {
+                        // 한 연결의 오류로 셀렉터 루프(서버 전체)가 죽지 않도록 그 연결만 닫음
+                        if (key.attachment() instanceof NioConnection connection)
+                            closeConnection(connection, "unexpected error: " + e);
+                        else
+                            System.err.println("[NIO-SERVER] Accept error: " + e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (running)
+                System.err.println("[NIO-SERVER] Selector exception: " + e.getMessage());
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+
+            NioConnection connection = new NioConnection(this, channel);
+            connection.setKey(channel.register(selector, SelectionKey.OP_READ, connection));
+            connections.add(connection);
+            connectionCount = connections.size();
+
+            try {
+                connection.sendHello();
+            } catch (IOException e) {
+                closeConnection(connection, e.getMessage());
+            }
+        }
+    }
+
+    private void handleRead(NioConnection connection) {
+        try {
+            if (!connection.read())
+                closeConnection(connection, "end of stream");
+        } catch (IOException | ClassNotFoundException e) {
+            closeConnection(connection, e.getMessage());
+        } catch (RuntimeException e) {
+            // 방 처리(GameRoom.handle) 등에서 난 예외도 이 연결만 닫음
+            closeConnection(connection, "unexpected error: " + e);
+        }
+    }
+
+    private void handleWrite(NioConnection connection) {
+        try {
+            connection.flush();
+        } catch (IOException e) {
+            closeConnection(connection, e.getMessage());
+        } catch (RuntimeException e) {
+            closeConnection(connection, "unexpected error: " + e);
+        }
+    }
+
+    private void flushPending() {
+        NioConnection connection;
+        while ((connection = pendingFlush.poll()) != null) {
+            if (!connection.isClosed())
+                handleWrite(connection);
+        }
+    }
+
+    private void closeConnection(NioConnection connection, String reason) {
+        if (connection.isClosed())
+            return;
+        connection.close();
+        connections.remove(connection);
+        System.out.println("[NIO-SERVER] Connection closed: " + reason);
+        connectionCount = connections.size();
+
+        GameRoom room = connection.getRoom();
+        if (room != null)
+            rooms.release(connection, room);
+    }
+
+    // 셀렉터 스레드 종료 시 모든 자원 정리 (방에는 알리지 않음)
+    private void shutdown() {
+        List<NioConnection> toClose = new ArrayList<>(connections);
+        connections.clear();
+        connectionCount = 0;
+        for (NioConnection connection : toClose)
+            connection.close();
+        rooms.clear();
+        pendingFlush.clear();
+
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            System.err.println("[NIO-SERVER] Error closing selector: " + e.getMessage());
+        }
+        running = false;
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : org.tetris.network.GameServer.PORT;
+        try {
+            new NioGameServer().start(port);
+        } catch (IOException e) {
+            System.err.println("[NIO-SERVER] Failed to start server: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.tetris.network.server;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.tetris.game.model.GameMode;
+import org.tetris.network.GameRoom;
+
+/**
+ * 전용 서버의 방 목록. 새 연결은 상대를 기다리는 방 중 가장 오래된 곳에 들어가고, 없으면 새 방을 만듭니다.
+ * 한 명이 나간 방은 지난 게임 상태를 지우고 대기열 끝에 다시 들어가며, 두 플레이어가 모두 나간 방은 목록에서 제거됩니다.
+ */
+public class RoomRegistry {
+    private final Map<Integer, GameRoom> rooms = new ConcurrentHashMap<>();
+
+    // 한 자리가 비어 있는 방들 (먼저 빈 방부터 채움)
+    private final Deque<GameRoom> waiting = new ArrayDeque<>();
+    private int nextId = 1;
+
+    // 새로 만드는 방에 적용할 설정
+    private GameMode gameMode = GameMode.NORMAL;
+    private String difficulty = "EASY";
+    private boolean lockstep = Boolean.getBoolean(GameRoom.LOCKSTEP_PROPERTY);
+
+    public synchronized void setGameMode(GameMode mode) {
+        this.gameMode = mode;
+    }
+
+    public synchronized void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public synchronized void setLockstep(boolean lockstep) {
+        this.lockstep = lockstep;
+    }
+
+    /**
+     * 플레이어를 대기 중인 방에 배정합니다.
+     */
+    public synchronized GameRoom assign(GameRoom.Member member) {
+        GameRoom room = waiting.peekFirst();
+        if (room == null) {
+            room = new GameRoom(nextId++);
+            room.setGameMode(gameMode);
+            room.setDifficulty(difficulty);
+            room.setLockstep(lockstep);
+            // 호스트 UI가 없으므로 둘 다 Ready면 바로 시작
+            room.setAutoStart(true);
+            rooms.put(room.getId(), room);
+            waiting.addLast(room);
+        }
+
+        room.join(member);
+        if (room.isFull())
+            waiting.removeFirst();
+        return room;
+    }
+
+    /**
+     * 플레이어를 방에서 내보냅니다. 빈 방은 제거하고, 한 명이 남은 방은 다음 연결을 기다립니다.
+     */
+    public synchronized void release(GameRoom.Member member, GameRoom room) {
+        if (!room.hasMember(member))
+            return;
+        room.leave(member);
+
+        if (room.isEmpty()) {
+            rooms.remove(room.getId());
+            waiting.remove(room);
+        } else if (!waiting.contains(room)) {
+            room.resetMatch();
+            waiting.addLast(room);
+        }
+    }
+
+    /**
+     * 상대를 기다리는 방 수
+     */
+    public synchronized int getWaitingCount() {
+        return waiting.size();
+    }
+
+    public GameRoom getRoom(int id) {
+        return rooms.get(id);
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    public synchronized void clear() {
+        for (GameRoom room : rooms.values())
+            room.clear();
+        rooms.clear();
+        waiting.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package org.tetris.network.sync;
+
+import org.tetris.network.comand.BoardDeltaCommand;
+
+/**
+ * 수신 측 델타 보드 동기화.
+ * 상대가 마지막으로 보낸 보드를 별도로 복원해 두고(실제 원격 보드는 로컬 시뮬레이션으로 계속 바뀌므로),
+ * 델타를 적용한 뒤 checksum으로 검증합니다.
+ */
+public class BoardDeltaDecoder {
+    private int[][] shadow;
+    private int sequence;
+    private boolean synced = false;
+
+    /**
+     * 델타를 적용합니다.
+     *
+     * @param delta 수신한 델타
+     * @return 복원된 보드 (내부 버퍼이므로 복사해서 사용), 동기화가 어긋나 키프레임이 필요하면 null
+     */
+    public int[][] apply(BoardDeltaCommand delta) {
+        if (delta.isKeyframe()) {
+            if (delta.getRows() <= 0 || delta.getCols() <= 0 || delta.getCols() > BoardPacking.MAX_WIDTH) {
+                synced = false;
+                return null;
+            }
+            if (shadow == null || shadow.length != delta.getRows() || shadow[0].length != delta.getCols())
+                shadow = new int[delta.getRows()][delta.getCols()];
+            synced = true;
+        } else if (!synced || delta.getBaseSequence() != sequence) {
+            // 중간 상태를 놓침 -> 키프레임 전까지 무시
+            synced = false;
+            return null;
+        }
+
+        int[] rowIndices = delta.getRowIndices();
+        long[] packedRows = delta.getPackedRows();
+        for (int i = 0; i < rowIndices.length; i++) {
+            int r = rowIndices[i];
+            if (r < 0 || r >= shadow.length) {
+                synced = false;
+                return null;
+            }
+            BoardPacking.unpackRow(packedRows[i], shadow[r]);
+        }
+
+        if (BoardPacking.checksum(shadow) != delta.getChecksum()) {
+            synced = false;
+            return null;
+        }
+
+        sequence = delta.getSequence();
+        return shadow;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public void reset() {
+        shadow = null;
+        sequence = 0;
+        synced = false;
+    }
+}
@@ -0,0 +1,84 @@
+package org.tetris.network.sync;
+
+import org.tetris.network.comand.BoardDeltaCommand;
+import org.tetris.network.comand.GameCommand;
+import org.tetris.network.comand.UpdateStateCommand;
+
+/**
+ * 송신 측 델타 보드 동기화.
+ * 마지막으로 보낸 보드를 기억해 두고, 달라진 행만 담은 BoardDeltaCommand를 만듭니다.
+ * TCP는 순서를 보장하므로 보낸 프레임은 상대가 재동기화를 요청하지 않는 한 반영된 것으로 봅니다.
+ */
+public class BoardDeltaEncoder {
+    // 이 횟수마다 전체 행을 담은 키프레임 전송
+    public static final int KEYFRAME_INTERVAL = 16;
+
+    private int[][] lastSent;
+    private int sequence = 0;
+    private int sinceKeyframe = 0;
+    private boolean forceKeyframe = true;
+
+    /**
+     * 현재 보드 상태를 전송할 커맨드로 만듭니다.
+     * 보드가 칸당 4비트로 압축할 수 없는 경우(너비 16 초과, 값 15 초과)에는 전체 UpdateStateCommand를 반환합니다.
+     */
+    public GameCommand encode(int[][] board, int currentPosRow, int currentPosCol, int score) {
+        if (!BoardPacking.canPack(board))
+            return new UpdateStateCommand(board, currentPosRow, currentPosCol, score);
+
+        int rows = board.length;
+        int cols = board[0].length;
+
+        boolean keyframe = forceKeyframe || lastSent == null
+                || lastSent.length != rows || lastSent[0].length != cols
+                || sinceKeyframe >= KEYFRAME_INTERVAL - 1;
+
+        if (keyframe)
+            lastSent = new int[rows][cols];
+
+        // 달라진 행 수 세기 (키프레임이면 모든 행)
+        int changed = 0;
+        for (int r = 0; r < rows; r++) {
+            if (keyframe || !BoardPacking.rowEquals(board[r], lastSent[r]))
+                changed++;
+        }
+
+        int[] rowIndices = new int[changed];
+        long[] packedRows = new long[changed];
+        int i = 0;
+        for (int r = 0; r < rows; r++) {
+            if (keyframe || !BoardPacking.rowEquals(board[r], lastSent[r])) {
+                rowIndices[i] = r;
+                packedRows[i] = BoardPacking.packRow(board[r]);
+                System.arraycopy(board[r], 0, lastSent[r], 0, cols);
+                i++;
+            }
+        }
+
+        int baseSequence = sequence;
+        sequence++;
+        if (keyframe) {
+            sinceKeyframe = 0;
+            forceKeyframe = false;
+        } else {
+            sinceKeyframe++;
+        }
+
+        return new BoardDeltaCommand(sequence, baseSequence, keyframe, rows, cols, rowIndices, packedRows,
+                BoardPacking.checksum(lastSent), currentPosRow, currentPosCol, score);
+    }
+
+    /**
+     * 다음 전송을 키프레임으로 보냅니다. (상대의 재동기화 요청 시)
+     */
+    public void requestKeyframe() {
+        forceKeyframe = true;
+    }
+
+    public void reset() {
+        lastSent = null;
+        sequence = 0;
+        sinceKeyframe = 0;
+        forceKeyframe = true;
+    }
+}
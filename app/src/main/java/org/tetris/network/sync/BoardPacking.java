@@ -0,0 +1,59 @@
+package org.tetris.network.sync;
+
+/**
+ * 보드 한 행을 칸당 4비트로 long에 압축/복원하는 유틸리티와 보드 checksum.
+ */
+public final class BoardPacking {
+    public static final int BITS_PER_CELL = 4;
+    public static final int MAX_CELL_VALUE = (1 << BITS_PER_CELL) - 1;
+    public static final int MAX_WIDTH = Long.SIZE / BITS_PER_CELL;
+
+    private BoardPacking() {
+    }
+
+    public static boolean canPack(int[][] board) {
+        if (board.length == 0 || board[0].length > MAX_WIDTH)
+            return false;
+        for (int[] row : board) {
+            for (int cell : row) {
+                if (cell < 0 || cell > MAX_CELL_VALUE)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public static long packRow(int[] row) {
+        long packed = 0;
+        for (int c = 0; c < row.length; c++)
+            packed |= (long) row[c] << (c * BITS_PER_CELL);
+        return packed;
+    }
+
+    public static void unpackRow(long packed, int[] out) {
+        for (int c = 0; c < out.length; c++)
+            out[c] = (int) (packed >>> (c * BITS_PER_CELL)) & MAX_CELL_VALUE;
+    }
+
+    public static boolean rowEquals(int[] a, int[] b) {
+        for (int c = 0; c < a.length; c++) {
+            if (a[c] != b[c])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * 보드 전체의 FNV-1a 해시
+     */
+    public static int checksum(int[][] board) {
+        int hash = 0x811C9DC5;
+        for (int[] row : board) {
+            for (int cell : row) {
+                hash ^= cell;
+                hash *= 0x01000193;
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,289 @@
+package org.tetris.network.sync;
+
+import java.util.Arrays;
+
+import org.tetris.game.model.GameSimulation;
+
+/**
+ * 결정적 락스텝 대전 세션.
+ *
+ * 양쪽 클라이언트가 같은 시드(MatchSettings의 Player 1/2 시드)로 두 보드를 모두 시뮬레이션하고,
+ * 네트워크로는 틱별 입력 비트셋(LockstepInputCommand)만 주고받습니다.
+ * 틱 t는 두 플레이어의 t 입력이 모두 모였을 때만 진행하며, 매 틱 Player 1 입력 -> Player 2 입력 -> Player 1 tick -> Player 2 tick
+ * 순서로 적용하므로 양쪽 결과가 비트 단위로 같습니다.
+ * 로컬 입력은 inputDelay 틱 뒤에 실행되도록 미리 보내 왕복 지연을 숨기고,
+ * hashInterval 틱마다 상태 해시(StateHashCommand)를 교환해 어긋남을 감지합니다.
+ */
+public class LockstepSession {
+
+    /**
+     * 입력/해시 전송 경로 (보통 GameClient.sendCommand)
+     */
+    public interface Transport {
+        void sendInput(int tick, int inputs);
+
+        void sendHash(int tick, long hash);
+    }
+
+    /**
+     * 두 클라이언트의 상태가 어긋났을 때 한 번 호출됩니다.
+     */
+    @FunctionalInterface
+    public interface DivergenceListener {
+        void onDivergence(int tick, long localHash, long remoteHash);
+    }
+
+    // 60 FPS 기준 50ms
+    public static final int DEFAULT_INPUT_DELAY = 3;
+    // 1초마다 해시 교환
+    public static final int DEFAULT_HASH_INTERVAL = 60;
+    public static final int MAX_INPUT_DELAY = 64;
+
+    // 상대가 지연보다 더 앞서 있을 때 한 번의 update에서 따라잡을 수 있는 최대 틱
+    static final int MAX_CATCH_UP_TICKS = 4;
+
+    // 입력 버퍼 (2의 거듭제곱, 양쪽 차이는 2 * inputDelay + 1 틱 이내)
+    private static final int INPUT_BUFFER = 256;
+    private static final int INPUT_MASK = INPUT_BUFFER - 1;
+    private static final int HASH_BUFFER = 8;
+
+    private static final GameSimulation.Input[] INPUTS = GameSimulation.Input.values();
+
+    private final GameSimulation player1;
+    private final GameSimulation player2;
+    private final int localPlayer;
+    private final int inputDelay;
+    private final int hashInterval;
+    private final Transport transport;
+    private DivergenceListener divergenceListener;
+
+    private int tick = 0; // 다음에 진행할 틱
+    private int localSent = 0; // 다음에 보낼 로컬 입력의 틱
+    private int localPending = 0; // 아직 보내지 않은 로컬 입력 비트
+    private int remoteReceived = 0; // 다음에 받을 원격 입력의 틱
+    private final int[] localInputs = new int[INPUT_BUFFER];
+    private final int[] remoteInputs = new int[INPUT_BUFFER];
+
+    // 체크포인트 해시 (슬롯 = (틱 / hashInterval) % HASH_BUFFER, 틱 -1은 빈 슬롯)
+    private final int[] localHashTicks = new int[HASH_BUFFER];
+    private final long[] localHashes = new long[HASH_BUFFER];
+    private final int[] remoteHashTicks = new int[HASH_BUFFER];
+    private final long[] remoteHashes = new long[HASH_BUFFER];
+
+    private boolean diverged = false;
+    private int divergedTick = -1;
+    private long stalledUpdates = 0;
+
+    public LockstepSession(GameSimulation player1, GameSimulation player2, int localPlayer, Transport transport) {
+        this(player1, player2, localPlayer, DEFAULT_INPUT_DELAY, DEFAULT_HASH_INTERVAL, transport);
+    }
+
+    /**
+     * @param player1 Player 1(호스트) 보드 시뮬레이션
+     * @param player2 Player 2 보드 시뮬레이션
+     * @param localPlayer 이 클라이언트의 플레이어 번호 (1 또는 2)
+     * @param inputDelay 로컬 입력을 실행하기까지의 틱 수 (1 ~ MAX_INPUT_DELAY)
+     * @param hashInterval 상태 해시 교환 간격 (틱)
+     * @param transport 입력/해시 전송 경로
+     */
+    public LockstepSession(GameSimulation player1, GameSimulation player2, int localPlayer,
+            int inputDelay, int hashInterval, Transport transport) {
+        if (localPlayer != 1 && localPlayer != 2)
+            throw new IllegalArgumentException("localPlayer must be 1 or 2: " + localPlayer);
+        if (inputDelay < 1 || inputDelay > MAX_INPUT_DELAY)
+            throw new IllegalArgumentException("inputDelay out of range: " + inputDelay);
+        if (hashInterval < 1)
+            throw new IllegalArgumentException("hashInterval must be positive: " + hashInterval);
+
+        this.player1 = player1;
+        this.player2 = player2;
+        this.localPlayer = localPlayer;
+        this.inputDelay = inputDelay;
+        this.hashInterval = hashInterval;
+        this.transport = transport;
+
+        Arrays.fill(localHashTicks, -1);
+        Arrays.fill(remoteHashTicks, -1);
+    }
+
+    public void setDivergenceListener(DivergenceListener listener) {
+        this.divergenceListener = listener;
+    }
+
+    /**
+     * 입력 하나를 비트셋의 비트로 변환합니다.
+     */
+    public static int bit(GameSimulation.Input input) {
+        return 1 << input.ordinal();
+    }
+
+    /**
+     * 비트셋의 입력을 정해진 순서(Input 선언 순서)로 적용합니다.
+     */
+    public static void applyInputs(GameSimulation sim, int inputs) {
+        for (int i = 0; inputs != 0 && i < INPUTS.length; i++) {
+            if ((inputs & (1 << i)) != 0) {
+                sim.apply(INPUTS[i]);
+                inputs &= ~(1 << i);
+            }
+        }
+    }
+
+    // ===== 진행 =====
+
+    /**
+     * 로컬 입력을 다음에 보낼 틱의 입력에 추가합니다. (같은 틱 안에서 같은 입력은 한 번만 적용)
+     */
+    public void addLocalInput(GameSimulation.Input input) {
+        localPending |= bit(input);
+    }
+
+    /**
+     * 게임 루프에서 프레임마다 호출합니다.
+     * 모아 둔 로컬 입력을 (현재 틱 + inputDelay) 틱의 입력으로 보내고, 양쪽 입력이 모인 틱을 진행합니다.
+     *
+     * @return 이번 호출에서 진행한 틱 수 (0이면 상대 입력 대기 중)
+     */
+    public int update() {
+        sendLocalInputs();
+
+        // 평소에는 프레임당 한 틱, 상대가 두 틱 이상 앞서 있으면(받은 입력이 지연분보다 많으면) 조금 더 진행해 따라잡음
+        int budget = (remoteReceived - tick > inputDelay + 2) ? MAX_CATCH_UP_TICKS : 1;
+        int steps = 0;
+        while (steps < budget && tick < remoteReceived && tick < localSent) {
+            simulateTick();
+            steps++;
+            sendLocalInputs();
+        }
+
+        if (steps == 0)
+            stalledUpdates++;
+        return steps;
+    }
+
+    /**
+     * 상대방의 틱 입력을 받습니다. 입력은 틱 순서대로 와야 합니다. (TCP)
+     */
+    public void onRemoteInput(int inputTick, int inputs) {
+        if (inputTick < remoteReceived)
+            return; // 중복
+        if (inputTick != remoteReceived || inputTick - tick >= INPUT_BUFFER) {
+            // 입력이 빠졌으면 더 이상 같은 결과를 보장할 수 없음
+            diverge(inputTick, 0L, 0L);
+            return;
+        }
+        remoteInputs[inputTick & INPUT_MASK] = inputs;
+        remoteReceived = inputTick + 1;
+    }
+
+    /**
+     * 상대방의 체크포인트 해시를 받습니다. 이미 같은 틱을 진행했으면 바로 비교합니다.
+     */
+    public void onRemoteHash(int hashTick, long hash) {
+        int slot = hashSlot(hashTick);
+        if (localHashTicks[slot] == hashTick) {
+            compare(hashTick, localHashes[slot], hash);
+        } else {
+            remoteHashTicks[slot] = hashTick;
+            remoteHashes[slot] = hash;
+        }
+    }
+
+    // 아직 보내지 않은 로컬 입력 틱을 (현재 틱 + inputDelay)까지 채움 (처음에는 빈 입력으로 지연만큼 미리 채움)
+    private void sendLocalInputs() {
+        while (localSent <= tick + inputDelay) {
+            int inputs = 0;
+            if (localSent >= inputDelay) {
+                inputs = localPending;
+                localPending = 0;
+            }
+            localInputs[localSent & INPUT_MASK] = inputs;
+            transport.sendInput(localSent, inputs);
+            localSent++;
+        }
+    }
+
+    private void simulateTick() {
+        int slot = tick & INPUT_MASK;
+        int player1Inputs = localPlayer == 1 ? localInputs[slot] : remoteInputs[slot];
+        int player2Inputs = localPlayer == 1 ? remoteInputs[slot] : localInputs[slot];
+
+        applyInputs(player1, player1Inputs);
+        applyInputs(player2, player2Inputs);
+        player1.tick();
+        player2.tick();
+        tick++;
+
+        if (tick % hashInterval == 0)
+            checkpoint();
+    }
+
+    private void checkpoint() {
+        long hash = stateHash();
+        int slot = hashSlot(tick);
+        localHashTicks[slot] = tick;
+        localHashes[slot] = hash;
+        transport.sendHash(tick, hash);
+
+        if (remoteHashTicks[slot] == tick)
+            compare(tick, hash, remoteHashes[slot]);
+    }
+
+    private void compare(int hashTick, long localHash, long remoteHash) {
+        if (localHash != remoteHash)
+            diverge(hashTick, localHash, remoteHash);
+    }
+
+    private void diverge(int atTick, long localHash, long remoteHash) {
+        if (diverged)
+            return;
+        diverged = true;
+        divergedTick = atTick;
+        if (divergenceListener != null)
+            divergenceListener.onDivergence(atTick, localHash, remoteHash);
+    }
+
+    private int hashSlot(int hashTick) {
+        return (hashTick / hashInterval) % HASH_BUFFER;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 두 보드를 합친 상태 해시 (Player 1, Player 2 순서)
+     */
+    public long stateHash() {
+        return player1.stateHash() * 31 + player2.stateHash();
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getInputDelay() {
+        return inputDelay;
+    }
+
+    public int getLocalPlayer() {
+        return localPlayer;
+    }
+
+    /**
+     * 상대 입력을 기다리느라 진행하지 못한 update 호출 수
+     */
+    public long getStalledUpdates() {
+        return stalledUpdates;
+    }
+
+    public boolean isWaitingForRemote() {
+        return tick >= remoteReceived;
+    }
+
+    public boolean isDiverged() {
+        return diverged;
+    }
+
+    public int getDivergedTick() {
+        return divergedTick;
+    }
+}
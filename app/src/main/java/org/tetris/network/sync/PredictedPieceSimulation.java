@@ -0,0 +1,123 @@
+package org.tetris.network.sync;
+
+import org.tetris.game.model.Board;
+import org.tetris.game.model.GameModel;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.game.model.ScoreModel;
+import org.tetris.game.model.blocks.Block;
+
+/**
+ * 원격 플레이어의 활성 블럭 움직임(입력 + 중력)을 로컬에서 예측하는 롤백 시뮬레이션.
+ *
+ * 쌓인 칸은 블럭 고정 시 상대가 보내는 보드(BoardDeltaCommand)가 기준이므로,
+ * 블럭이 고정되기 전까지 바뀌는 것은 활성 블럭의 위치/회전, 중력 카운터, 점수뿐입니다.
+ * 그래서 스냅샷은 슬롯마다 정수 몇 개로 충분하고 보드 배열을 복사하지 않습니다.
+ * 칸을 지우며 내려가는 무게추 블럭도 예측에서는 일반 이동만 하고, 실제 결과는 고정 시 보드 동기화로 반영됩니다.
+ */
+public class PredictedPieceSimulation implements RollbackEngine.Simulation {
+
+    private final GameModel gameModel;
+    private final Board board;
+    private final ScoreModel scoreModel;
+
+    private int framesSinceDrop = 0;
+
+    // 슬롯별 스냅샷
+    private final Block[] savedBlocks;
+    private final int[] savedRows;
+    private final int[] savedCols;
+    private final int[] savedRotations;
+    private final int[] savedDropFrames;
+    private final int[] savedScores;
+
+    public PredictedPieceSimulation(GameModel gameModel, int slotCount) {
+        this.gameModel = gameModel;
+        this.board = gameModel.getBoardModel();
+        this.scoreModel = gameModel.getScoreModel();
+
+        savedBlocks = new Block[slotCount];
+        savedRows = new int[slotCount];
+        savedCols = new int[slotCount];
+        savedRotations = new int[slotCount];
+        savedDropFrames = new int[slotCount];
+        savedScores = new int[slotCount];
+    }
+
+    /**
+     * 새 블럭이 스폰되었을 때 중력 카운터를 초기화합니다.
+     */
+    public void resetGravity() {
+        framesSinceDrop = 0;
+    }
+
+    @Override
+    public void saveState(int slot) {
+        Block block = board.activeBlock;
+        savedBlocks[slot] = block;
+        savedRows[slot] = board.getCurRow();
+        savedCols[slot] = board.getCurCol();
+        savedRotations[slot] = block != null ? block.getRotation() : 0;
+        savedDropFrames[slot] = framesSinceDrop;
+        savedScores[slot] = scoreModel.getScore();
+    }
+
+    @Override
+    public boolean loadState(int slot) {
+        Block block = board.activeBlock;
+        // 저장 이후 블럭이 바뀌었다면 되돌릴 수 없음 (RollbackEngine이 기록을 버리고 다음 프레임에 적용)
+        if (block == null || block != savedBlocks[slot]) {
+            System.out.println("[P2P-PREDICT] Active block changed since slot " + slot
+                    + " was saved, dropping rollback history.");
+            return false;
+        }
+
+        board.restoreActivePose(savedRows[slot], savedCols[slot], savedRotations[slot]);
+        framesSinceDrop = savedDropFrames[slot];
+        scoreModel.setScore(savedScores[slot]);
+        return true;
+    }
+
+    @Override
+    public void applyInput(GameSimulation.Input input) {
+        Block block = board.activeBlock;
+        if (block == null || gameModel.isGameOver())
+            return;
+
+        switch (input) {
+            case LEFT:
+                board.moveLeft();
+                break;
+            case RIGHT:
+                board.moveRight();
+                break;
+            case ROTATE:
+                board.rotate();
+                break;
+            case SOFT_DROP:
+                if (board.moveDown())
+                    scoreModel.softDrop(1);
+                break;
+            case HARD_DROP:
+                // 착지 위치까지만 예측 (고정/점수는 보드 동기화로 반영)
+                if (!block.isForceDown())
+                    board.hardDrop();
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void tick() {
+        if (board.activeBlock == null || gameModel.isGameOver())
+            return;
+
+        framesSinceDrop++;
+        if (framesSinceDrop >= gameModel.getDropInterval()) {
+            framesSinceDrop = 0;
+            // 바닥에 닿으면 상대의 고정 보드가 올 때까지 그 자리에서 대기
+            if (board.moveDown())
+                scoreModel.blockDropped();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package org.tetris.network.sync;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.tetris.game.model.GameSimulation;
+
+/**
+ * 프레임 번호가 찍힌 원격 입력을 위한 롤백/재시뮬레이션 계층.
+ *
+ * 매 프레임 시작 시 상태를 슬롯(프레임 % (window + 1))에 저장해 두고,
+ * 이미 지나간 프레임의 입력이 늦게 도착하면 그 프레임의 상태로 되돌린 뒤 입력을 끼워 넣고 현재 프레임까지 다시 진행합니다.
+ * 미래 프레임의 입력은 해당 프레임이 될 때까지 보관합니다.
+ * window보다 오래된 입력은 되돌릴 수 있는 가장 오래된 프레임에 적용합니다. (lateInputs로 집계)
+ * 저장된 상태로 되돌릴 수 없으면(그 사이 권위 있는 상태로 바뀜) 기록을 버리고 입력을 다음 프레임에 적용합니다. (divergences로 집계)
+ */
+public class RollbackEngine {
+
+    /**
+     * 롤백 대상 시뮬레이션. 슬롯 번호는 0 ~ window 범위입니다.
+     */
+    public interface Simulation {
+        void saveState(int slot);
+
+        /**
+         * @return 슬롯의 상태로 되돌렸으면 true, 현재 상태와 맞지 않아 되돌릴 수 없으면 false
+         */
+        boolean loadState(int slot);
+
+        void applyInput(GameSimulation.Input input);
+
+        void tick();
+    }
+
+    // 60 FPS 기준 0.5초 (80~150ms 지연 + 지터를 충분히 덮음)
+    public static final int DEFAULT_WINDOW = 30;
+
+    private final Simulation simulation;
+    private final int window;
+    private final int slotCount;
+
+    // 프레임별로 적용된 입력 (슬롯 = 프레임 % slotCount)
+    private final GameSimulation.Input[][] slotInputs;
+    private final int[] slotInputCounts;
+
+    // 아직 도달하지 않은 프레임의 입력 (도착 순서)
+    private final List<PendingInput> pending = new ArrayList<>();
+
+    private int frame = 0; // 다음에 진행할 프레임
+    private int baseFrame = 0; // 되돌릴 수 있는 가장 이른 프레임 (rebase 시점)
+
+    private long rollbacks = 0;
+    private long resimulatedFrames = 0;
+    private long lateInputs = 0;
+    private long divergences = 0;
+
+    private record PendingInput(int frame, GameSimulation.Input input) {
+    }
+
+    public RollbackEngine(Simulation simulation) {
+        this(simulation, DEFAULT_WINDOW);
+    }
+
+    public RollbackEngine(Simulation simulation, int window) {
+        if (window < 1)
+            throw new IllegalArgumentException("window must be positive: " + window);
+        this.simulation = simulation;
+        this.window = window;
+        this.slotCount = slotCount(window);
+        this.slotInputs = new GameSimulation.Input[slotCount][4];
+        this.slotInputCounts = new int[slotCount];
+    }
+
+    /**
+     * window 크기에 필요한 스냅샷 슬롯 수 (현재 프레임 포함)
+     */
+    public static int slotCount(int window) {
+        return window + 1;
+    }
+
+    // ===== 진행 =====
+
+    /**
+     * target 프레임 직전까지 진행합니다. (target 이하로는 되돌아가지 않음)
+     */
+    public void advanceTo(int target) {
+        while (frame < target) {
+            advance();
+        }
+    }
+
+    /**
+     * 한 프레임 진행합니다. 상태 저장 -> 이 프레임의 입력 적용 -> tick 순서입니다.
+     */
+    public void advance() {
+        int slot = slotOf(frame);
+        slotInputCounts[slot] = 0;
+        collectPending(frame, slot);
+
+        simulate(frame);
+        frame++;
+    }
+
+    /**
+     * 입력을 추가합니다.
+     *
+     * @param inputFrame 입력이 발생한 프레임 (상대방 기준)
+     * @param input 입력
+     */
+    public void addInput(int inputFrame, GameSimulation.Input input) {
+        if (inputFrame >= frame) {
+            pending.add(new PendingInput(inputFrame, input));
+            return;
+        }
+
+        int oldest = Math.max(baseFrame, frame - window);
+        if (inputFrame < oldest) {
+            lateInputs++;
+            if (oldest == frame) {
+                // 되돌릴 프레임이 없음 -> 다음 프레임에 적용
+                pending.add(new PendingInput(frame, input));
+                return;
+            }
+            inputFrame = oldest;
+        }
+
+        record(slotOf(inputFrame), input);
+        if (!rollback(inputFrame)) {
+            // 되돌릴 상태가 없으므로 지금까지의 기록을 버리고 다음 프레임에 적용
+            divergences++;
+            rebase(frame);
+            pending.add(new PendingInput(frame, input));
+        }
+    }
+
+    /**
+     * 권위 있는 상태로 보정된 직후 호출합니다. (블럭 고정/스폰 등)
+     * 이전 기록은 새 상태와 맞지 않으므로 버리고, frame부터 다시 기록합니다.
+     * 보관 중인 미래 입력은 유지합니다.
+     */
+    public void rebase(int newFrame) {
+        frame = Math.max(frame, newFrame);
+        baseFrame = frame;
+        Arrays.fill(slotInputCounts, 0);
+    }
+
+    public void reset() {
+        frame = 0;
+        baseFrame = 0;
+        Arrays.fill(slotInputCounts, 0);
+        pending.clear();
+        rollbacks = 0;
+        resimulatedFrames = 0;
+        lateInputs = 0;
+        divergences = 0;
+    }
+
+    // fromFrame 시작 상태로 되돌린 뒤 현재 프레임까지 재시뮬레이션 (되돌릴 수 없으면 false)
+    private boolean rollback(int fromFrame) {
+        if (!simulation.loadState(slotOf(fromFrame)))
+            return false;
+        for (int f = fromFrame; f < frame; f++) {
+            simulate(f);
+        }
+        rollbacks++;
+        resimulatedFrames += frame - fromFrame;
+        return true;
+    }
+
+    private void simulate(int f) {
+        int slot = slotOf(f);
+        simulation.saveState(slot);
+
+        GameSimulation.Input[] inputs = slotInputs[slot];
+        int count = slotInputCounts[slot];
+        for (int i = 0; i < count; i++) {
+            simulation.applyInput(inputs[i]);
+        }
+        simulation.tick();
+    }
+
+    // 이 프레임 이전에 도착해 보관 중인 입력을 슬롯으로 옮김 (도착 순서 유지)
+    private void collectPending(int f, int slot) {
+        if (pending.isEmpty())
+            return;
+        for (int i = 0; i < pending.size();) {
+            PendingInput p = pending.get(i);
+            if (p.frame() <= f) {
+                record(slot, p.input());
+                pending.remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void record(int slot, GameSimulation.Input input) {
+        int count = slotInputCounts[slot];
+        if (count == slotInputs[slot].length)
+            slotInputs[slot] = Arrays.copyOf(slotInputs[slot], count * 2);
+        slotInputs[slot][count] = input;
+        slotInputCounts[slot] = count + 1;
+    }
+
+    private int slotOf(int f) {
+        return Math.floorMod(f, slotCount);
+    }
+
+    // ===== 조회 =====
+
+    public int getFrame() {
+        return frame;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getRollbackCount() {
+        return rollbacks;
+    }
+
+    public long getResimulatedFrames() {
+        return resimulatedFrames;
+    }
+
+    public long getLateInputCount() {
+        return lateInputs;
+    }
+
+    /**
+     * 저장된 상태로 되돌리지 못해 기록을 버린 횟수 (예측이 어긋난 횟수)
+     */
+    public long getDivergenceCount() {
+        return divergences;
+    }
+}
@@ -37,8 +37,8 @@ public class ScoreBoardController extends BaseController<ScoreBoard> {
 
     private void submitCurrentScore(int score, String name)
     {
+        // 파일 저장은 백그라운드 선행 기록으로 처리되므로 기다리지 않음
         insertedIndex = model.insert(new ScoreInfo(score, name, currentDifficulty != null ? currentDifficulty : "EASY"));
-        model.writeHighScoreList();
     }
 
     @FXML private TableView<ScoreInfo> scoreTable;
@@ -0,0 +1,363 @@
+package org.tetris.scoreboard.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.tetris.game.model.GameMode;
+
+/**
+ * 모드/난이도별 점수 순위표.
+ *
+ * (모드, 난이도)마다 점수를 정렬된 배열 조각(블럭, 최대 512개)으로 나눠 두고,
+ * 블럭 크기를 펜윅 트리로 관리해 "이 점수는 몇 등인가"와 k번째 항목 찾기를 O(log n)에 처리합니다.
+ * 삽입은 블럭 안에서 배열 복사 한 번이고, 블럭이 차면 반으로 나눕니다.
+ * 상위 K개는 첫 블럭부터 차례로 읽으므로 O(K)입니다.
+ * 같은 점수는 먼저 들어온 기록이 앞에 옵니다. (ScoreBoard의 기존 동작과 동일)
+ * 난이도를 지정하지 않은 조회는 그 모드의 난이도별 리스트(몇 개 안 됨)를 합쳐서 계산합니다.
+ */
+public class Leaderboard
+{
+    private final Map<GameMode, Map<String, RankedList>> partitions = new EnumMap<>(GameMode.class);
+    private long nextSeq = 0;
+
+    /**
+     * 점수를 추가합니다.
+     *
+     * @return 모드 전체(모든 난이도) 순위표에서의 위치 (0부터)
+     */
+    public long insert(GameMode mode, ScoreInfo info)
+    {
+        long seq = nextSeq++;
+        long index = 0;
+        for (Map.Entry<String, RankedList> entry : partitionsOf(mode).entrySet()) {
+            if (!entry.getKey().equals(info.difficulty()))
+                index += entry.getValue().countAtLeast(info.score()); // 같은 점수는 먼저 들어온 쪽이 앞
+        }
+        return index + partition(mode, info.difficulty()).insert(info, seq);
+    }
+
+    /**
+     * 이 점수가 몇 등인지 반환합니다. (더 높은 점수 수 + 1, 같은 점수는 같은 등수)
+     *
+     * @param difficulty 난이도 (null이면 모드 전체)
+     */
+    public long rankOf(GameMode mode, String difficulty, int score)
+    {
+        long above = 0;
+        for (RankedList list : listsOf(mode, difficulty))
+            above += list.countAbove(score);
+        return above + 1;
+    }
+
+    /**
+     * 상위 k개를 점수 내림차순으로 반환합니다.
+     *
+     * @param difficulty 난이도 (null이면 모드 전체)
+     */
+    public List<ScoreInfo> top(GameMode mode, String difficulty, int k)
+    {
+        List<RankedList> lists = listsOf(mode, difficulty);
+        List<ScoreInfo> result = new ArrayList<>(Math.max(0, Math.min(k, 1024)));
+
+        // 난이도별 리스트의 앞에서부터 하나씩 병합
+        Cursor[] cursors = new Cursor[lists.size()];
+        for (int i = 0; i < cursors.length; i++)
+            cursors[i] = lists.get(i).cursor();
+
+        while (result.size() < k) {
+            int best = -1;
+            for (int i = 0; i < cursors.length; i++) {
+                if (cursors[i].hasNext() && (best < 0 || cursors[i].precedes(cursors[best])))
+                    best = i;
+            }
+            if (best < 0)
+                break;
+            result.add(cursors[best].next());
+        }
+        return result;
+    }
+
+    /**
+     * 순위표의 index번째(0부터) 항목. 난이도를 지정해야 O(log n)입니다.
+     *
+     * @return 항목 (범위를 벗어나면 null)
+     */
+    public ScoreInfo get(GameMode mode, String difficulty, long index)
+    {
+        if (difficulty == null) {
+            List<ScoreInfo> top = top(mode, null, (int) Math.min(Integer.MAX_VALUE, index + 1));
+            return index < top.size() ? top.get((int) index) : null;
+        }
+        RankedList list = partitionsOf(mode).get(difficulty);
+        return list == null ? null : list.get(index);
+    }
+
+    /**
+     * @param difficulty 난이도 (null이면 모드 전체)
+     */
+    public long size(GameMode mode, String difficulty)
+    {
+        long size = 0;
+        for (RankedList list : listsOf(mode, difficulty))
+            size += list.size;
+        return size;
+    }
+
+    public void clear(GameMode mode)
+    {
+        partitions.remove(mode);
+    }
+
+    private Map<String, RankedList> partitionsOf(GameMode mode)
+    {
+        return partitions.computeIfAbsent(mode, m -> new LinkedHashMap<>());
+    }
+
+    private RankedList partition(GameMode mode, String difficulty)
+    {
+        return partitionsOf(mode).computeIfAbsent(difficulty, d -> new RankedList());
+    }
+
+    private List<RankedList> listsOf(GameMode mode, String difficulty)
+    {
+        Map<String, RankedList> byDifficulty = partitionsOf(mode);
+        if (difficulty == null)
+            return new ArrayList<>(byDifficulty.values());
+
+        RankedList list = byDifficulty.get(difficulty);
+        return list == null ? List.of() : List.of(list);
+    }
+
+
+    // ===== 블럭 순위 리스트 =====
+
+    // 정렬된 배열 조각 하나 (점수 내림차순, 같은 점수는 들어온 순서)
+    private static final class Block
+    {
+        final int[] scores = new int[RankedList.BLOCK_CAPACITY];
+        final long[] seqs = new long[RankedList.BLOCK_CAPACITY];
+        final ScoreInfo[] infos = new ScoreInfo[RankedList.BLOCK_CAPACITY];
+        int size = 0;
+
+        // 앞에서부터 score보다 높은(inclusive면 이상인) 항목 수 (이진 탐색)
+        int countAbove(int score, boolean inclusive)
+        {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int s = scores[mid];
+                if (s > score || (inclusive && s == score))
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    private static final class RankedList
+    {
+        static final int BLOCK_CAPACITY = 512;
+
+        private Block[] blocks = { new Block() };
+        private int blockCount = 1;
+        // 각 블럭의 마지막(가장 낮은) 점수. 블럭을 찾을 때 블럭 객체를 따라가지 않도록 따로 둠
+        private int[] lasts = new int[1];
+        // 블럭 크기의 펜윅 트리 (1부터). 앞쪽 블럭들의 항목 수 합을 O(log B)에 구함
+        private long[] tree = new long[2];
+        private long size = 0;
+
+        /**
+         * @return 삽입된 위치 (0부터)
+         */
+        long insert(ScoreInfo info, long seq)
+        {
+            int score = info.score();
+            int b = blockFor(score, true);
+            Block block = blocks[b];
+            int pos = block.countAbove(score, true); // 같은 점수의 뒤
+
+            int tail = block.size - pos;
+            System.arraycopy(block.scores, pos, block.scores, pos + 1, tail);
+            System.arraycopy(block.seqs, pos, block.seqs, pos + 1, tail);
+            System.arraycopy(block.infos, pos, block.infos, pos + 1, tail);
+            block.scores[pos] = score;
+            block.seqs[pos] = seq;
+            block.infos[pos] = info;
+            block.size++;
+            lasts[b] = block.scores[block.size - 1];
+            size++;
+
+            long index = prefix(b) + pos;
+            if (block.size == BLOCK_CAPACITY)
+                split(b);
+            else
+                add(b, 1);
+            return index;
+        }
+
+        // score보다 높은 점수의 수
+        long countAbove(int score)
+        {
+            return count(score, false);
+        }
+
+        // score 이상인 점수의 수
+        long countAtLeast(int score)
+        {
+            return count(score, true);
+        }
+
+        private long count(int score, boolean inclusive)
+        {
+            int b = blockFor(score, inclusive);
+            return prefix(b) + blocks[b].countAbove(score, inclusive);
+        }
+
+        ScoreInfo get(long index)
+        {
+            if (index < 0 || index >= size)
+                return null;
+
+            // 펜윅 트리에서 앞쪽 합이 index 이하인 가장 긴 블럭 구간을 찾음
+            int b = 0;
+            long remaining = index;
+            for (int step = Integer.highestOneBit(blockCount); step > 0; step >>= 1) {
+                int next = b + step;
+                if (next <= blockCount && tree[next] <= remaining) {
+                    b = next;
+                    remaining -= tree[next];
+                }
+            }
+            return blocks[b].infos[(int) remaining];
+        }
+
+        /**
+         * 조건(점수가 score보다 높음, inclusive면 이상)을 만족하지 않는 항목이 처음 나오는 블럭.
+         * 모두 만족하면 마지막 블럭.
+         */
+        private int blockFor(int score, boolean inclusive)
+        {
+            int lo = 0;
+            int hi = blockCount - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int last = lasts[mid];
+                if (last > score || (inclusive && last == score))
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+            return lo;
+        }
+
+        // 블럭 [0, b)의 항목 수
+        private long prefix(int b)
+        {
+            long sum = 0;
+            for (int i = b; i > 0; i -= i & -i)
+                sum += tree[i];
+            return sum;
+        }
+
+        private void add(int b, int delta)
+        {
+            for (int i = b + 1; i <= blockCount; i += i & -i)
+                tree[i] += delta;
+        }
+
+        // 가득 찬 블럭을 반으로 나누고 펜윅 트리를 다시 만듦 (O(B), BLOCK_CAPACITY/2번 삽입마다 한 번)
+        private void split(int b)
+        {
+            if (blockCount == blocks.length) {
+                blocks = Arrays.copyOf(blocks, blocks.length * 2);
+                lasts = Arrays.copyOf(lasts, blocks.length);
+            }
+            System.arraycopy(blocks, b + 1, blocks, b + 2, blockCount - b - 1);
+            System.arraycopy(lasts, b + 1, lasts, b + 2, blockCount - b - 1);
+
+            Block left = blocks[b];
+            Block right = new Block();
+            int half = left.size / 2;
+            right.size = left.size - half;
+            System.arraycopy(left.scores, half, right.scores, 0, right.size);
+            System.arraycopy(left.seqs, half, right.seqs, 0, right.size);
+            System.arraycopy(left.infos, half, right.infos, 0, right.size);
+            Arrays.fill(left.infos, half, left.size, null);
+            left.size = half;
+
+            blocks[b + 1] = right;
+            lasts[b] = left.scores[half - 1];
+            lasts[b + 1] = right.scores[right.size - 1];
+            blockCount++;
+            rebuild();
+        }
+
+        private void rebuild()
+        {
+            if (tree.length <= blockCount)
+                tree = new long[blocks.length + 1];
+            for (int i = 1; i <= blockCount; i++)
+                tree[i] = blocks[i - 1].size;
+            for (int i = 1; i <= blockCount; i++) {
+                int parent = i + (i & -i);
+                if (parent <= blockCount)
+                    tree[parent] += tree[i];
+            }
+        }
+
+        Cursor cursor()
+        {
+            return new Cursor(this);
+        }
+    }
+
+    // 순위 리스트를 앞에서부터 차례로 읽음
+    private static final class Cursor
+    {
+        private final RankedList list;
+        private int block = 0;
+        private int pos = 0;
+
+        Cursor(RankedList list)
+        {
+            this.list = list;
+        }
+
+        boolean hasNext()
+        {
+            return block < list.blockCount && pos < list.blocks[block].size;
+        }
+
+        int score()
+        {
+            return list.blocks[block].scores[pos];
+        }
+
+        long seq()
+        {
+            return list.blocks[block].seqs[pos];
+        }
+
+        // 점수 내림차순, 같은 점수는 먼저 들어온 순서
+        boolean precedes(Cursor other)
+        {
+            return score() > other.score() || (score() == other.score() && seq() < other.seq());
+        }
+
+        ScoreInfo next()
+        {
+            ScoreInfo info = list.blocks[block].infos[pos++];
+            if (pos == list.blocks[block].size) {
+                block++;
+                pos = 0;
+            }
+            return info;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package org.tetris.scoreboard.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.tetris.game.model.GameMode;
+import org.util.Difficulty;
+
+/**
+ * 끝난 게임을 모두 쌓아 두는 추가 전용(append-only) 기록 파일.
+ *
+ * 파일을 메모리 매핑하고 게임 하나를 32바이트 고정 크기 레코드로 씁니다.
+ * 추가는 레코드 하나와 헤더의 개수만 쓰므로 O(1)이고 (매핑이 차면 두 배로 늘림),
+ * 통계는 객체를 만들지 않고 매핑된 버퍼를 직접 훑으므로 수백만 건도 빠르게 계산합니다.
+ * 레코드는 쓴 뒤 개수를 올리므로, 프로그램이 중간에 죽어도 반쯤 쓴 레코드는 보이지 않습니다.
+ *
+ * <pre>
+ * 헤더 (32바이트): 매직 | 버전 | 레코드 크기 | 예약 | 레코드 수(long) | 예약
+ * 레코드 (32바이트): 시각(long) | 점수 | 줄 수 | 게임 시간(ms) | 레벨(short) | 모드(byte) | 난이도(byte) | 예약
+ * </pre>
+ * 단일 스레드(FX 스레드)에서 사용하는 것을 전제로 합니다.
+ */
+public class MatchHistory implements Closeable
+{
+    public static final String DEFAULT_FILE_NAME = "match_history.dat";
+
+    public static final int RECORD_SIZE = 32;
+    static final int HEADER_SIZE = 32;
+
+    private static final int MAGIC = 0x54374d48; // "T7MH"
+    private static final int VERSION = 1;
+
+    private static final int COUNT_OFFSET = 16;
+
+    private static final int TIMESTAMP = 0;
+    private static final int SCORE = 8;
+    private static final int LINES = 12;
+    private static final int DURATION = 16;
+    private static final int LEVEL = 20;
+    private static final int MODE = 22;
+    private static final int DIFFICULTY = 23;
+
+    // 처음 매핑할 레코드 수 (32KB)
+    private static final int INITIAL_CAPACITY = 1024;
+    // 매핑 하나의 최대 크기(2GB)에 들어가는 레코드 수
+    static final long MAX_RECORDS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private static final GameMode[] MODES = GameMode.values();
+    private static final String[] DIFFICULTIES = {
+        Difficulty.EASY_STRING, Difficulty.NORMAL_STRING, Difficulty.HARD_STRING
+    };
+
+    /**
+     * 조건에 맞는 기록의 집계
+     */
+    public record Stats(long count, int bestScore, long totalScore, long totalLines, long totalDurationMillis)
+    {
+        public double averageScore()
+        {
+            return count == 0 ? 0 : (double) totalScore / count;
+        }
+    }
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long capacity;
+    private long count;
+
+    private MatchHistory(FileChannel channel) throws IOException
+    {
+        this.channel = channel;
+
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            map(INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, RECORD_SIZE);
+            buffer.putLong(COUNT_OFFSET, 0);
+            count = 0;
+            return;
+        }
+
+        if (fileSize < HEADER_SIZE)
+            throw new StreamCorruptedException("기록 파일이 너무 짧습니다.");
+        map(Math.max(1, (fileSize - HEADER_SIZE) / RECORD_SIZE));
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE)
+            throw new StreamCorruptedException("기록 파일 형식이 다릅니다.");
+
+        count = buffer.getLong(COUNT_OFFSET);
+        if (count < 0 || count > capacity)
+            throw new StreamCorruptedException("잘못된 기록 수: " + count);
+    }
+
+    /**
+     * 기록 파일을 엽니다. 없으면 새로 만듭니다.
+     */
+    public static MatchHistory open(Path path) throws IOException
+    {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MatchHistory(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 레코드 recordCapacity개가 들어가도록 파일을 늘리고 다시 매핑
+    private void map(long recordCapacity) throws IOException
+    {
+        capacity = Math.min(recordCapacity, MAX_RECORDS);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + capacity * RECORD_SIZE);
+    }
+
+    // ===== 추가 =====
+
+    /**
+     * 기록 하나를 끝에 추가합니다.
+     *
+     * @return 추가된 레코드의 번호
+     */
+    public long append(MatchRecord record) throws IOException
+    {
+        if (count == capacity) {
+            if (capacity == MAX_RECORDS)
+                throw new IOException("기록 파일이 가득 찼습니다.");
+            map(capacity * 2);
+        }
+
+        int offset = offsetOf(count);
+        buffer.putLong(offset + TIMESTAMP, record.timestamp());
+        buffer.putInt(offset + SCORE, record.score());
+        buffer.putInt(offset + LINES, record.lines());
+        buffer.putInt(offset + DURATION, record.durationMillis());
+        buffer.putShort(offset + LEVEL, (short) record.level());
+        buffer.put(offset + MODE, (byte) record.mode().ordinal());
+        buffer.put(offset + DIFFICULTY, (byte) difficultyCode(record.difficulty()));
+
+        // 레코드를 다 쓴 뒤에 개수를 올림
+        buffer.putLong(COUNT_OFFSET, count + 1);
+        return count++;
+    }
+
+    /**
+     * 매핑된 내용을 디스크에 기록합니다. (전원이 꺼져도 남아야 할 때)
+     */
+    public void force()
+    {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        buffer.force();
+        channel.close();
+    }
+
+    // ===== 조회 =====
+
+    public long size()
+    {
+        return count;
+    }
+
+    /**
+     * 기록 하나를 읽습니다.
+     *
+     * @throws StreamCorruptedException 모드/난이도 값이 범위를 벗어난 (깨진) 레코드
+     */
+    public MatchRecord get(long index) throws StreamCorruptedException
+    {
+        int offset = checkedOffset(index);
+        if (!isValid(offset))
+            throw new StreamCorruptedException("깨진 기록: " + index + " (모드 " + buffer.get(offset + MODE)
+                    + ", 난이도 " + buffer.get(offset + DIFFICULTY) + ")");
+        return new MatchRecord(
+                buffer.getInt(offset + SCORE),
+                buffer.getInt(offset + LINES),
+                buffer.getShort(offset + LEVEL),
+                MODES[buffer.get(offset + MODE)],
+                DIFFICULTIES[buffer.get(offset + DIFFICULTY)],
+                buffer.getInt(offset + DURATION),
+                buffer.getLong(offset + TIMESTAMP));
+    }
+
+    public int getScore(long index)
+    {
+        return buffer.getInt(checkedOffset(index) + SCORE);
+    }
+
+    public long getTimestamp(long index)
+    {
+        return buffer.getLong(checkedOffset(index) + TIMESTAMP);
+    }
+
+    /**
+     * 조건에 맞는 기록의 통계를 계산합니다.
+     *
+     * @param mode 게임 모드 (null이면 전체)
+     * @param difficulty 난이도 (null이면 전체)
+     */
+    public Stats stats(GameMode mode, String difficulty)
+    {
+        return stats(mode, difficulty, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 기간 [from, to) 안에 끝난 게임 중 조건에 맞는 기록의 통계를 계산합니다. (깨진 레코드는 건너뜀)
+     *
+     * @param mode 게임 모드 (null이면 전체)
+     * @param difficulty 난이도 (null이면 전체)
+     * @param from 시작 시각 (epoch ms, 포함)
+     * @param to 끝 시각 (epoch ms, 제외)
+     */
+    public Stats stats(GameMode mode, String difficulty, long from, long to)
+    {
+        int modeCode = mode == null ? -1 : mode.ordinal();
+        int difficultyCode = difficulty == null ? -1 : difficultyCode(difficulty);
+
+        long matched = 0;
+        int best = 0;
+        long totalScore = 0;
+        long totalLines = 0;
+        long totalDuration = 0;
+
+        int end = offsetOf(count);
+        for (int offset = HEADER_SIZE; offset < end; offset += RECORD_SIZE) {
+            if (modeCode >= 0 && buffer.get(offset + MODE) != modeCode)
+                continue;
+            if (difficultyCode >= 0 && buffer.get(offset + DIFFICULTY) != difficultyCode)
+                continue;
+            long timestamp = buffer.getLong(offset + TIMESTAMP);
+            if (timestamp < from || timestamp >= to)
+                continue;
+            if (!isValid(offset))
+                continue;
+
+            int score = buffer.getInt(offset + SCORE);
+            matched++;
+            best = Math.max(best, score);
+            totalScore += score;
+            totalLines += buffer.getInt(offset + LINES);
+            totalDuration += buffer.getInt(offset + DURATION);
+        }
+        return new Stats(matched, best, totalScore, totalLines, totalDuration);
+    }
+
+    // 모드/난이도 바이트가 알려진 값인지 (파일이 깨졌거나 다른 버전이 쓴 레코드 걸러냄)
+    private boolean isValid(int offset)
+    {
+        int mode = buffer.get(offset + MODE);
+        int difficulty = buffer.get(offset + DIFFICULTY);
+        return mode >= 0 && mode < MODES.length && difficulty >= 0 && difficulty < DIFFICULTIES.length;
+    }
+
+    private int checkedOffset(long index)
+    {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + count);
+        return offsetOf(index);
+    }
+
+    private static int offsetOf(long index)
+    {
+        return (int) (HEADER_SIZE + index * RECORD_SIZE);
+    }
+
+    // 모르는 난이도는 EASY로 저장 (ScoreBoard의 기본값과 동일)
+    private static int difficultyCode(String difficulty)
+    {
+        for (int i = 0; i < DIFFICULTIES.length; i++) {
+            if (DIFFICULTIES[i].equals(difficulty))
+                return i;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,19 @@
+package org.tetris.scoreboard.model;
+
+import org.tetris.game.model.GameMode;
+
+/**
+ * 끝난 게임 한 판의 기록 (MatchHistory의 고정 크기 레코드 하나)
+ *
+ * @param score 최종 점수
+ * @param lines 지운 줄 수
+ * @param level 최종 레벨
+ * @param mode 게임 모드
+ * @param difficulty 난이도 ("EASY", "NORMAL", "HARD")
+ * @param durationMillis 게임 시간 (ms)
+ * @param timestamp 게임이 끝난 시각 (epoch ms)
+ */
+public record MatchRecord(int score, int lines, int level, GameMode mode, String difficulty,
+        int durationMillis, long timestamp)
+{
+}
@@ -1,15 +1,17 @@
 package org.tetris.scoreboard.model;
 
 import java.io.BufferedReader;
-
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.tetris.game.model.GameMode;
 import org.tetris.shared.BaseModel;
 
 import javafx.collections.ObservableList;
@@ -22,29 +24,135 @@ public class ScoreBoard extends BaseModel
     private String highScorePath;
     private final int maxScores;
 
-    private ArrayList<ScoreInfo> highScoreList;
+    private GameMode mode = GameMode.NORMAL;
+
+    // 모드별 점수 파일. 화면에는 상위 maxScores개만 보여줌
+    private final Map<GameMode, ScoreFile> files = new EnumMap<>(GameMode.class);
+    // 로그에 이만큼 쌓이면 스냅샷 파일로 합침
+    static final int COMPACT_INTERVAL = 32;
+
+    // 열려 있는 점수 파일 (경로마다 하나). 점수판을 열 때마다 다시 복구하지 않고 함께 씀
+    private static final Map<Path, ScoreFile> OPEN_FILES = new HashMap<>();
+
+    /**
+     * 점수 파일 하나의 선행 기록과 전체 기록 순위표.
+     * 점수 추가는 로그에만 덧붙이고 파일 전체는 가끔 다시 씀
+     */
+    private static final class ScoreFile
+    {
+        final ScoreLog log;
+        final Leaderboard leaderboard = new Leaderboard();
+        final GameMode mode; // 순위표에서 이 파일의 기록이 들어가는 모드 (처음 연 모드)
+
+        ScoreFile(GameMode mode, Path path)
+        {
+            this.mode = mode;
+            this.log = new ScoreLog(path);
+            // 스냅샷 파일에 선행 기록을 덧붙여 복구하고, 남은 기록이 있으면 스냅샷으로 합침
+            for (ScoreInfo scoreInfo : log.recover())
+                leaderboard.insert(mode, scoreInfo);
+            if (log.pendingCount() > 0)
+                log.compact();
+        }
+    }
     
     /**
      * 10개의 점수를 저장하는 ScoreBoard 객체를 생성합니다.
      * 기본 경로로 설정합니다.
      */
     public ScoreBoard(){
-        this(10, DEFAULT_HIGH_SCORE_LIST_PATH);
+        this(10, DEFAULT_HIGH_SCORE_LIST_PATH, ITEM_HIGH_SCORE_LIST_PATH);
     }
 
     /**
      * maxScores 개수만큼의 점수를 저장하는 ScoreBoard 객체를 생성합니다.
+     * 아이템 모드 점수는 같은 폴더의 "이름.item.csv" 파일을 사용합니다.
      * @param maxScores 저장할 최대 점수 개수
      * @param highScorePath 최고 점수 파일 경로
      */
     public ScoreBoard(int maxScores, String highScorePath){
+        this(maxScores, highScorePath, itemPathOf(highScorePath));
+    }
+
+    /**
+     * maxScores 개수만큼의 점수를 저장하는 ScoreBoard 객체를 생성합니다.
+     * @param maxScores 저장할 최대 점수 개수
+     * @param highScorePath 최고 점수 파일 경로
+     * @param itemHighScorePath 아이템 모드 최고 점수 파일 경로
+     */
+    public ScoreBoard(int maxScores, String highScorePath, String itemHighScorePath){
         this.highScorePath = highScorePath;
         this.maxScores = maxScores;
-        highScoreList = readHighScoreList();
+        // 모드를 바꿀 때 디스크를 읽지 않도록 두 모드 모두 미리 열어 둠 (이미 열려 있으면 그대로 씀)
+        files.put(GameMode.NORMAL, open(GameMode.NORMAL, highScorePath));
+        files.put(GameMode.ITEM, open(GameMode.ITEM, itemHighScorePath));
+    }
+
+    /**
+     * 기본 경로의 점수 파일을 미리 복구합니다. (프로그램 시작 시)
+     */
+    public static void openDefaultFiles(){
+        open(GameMode.NORMAL, DEFAULT_HIGH_SCORE_LIST_PATH);
+        open(GameMode.ITEM, ITEM_HIGH_SCORE_LIST_PATH);
+    }
+
+    /**
+     * 열려 있는 모든 점수 파일의 쓰기가 끝날 때까지 기다리고 닫습니다. (프로그램 종료 시)
+     * 이후 만드는 ScoreBoard는 파일을 다시 복구합니다.
+     */
+    public static synchronized void closeAll(){
+        for (ScoreFile file : OPEN_FILES.values())
+            file.log.close();
+        OPEN_FILES.clear();
+    }
+
+    // 처음 열 때만 디스크에서 복구
+    private static synchronized ScoreFile open(GameMode mode, String path){
+        return OPEN_FILES.computeIfAbsent(Paths.get(path).toAbsolutePath().normalize(),
+                key -> new ScoreFile(mode, key));
+    }
+
+    // scores.csv -> scores.item.csv
+    static String itemPathOf(String highScorePath){
+        int dot = highScorePath.lastIndexOf('.');
+        int slash = Math.max(highScorePath.lastIndexOf('/'), highScorePath.lastIndexOf('\\'));
+        if (dot <= slash)
+            return highScorePath + ".item";
+        return highScorePath.substring(0, dot) + ".item" + highScorePath.substring(dot);
     }
 
+    /**
+     * 상위 maxScores개의 점수를 반환합니다.
+     */
     public ArrayList<ScoreInfo> getHighScoreList(){
-        return highScoreList;
+        ScoreFile file = files.get(mode);
+        return new ArrayList<>(file.leaderboard.top(file.mode, null, maxScores));
+    }
+
+    /**
+     * 난이도별 상위 k개의 점수를 반환합니다.
+     * @param difficulty 난이도 (null이면 전체)
+     */
+    public List<ScoreInfo> getTopScores(String difficulty, int k){
+        ScoreFile file = files.get(mode);
+        return file.leaderboard.top(file.mode, difficulty, k);
+    }
+
+    /**
+     * 이 점수가 현재 모드에서 몇 등인지 반환합니다. (1부터)
+     * @param difficulty 난이도 (null이면 전체)
+     */
+    public long getRank(int score, String difficulty){
+        ScoreFile file = files.get(mode);
+        return file.leaderboard.rankOf(file.mode, difficulty, score);
+    }
+
+    /**
+     * 현재 모드에 저장된 전체 기록 수
+     */
+    public long size(){
+        ScoreFile file = files.get(mode);
+        return file.leaderboard.size(file.mode, null);
     }
 
     /**
@@ -52,53 +160,37 @@ public class ScoreBoard extends BaseModel
      * @param path 새로운 최고 점수 파일 경로
      */
     public void setHighScorePath(boolean isItemMode){
-        writeHighScoreList();
-
-        if(isItemMode){
-            this.highScorePath = ITEM_HIGH_SCORE_LIST_PATH;
-        }
-        else{
-            this.highScorePath = DEFAULT_HIGH_SCORE_LIST_PATH;
-        }
-
-        highScoreList = readHighScoreList();
+        // 두 모드 모두 생성할 때 읽어 두었으므로 디스크를 건드리지 않음
+        this.mode = isItemMode ? GameMode.ITEM : GameMode.NORMAL;
+        this.highScorePath = files.get(mode).log.getSnapshotPath().toString();
     }
 
     /**
      * 최고 점수 리스트를 초기화합니다.
      */
     public void clear(){
-        highScoreList.clear();
-        writeHighScoreList();
+        ScoreFile file = files.get(mode);
+        file.leaderboard.clear(file.mode);
+        file.log.compact(List.of());
     }
 
     /**
-     * 새로운 점수를 삽입합니다. 점수는 내림차순으로 정렬됩니다.
+     * 새로운 점수를 삽입합니다. 점수는 내림차순으로 정렬되고, 같은 점수는 먼저 들어온 기록이 앞에 옵니다.
+     * 상위 maxScores개 밖이어도 기록은 순위표에 남습니다.
+     * 파일에는 백그라운드에서 선행 기록으로 덧붙이므로 디스크를 기다리지 않습니다.
+     * 로그가 쌓여 스냅샷으로 합칠 때도 정렬과 쓰기는 쓰기 스레드에서 합니다.
      * @param scoreInfo 삽입할 점수 정보
-     * @return 삽입된 인덱스 (삽입되지 않은 경우 -1)
+     * @return 삽입된 인덱스 (상위 maxScores개에 들지 못한 경우 -1)
      */
     public int insert(ScoreInfo scoreInfo){
-        if(highScoreList.isEmpty()) {
-            highScoreList.add(scoreInfo);
-            return 0;
-        }
-
-        for(int i = 0; i < highScoreList.size(); i++) {
-            if(scoreInfo.score() > highScoreList.get(i).score()) {
-                highScoreList.add(i, scoreInfo);
-                if(highScoreList.size() > maxScores) {
-                    highScoreList.remove(maxScores);
-                }
-                return i;
-            }
-        }
-        
-        if(highScoreList.size() < maxScores) {
-            highScoreList.add(scoreInfo);
-            return highScoreList.size() - 1;
-        }
-        
-        return -1; // 삽입되지 않은 경우
+        ScoreFile file = files.get(mode);
+        long index = file.leaderboard.insert(file.mode, scoreInfo);
+
+        ScoreLog log = file.log;
+        log.append(scoreInfo);
+        if (log.pendingCount() >= COMPACT_INTERVAL)
+            log.compact();
+        return index < maxScores ? (int) index : -1;
     }
 
     // region I/O
@@ -129,22 +221,16 @@ public class ScoreBoard extends BaseModel
     }
 
     /**
-     * 현재 최고 점수 리스트를 highScorePath 경로에 저장합니다.
+     * 현재 모드의 모든 기록을 점수 내림차순으로 highScorePath 경로에 저장합니다.
+     * 저장이 끝날 때까지 기다립니다. (게임 화면에서는 insert만으로 충분)
      */
     public void writeHighScoreList()
     {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(highScorePath))) {
-            for (ScoreInfo scoreInfo : highScoreList) {
-                bw.write(scoreInfo.score() + "," + scoreInfo.name() + "," + scoreInfo.difficulty());
-                bw.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        files.get(mode).log.compact().join();
     }
     // endregion
 
     public ObservableList<ScoreInfo> getScoreList() {
-        return javafx.collections.FXCollections.observableArrayList(highScoreList);
+        return javafx.collections.FXCollections.observableArrayList(getHighScoreList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+package org.tetris.scoreboard.model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * 점수 파일 하나에 대한 선행 기록(write-ahead log).
+ *
+ * 새 점수는 스냅샷 파일(점수 CSV)을 다시 쓰지 않고 "파일이름.wal"에 한 줄씩 덧붙입니다.
+ * 디스크 작업은 모두 백그라운드 쓰기 스레드 하나에서 순서대로 처리하므로 호출한 스레드(FX 스레드)는 기다리지 않습니다.
+ * 기록이 쌓이면 compact로 전체 목록을 임시 파일에 쓴 뒤 스냅샷과 바꾸고 로그를 비웁니다.
+ * 전체 목록은 쓰기 스레드가 따로 들고 있다가 그 스레드에서 정렬하므로 호출한 스레드는 목록을 만들지 않습니다.
+ *
+ * <pre>
+ * 스냅샷: #wal,마지막으로 반영된 번호  다음에  점수,이름,난이도 (기존 CSV 형식)
+ * 로그 한 줄: 번호,점수,이름,난이도,CRC32(16진수)
+ * </pre>
+ * 쓰다가 죽어서 잘리거나 깨진 로그 줄은 CRC로 걸러 버리고,
+ * 스냅샷에 이미 반영된 번호의 로그 줄은 건너뛰므로 스냅샷 교체와 로그 비우기 사이에 죽어도 중복되지 않습니다.
+ * 단일 스레드(FX 스레드)에서 호출하는 것을 전제로 합니다.
+ */
+public class ScoreLog
+{
+    static final String WAL_SUFFIX = ".wal";
+    private static final String SNAPSHOT_HEADER = "#wal,";
+
+    // 모든 점수 파일이 함께 쓰는 쓰기 스레드 (같은 파일을 두 곳에서 동시에 만지지 않도록)
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "score-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path snapshotPath;
+    private final Path walPath;
+    private FileChannel wal; // 쓰기 스레드에서만 사용
+    // 스냅샷 + 로그의 전체 점수 (저장 순서, 쓰기 스레드에서만 사용)
+    private List<ScoreInfo> scores = new ArrayList<>();
+
+    private long nextSeq = 1;
+    private int pending = 0; // 마지막 compact 이후 로그에 쌓인 수
+
+    public ScoreLog(Path snapshotPath)
+    {
+        this.snapshotPath = snapshotPath;
+        this.walPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + WAL_SUFFIX);
+    }
+
+    /**
+     * 스냅샷에 로그를 덧붙여 저장된 점수를 복구합니다.
+     * 앞서 요청된 쓰기가 끝난 뒤에 읽으며, 끝날 때까지 기다립니다. (시작할 때 한 번)
+     *
+     * @return 저장된 순서대로의 점수 목록
+     */
+    public List<ScoreInfo> recover()
+    {
+        return CompletableFuture.supplyAsync(() -> {
+            scores = new ArrayList<>();
+            pending = 0;
+            long covered = readSnapshot(scores);
+            long last = covered;
+            for (String line : readLines(walPath)) {
+                String[] parts = line.split(",");
+                if (parts.length != 5 || !checksum(line.substring(0, line.lastIndexOf(','))).equals(parts[4]))
+                    continue; // 쓰다가 잘리거나 깨진 줄
+                long seq = Long.parseLong(parts[0]);
+                if (seq <= covered)
+                    continue; // 이미 스냅샷에 있음
+                scores.add(new ScoreInfo(Integer.parseInt(parts[1]), parts[2], parts[3]));
+                last = Math.max(last, seq);
+                pending++;
+            }
+            nextSeq = last + 1;
+            return new ArrayList<>(scores);
+        }, WRITER).join();
+    }
+
+    /**
+     * 점수 하나를 로그에 덧붙입니다. 바로 반환하고 쓰기는 백그라운드에서 합니다.
+     */
+    public void append(ScoreInfo info)
+    {
+        String body = nextSeq++ + "," + info.score() + "," + info.name() + "," + info.difficulty();
+        String line = body + "," + checksum(body) + "\n";
+        pending++;
+        WRITER.execute(() -> {
+            scores.add(info);
+            try {
+                if (wal == null)
+                    openWal();
+                ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining())
+                    wal.write(bytes);
+                wal.force(false);
+            } catch (IOException e) {
+                System.err.println("[ScoreLog] 기록 실패: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 지금까지 기록된 전체 점수를 점수 내림차순(같은 점수는 먼저 기록된 순서)으로 정렬해 스냅샷을 새로 쓰고 로그를 비웁니다.
+     * 정렬과 쓰기 모두 쓰기 스레드에서 하므로 바로 반환합니다.
+     *
+     * @return 스냅샷 교체가 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> compact()
+    {
+        return compact(null);
+    }
+
+    /**
+     * 전체 점수 목록을 주어진 목록으로 바꾸고 스냅샷을 새로 쓴 뒤 로그를 비웁니다. (기록 초기화 등)
+     *
+     * @param replacement 점수 내림차순 전체 목록 (null이면 지금까지 기록된 점수를 정렬해 씀)
+     * @return 스냅샷 교체가 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> compact(List<ScoreInfo> replacement)
+    {
+        long covered = nextSeq - 1;
+        pending = 0;
+        List<ScoreInfo> copy = replacement != null ? new ArrayList<>(replacement) : null;
+        return CompletableFuture.runAsync(() -> {
+            if (copy != null)
+                scores = copy;
+            else
+                scores.sort(Comparator.comparingInt(ScoreInfo::score).reversed()); // 안정 정렬
+            try {
+                writeSnapshot(scores, covered);
+                if (wal != null) {
+                    wal.truncate(0);
+                    wal.force(false);
+                } else {
+                    Files.deleteIfExists(walPath);
+                }
+            } catch (IOException e) {
+                System.err.println("[ScoreLog] 스냅샷 저장 실패: " + e.getMessage());
+            }
+        }, WRITER);
+    }
+
+    public Path getSnapshotPath()
+    {
+        return snapshotPath;
+    }
+
+    /**
+     * 마지막 compact 이후 로그에 쌓인 점수 수
+     */
+    public int pendingCount()
+    {
+        return pending;
+    }
+
+    /**
+     * 앞서 요청된 쓰기가 모두 끝날 때까지 기다리고 로그 파일을 닫습니다.
+     */
+    public void close()
+    {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (wal != null)
+                    wal.close();
+            } catch (IOException e) {
+                System.err.println("[ScoreLog] 닫기 실패: " + e.getMessage());
+            }
+            wal = null;
+        }, WRITER).join();
+    }
+
+    /**
+     * 모든 점수 파일에 대해 앞서 요청된 쓰기가 끝날 때까지 기다립니다. (프로그램 종료 전)
+     */
+    public static void flush()
+    {
+        CompletableFuture.runAsync(() -> {}, WRITER).join();
+    }
+
+    // region 파일
+    // 쓰다가 잘린 줄로 끝나 있으면 새 줄부터 이어 씀 (잘린 줄에 붙어 다음 기록까지 깨지지 않도록)
+    private void openWal() throws IOException
+    {
+        wal = FileChannel.open(walPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = wal.size();
+        wal.position(size); // 항상 끝에 덧붙임 (truncate하면 위치도 0으로 돌아감)
+        if (size == 0)
+            return;
+        ByteBuffer last = ByteBuffer.allocate(1);
+        wal.read(last, size - 1);
+        if (last.get(0) != '\n')
+            wal.write(ByteBuffer.wrap(new byte[] { '\n' }));
+    }
+
+    // @return 스냅샷에 반영된 마지막 로그 번호
+    private long readSnapshot(List<ScoreInfo> scores)
+    {
+        long covered = 0;
+        for (String line : readLines(snapshotPath)) {
+            if (line.startsWith(SNAPSHOT_HEADER)) {
+                covered = Long.parseLong(line.substring(SNAPSHOT_HEADER.length()).trim());
+                continue;
+            }
+            String[] parts = line.split(",");
+            if (parts.length == 3)
+                scores.add(new ScoreInfo(Integer.parseInt(parts[0]), parts[1], parts[2]));
+        }
+        return covered;
+    }
+
+    // 임시 파일에 다 쓰고 디스크에 내린 뒤 바꿔치기 (도중에 죽어도 이전 스냅샷이 남음)
+    private void writeSnapshot(List<ScoreInfo> scores, long covered) throws IOException
+    {
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (BufferedWriter bw = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            bw.write(SNAPSHOT_HEADER + covered);
+            bw.newLine();
+            for (ScoreInfo scoreInfo : scores) {
+                bw.write(scoreInfo.score() + "," + scoreInfo.name() + "," + scoreInfo.difficulty());
+                bw.newLine();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static List<String> readLines(Path path)
+    {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null)
+                lines.add(line);
+        } catch (NoSuchFileException e) {
+            // 아직 저장된 적 없음
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[ScoreLog] 읽기 실패: " + path + " (" + e.getMessage() + ")");
+        }
+        return lines;
+    }
+
+    private static String checksum(String body)
+    {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+    // endregion
+}
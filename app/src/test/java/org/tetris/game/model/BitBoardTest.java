@@ -0,0 +1,150 @@
+package org.tetris.game.model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BitBoardTest {
+
+    @Test
+    public void testSetUpdatesRowMask() {
+        BitBoard board = new BitBoard(5, 5);
+
+        board.set(2, 0, 3);
+        board.set(2, 4, 1);
+
+        assertEquals(0b10001, board.getRow(2));
+        assertEquals(3, board.get(2, 0));
+
+        board.set(2, 0, 0);
+        assertEquals(0b10000, board.getRow(2));
+    }
+
+    @Test
+    public void testExposedCellsAreResynced() {
+        BitBoard board = new BitBoard(5, 5);
+
+        int[][] cells = board.exposeCells();
+        for (int c = 0; c < 5; c++)
+            cells[4][c] = 1;
+
+        assertTrue(board.isRowFull(4));
+        assertTrue(board.isRowEmpty(3));
+    }
+
+    @Test
+    public void testFitsBounds() {
+        BitBoard board = new BitBoard(5, 5);
+        int[] piece = { 0b111, 0b010 }; // T 모양
+
+        assertTrue(board.fits(piece, 0, 0, false));
+        assertTrue(board.fits(piece, 0, 2, false));
+        assertFalse(board.fits(piece, 0, 3, false)); // 오른쪽 경계
+        assertFalse(board.fits(piece, 0, -1, false)); // 왼쪽 경계
+        assertFalse(board.fits(piece, 4, 0, false)); // 바닥 경계
+        assertTrue(board.fits(piece, -1, 0, false)); // 위쪽은 허용
+    }
+
+    @Test
+    public void testFitsCollision() {
+        BitBoard board = new BitBoard(5, 5);
+        int[] piece = { 0b11, 0b11 };
+        board.set(4, 1, 2);
+
+        assertFalse(board.fits(piece, 3, 0, false));
+        assertTrue(board.fits(piece, 3, 0, true)); // force면 충돌 무시
+        assertTrue(board.fits(piece, 3, 2, false));
+    }
+
+    @Test
+    public void testFindFullRowsAndCollapse() {
+        BitBoard board = new BitBoard(4, 3);
+        for (int c = 0; c < 3; c++) {
+            board.set(3, c, 1);
+            board.set(1, c, 2);
+        }
+        board.set(2, 1, 5);
+
+        List<Integer> full = new ArrayList<>();
+        board.findFullRows(full);
+        assertEquals(List.of(1, 3), full);
+
+        board.clearRow(1);
+        board.clearRow(3);
+        board.collapse();
+
+        assertEquals(0b010, board.getRow(3));
+        assertEquals(5, board.get(3, 1));
+        assertTrue(board.isRowEmpty(2));
+    }
+
+    @Test
+    public void testPushUp() {
+        BitBoard board = new BitBoard(3, 3);
+        board.set(2, 0, 4);
+
+        assertTrue(board.pushUp(new int[] { 8, 0, 8 }));
+        assertEquals(0b001, board.getRow(1));
+        assertEquals(0b101, board.getRow(2));
+        assertEquals(8, board.get(2, 2));
+
+        board.set(0, 1, 1);
+        assertFalse(board.pushUp(new int[] { 0, 8, 8 }));
+    }
+
+    @Test
+    public void testClearColumn() {
+        BitBoard board = new BitBoard(3, 3);
+        for (int r = 0; r < 3; r++)
+            for (int c = 0; c < 3; c++)
+                board.set(r, c, 1);
+
+        board.clearColumn(1);
+
+        for (int r = 0; r < 3; r++) {
+            assertEquals(0b101, board.getRow(r));
+            assertEquals(0, board.get(r, 1));
+        }
+    }
+
+    @Test
+    public void testDirtyRows() {
+        BitBoard board = new BitBoard(70, 4); // 64행을 넘는 보드
+        assertTrue(board.isRowDirty(0));
+        assertTrue(board.isRowDirty(69));
+
+        board.clearDirtyRows();
+        board.set(65, 1, 3);
+        board.set(2, 0, 0); // 값이 그대로면 표시하지 않음
+        assertTrue(board.isRowDirty(65));
+        assertFalse(board.isRowDirty(1));
+        assertFalse(board.isRowDirty(2));
+
+        // 압축: 내용이 옮겨진 행과 비워진 행만 표시
+        board.set(67, 0, 1);
+        board.clearDirtyRows();
+        board.clearRow(67);
+        board.collapse();
+        assertTrue(board.isRowDirty(67));
+        assertTrue(board.isRowDirty(69));
+        assertTrue(board.isRowDirty(65));
+        assertFalse(board.isRowDirty(66));
+        assertFalse(board.isRowDirty(10));
+
+        board.clearDirtyRows();
+        board.exposeCells(); // 외부에서 고칠 수 있으니 전부 표시
+        assertTrue(board.isRowDirty(30));
+
+        board.clearDirtyRows();
+        board.pushUp(new int[] { 8, 0, 8, 8 });
+        assertTrue(board.isRowDirty(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooWide() {
+        new BitBoard(20, BitBoard.MAX_WIDTH + 1);
+    }
+}
@@ -91,4 +91,75 @@ public class BlockTest {
         assertEquals(expectedBlock, block.toString());
         assertEquals(block.pivot, new Point(1, 1));
     }
+
+    @Test
+    public void testRotationTableCycle()
+    {
+        // 네 번 회전하면 원래 상태(같은 모양 객체)로 돌아와야 함
+        Block block = new JBlock();
+        String original = block.toString();
+        int[] masks = block.getRowMasks();
+
+        for (int i = 0; i < RotationTable.STATE_COUNT; i++)
+            block.rotateCW();
+
+        assertEquals(0, block.getRotation());
+        assertEquals(original, block.toString());
+        assertSame(masks, block.getRowMasks());
+    }
+
+    @Test
+    public void testRotationTableShared()
+    {
+        // 같은 종류의 블럭은 회전 상태를 공유
+        Block a = new SBlock();
+        Block b = new SBlock();
+        a.rotateCW();
+        b.rotateCW();
+
+        assertSame(a.getRowMasks(), b.getRowMasks());
+        // 피벗은 블럭마다 따로 가짐 (한 블럭을 고쳐도 다른 블럭에 번지지 않음)
+        assertNotSame(a.pivot, b.pivot);
+        assertEquals(a.pivot, b.pivot);
+        Point expected = new Point(b.pivot);
+        a.pivot.r = 5;
+        assertEquals(expected, b.pivot);
+    }
+
+    @Test
+    public void testAccessorsReturnCopies()
+    {
+        Block a = new TBlock();
+        a.getBounds()[0] = 99;
+        a.getSize().r = 99;
+        a.getPivot(1).r = 99;
+
+        Block b = new TBlock();
+        assertArrayEquals(new int[] { 0, 1, 0, 2 }, b.getBounds());
+        assertEquals(new Point(2, 3), b.getSize());
+        assertEquals(new Point(1, 0), b.getPivot(1));
+    }
+
+    @Test
+    public void testReShapeCachedPerBlockType()
+    {
+        Block block = new LBlock();
+        int[][] shape = { { 0, 0, 12 }, { 12, 12, 12 } };
+        Block first = block.reShape(shape);
+        shape[0][2] = 0; // 넘긴 배열을 고쳐도 캐시된 모양은 그대로
+        Block second = new LBlock().reShape(new int[][] { { 0, 0, 12 }, { 12, 12, 12 } });
+
+        assertSame(first.getRowMasks(), second.getRowMasks());
+        assertEquals(12, first.getCell(0, 2));
+    }
+
+    @Test
+    public void testBounds()
+    {
+        Block block = new TBlock();
+        assertArrayEquals(new int[] { 0, 1, 0, 2 }, block.getBounds());
+
+        block.rotateCW();
+        assertArrayEquals(new int[] { 0, 2, 0, 1 }, block.getBounds());
+    }
 }
@@ -0,0 +1,117 @@
+package org.tetris.game.model;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.game.model.blocks.*;
+
+/**
+ * Board 이동 경로가 힙 할당 없이 동작하는지 검증하는 회귀 테스트
+ */
+public class BoardAllocationTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURE_ROUNDS = 100_000;
+    // 측정 자체(MXBean 호출 등)에서 생길 수 있는 소량의 할당 허용치
+    private static final long ALLOWED_BYTES = 4 * 1024;
+
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @Before
+    public void setUp() {
+        var bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private long allocatedBytes() {
+        return threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    public void testMovementDoesNotAllocate() {
+        Board board = new Board();
+        Block block = new TBlock();
+
+        // JIT 워밍업 + 클래스 초기화
+        runMoves(board, block, WARMUP_ROUNDS);
+
+        long before = allocatedBytes();
+        int moved = runMoves(board, block, MEASURE_ROUNDS);
+        long allocated = allocatedBytes() - before;
+
+        assertTrue(moved > 0);
+        assertTrue("이동 경로에서 " + allocated + " bytes 할당됨", allocated < ALLOWED_BYTES);
+    }
+
+    @Test
+    public void testValidPosCheckDoesNotAllocate() {
+        Board board = new Board();
+        Block block = new IBlock();
+        board.setActiveBlock(block);
+
+        int valid = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            if (board.isValidPos(i % 20, i % 10, block, false))
+                valid++;
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            if (board.isValidPos(i % 20, i % 10, block, false))
+                valid++;
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertTrue(valid > 0);
+        assertTrue("충돌 검사에서 " + allocated + " bytes 할당됨", allocated < ALLOWED_BYTES);
+    }
+
+    @Test
+    public void testRotationDoesNotAllocate() {
+        Board board = new Board();
+        board.setActiveBlock(new LBlock());
+        board.moveDown();
+
+        int rotated = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            if (board.rotate())
+                rotated++;
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            if (board.rotate())
+                rotated++;
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertTrue(rotated > 0);
+        assertTrue("회전 경로에서 " + allocated + " bytes 할당됨", allocated < ALLOWED_BYTES);
+    }
+
+    private int runMoves(Board board, Block block, int rounds) {
+        int moved = 0;
+        for (int i = 0; i < rounds; i++) {
+            board.reset();
+            board.setActiveBlock(block);
+
+            if (board.moveLeft())
+                moved++;
+            if (board.moveRight())
+                moved++;
+            if (board.moveDown())
+                moved++;
+            if (board.rotate())
+                moved++;
+            moved += board.hardDrop();
+        }
+        return moved;
+    }
+}
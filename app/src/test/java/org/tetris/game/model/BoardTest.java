@@ -582,4 +582,15 @@ public class BoardTest {
         
         assertEquals(newPos, board.getCurPos());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testInitialPos() {
+        Board board = new Board(20, 10);
+        assertEquals(new Point(0, 5), board.getInitialPos());
+
+        // 복사본이므로 고쳐도 새 블럭 위치는 그대로
+        board.getInitialPos().c = 0;
+        board.setActiveBlock(new OBlock());
+        assertEquals(board.getInitialPos(), board.getCurPos());
+    }
+}
@@ -0,0 +1,112 @@
+package org.tetris.game.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class FixedTimestepTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    // 60Hz 틱 n개를 채우는 가장 짧은 시간 (나노초, 올림)
+    private static long ticks(long n) {
+        return (n * SECOND + 59) / 60;
+    }
+
+    // hz 주사율로 seconds초 동안 화면을 갱신했을 때 진행한 틱 수
+    private static long ticksAt(double hz, int seconds) {
+        FixedTimestep timestep = new FixedTimestep();
+        long start = 5 * SECOND;
+        long frames = Math.round(hz * seconds);
+        long total = timestep.advance(start);
+        for (long i = 1; i <= frames; i++) {
+            total += timestep.advance(start + i * seconds * SECOND / frames);
+        }
+        return total;
+    }
+
+    @Test
+    public void testSameTickCountAtAnyRefreshRate() {
+        assertEquals(600, ticksAt(30, 10));
+        assertEquals(600, ticksAt(60, 10));
+        assertEquals(600, ticksAt(75, 10));
+        assertEquals(600, ticksAt(144, 10));
+        assertEquals(600, ticksAt(240, 10));
+        assertEquals(600, ticksAt(59.94, 10));
+    }
+
+    @Test
+    public void testFirstCallOnlySetsBaseline() {
+        FixedTimestep timestep = new FixedTimestep();
+        assertEquals(0, timestep.advance(123 * SECOND));
+        assertEquals(0, timestep.getTicks());
+        assertEquals(5, timestep.advance(123 * SECOND + ticks(5)));
+        assertEquals(5, timestep.getTicks());
+    }
+
+    @Test
+    public void testJitteryFramesDoNotLoseTicks() {
+        // 16.6ms 간격 게이트는 16.5ms 프레임을 건너뛰었지만 누산기는 잃지 않음
+        FixedTimestep timestep = new FixedTimestep();
+        long now = 0;
+        timestep.advance(now);
+        long total = 0;
+        for (int i = 0; i < 600; i++) {
+            now += i % 2 == 0 ? 16_500_000L : 16_833_334L;
+            total += timestep.advance(now);
+        }
+        assertEquals(600, total);
+        assertEquals(0, timestep.getDroppedTicks());
+    }
+
+    @Test
+    public void testCatchUpIsCapped() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        timestep.advance(0);
+
+        assertEquals(5, timestep.advance(SECOND));
+        assertEquals(55, timestep.getDroppedTicks());
+        // 버린 시간은 다음 프레임으로 넘어가지 않음
+        assertEquals(1, timestep.advance(SECOND + ticks(1)));
+        assertEquals(6, timestep.getTicks());
+    }
+
+    @Test
+    public void testResyncSkipsPausedTime() {
+        FixedTimestep timestep = new FixedTimestep();
+        timestep.advance(0);
+        assertEquals(2, timestep.advance(ticks(2)));
+
+        timestep.resync();
+        assertEquals(0, timestep.advance(100 * SECOND));
+        assertEquals(1, timestep.advance(100 * SECOND + ticks(1)));
+        assertEquals(3, timestep.getTicks());
+        assertEquals(0, timestep.getDroppedTicks());
+
+        timestep.reset();
+        assertEquals(0, timestep.getTicks());
+    }
+
+    @Test
+    public void testAlphaIsFractionOfNextTick() {
+        FixedTimestep timestep = new FixedTimestep();
+        timestep.advance(0);
+        assertEquals(0, timestep.advance(SECOND / 120));
+        assertEquals(0.5, timestep.alpha(), 1e-6);
+
+        assertEquals(1, timestep.advance(SECOND / 120 + SECOND / 80));
+        assertEquals(0.25, timestep.alpha(), 1e-6);
+    }
+
+    @Test
+    public void testTicksToMillis() {
+        FixedTimestep timestep = new FixedTimestep();
+        assertEquals(1000, timestep.ticksToMillis(60));
+        assertEquals(90_000, timestep.ticksToMillis(60 * 90));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroRate() {
+        new FixedTimestep(0, 5);
+    }
+}
@@ -0,0 +1,128 @@
+package org.tetris.game.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.IBlock;
+import org.util.Difficulty;
+
+public class GameSimulationTest {
+
+    private static final Input[] PATTERN = {
+            Input.LEFT, null, Input.ROTATE, Input.RIGHT, Input.SOFT_DROP, null, Input.RIGHT, Input.HARD_DROP
+    };
+
+    @Before
+    public void setUp() {
+        Difficulty.setCurrentDifficulty(Difficulty.NORMAL_STRING);
+    }
+
+    private static GameSimulation.InputSource pattern() {
+        return sim -> PATTERN[(int) (sim.getTickCount() % PATTERN.length)];
+    }
+
+    @Test
+    public void testSameSeedSameResult() {
+        GameSimulation a = new GameSimulation(42L, false);
+        GameSimulation b = new GameSimulation(42L, false);
+
+        a.run(pattern(), 5_000);
+        b.run(pattern(), 5_000);
+
+        assertEquals(a.getTickCount(), b.getTickCount());
+        assertEquals(a.getScoreModel().getScore(), b.getScoreModel().getScore());
+        assertEquals(a.getBoard().toString(), b.getBoard().toString());
+        assertEquals(a.isGameOver(), b.isGameOver());
+    }
+
+    @Test
+    public void testItemModeDeterministic() {
+        GameSimulation a = new GameSimulation(7L, true);
+        GameSimulation b = new GameSimulation(7L, true);
+        a.setClearDelayTicks(0);
+        b.setClearDelayTicks(0);
+
+        a.run(pattern(), 20_000);
+        b.run(pattern(), 20_000);
+
+        assertEquals(a.getScoreModel().getScore(), b.getScoreModel().getScore());
+        assertEquals(a.getBoard().toString(), b.getBoard().toString());
+    }
+
+    @Test
+    public void testGravityMovesBlockDown() {
+        GameSimulation sim = new GameSimulation(1L, false);
+        int startRow = sim.getBoard().getCurRow();
+
+        int interval = sim.getGameModel().getDropInterval();
+        for (int i = 0; i < interval; i++)
+            sim.tick();
+
+        assertEquals(startRow + 1, sim.getBoard().getCurRow());
+    }
+
+    @Test
+    public void testHardDropOnlyEndsInGameOver() {
+        GameSimulation sim = new GameSimulation(3L, false);
+
+        long ran = sim.run(s -> Input.HARD_DROP, 10_000);
+
+        assertTrue(sim.isGameOver());
+        assertTrue(ran < 10_000);
+        // 게임 오버 이후에는 진행되지 않음
+        long ticks = sim.getTickCount();
+        sim.tick();
+        assertEquals(ticks, sim.getTickCount());
+    }
+
+    @Test
+    public void testLineClearAfterDelay() {
+        GameSimulation sim = new GameSimulation(5L, false);
+        Board board = sim.getBoard();
+        int h = board.getSize().r;
+
+        // I 블럭이 떨어질 4칸만 비워두고 맨 아랫줄을 채움
+        board.removeCurrentBlock();
+        board.setActiveBlock(new IBlock());
+        int left = board.getCurCol() - board.activeBlock.pivot.c;
+        for (int c = 0; c < board.getSize().c; c++) {
+            if (c < left || c >= left + 4)
+                board.getBoard()[h - 1][c] = 1;
+        }
+
+        sim.apply(Input.HARD_DROP);
+        assertTrue(sim.isClearing());
+        assertFalse(sim.apply(Input.LEFT)); // 줄 삭제 중 입력 무시
+
+        for (int i = 0; i < GameSimulation.DEFAULT_CLEAR_DELAY_TICKS; i++)
+            sim.tick();
+
+        assertFalse(sim.isClearing());
+        assertEquals(1, sim.getGameModel().getTotalLinesCleared());
+        assertTrue(board.getBitBoard().isRowEmpty(h - 1));
+    }
+
+    @Test
+    public void testAttackSentToOpponent() {
+        GameSimulation attacker = new GameSimulation(11L, false);
+        GameSimulation target = new GameSimulation(12L, false);
+        GameSimulation.connect(attacker, target);
+        attacker.setClearDelayTicks(0);
+
+        Board board = attacker.getBoard();
+        board.removeCurrentBlock();
+        int h = board.getSize().r;
+        // 아래 두 줄을 가득 채우고 블럭을 그 위에 고정 -> 2줄 삭제 후 상대에게 공격
+        for (int r = h - 2; r < h; r++)
+            for (int c = 0; c < board.getSize().c; c++)
+                board.getBoard()[r][c] = 1;
+        board.setActiveBlock(board.activeBlock);
+
+        attacker.apply(Input.HARD_DROP);
+
+        assertEquals(2, attacker.getGameModel().getTotalLinesCleared());
+        assertEquals(2, target.getAttackModel().getAttacks().size());
+    }
+}
@@ -0,0 +1,93 @@
+package org.tetris.game.model.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.game.model.Board;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.IBlock;
+import org.util.Difficulty;
+
+public class AiPlayerTest {
+
+    // blocking 모드는 예산과 관계없이 끝까지 탐색 (같은 시드면 같은 결과)
+    private static final long BUDGET = 10_000_000_000L;
+
+    @Before
+    public void setUp() {
+        Difficulty.setCurrentDifficulty(Difficulty.NORMAL_STRING);
+    }
+
+    @Test
+    public void testSteersIntoWellAndClearsLines() {
+        Board board = new Board();
+        int[][] cells = board.getBoard();
+        for (int r = 16; r < 20; r++) {
+            for (int c = 0; c < 9; c++)
+                cells[r][c] = 1;
+        }
+        board.setActiveBlock(new IBlock());
+
+        AiPlayer ai = new AiPlayer(BUDGET, true);
+        Input input;
+        int steps = 0;
+        while ((input = ai.nextInput(board, null)) != Input.HARD_DROP) {
+            assertNotNull(input);
+            switch (input) {
+                case LEFT -> board.moveLeft();
+                case RIGHT -> board.moveRight();
+                case ROTATE -> board.rotate();
+                default -> fail("unexpected " + input);
+            }
+            assertTrue("목표로 가는 입력이 끝나지 않음", ++steps < 20);
+        }
+        board.hardDrop();
+
+        assertEquals(4, board.findFullRows().size());
+    }
+
+    @Test
+    public void testPlaysLongGameDeterministically() {
+        GameSimulation a = new GameSimulation(11L, false);
+        GameSimulation b = new GameSimulation(11L, false);
+
+        a.run(new AiPlayer(BUDGET, true), 20_000);
+        b.run(new AiPlayer(BUDGET, true), 20_000);
+
+        assertFalse(a.isGameOver());
+        assertTrue(a.getGameModel().getTotalLinesCleared() > 100);
+        assertEquals(a.getScoreModel().getScore(), b.getScoreModel().getScore());
+        assertEquals(a.getBoard().toString(), b.getBoard().toString());
+    }
+
+    @Test
+    public void testBlockingIgnoresTimeBudget() {
+        GameSimulation a = new GameSimulation(5L, false);
+        GameSimulation b = new GameSimulation(5L, false);
+
+        // 예산이 다 지난 것과 같은 1ns라도 blocking이면 끝까지 탐색하므로 같은 게임
+        a.run(new AiPlayer(BUDGET, true), 3_000);
+        b.run(new AiPlayer(1L, true), 3_000);
+
+        assertEquals(a.getGameModel().getTotalLinesCleared(), b.getGameModel().getTotalLinesCleared());
+        assertEquals(a.getScoreModel().getScore(), b.getScoreModel().getScore());
+        assertEquals(a.getBoard().toString(), b.getBoard().toString());
+    }
+
+    @Test
+    public void testAsyncSearchDoesNotBlock() throws InterruptedException {
+        Board board = new Board();
+        board.setActiveBlock(new IBlock());
+        AiPlayer ai = new AiPlayer();
+
+        // 탐색이 끝날 때까지는 입력 없이 바로 돌아오고, 끝나면 입력이 나옴
+        Input input = ai.nextInput(board, null);
+        for (int i = 0; input == null && i < 1000; i++) {
+            Thread.sleep(1);
+            input = ai.nextInput(board, null);
+        }
+        assertNotNull(input);
+    }
+}
@@ -0,0 +1,154 @@
+package org.tetris.game.model.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.tetris.game.model.Board;
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.Block;
+import org.tetris.game.model.blocks.IBlock;
+import org.tetris.game.model.blocks.JBlock;
+import org.tetris.game.model.blocks.LBlock;
+import org.tetris.game.model.blocks.OBlock;
+import org.tetris.game.model.blocks.SBlock;
+import org.tetris.game.model.blocks.TBlock;
+import org.tetris.game.model.blocks.ZBlock;
+
+public class FinessePlannerTest {
+
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+    private static final int SPAWN_ROW = 0;
+    private static final int SPAWN_COL = WIDTH / 2;
+
+    private final FinessePlanner planner = new FinessePlanner(HEIGHT, WIDTH);
+
+    private static final List<Supplier<Block>> BLOCKS = List.of(IBlock::new, OBlock::new, TBlock::new,
+            SBlock::new, ZBlock::new, JBlock::new, LBlock::new);
+
+    private List<FinessePlanner.Route> fromSpawn(int[] rows, Block block) {
+        return planner.reachable(rows, PlacementSearch.Piece.of(block), 0, SPAWN_ROW, SPAWN_COL);
+    }
+
+    @Test
+    public void testEmptyBoardPlacementsAreDistinctAndShortest() {
+        List<FinessePlanner.Route> routes = fromSpawn(new int[HEIGHT], new IBlock());
+
+        assertEquals(7 + 10, routes.size()); // 가로 7칸 + 세로 10칸
+        assertEquals(List.of(Input.HARD_DROP), routes.get(0).keys()); // 제자리
+        for (FinessePlanner.Route route : routes) {
+            List<Input> keys = route.keys();
+            assertEquals(Input.HARD_DROP, keys.get(keys.size() - 1));
+            assertFalse(keys.contains(Input.SOFT_DROP));
+            // 회전 수 + 이동 수를 넘지 않음 (되돌아가는 입력 없음)
+            assertFalse(keys.contains(Input.LEFT) && keys.contains(Input.RIGHT));
+        }
+    }
+
+    @Test
+    public void testOBlockNeverRotates() {
+        List<FinessePlanner.Route> routes = fromSpawn(new int[HEIGHT], new OBlock());
+
+        assertEquals(WIDTH - 1, routes.size());
+        for (FinessePlanner.Route route : routes)
+            assertFalse(route.keys().contains(Input.ROTATE));
+    }
+
+    @Test
+    public void testTuckUnderOverhang() {
+        // 바닥 왼쪽 두 칸이 비고 그 위를 지붕이 덮은 보드
+        int[] rows = new int[HEIGHT];
+        rows[HEIGHT - 2] = 0b0000000011;
+        rows[HEIGHT - 1] = 0b1111111100;
+        PlacementSearch.Piece piece = PlacementSearch.Piece.of(new OBlock());
+
+        FinessePlanner.Route tuck = planner.route(rows, piece, 0, SPAWN_ROW, SPAWN_COL, 0, HEIGHT - 2, 0);
+        assertNull(tuck); // 지붕 밑은 O 블럭이 들어갈 높이가 없음
+
+        rows[HEIGHT - 2] = 0;
+        rows[HEIGHT - 3] = 0b0000000011;
+        rows[HEIGHT - 1] = 0b1111110000;
+        tuck = planner.route(rows, piece, 0, SPAWN_ROW, SPAWN_COL, 0, HEIGHT - 2, 0);
+        assertNotNull(tuck);
+        assertTrue(tuck.keys().contains(Input.SOFT_DROP));
+        assertTrue(planner.reachable(rows, piece, 0, SPAWN_ROW, SPAWN_COL).contains(tuck));
+        assertFalse(planner.hardDropReachable(rows, piece, 0, SPAWN_ROW, SPAWN_COL).contains(tuck));
+    }
+
+    @Test
+    public void testBlockedSpawnHasNoPlacements() {
+        int[] rows = new int[HEIGHT];
+        rows[0] = rows[1] = (1 << WIDTH) - 1;
+
+        assertTrue(fromSpawn(rows, new TBlock()).isEmpty());
+    }
+
+    @Test
+    public void testRoutesReplayOnBoard() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 40; trial++) {
+            int[] rows = randomStack(random, trial % 2 == 0);
+            for (Supplier<Block> supplier : BLOCKS) {
+                PlacementSearch.Piece piece = PlacementSearch.Piece.of(supplier.get());
+                for (FinessePlanner.Route route : planner.reachable(rows, piece, 0, SPAWN_ROW, SPAWN_COL)) {
+                    Board board = boardOf(rows);
+                    Block block = supplier.get();
+                    board.setActiveBlock(block);
+                    for (Input key : route.keys())
+                        assertTrue(route + "의 " + key + " 입력이 막힘", press(board, key));
+
+                    assertEquals(route.rotation(), block.getRotation());
+                    assertEquals(route.row(), board.getCurRow());
+                    assertEquals(route.column(), board.getCurCol());
+
+                    // 경로표로 구한 경로도 전체 탐색의 최단 경로와 길이가 같음
+                    FinessePlanner.Route shortest = planner.route(rows, piece, 0, SPAWN_ROW, SPAWN_COL,
+                            route.rotation(), route.row(), route.column());
+                    assertEquals(shortest.keys().size(), route.keys().size());
+                }
+            }
+        }
+    }
+
+    // covered가 false면 위가 막힌 빈칸이 없는 보드 (열마다 바닥부터 쌓음)
+    private static int[] randomStack(Random random, boolean covered) {
+        int[] rows = new int[HEIGHT];
+        if (covered) {
+            for (int r = HEIGHT - 1 - random.nextInt(10); r < HEIGHT; r++)
+                rows[r] = random.nextInt(1 << WIDTH) & ~(1 << random.nextInt(WIDTH));
+            return rows;
+        }
+        for (int c = 0; c < WIDTH; c++) {
+            for (int r = HEIGHT - random.nextInt(8); r < HEIGHT; r++)
+                rows[r] |= 1 << c;
+        }
+        return rows;
+    }
+
+    private static Board boardOf(int[] rows) {
+        Board board = new Board();
+        int[][] cells = board.getBoard();
+        for (int r = 0; r < HEIGHT; r++) {
+            for (int c = 0; c < WIDTH; c++)
+                cells[r][c] = (rows[r] >>> c & 1) != 0 ? 1 : 0;
+        }
+        return board;
+    }
+
+    private static boolean press(Board board, Input key) {
+        return switch (key) {
+            case LEFT -> board.moveLeft();
+            case RIGHT -> board.moveRight();
+            case ROTATE -> board.rotate();
+            case SOFT_DROP -> board.moveDown();
+            case HARD_DROP -> {
+                board.hardDrop();
+                yield true;
+            }
+        };
+    }
+}
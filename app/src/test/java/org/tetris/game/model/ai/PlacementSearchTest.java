@@ -0,0 +1,87 @@
+package org.tetris.game.model.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.game.model.blocks.IBlock;
+import org.tetris.game.model.blocks.OBlock;
+import org.util.Point;
+
+public class PlacementSearchTest {
+
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+    private static final Point SPAWN = new Point(0, WIDTH / 2);
+
+    private final PlacementSearch search = new PlacementSearch(HEIGHT, WIDTH);
+
+    // 아래 n줄이 오른쪽 끝 열만 비어 있는 보드
+    private static int[] wellBoard(int n) {
+        int[] rows = new int[HEIGHT];
+        for (int r = HEIGHT - n; r < HEIGHT; r++)
+            rows[r] = (1 << (WIDTH - 1)) - 1;
+        return rows;
+    }
+
+    // 배치했을 때 블럭이 차지하는 열 마스크
+    private static int columnsOf(PlacementSearch.Piece piece, PlacementSearch.Placement placement) {
+        int[] masks = piece.masks()[placement.rotation()];
+        int left = placement.column() - piece.pivots()[placement.rotation()].c;
+        int columns = 0;
+        for (int mask : masks)
+            columns |= left >= 0 ? mask << left : mask >>> -left;
+        return columns;
+    }
+
+    @Test
+    public void testFillsWellForTetris() {
+        PlacementSearch.Piece piece = PlacementSearch.Piece.of(new IBlock());
+        int[] rows = wellBoard(4);
+
+        PlacementSearch.Placement placement = search.search(rows, piece, 0, SPAWN.r, SPAWN.c,
+                PlacementSearch.Piece.of(new OBlock()), SPAWN, Long.MAX_VALUE, ForkJoinPool.commonPool());
+
+        assertNotNull(placement);
+        assertEquals(1 << (WIDTH - 1), columnsOf(piece, placement)); // 세워서 오른쪽 끝 열에
+        assertEquals(HEIGHT - 4 + piece.pivots()[placement.rotation()].r, placement.row());
+        // 회전 1번 + 오른쪽 이동 + 하드 드롭
+        assertEquals(GameSimulation.Input.ROTATE, placement.keys().get(0));
+        assertEquals(GameSimulation.Input.HARD_DROP, placement.keys().get(placement.keys().size() - 1));
+        assertArrayEquals(wellBoard(4), rows); // 입력 보드는 그대로
+    }
+
+    @Test
+    public void testExpiredDeadlineStillReturnsPlacement() {
+        PlacementSearch.Piece piece = PlacementSearch.Piece.of(new IBlock());
+
+        PlacementSearch.Placement placement = search.search(wellBoard(4), piece, 0, SPAWN.r, SPAWN.c,
+                PlacementSearch.Piece.of(new OBlock()), SPAWN, 0L, ForkJoinPool.commonPool());
+
+        assertNotNull(placement);
+        assertEquals(1 << (WIDTH - 1), columnsOf(piece, placement)); // 다음 블럭을 안 봐도 줄 삭제는 보임
+    }
+
+    @Test
+    public void testNoPlacementWhenSpawnBlocked() {
+        int[] rows = new int[HEIGHT];
+        for (int r = 0; r < HEIGHT; r++)
+            rows[r] = (1 << WIDTH) - 1 - 1; // 0열만 비어 있음
+
+        assertNull(search.search(rows, PlacementSearch.Piece.of(new OBlock()), 0, SPAWN.r, SPAWN.c,
+                null, SPAWN, Long.MAX_VALUE, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void testEvaluatePenalizesHoles() {
+        int[] flat = new int[HEIGHT];
+        flat[HEIGHT - 1] = 0b1111;
+        int[] holed = new int[HEIGHT];
+        holed[HEIGHT - 2] = 0b0001;
+        holed[HEIGHT - 1] = 0b1110;
+
+        assertTrue(search.evaluate(flat) > search.evaluate(holed));
+    }
+}
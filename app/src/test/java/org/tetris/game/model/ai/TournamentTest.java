@@ -0,0 +1,105 @@
+package org.tetris.game.model.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class TournamentTest {
+
+    private static Tournament.Options small() {
+        return Tournament.Options.parse(new String[] {
+                "--games", "2", "--matches", "2", "--ticks", "1200", "--threads", "2", "--seed", "7" });
+    }
+
+    @Test
+    public void testParseOverridesDefaults() {
+        Tournament.Options options = Tournament.Options.parse(new String[] { "--games", "3", "--items",
+                "--seed", "5" });
+
+        assertEquals(3, options.games());
+        assertTrue(options.itemMode());
+        assertEquals(5L, options.seed());
+        assertEquals(Tournament.Options.defaults().matches(), options.matches());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseRejectsUnknownOption() {
+        Tournament.Options.parse(new String[] { "--speed", "3" });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseRejectsMissingValue() {
+        Tournament.Options.parse(new String[] { "--games" });
+    }
+
+    @Test
+    public void testRunReportsEveryGame() throws InterruptedException {
+        Tournament.Result result = Tournament.run(small());
+
+        assertEquals(2, result.games());
+        assertEquals(2, result.matches());
+        assertEquals(2, result.player1Wins() + result.player2Wins() + result.draws());
+        // 싱글 2판 + 대전 2판(2명) 모두 최대 틱까지 버팀
+        assertEquals(6 * 1200, result.ticks());
+        assertEquals(result.ticks(), result.tickLatency().getCount());
+        assertTrue(result.lines() > 0);
+        assertTrue(result.ticksPerSecond() > 0);
+        assertTrue(result.tickLatency().percentile(0.50) <= result.tickLatency().percentile(0.99));
+    }
+
+    @Test
+    public void testSameSeedsGiveSameGames() throws InterruptedException {
+        Tournament.Result first = Tournament.run(small());
+        Tournament.Result second = Tournament.run(small());
+
+        assertEquals(first.lines(), second.lines());
+        assertEquals(first.player1Wins(), second.player1Wins());
+        assertEquals(first.player2Wins(), second.player2Wins());
+    }
+
+    @Test
+    public void testThreadCountDoesNotChangeGames() throws InterruptedException {
+        Tournament.Options parallel = small();
+        Tournament.Options serial = new Tournament.Options(parallel.games(), parallel.matches(), parallel.seed(),
+                parallel.maxTicks(), 1, parallel.itemMode());
+
+        // 전치 표를 게임끼리 나누지 않으므로 동시에 도는 게임이 결과에 영향을 주지 않음
+        Tournament.Result first = Tournament.run(parallel);
+        Tournament.Result second = Tournament.run(serial);
+        assertEquals(first.lines(), second.lines());
+        assertEquals(first.player1Wins(), second.player1Wins());
+        assertEquals(first.player2Wins(), second.player2Wins());
+        assertEquals(first.draws(), second.draws());
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++)
+            histogram.record(v * 1000);
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 1e-6);
+        // 구간 오차(약 6%) 이내
+        assertEquals(500_000, histogram.percentile(0.50), 500_000 * 0.07);
+        assertEquals(990_000, histogram.percentile(0.99), 990_000 * 0.07);
+        assertEquals(1_000_000, histogram.percentile(1.0));
+
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(5_000_000);
+        histogram.merge(other);
+        assertEquals(1001, histogram.getCount());
+        assertEquals(5_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void testHistogramBucketsCoverValues() {
+        for (long v : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123_456_789L, Long.MAX_VALUE }) {
+            int index = LatencyHistogram.indexOf(v);
+            assertTrue(v <= LatencyHistogram.upperBound(index));
+            if (index > 0)
+                assertTrue(v > LatencyHistogram.upperBound(index - 1));
+        }
+    }
+}
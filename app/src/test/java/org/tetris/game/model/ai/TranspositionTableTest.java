@@ -0,0 +1,101 @@
+package org.tetris.game.model.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.tetris.game.model.blocks.IBlock;
+import org.tetris.game.model.blocks.OBlock;
+import org.tetris.game.model.blocks.TBlock;
+import org.util.Point;
+
+public class TranspositionTableTest {
+
+    private static final int HEIGHT = 20;
+    private static final int WIDTH = 10;
+
+    private final TranspositionTable table = new TranspositionTable(HEIGHT, WIDTH, 4);
+
+    private static int[] board(int... bottomRows) {
+        int[] rows = new int[HEIGHT];
+        for (int i = 0; i < bottomRows.length; i++)
+            rows[HEIGHT - bottomRows.length + i] = bottomRows[i];
+        return rows;
+    }
+
+    @Test
+    public void testKeyDependsOnBoardPieceAndRotation() {
+        long iKey = TranspositionTable.pieceKey(PlacementSearch.Piece.of(new IBlock()));
+        long oKey = TranspositionTable.pieceKey(PlacementSearch.Piece.of(new OBlock()));
+        int[] rows = board(0b0111111111, 0b0111111111);
+
+        long key = table.key(rows, iKey, 0);
+        assertEquals(key, table.key(rows.clone(), iKey, 0));
+        assertEquals(iKey, TranspositionTable.pieceKey(PlacementSearch.Piece.of(new IBlock())));
+
+        assertNotEquals(key, table.key(rows, oKey, 0));
+        assertNotEquals(key, table.key(rows, iKey, 1));
+        assertNotEquals(key, table.key(board(0b0111111111, 0b1111111110), iKey, 0));
+        assertNotEquals(key, table.key(board(0b0111111111), iKey, 0));
+    }
+
+    @Test
+    public void testGetReturnsStoredScore() {
+        long key = table.key(board(0b1), 42L, 0);
+        assertTrue(Double.isNaN(table.get(key)));
+
+        table.put(key, -3.5);
+        assertEquals(-3.5, table.get(key), 0.0);
+
+        table.put(key, 7.0); // 같은 키는 덮어씀
+        assertEquals(7.0, table.get(key), 0.0);
+
+        TranspositionTable.Stats stats = table.getStats();
+        assertEquals(3, stats.probes());
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.stores());
+        assertEquals(0, stats.replacements());
+        assertTrue(stats.memoryBytes() > 0);
+
+        table.clear();
+        assertTrue(Double.isNaN(table.get(key)));
+    }
+
+    @Test
+    public void testFullBucketReplacesOldestGeneration() {
+        TranspositionTable tiny = new TranspositionTable(HEIGHT, WIDTH, 2); // 묶음 하나(4칸)
+        for (int i = 0; i < 4; i++) {
+            tiny.put(i, i);
+            tiny.newSearch();
+        }
+        tiny.get(0); // 다시 쓰인 결과는 새 세대가 됨
+
+        tiny.put(100, 100);
+
+        assertEquals(0.0, tiny.get(0), 0.0);
+        assertTrue(Double.isNaN(tiny.get(1))); // 가장 오래된 칸
+        assertEquals(2.0, tiny.get(2), 0.0);
+        assertEquals(100.0, tiny.get(100), 0.0);
+        assertEquals(1, tiny.getStats().replacements());
+    }
+
+    @Test
+    public void testSearchWithTableMatchesSearchWithout() {
+        Point spawn = new Point(0, WIDTH / 2);
+        PlacementSearch plain = new PlacementSearch(HEIGHT, WIDTH);
+        PlacementSearch cached = new PlacementSearch(HEIGHT, WIDTH, new TranspositionTable(HEIGHT, WIDTH, 12));
+        PlacementSearch.Piece current = PlacementSearch.Piece.of(new TBlock());
+        PlacementSearch.Piece preview = PlacementSearch.Piece.of(new IBlock());
+        int[] rows = board(0b0000110000, 0b1001111011, 0b1101111111);
+
+        PlacementSearch.Placement expected = plain.search(rows, current, 0, spawn.r, spawn.c, preview, spawn,
+                Long.MAX_VALUE, ForkJoinPool.commonPool());
+        // 두 번째는 표에서 찾은 값으로 같은 답을 내야 함
+        for (int i = 0; i < 2; i++) {
+            PlacementSearch.Placement actual = cached.search(rows, current, 0, spawn.r, spawn.c, preview, spawn,
+                    Long.MAX_VALUE, ForkJoinPool.commonPool());
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package org.tetris.game.replay;
+
+import static org.junit.Assert.*;
+
+import java.io.StreamCorruptedException;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.game.model.BitBoard;
+import org.tetris.game.model.Board;
+import org.tetris.game.model.GameMode;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.Block;
+import org.util.Difficulty;
+import org.util.Point;
+
+/**
+ * 리플레이 기록/재생 테스트
+ */
+public class ReplayTest {
+
+    // 3분 (60 FPS)
+    private static final int TIME_ATTACK_TICKS = 180 * 60;
+
+    @Before
+    public void setUp() {
+        Difficulty.setCurrentDifficulty(Difficulty.NORMAL_STRING);
+    }
+
+    // 블럭마다 가장 깊이 착지하는 (회전, 열)을 목표로 정하고 10틱(초당 6회)마다 한 번씩 누르는 플레이
+    private static ReplayRecorder record(long seed, GameMode mode, int ticks) {
+        GameSimulation sim = new GameSimulation(seed, mode == GameMode.ITEM);
+        ReplayRecorder recorder = new ReplayRecorder(sim, mode);
+        Random random = new Random(seed * 31);
+        Block block = null;
+        int[] plan = null;
+        for (int i = 0; i < ticks; i++) {
+            Board board = sim.getBoard();
+            if (board.activeBlock != block) {
+                block = board.activeBlock;
+                plan = sim.isGameOver() ? null : plan(board);
+            }
+            if (i % 10 == 0 && plan != null) {
+                int col = board.getCurCol();
+                if (plan[0] > 0) {
+                    plan[0]--;
+                    recorder.apply(Input.ROTATE);
+                } else if (col != plan[1] && recorder.apply(col < plan[1] ? Input.RIGHT : Input.LEFT)) {
+                    // 목표 열로 이동 중
+                } else if (random.nextInt(4) == 0) {
+                    recorder.apply(Input.SOFT_DROP);
+                } else {
+                    recorder.apply(Input.HARD_DROP);
+                }
+            }
+            recorder.tick();
+        }
+        return recorder;
+    }
+
+    // {회전 수, 목표 열}: 착지 후 높이 합, 구멍, 울퉁불퉁함이 가장 작은 위치
+    private static int[] plan(Board board) {
+        Block block = board.activeBlock;
+        int rotation = block.getRotation();
+        int row = board.getCurRow();
+        int col = board.getCurCol();
+        board.removeCurrentBlock();
+
+        int[] best = { 0, col };
+        int bestCost = Integer.MAX_VALUE;
+        for (int r = 0; r < 4; r++) {
+            block.setRotation((rotation + r) % 4);
+            for (int c = 0; c < board.getSize().c; c++) {
+                if (!board.isValidPos(row, c, block, false))
+                    continue;
+                int land = row;
+                while (board.isValidPos(land + 1, c, block, false))
+                    land++;
+
+                Point pos = new Point(land, c);
+                board.placeBlock(pos, block);
+                int cost = cost(board);
+                board.removeBlock(pos, block);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = new int[] { r, c };
+                }
+            }
+        }
+
+        block.setRotation(rotation);
+        board.placeBlock(new Point(row, col), block);
+        return best;
+    }
+
+    private static int cost(Board board) {
+        BitBoard bits = board.getBitBoard();
+        int full = 0;
+        for (int r = 0; r < bits.height(); r++) {
+            if (bits.isRowFull(r))
+                full++;
+        }
+
+        int cost = -8 * full;
+        int prevHeight = -1;
+        for (int c = 0; c < bits.width(); c++) {
+            int height = 0;
+            for (int r = 0; r < bits.height(); r++) {
+                if (bits.isOccupied(r, c)) {
+                    if (height == 0)
+                        height = bits.height() - r;
+                } else if (height > 0) {
+                    cost += 6; // 구멍
+                }
+            }
+            cost += height;
+            if (prevHeight >= 0)
+                cost += Math.abs(height - prevHeight);
+            prevHeight = height;
+        }
+        return cost;
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Difficulty.setCurrentDifficulty(Difficulty.HARD_STRING);
+        Replay replay = record(7L, GameMode.ITEM, 2000).finish();
+        byte[] bytes = replay.toBytes();
+
+        Replay decoded = Replay.fromBytes(bytes);
+        assertEquals(7L, decoded.getSeed());
+        assertEquals(GameMode.ITEM, decoded.getMode());
+        assertEquals(Difficulty.HARD_STRING, decoded.getDifficulty());
+        assertEquals(GameSimulation.DEFAULT_CLEAR_DELAY_TICKS, decoded.getClearDelayTicks());
+        assertEquals(2000, decoded.getLength());
+        assertEquals(replay.getInputCount(), decoded.getInputCount());
+        assertEquals(replay.getSnapshots().size(), decoded.getSnapshots().size());
+        for (int i = 0; i < replay.getSnapshots().size(); i++) {
+            Replay.Snapshot expected = replay.getSnapshots().get(i);
+            Replay.Snapshot actual = decoded.getSnapshots().get(i);
+            assertEquals(expected.tick(), actual.tick());
+            assertEquals(expected.stateHash(), actual.stateHash());
+            assertArrayEquals(expected.cells(), actual.cells());
+        }
+        assertArrayEquals(bytes, decoded.toBytes());
+    }
+
+    @Test
+    public void testPlaybackReproducesGame() throws Exception {
+        ReplayRecorder recorder = record(11L, GameMode.NORMAL, 5000);
+        Replay replay = Replay.fromBytes(recorder.finish().toBytes());
+
+        // 재생 전에 난이도가 바뀌어도 기록된 난이도로 재생
+        Difficulty.setCurrentDifficulty(Difficulty.EASY_STRING);
+        ReplayPlayer player = new ReplayPlayer(replay);
+        assertEquals(5000, player.playToEnd());
+
+        assertTrue(player.isFinished());
+        assertFalse("mismatch at " + player.getMismatchTick(), player.isDesynced());
+        assertEquals(recorder.getSimulation().stateHash(), player.getSimulation().stateHash());
+        assertEquals(recorder.getSimulation().getScoreModel().getScore(),
+                player.getSimulation().getScoreModel().getScore());
+        assertEquals(Difficulty.NORMAL_STRING, Difficulty.getCurrentDifficulty());
+    }
+
+    @Test
+    public void testTimeAttackReplayIsFewKilobytes() {
+        ReplayRecorder recorder = record(3L, GameMode.TIME_ATTACK, TIME_ATTACK_TICKS);
+        Replay replay = recorder.finish();
+        byte[] bytes = replay.toBytes();
+
+        assertTrue(replay.getInputCount() > 300);
+        assertTrue("replay size " + bytes.length, bytes.length < 4 * 1024);
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.playToEnd();
+        assertFalse(player.isDesynced());
+    }
+
+    @Test
+    public void testSeek() {
+        Replay replay = record(21L, GameMode.NORMAL, 3000).finish();
+        ReplayPlayer linear = new ReplayPlayer(replay);
+        linear.seek(1700);
+        long expected = linear.getSimulation().stateHash();
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.seek(2500);
+        player.seek(1700); // 뒤로 이동
+        assertEquals(1700, player.getTick());
+        assertEquals(expected, player.getSimulation().stateHash());
+        assertFalse(player.isDesynced());
+
+        // 범위를 넘으면 끝으로
+        player.seek(Integer.MAX_VALUE);
+        assertTrue(player.isFinished());
+    }
+
+    @Test
+    public void testSnapshotMatchesPlaybackBoard() {
+        Replay replay = record(5L, GameMode.NORMAL, 1000).finish();
+        Replay.Snapshot snapshot = replay.snapshotAt(700);
+        assertEquals(600, snapshot.tick());
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.seek(snapshot.tick());
+        assertArrayEquals(snapshot.cells(), player.getSimulation().getBoard().getColorPlane());
+        assertEquals(snapshot.score(), player.getSimulation().getScoreModel().getScore());
+
+        assertEquals(0, replay.snapshotAt(0).tick());
+        assertEquals(1000, replay.snapshotAt(1000).tick());
+    }
+
+    @Test
+    public void testWrongSeedIsDetected() {
+        Replay replay = record(9L, GameMode.NORMAL, 1000).finish();
+        Replay tampered = new Replay(replay.getSeed() + 1, replay.getMode(), replay.getDifficulty(),
+                replay.getClearDelayTicks(), 20, 10, replay.getLength(),
+                inputTicks(replay), inputs(replay), replay.getSnapshots());
+
+        ReplayPlayer player = new ReplayPlayer(tampered);
+        player.playToEnd();
+        assertTrue(player.isDesynced());
+    }
+
+    @Test
+    public void testRejectsOversizedBoard() throws Exception {
+        assertCorrupted(empty("EASY", 100_000, 10));
+        assertCorrupted(empty("EASY", 20, 0));
+    }
+
+    @Test
+    public void testRejectsOversizedDifficulty() throws Exception {
+        assertCorrupted(empty("x".repeat(1000), 20, 10));
+
+        // 길이 필드가 Integer.MAX_VALUE인 헤더 -> 할당 전에 거부
+        byte[] bytes = empty("EASY", 20, 10).toBytes();
+        int lengthOffset = 4 + 1 + 8 + 1;
+        byte[] tampered = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, tampered, 0, lengthOffset);
+        tampered[lengthOffset] = (byte) 0xFF;
+        tampered[lengthOffset + 1] = (byte) 0xFF;
+        tampered[lengthOffset + 2] = (byte) 0xFF;
+        tampered[lengthOffset + 3] = (byte) 0xFF;
+        tampered[lengthOffset + 4] = 0x07;
+        System.arraycopy(bytes, lengthOffset + 1, tampered, lengthOffset + 5, bytes.length - lengthOffset - 1);
+        try {
+            Replay.fromBytes(tampered);
+            fail("StreamCorruptedException expected");
+        } catch (StreamCorruptedException expected) {
+        }
+    }
+
+    private static Replay empty(String difficulty, int rows, int cols) {
+        return new Replay(1L, GameMode.NORMAL, difficulty, 0, rows, cols, 0,
+                new int[0], new Input[0], Collections.emptyList());
+    }
+
+    private static void assertCorrupted(Replay replay) throws Exception {
+        try {
+            Replay.fromBytes(replay.toBytes());
+            fail("StreamCorruptedException expected");
+        } catch (StreamCorruptedException expected) {
+        }
+    }
+
+    private static int[] inputTicks(Replay replay) {
+        int[] ticks = new int[replay.getInputCount()];
+        for (int i = 0; i < ticks.length; i++)
+            ticks[i] = replay.getInputTick(i);
+        return ticks;
+    }
+
+    private static Input[] inputs(Replay replay) {
+        Input[] inputs = new Input[replay.getInputCount()];
+        for (int i = 0; i < inputs.length; i++)
+            inputs[i] = replay.getInput(i);
+        return inputs;
+    }
+}
@@ -0,0 +1,108 @@
+package org.tetris.game.view;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * 입자 풀 생성/소멸/용량 테스트
+ */
+public class ParticleSystemTest {
+
+    @Test
+    public void testSpawn() {
+        ParticleSystem particles = new ParticleSystem(8, 42L);
+        assertTrue(particles.isEmpty());
+
+        assertTrue(particles.spawn(10, 20, 3));
+
+        assertEquals(1, particles.size());
+        assertEquals(10, particles.getX(0), 0.0);
+        assertEquals(20, particles.getY(0), 0.0);
+        assertEquals(1.0, particles.getLife(0), 0.0);
+        assertEquals(3, particles.getColorIndex(0));
+        assertTrue(particles.getSize(0) >= 3 && particles.getSize(0) < 8);
+    }
+
+    @Test
+    public void testUpdateMovesAndDecays() {
+        ParticleSystem particles = new ParticleSystem(8, 42L);
+        particles.spawn(0, 0, 1);
+        double nextX = particles.getX(0, 1.0);
+        double nextY = particles.getY(0, 1.0);
+
+        particles.update();
+
+        assertEquals(nextX, particles.getX(0), 1e-9);
+        assertEquals(nextY, particles.getY(0), 1e-9);
+        assertEquals(0.95, particles.getLife(0), 1e-9);
+        assertEquals(0.9, particles.getLife(0, 1.0), 1e-9);
+    }
+
+    @Test
+    public void testExpiredParticleIsSwapRemoved() {
+        ParticleSystem particles = new ParticleSystem(8, 42L);
+        particles.spawn(0, 0, 1);
+        for (int i = 0; i < 12; i++)
+            particles.update();
+        particles.spawn(0, 0, 2);
+        particles.spawn(0, 0, 3);
+
+        // 첫 입자만 수명이 다함
+        for (int i = 0; i < 9; i++)
+            particles.update();
+
+        // 마지막 입자(색 3)가 지워진 첫 자리로 옮겨짐
+        assertEquals(2, particles.size());
+        assertEquals(3, particles.getColorIndex(0));
+        assertEquals(2, particles.getColorIndex(1));
+        assertEquals(particles.getLife(0), particles.getLife(1), 1e-9);
+
+        for (int i = 0; i < 20; i++)
+            particles.update();
+        assertTrue(particles.isEmpty());
+    }
+
+    @Test
+    public void testFullPoolOverwritesOldest() {
+        ParticleSystem particles = new ParticleSystem(2, 42L);
+        assertTrue(particles.spawn(0, 0, 1));
+        assertTrue(particles.spawn(0, 0, 2));
+
+        // 가득 차면 앞에서부터 돌아가며 덮어씀
+        assertFalse(particles.spawn(5, 5, 3));
+        assertEquals(2, particles.size());
+        assertEquals(2, particles.capacity());
+        assertEquals(3, particles.getColorIndex(0));
+        assertEquals(5, particles.getX(0), 0.0);
+        assertEquals(2, particles.getColorIndex(1));
+
+        assertFalse(particles.spawn(0, 0, 4));
+        assertEquals(4, particles.getColorIndex(1));
+        assertFalse(particles.spawn(0, 0, 5));
+        assertEquals(5, particles.getColorIndex(0));
+
+        particles.clear();
+        assertTrue(particles.isEmpty());
+        assertTrue(particles.spawn(0, 0, 6));
+    }
+
+    @Test
+    public void testSameSeedSameParticles() {
+        ParticleSystem a = new ParticleSystem(4, 7L);
+        ParticleSystem b = new ParticleSystem(4, 7L);
+        a.spawn(0, 0, 1);
+        b.spawn(0, 0, 1);
+        a.update();
+        b.update();
+
+        assertEquals(a.getX(0), b.getX(0), 0.0);
+        assertEquals(a.getY(0), b.getY(0), 0.0);
+        assertEquals(a.getSize(0), b.getSize(0), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroCapacity() {
+        new ParticleSystem(0, 1L);
+    }
+}
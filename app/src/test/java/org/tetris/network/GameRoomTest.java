@@ -0,0 +1,171 @@
+package org.tetris.network;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.network.comand.*;
+import org.tetris.network.dto.MatchSettings;
+
+/**
+ * GameRoom의 참가/Ready/시작/릴레이 규칙 테스트
+ */
+public class GameRoomTest {
+
+    private static class RecordingMember implements GameRoom.Member {
+        final List<Command> received = new ArrayList<>();
+        int features = MatchSettings.ALL_FEATURES;
+
+        @Override
+        public int getFeatures() {
+            return features;
+        }
+
+        @Override
+        public void sendCommand(Command command) {
+            received.add(command);
+        }
+
+        <T extends Command> T last(Class<T> type) {
+            for (int i = received.size() - 1; i >= 0; i--) {
+                if (type.isInstance(received.get(i)))
+                    return type.cast(received.get(i));
+            }
+            return null;
+        }
+    }
+
+    private GameRoom room;
+    private RecordingMember p1;
+    private RecordingMember p2;
+
+    @Before
+    public void setUp() {
+        room = new GameRoom(1, () -> 42L);
+        p1 = new RecordingMember();
+        p2 = new RecordingMember();
+    }
+
+    @Test
+    public void testJoinNotifiesConnectionState() {
+        assertTrue(room.join(p1));
+        assertFalse(p1.last(PlayerConnectionCommand.class).isOpponentConnected());
+
+        assertTrue(room.join(p2));
+        assertTrue(p1.last(PlayerConnectionCommand.class).isOpponentConnected());
+        assertTrue(p2.last(PlayerConnectionCommand.class).isOpponentConnected());
+
+        assertFalse(room.join(new RecordingMember()));
+        assertTrue(room.isHost(p1));
+    }
+
+    @Test
+    public void testStartRequiresBothReady() {
+        room.join(p1);
+        room.join(p2);
+
+        room.onReady(p1, true);
+        assertTrue(p2.last(ReadyCommand.class).getIsReady());
+        assertFalse(room.startGameIfReady());
+
+        room.onReady(p2, true);
+        assertTrue(room.startGameIfReady());
+        assertTrue(room.isGameInProgress());
+
+        GameStartCommand start1 = p1.last(GameStartCommand.class);
+        GameStartCommand start2 = p2.last(GameStartCommand.class);
+        assertEquals(1, start1.getSettings().getPlayerNumber());
+        assertEquals(2, start2.getSettings().getPlayerNumber());
+        assertEquals(42L, start1.getSettings().getMySeed());
+        assertEquals(start1.getSettings().getMySeed(), start2.getSettings().getOtherSeed());
+        assertEquals(start1.getSettings().getOtherSeed(), start2.getSettings().getMySeed());
+    }
+
+    @Test
+    public void testAutoStart() {
+        room.setAutoStart(true);
+        room.join(p1);
+        room.join(p2);
+        room.onReady(p1, true);
+        room.onReady(p2, true);
+
+        assertNotNull(p1.last(GameStartCommand.class));
+        assertNotNull(p2.last(GameStartCommand.class));
+    }
+
+    @Test
+    public void testLockstepFlagIsSentToBothPlayers() {
+        room.setLockstep(true);
+        room.setAutoStart(true);
+        room.join(p1);
+        room.join(p2);
+        room.onReady(p1, true);
+        room.onReady(p2, true);
+
+        assertTrue(p1.last(GameStartCommand.class).getSettings().isLockstep());
+        assertTrue(p2.last(GameStartCommand.class).getSettings().isLockstep());
+        assertEquals(p1.last(GameStartCommand.class).getSettings().getPlayer1Seed(),
+                p2.last(GameStartCommand.class).getSettings().getPlayer1Seed());
+    }
+
+    @Test
+    public void testLockstepRequiresBothPlayersToSupportIt() {
+        room.setLockstep(true);
+        room.setAutoStart(true);
+        p2.features = MatchSettings.ALL_FEATURES & ~MatchSettings.FEATURE_LOCKSTEP;
+        room.join(p1);
+        room.join(p2);
+        room.onReady(p1, true);
+        room.onReady(p2, true);
+
+        // 한쪽이 락스텝을 모르면 양쪽 모두 일반 대전으로 시작
+        assertFalse(p1.last(GameStartCommand.class).getSettings().isLockstep());
+        assertFalse(p2.last(GameStartCommand.class).getSettings().isLockstep());
+        assertFalse(p1.last(GameStartCommand.class).getSettings().opponentSupports(MatchSettings.FEATURE_LOCKSTEP));
+        assertTrue(p2.last(GameStartCommand.class).getSettings().opponentSupports(MatchSettings.FEATURE_LOCKSTEP));
+    }
+
+    @Test
+    public void testHandleRelaysAndAnswersPing() {
+        room.join(p1);
+        room.join(p2);
+
+        room.handle(p1, new MoveLeftCommand());
+        assertTrue(p2.received.get(p2.received.size() - 1) instanceof MoveLeftCommand);
+
+        room.handle(p2, new PingCommand(123L));
+        assertEquals(123L, p2.last(PongCommand.class).getOriginalTimestamp());
+        assertNull(p1.last(PongCommand.class));
+    }
+
+    @Test
+    public void testLeaveDuringGameNotifiesWinner() {
+        room.join(p1);
+        room.join(p2);
+        room.onReady(p1, true);
+        room.onReady(p2, true);
+        room.startGameIfReady();
+
+        room.leave(p1);
+
+        assertNotNull(p2.last(DisconnectCommand.class));
+        assertTrue(p2.last(GameResultCommand.class).isWinner());
+        assertFalse(room.isGameInProgress());
+        assertFalse(room.isFull());
+    }
+
+    @Test
+    public void testOnlyHostCanRestart() {
+        room.join(p1);
+        room.join(p2);
+
+        room.handle(p2, new RestartCommand());
+        assertNull(p1.last(GameStartCommand.class));
+
+        room.handle(p1, new RestartCommand());
+        assertNotNull(p1.last(GameStartCommand.class));
+    }
+}
@@ -0,0 +1,101 @@
+package org.tetris.network;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * MpscBoundedQueue 단일 스레드 동작 및 다중 생산자 순서 보장 테스트
+ */
+public class MpscBoundedQueueTest {
+
+    @Test
+    public void testCapacityRoundedUp() {
+        assertEquals(8, new MpscBoundedQueue<Integer>(5).capacity());
+        assertEquals(8, new MpscBoundedQueue<Integer>(8).capacity());
+        assertEquals(1, new MpscBoundedQueue<Integer>(1).capacity());
+    }
+
+    @Test
+    public void testFifoAndFull() {
+        MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(4);
+        for (int i = 0; i < 4; i++)
+            assertTrue(queue.offer(i));
+        assertFalse("가득 찬 큐는 offer 실패", queue.offer(99));
+        assertEquals(4, queue.size());
+
+        for (int i = 0; i < 4; i++)
+            assertEquals(Integer.valueOf(i), queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testWrapAround() {
+        MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(4);
+        for (int round = 0; round < 100; round++) {
+            assertTrue(queue.offer(round));
+            assertTrue(queue.offer(-round));
+            assertEquals(Integer.valueOf(round), queue.poll());
+            assertEquals(Integer.valueOf(-round), queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullRejected() {
+        new MpscBoundedQueue<Integer>(4).offer(null);
+    }
+
+    @Test
+    public void testMultipleProducersKeepPerProducerOrder() throws Exception {
+        final int producers = 4;
+        final int perProducer = 100_000;
+        MpscBoundedQueue<long[]> queue = new MpscBoundedQueue<>(256);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    long[] item = { id, i };
+                    while (!queue.offer(item))
+                        Thread.onSpinWait();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        start.countDown();
+
+        int[] next = new int[producers];
+        int received = 0;
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (received < producers * perProducer && System.currentTimeMillis() < deadline) {
+            long[] item = queue.poll();
+            if (item == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int id = (int) item[0];
+            assertEquals("생산자별 순서 유지", next[id], item[1]);
+            next[id]++;
+            received++;
+        }
+
+        for (Thread t : threads)
+            t.join();
+        assertEquals(producers * perProducer, received);
+        assertNull(queue.poll());
+    }
+}
@@ -0,0 +1,193 @@
+package org.tetris.network;
+
+import static org.junit.Assert.*;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+import org.tetris.network.comand.MoveLeftCommand;
+import org.tetris.network.mocks.TestGameCommandExecutor;
+import org.tetris.network.protocol.BinaryCommandChannel;
+
+/**
+ * NetworkThreads 실행 모드와 TaskGroup 종료 처리 테스트
+ */
+public class NetworkThreadsTest {
+
+    @After
+    public void tearDown() {
+        NetworkThreads.setMode(NetworkThreads.Mode.PLATFORM);
+    }
+
+    @Test
+    public void testParseMode() {
+        assertEquals(NetworkThreads.Mode.VIRTUAL, NetworkThreads.parseMode("virtual"));
+        assertEquals(NetworkThreads.Mode.VIRTUAL, NetworkThreads.parseMode(" VIRTUAL "));
+        assertEquals(NetworkThreads.Mode.PLATFORM, NetworkThreads.parseMode(null));
+        assertEquals(NetworkThreads.Mode.PLATFORM, NetworkThreads.parseMode("platform"));
+    }
+
+    @Test
+    public void testForkUsesSelectedMode() throws Exception {
+        for (NetworkThreads.Mode mode : NetworkThreads.Mode.values()) {
+            NetworkThreads.setMode(mode);
+            NetworkThreads.TaskGroup group = new NetworkThreads.TaskGroup();
+            AtomicBoolean virtual = new AtomicBoolean();
+            CountDownLatch ran = new CountDownLatch(1);
+
+            group.fork(() -> {
+                virtual.set(Thread.currentThread().isVirtual());
+                ran.countDown();
+            });
+
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            assertEquals(mode == NetworkThreads.Mode.VIRTUAL, virtual.get());
+            group.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownInterruptsAndWaits() throws Exception {
+        NetworkThreads.setMode(NetworkThreads.Mode.VIRTUAL);
+        NetworkThreads.TaskGroup group = new NetworkThreads.TaskGroup();
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+
+        group.fork(() -> {
+            worker.set(Thread.currentThread());
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                // shutdown에 의해 중단
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        group.shutdown();
+
+        assertFalse(worker.get().isAlive());
+        assertTrue(group.isShutdown());
+
+        // shutdown 이후 fork는 무시
+        AtomicBoolean ran = new AtomicBoolean();
+        group.fork(() -> ran.set(true));
+        Thread.sleep(50);
+        assertFalse(ran.get());
+    }
+
+    @Test
+    public void testShutdownWithShortBoundDoesNotWaitForStuckTask() throws Exception {
+        NetworkThreads.TaskGroup group = new NetworkThreads.TaskGroup();
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+
+        // interrupt를 무시하는 루프
+        group.fork(() -> {
+            started.countDown();
+            while (!stop.get()) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    // 무시
+                }
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        group.shutdown(50);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        stop.set(true);
+
+        assertTrue("shutdown took " + elapsedMs + "ms", elapsedMs < 500);
+        assertTrue(group.isShutdown());
+    }
+
+    @Test
+    public void testConcurrentDisconnectIsShort() throws Exception {
+        try (ServerSocket listener = new ServerSocket(0);
+                Socket clientSocket = new Socket("localhost", listener.getLocalPort());
+                Socket serverSocket = listener.accept()) {
+            ClientThread client = new ClientThread();
+            client.attach(clientSocket,
+                    new BinaryCommandChannel(clientSocket.getInputStream(), clientSocket.getOutputStream()));
+
+            // UI 스레드와 수신/Ping 루프가 동시에 끊는 상황
+            CountDownLatch go = new CountDownLatch(1);
+            Thread[] callers = new Thread[4];
+            for (int i = 0; i < callers.length; i++) {
+                callers[i] = new Thread(() -> {
+                    try {
+                        go.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    client.disconnect();
+                });
+                callers[i].start();
+            }
+
+            long start = System.nanoTime();
+            go.countDown();
+            for (Thread caller : callers)
+                caller.join(5000);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue("disconnect took " + elapsedMs + "ms", elapsedMs < 500);
+            assertFalse(client.isConnected());
+            assertTrue(clientSocket.isClosed());
+        }
+    }
+
+    @Test
+    public void testShutdownFromOwnTask() throws Exception {
+        NetworkThreads.TaskGroup group = new NetworkThreads.TaskGroup();
+        CountDownLatch done = new CountDownLatch(1);
+
+        group.fork(() -> {
+            group.shutdown();
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSessionOnVirtualThreads() throws Exception {
+        NetworkThreads.setMode(NetworkThreads.Mode.VIRTUAL);
+
+        try (ServerSocket listener = new ServerSocket(0)) {
+            Socket clientSocket = new Socket("localhost", listener.getLocalPort());
+            Socket serverSocket = listener.accept();
+
+            ServerThread server = new ServerThread(serverSocket,
+                    new BinaryCommandChannel(serverSocket.getInputStream(), serverSocket.getOutputStream()));
+            server.start();
+
+            ClientThread client = new ClientThread();
+            TestGameCommandExecutor executor = new TestGameCommandExecutor();
+            client.setGameExecutor(executor);
+            client.attach(clientSocket,
+                    new BinaryCommandChannel(clientSocket.getInputStream(), clientSocket.getOutputStream()));
+
+            server.sendCommand(new MoveLeftCommand());
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!executor.executedCommands.contains("moveLeft") && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertTrue(executor.executedCommands.contains("moveLeft"));
+
+            client.disconnect();
+            server.close();
+            assertFalse(client.isConnected());
+            assertTrue(clientSocket.isClosed());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.tetris.network;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.tetris.network.comand.Command;
+import org.tetris.network.comand.MoveLeftCommand;
+import org.tetris.network.comand.PingInfoCommand;
+import org.tetris.network.protocol.CommandChannel;
+
+/**
+ * OutboundSender의 묶음 전송, 넘침 정책, 종료 시 전송 테스트
+ */
+public class OutboundSenderTest {
+
+    /**
+     * write/flush 호출을 기록하는 채널. gate가 열릴 때까지 write를 막을 수 있음
+     */
+    private static class RecordingChannel implements CommandChannel {
+        final List<Command> written = new ArrayList<>();
+        final AtomicInteger flushes = new AtomicInteger();
+        final CountDownLatch firstWrite = new CountDownLatch(1);
+        volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        public void send(Command command) throws IOException {
+            write(command);
+            flush();
+        }
+
+        @Override
+        public synchronized void write(Command command) throws IOException {
+            firstWrite.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            written.add(command);
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public Command receive() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String getProtocolName() {
+            return "recording";
+        }
+
+        synchronized int writtenCount() {
+            return written.size();
+        }
+    }
+
+    private static Thread startWriter(OutboundSender sender) {
+        Thread t = new Thread(sender);
+        t.start();
+        return t;
+    }
+
+    @Test
+    public void testQueuedCommandsAreCoalescedIntoOneFlush() throws Exception {
+        RecordingChannel channel = new RecordingChannel();
+        OutboundSender sender = new OutboundSender(64, OutboundSender.OverflowPolicy.DROP, null, "[TEST]");
+        sender.setChannel(channel);
+
+        for (int i = 0; i < 10; i++)
+            assertTrue(sender.offer(new PingInfoCommand(i)));
+
+        Thread writer = startWriter(sender);
+        sender.close();
+        assertTrue(sender.awaitTermination(5000));
+        writer.join();
+
+        assertEquals(10, channel.writtenCount());
+        assertEquals(1, channel.flushes.get());
+        for (int i = 0; i < 10; i++)
+            assertEquals(i, ((PingInfoCommand) channel.written.get(i)).getPing());
+
+        OutboundSender.Stats stats = sender.getStats();
+        assertEquals(10, stats.enqueued());
+        assertEquals(10, stats.written());
+        assertEquals(1, stats.flushes());
+        assertEquals(10.0, stats.averageBatch(), 0.0);
+        assertEquals(10, stats.highWaterMark());
+    }
+
+    @Test
+    public void testWakesUpForLaterCommands() throws Exception {
+        RecordingChannel channel = new RecordingChannel();
+        OutboundSender sender = new OutboundSender(64, OutboundSender.OverflowPolicy.DROP, null, "[TEST]");
+        sender.setChannel(channel);
+        Thread writer = startWriter(sender);
+
+        for (int i = 0; i < 5; i++) {
+            sender.offer(new MoveLeftCommand());
+            long deadline = System.currentTimeMillis() + 5000;
+            while (channel.writtenCount() < i + 1 && System.currentTimeMillis() < deadline)
+                Thread.sleep(1);
+            assertEquals(i + 1, channel.writtenCount());
+        }
+
+        sender.close();
+        writer.join(5000);
+        assertFalse(writer.isAlive());
+    }
+
+    @Test
+    public void testDropPolicyCountsDrops() throws Exception {
+        RecordingChannel channel = new RecordingChannel();
+        channel.gate = new CountDownLatch(1);
+        OutboundSender sender = new OutboundSender(4, OutboundSender.OverflowPolicy.DROP, null, "[TEST]");
+        sender.setChannel(channel);
+        Thread writer = startWriter(sender);
+
+        // 첫 커맨드를 쓰는 도중 송신 루프가 막힌 상태에서 큐를 가득 채움
+        sender.offer(new MoveLeftCommand());
+        assertTrue(channel.firstWrite.await(5, TimeUnit.SECONDS));
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (sender.offer(new MoveLeftCommand()))
+                accepted++;
+        }
+
+        assertEquals(4, accepted);
+        assertEquals(6, sender.getStats().dropped());
+
+        channel.gate.countDown();
+        sender.close();
+        writer.join(5000);
+        assertEquals(5, channel.writtenCount());
+    }
+
+    @Test
+    public void testDisconnectPolicyCallsOverflowOnce() throws Exception {
+        RecordingChannel channel = new RecordingChannel();
+        channel.gate = new CountDownLatch(1);
+        AtomicInteger overflows = new AtomicInteger();
+        OutboundSender sender = new OutboundSender(2, OutboundSender.OverflowPolicy.DISCONNECT,
+                overflows::incrementAndGet, "[TEST]");
+        sender.setChannel(channel);
+        Thread writer = startWriter(sender);
+
+        sender.offer(new MoveLeftCommand());
+        assertTrue(channel.firstWrite.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++)
+            sender.offer(new MoveLeftCommand());
+
+        assertEquals(1, overflows.get());
+        assertEquals(3, sender.getStats().dropped());
+
+        channel.gate.countDown();
+        sender.close();
+        writer.join(5000);
+    }
+
+    @Test
+    public void testOfferAfterCloseIsDropped() {
+        OutboundSender sender = new OutboundSender(4, OutboundSender.OverflowPolicy.DROP, null, "[TEST]");
+        sender.close();
+        assertFalse(sender.offer(new MoveLeftCommand()));
+        assertEquals(1, sender.getStats().dropped());
+    }
+}
@@ -1,6 +1,7 @@
 package org.tetris.network.comand;
 
 import org.junit.Test;
+import org.tetris.game.model.GameSimulation;
 import org.tetris.network.mocks.TestGameCommandExecutor;
 
 import static org.junit.Assert.*;
@@ -133,4 +134,22 @@ public class GameCommandTest {
         assertFalse(executor.lastIsWinner);
         assertEquals(3000, executor.lastScore);
     }
+
+    @Test
+    public void testFrameInputLegacyCommands() {
+        TestGameCommandExecutor executor = new TestGameCommandExecutor();
+
+        FrameInputCommand.toLegacyCommand(GameSimulation.Input.LEFT).execute(executor);
+        FrameInputCommand.toLegacyCommand(GameSimulation.Input.RIGHT).execute(executor);
+        FrameInputCommand.toLegacyCommand(GameSimulation.Input.ROTATE).execute(executor);
+        FrameInputCommand.toLegacyCommand(GameSimulation.Input.SOFT_DROP).execute(executor);
+        FrameInputCommand.toLegacyCommand(GameSimulation.Input.HARD_DROP).execute(executor);
+
+        assertEquals(5, executor.executedCommands.size());
+        assertEquals("moveLeft", executor.executedCommands.get(0));
+        assertEquals("moveRight", executor.executedCommands.get(1));
+        assertEquals("rotate", executor.executedCommands.get(2));
+        assertEquals("softDrop", executor.executedCommands.get(3));
+        assertEquals("hardDrop", executor.executedCommands.get(4));
+    }
 }
@@ -41,4 +41,37 @@ public class MatchSettingsTest {
         assertEquals(GameMode.TIME_ATTACK, settings.getGameMode());
         assertEquals("NORMAL", settings.getDifficulty());
     }
+
+    @Test
+    public void testPlayerSeedsAreSameOnBothSides() {
+        MatchSettings host = new MatchSettings(1, 111L, 222L, GameMode.NORMAL, "EASY", true);
+        MatchSettings guest = new MatchSettings(2, 222L, 111L, GameMode.NORMAL, "EASY", true);
+
+        assertTrue(host.isLockstep());
+        assertEquals(host.getPlayer1Seed(), guest.getPlayer1Seed());
+        assertEquals(host.getPlayer2Seed(), guest.getPlayer2Seed());
+        assertEquals(111L, host.getPlayer1Seed());
+        assertFalse(new MatchSettings(1, 1L, 2L, GameMode.NORMAL, "EASY").isLockstep());
+    }
+
+    @Test
+    public void testOpponentFeatures() {
+        assertTrue(new MatchSettings(1, 1L, 2L, GameMode.NORMAL, "EASY")
+                .opponentSupports(MatchSettings.FEATURE_BOARD_DELTA));
+        assertTrue(new MatchSettings(1, 1L, 2L, GameMode.NORMAL, "EASY")
+                .opponentSupports(MatchSettings.FEATURE_FRAME_INPUT));
+        assertTrue(new MatchSettings(1, 1L, 2L, GameMode.NORMAL, "EASY")
+                .opponentSupports(MatchSettings.FEATURE_LOCKSTEP));
+
+        // 기존 서버가 보낸 설정은 필드가 없어 0으로 읽힘 -> 예전 커맨드만 사용
+        MatchSettings legacy = new MatchSettings(1, 1L, 2L, GameMode.NORMAL, "EASY", false, 0);
+        assertFalse(legacy.opponentSupports(MatchSettings.FEATURE_BOARD_DELTA));
+        assertFalse(legacy.opponentSupports(MatchSettings.FEATURE_FRAME_INPUT));
+        assertFalse(legacy.opponentSupports(MatchSettings.FEATURE_LOCKSTEP));
+    }
+
+    @Test
+    public void testSerialVersionMatchesLegacyPrograms() {
+        assertEquals(3L, java.io.ObjectStreamClass.lookup(MatchSettings.class).getSerialVersionUID());
+    }
 }
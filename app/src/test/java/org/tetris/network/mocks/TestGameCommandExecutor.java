@@ -1,6 +1,8 @@
 package org.tetris.network.mocks;
 
+import org.tetris.game.model.GameSimulation;
 import org.tetris.game.model.blocks.Block;
+import org.tetris.network.comand.BoardDeltaCommand;
 import org.tetris.network.comand.GameCommandExecutor;
 import org.tetris.network.dto.MatchSettings;
 import org.util.Point;
@@ -21,6 +23,12 @@ public class TestGameCommandExecutor implements GameCommandExecutor {
     public String lastDisconnectReason;
     public Block lastCurrentBlock;
     public Point lastCurrentPos;
+    public BoardDeltaCommand lastBoardDelta;
+    public int lastInputFrame;
+    public GameSimulation.Input lastInput;
+    public int lastLockstepTick;
+    public int lastLockstepInputs;
+    public long lastStateHash;
 
     @Override
     public void moveLeft() {
@@ -47,6 +55,27 @@ public class TestGameCommandExecutor implements GameCommandExecutor {
         executedCommands.add("hardDrop");
     }
 
+    @Override
+    public void onFrameInput(int frame, GameSimulation.Input input) {
+        executedCommands.add("frameInput");
+        lastInputFrame = frame;
+        lastInput = input;
+    }
+
+    @Override
+    public void onLockstepInput(int tick, int inputs) {
+        executedCommands.add("lockstepInput");
+        lastLockstepTick = tick;
+        lastLockstepInputs = inputs;
+    }
+
+    @Override
+    public void onStateHash(int tick, long hash) {
+        executedCommands.add("stateHash");
+        lastLockstepTick = tick;
+        lastStateHash = hash;
+    }
+
     @Override
     public void gameStart(MatchSettings settings) {
         executedCommands.add("gameStart");
@@ -98,6 +127,17 @@ public class TestGameCommandExecutor implements GameCommandExecutor {
         this.lastStateScore = score;
     }
 
+    @Override
+    public void updateBoardDelta(BoardDeltaCommand delta) {
+        executedCommands.add("updateBoardDelta");
+        this.lastBoardDelta = delta;
+    }
+
+    @Override
+    public void onBoardResyncRequested() {
+        executedCommands.add("onBoardResyncRequested");
+    }
+
     @Override
     public void updatePing(long ping) {
         executedCommands.add("updatePing");
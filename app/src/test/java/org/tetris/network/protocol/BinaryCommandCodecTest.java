@@ -0,0 +1,274 @@
+package org.tetris.network.protocol;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+import org.tetris.game.model.GameMode;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.network.comand.*;
+import org.tetris.network.dto.MatchSettings;
+
+/**
+ * 바이너리 코덱 인코딩/디코딩 왕복 테스트
+ */
+public class BinaryCommandCodecTest {
+
+    private static Command roundTrip(Command command) throws Exception {
+        byte[] bytes = BinaryCommandCodec.encode(command);
+        return BinaryCommandCodec.decode(bytes, bytes.length);
+    }
+
+    @Test
+    public void testInputCommandsAreSingleByte() throws Exception {
+        Command[] commands = {
+                new MoveLeftCommand(), new MoveRightCommand(), new RotateCommand(),
+                new SoftDropCommand(), new HardDropCommand()
+        };
+
+        for (Command command : commands) {
+            byte[] bytes = BinaryCommandCodec.encode(command);
+            assertEquals(1, bytes.length);
+            assertEquals(command.getClass(), roundTrip(command).getClass());
+        }
+    }
+
+    @Test
+    public void testUpdateStateRoundTrip() throws Exception {
+        int[][] board = new int[20][10];
+        board[19][0] = 8;
+        board[19][9] = 13;
+        board[5][4] = 6;
+
+        UpdateStateCommand decoded = (UpdateStateCommand) roundTrip(new UpdateStateCommand(board, 3, -1, 123456));
+
+        assertArrayEquals(board, decoded.getBoard());
+        assertEquals(3, decoded.getCurrentPosRow());
+        assertEquals(-1, decoded.getCurrentPosCol());
+        assertEquals(123456, decoded.getScore());
+    }
+
+    @Test
+    public void testUpdateStateSmallerThanSerialization() throws Exception {
+        int[][] board = new int[20][10];
+        for (int c = 0; c < 9; c++)
+            board[19][c] = 1;
+        UpdateStateCommand command = new UpdateStateCommand(board, 0, 5, 100);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(command);
+        }
+
+        int binarySize = BinaryCommandCodec.encode(command).length;
+        assertTrue(binarySize * 10 < bytes.size());
+    }
+
+    @Test
+    public void testGameStartRoundTrip() throws Exception {
+        MatchSettings settings = new MatchSettings(2, -42L, Long.MAX_VALUE, GameMode.TIME_ATTACK, "HARD");
+
+        MatchSettings decoded = ((GameStartCommand) roundTrip(new GameStartCommand(settings))).getSettings();
+
+        assertEquals(2, decoded.getPlayerNumber());
+        assertEquals(-42L, decoded.getMySeed());
+        assertEquals(Long.MAX_VALUE, decoded.getOtherSeed());
+        assertEquals(GameMode.TIME_ATTACK, decoded.getGameMode());
+        assertEquals("HARD", decoded.getDifficulty());
+    }
+
+    @Test
+    public void testGameStartLockstepFlagRoundTrip() throws Exception {
+        MatchSettings settings = new MatchSettings(1, 5L, 6L, GameMode.NORMAL, "EASY", true);
+
+        MatchSettings decoded = ((GameStartCommand) roundTrip(new GameStartCommand(settings))).getSettings();
+
+        assertTrue(decoded.isLockstep());
+        assertFalse(((GameStartCommand) roundTrip(new GameStartCommand(
+                new MatchSettings(1, 5L, 6L, GameMode.NORMAL, "EASY")))).getSettings().isLockstep());
+    }
+
+    @Test
+    public void testFieldCommandsRoundTrip() throws Exception {
+        assertTrue(((PauseCommand) roundTrip(new PauseCommand(true))).isPaused());
+        assertEquals("사유", ((DisconnectCommand) roundTrip(new DisconnectCommand("사유"))).getReason());
+        assertEquals(1234L, ((PingCommand) roundTrip(new PingCommand(1234L))).getTimestamp());
+        assertEquals(55L, ((PingInfoCommand) roundTrip(new PingInfoCommand(55L))).getPing());
+        assertEquals(99L, ((PongCommand) roundTrip(new PongCommand(99L))).getOriginalTimestamp());
+        assertTrue(((PlayerConnectionCommand) roundTrip(new PlayerConnectionCommand(true))).isOpponentConnected());
+        assertFalse(((ReadyCommand) roundTrip(new ReadyCommand(false))).getIsReady());
+        assertTrue(((SyncReadyStateCommand) roundTrip(new SyncReadyStateCommand(true))).isOpponentReady());
+        assertTrue(roundTrip(new RequestSyncCommand()) instanceof RequestSyncCommand);
+        assertTrue(roundTrip(new RestartCommand()) instanceof RestartCommand);
+
+        GameResultCommand result = (GameResultCommand) roundTrip(new GameResultCommand(true, 700));
+        assertTrue(result.isWinner());
+        assertEquals(700, result.getScore());
+    }
+
+    // 코덱에 등록되지 않은 커맨드는 직렬화 바이트로 전달
+    static class CustomCommand implements Command {
+        private static final long serialVersionUID = 1L;
+        final String value;
+
+        CustomCommand(String value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    public void testUnknownCommandFallsBackToSerialization() throws Exception {
+        byte[] bytes = BinaryCommandCodec.encode(new CustomCommand("hello"));
+        assertEquals(BinaryCommandCodec.OP_SERIALIZED, bytes[0]);
+
+        CustomCommand decoded = (CustomCommand) BinaryCommandCodec.decode(bytes, bytes.length);
+        assertEquals("hello", decoded.value);
+    }
+
+    @Test(expected = java.io.StreamCorruptedException.class)
+    public void testNegativeStringLengthRejected() throws Exception {
+        // DISCONNECT + 문자열 길이 varint가 음수로 읽힘
+        byte[] frame = { BinaryCommandCodec.OP_DISCONNECT, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+        BinaryCommandCodec.decode(frame, frame.length);
+    }
+
+    @Test(expected = java.io.StreamCorruptedException.class)
+    public void testSerializedNonCommandRejected() throws Exception {
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        bytes.write(BinaryCommandCodec.OP_SERIALIZED);
+        try (java.io.ObjectOutputStream oos = new java.io.ObjectOutputStream(bytes)) {
+            oos.writeObject("not a command");
+        }
+        byte[] frame = bytes.toByteArray();
+        assertTrue(BinaryCommandCodec.isSerializedFrame(frame, 0, frame.length));
+        BinaryCommandCodec.decode(frame, frame.length);
+    }
+
+    @Test(expected = java.io.StreamCorruptedException.class)
+    public void testUnknownOpcodeRejected() throws Exception {
+        BinaryCommandCodec.decode(new byte[] { 0x55 }, 1);
+    }
+
+    @Test
+    public void testSignedVarIntRoundTrip() throws Exception {
+        int[] values = { 0, 1, -1, 63, -64, 64, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        BinaryCommandCodec.Writer out = new BinaryCommandCodec.Writer(16);
+        for (int v : values)
+            out.writeSignedVarInt(v);
+
+        BinaryCommandCodec.Reader in = new BinaryCommandCodec.Reader(out.array(), out.size());
+        for (int v : values)
+            assertEquals(v, in.readSignedVarInt());
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    public void testBoardDeltaRoundTrip() throws Exception {
+        BoardDeltaCommand delta = new BoardDeltaCommand(7, 6, false, 20, 10,
+                new int[] { 18, 19 }, new long[] { 0x1111111110L, 0xFFFFFFFFFFL }, -12345, 0, 4, 900);
+
+        BoardDeltaCommand decoded = (BoardDeltaCommand) roundTrip(delta);
+
+        assertEquals(7, decoded.getSequence());
+        assertEquals(6, decoded.getBaseSequence());
+        assertFalse(decoded.isKeyframe());
+        assertEquals(20, decoded.getRows());
+        assertEquals(10, decoded.getCols());
+        assertArrayEquals(new int[] { 18, 19 }, decoded.getRowIndices());
+        assertArrayEquals(new long[] { 0x1111111110L, 0xFFFFFFFFFFL }, decoded.getPackedRows());
+        assertEquals(-12345, decoded.getChecksum());
+        assertEquals(4, decoded.getCurrentPosCol());
+        assertEquals(900, decoded.getScore());
+    }
+
+    @Test
+    public void testRequestBoardResyncRoundTrip() throws Exception {
+        assertEquals(1, BinaryCommandCodec.encode(new RequestBoardResyncCommand()).length);
+        assertTrue(roundTrip(new RequestBoardResyncCommand()) instanceof RequestBoardResyncCommand);
+    }
+
+    @Test
+    public void testFrameInputRoundTrip() throws Exception {
+        FrameInputCommand decoded = (FrameInputCommand) roundTrip(
+                new FrameInputCommand(12345, GameSimulation.Input.ROTATE));
+
+        assertEquals(12345, decoded.getFrame());
+        assertEquals(GameSimulation.Input.ROTATE, decoded.getInput());
+        // opcode 1 + 프레임 varint 2 + 입력 1
+        assertEquals(4, BinaryCommandCodec.encode(decoded).length);
+    }
+
+    @Test
+    public void testLockstepCommandsRoundTrip() throws Exception {
+        LockstepInputCommand input = (LockstepInputCommand) roundTrip(new LockstepInputCommand(70000, 0b10101));
+        assertEquals(70000, input.getTick());
+        assertEquals(0b10101, input.getInputs());
+        // 틱당 입력은 opcode + varint 2개로 몇 바이트면 충분
+        assertTrue(BinaryCommandCodec.encode(new LockstepInputCommand(1000, 0)).length <= 4);
+
+        StateHashCommand hash = (StateHashCommand) roundTrip(new StateHashCommand(600, 0x8000_0000_0000_0001L));
+        assertEquals(600, hash.getTick());
+        assertEquals(0x8000_0000_0000_0001L, hash.getHash());
+    }
+
+    private static void assertCorrupt(BinaryCommandCodec.Writer frame) throws Exception {
+        try {
+            BinaryCommandCodec.decode(frame.array(), frame.size());
+            fail("StreamCorruptedException이 나야 함");
+        } catch (java.io.StreamCorruptedException expected) {
+            // 정상
+        }
+    }
+
+    @Test
+    public void testBadBoardSizeRejected() throws Exception {
+        int[][] sizes = { { -1, 10 }, { 0, 10 }, { 1_000_000, 10 }, { 20, -1 }, { 20, 0 }, { 20, 1_000_000 } };
+        for (int[] size : sizes) {
+            BinaryCommandCodec.Writer frame = new BinaryCommandCodec.Writer(16);
+            frame.writeByte(BinaryCommandCodec.OP_UPDATE_STATE);
+            frame.writeVarInt(size[0]);
+            frame.writeVarInt(size[1]);
+            assertCorrupt(frame);
+        }
+    }
+
+    @Test
+    public void testBadBoardDeltaSizeRejected() throws Exception {
+        int[][] sizes = { { -1, 10 }, { 1_000_000, 10 }, { 20, 0 }, { 20, 17 } };
+        for (int[] size : sizes) {
+            BinaryCommandCodec.Writer frame = new BinaryCommandCodec.Writer(16);
+            frame.writeByte(BinaryCommandCodec.OP_BOARD_DELTA);
+            frame.writeVarInt(1);
+            frame.writeVarInt(0);
+            frame.writeBoolean(true);
+            frame.writeVarInt(size[0]);
+            frame.writeVarInt(size[1]);
+            frame.writeVarInt(0);
+            assertCorrupt(frame);
+        }
+    }
+
+    @Test
+    public void testUnknownGameModeRejected() throws Exception {
+        BinaryCommandCodec.Writer frame = new BinaryCommandCodec.Writer(32);
+        frame.writeByte(BinaryCommandCodec.OP_GAME_START);
+        frame.writeVarInt(1);
+        frame.writeSignedVarLong(1L);
+        frame.writeSignedVarLong(2L);
+        frame.writeVarInt(GameMode.values().length + 1);
+        frame.writeString("EASY");
+        frame.writeBoolean(false);
+        assertCorrupt(frame);
+    }
+
+    @Test
+    public void testGameStartOpponentFeaturesRoundTrip() throws Exception {
+        MatchSettings settings = new MatchSettings(2, 5L, 6L, GameMode.NORMAL, "EASY", false, 0);
+
+        MatchSettings decoded = ((GameStartCommand) roundTrip(new GameStartCommand(settings))).getSettings();
+
+        assertEquals(0, decoded.getOpponentFeatures());
+    }
+}
@@ -0,0 +1,148 @@
+package org.tetris.network.protocol;
+
+import static org.junit.Assert.*;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.network.comand.*;
+
+/**
+ * 연결 시 프로토콜 협상 테스트 (새 클라이언트/서버, 기존 직렬화 전용 상대)
+ */
+public class ProtocolNegotiatorTest {
+
+    private ServerSocket serverSocket;
+
+    @Before
+    public void setUp() throws Exception {
+        serverSocket = new ServerSocket(0);
+        ProtocolNegotiator.setBinaryEnabled(true);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ProtocolNegotiator.setBinaryEnabled(true);
+        serverSocket.close();
+    }
+
+    private CompletableFuture<CommandChannel> acceptAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ProtocolNegotiator.acceptServer(serverSocket.accept());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test(timeout = 10000)
+    public void testNewClientAndServerUseBinary() throws Exception {
+        CompletableFuture<CommandChannel> serverSide = acceptAsync();
+
+        try (Socket socket = new Socket("localhost", serverSocket.getLocalPort())) {
+            CommandChannel client = ProtocolNegotiator.connectClient(socket);
+            CommandChannel server = serverSide.get(5, TimeUnit.SECONDS);
+
+            assertTrue(client instanceof BinaryCommandChannel);
+            assertTrue(server instanceof BinaryCommandChannel);
+            assertFalse(client.isLegacyPeer());
+            assertFalse(server.isLegacyPeer());
+
+            client.send(new ReadyCommand(true));
+            assertTrue(((ReadyCommand) server.receive()).getIsReady());
+
+            server.send(new PongCommand(77L));
+            assertEquals(77L, ((PongCommand) client.receive()).getOriginalTimestamp());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testNewClientDoesNotWaitForLegacyDetection() throws Exception {
+        // 새 클라이언트는 첫 바이트로 알아보므로 기존 클라이언트 판별 대기 시간을 쓰지 않음
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<CommandChannel> serverSide = acceptAsync();
+            try (Socket socket = new Socket("localhost", serverSocket.getLocalPort())) {
+                long start = System.nanoTime();
+                ProtocolNegotiator.connectClient(socket);
+                serverSide.get(5, TimeUnit.SECONDS);
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                assertTrue("협상 " + elapsedMs + "ms", elapsedMs < ProtocolNegotiator.LEGACY_DETECT_TIMEOUT_MS);
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testLegacyClientFallsBackToSerialization() throws Exception {
+        CompletableFuture<CommandChannel> serverSide = acceptAsync();
+
+        try (Socket socket = new Socket("localhost", serverSocket.getLocalPort())) {
+            // 기존 클라이언트: 연결 즉시 직렬화 스트림 생성
+            ObjectOutputStream oos = new ObjectOutputStream(socket.getOutputStream());
+            ObjectInputStream ois = new ObjectInputStream(socket.getInputStream());
+            CommandChannel server = serverSide.get(5, TimeUnit.SECONDS);
+
+            assertTrue(server instanceof ObjectCommandChannel);
+            assertTrue(server.isLegacyPeer());
+
+            oos.writeObject(new PauseCommand(true));
+            oos.flush();
+            assertTrue(((PauseCommand) server.receive()).isPaused());
+
+            server.send(new DisconnectCommand("bye"));
+            assertEquals("bye", ((DisconnectCommand) ois.readObject()).getReason());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testLegacyServerFallsBackToSerialization() throws Exception {
+        CompletableFuture<Void> legacyServer = CompletableFuture.runAsync(() -> {
+            try (Socket socket = serverSocket.accept()) {
+                // 기존 서버: 출력 스트림 먼저 생성 후 입력 스트림 생성
+                ObjectOutputStream oos = new ObjectOutputStream(socket.getOutputStream());
+                ObjectInputStream ois = new ObjectInputStream(socket.getInputStream());
+                Command command = (Command) ois.readObject();
+                oos.writeObject(command);
+                oos.flush();
+                ois.readObject(); // 클라이언트가 닫을 때까지 대기
+            } catch (Exception ignored) {
+            }
+        });
+
+        try (Socket socket = new Socket("localhost", serverSocket.getLocalPort())) {
+            CommandChannel client = ProtocolNegotiator.connectClient(socket);
+            assertTrue(client instanceof ObjectCommandChannel);
+            assertTrue(client.isLegacyPeer());
+
+            client.send(new PingInfoCommand(12L));
+            assertEquals(12L, ((PingInfoCommand) client.receive()).getPing());
+        }
+        legacyServer.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test(timeout = 10000)
+    public void testBinaryDisabledUsesSerialization() throws Exception {
+        ProtocolNegotiator.setBinaryEnabled(false);
+        CompletableFuture<CommandChannel> serverSide = acceptAsync();
+
+        try (Socket socket = new Socket("localhost", serverSocket.getLocalPort())) {
+            CommandChannel client = ProtocolNegotiator.connectClient(socket);
+            CommandChannel server = serverSide.get(5, TimeUnit.SECONDS);
+
+            assertTrue(client instanceof ObjectCommandChannel);
+            assertTrue(server instanceof ObjectCommandChannel);
+            // 직렬화를 골랐어도 새 프로그램끼리는 새 커맨드를 주고받을 수 있음
+            assertFalse(server.isLegacyPeer());
+
+            client.send(new RotateCommand());
+            assertTrue(server.receive() instanceof RotateCommand);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.tetris.network.server;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.network.comand.*;
+import org.tetris.network.protocol.CommandChannel;
+import org.tetris.network.protocol.ProtocolNegotiator;
+
+/**
+ * NioGameServer 다중 방 테스트 (루프백 연결)
+ */
+public class NioGameServerTest {
+
+    private NioGameServer server;
+    private final List<Client> clients = new ArrayList<>();
+
+    private static class Client {
+        final Socket socket;
+        final CommandChannel channel;
+
+        Client(Socket socket, CommandChannel channel) {
+            this.socket = socket;
+            this.channel = channel;
+        }
+
+        <T extends Command> T receiveUntil(Class<T> type) throws Exception {
+            while (true) {
+                Command command = channel.receive();
+                if (type.isInstance(command))
+                    return type.cast(command);
+            }
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // 무시
+            }
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = new NioGameServer();
+        server.start(0);
+    }
+
+    @After
+    public void tearDown() {
+        for (Client client : clients)
+            client.close();
+        server.stop();
+    }
+
+    private Client connect() throws IOException {
+        Socket socket = new Socket("localhost", server.getPort());
+        socket.setSoTimeout(10000);
+        // 닫을 때 TIME_WAIT를 남기지 않음 (임시 포트 1000개가 다른 테스트의 고정 포트와 겹치지 않도록)
+        socket.setSoLinger(true, 0);
+        Client client = new Client(socket, ProtocolNegotiator.connectClient(socket));
+        clients.add(client);
+        return client;
+    }
+
+    private void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    public void testNegotiatesBinary() throws Exception {
+        Client client = connect();
+        assertEquals("binary", client.channel.getProtocolName());
+        assertFalse(client.receiveUntil(PlayerConnectionCommand.class).isOpponentConnected());
+    }
+
+    @Test
+    public void testPairStartsAndRelays() throws Exception {
+        Client a = connect();
+        Client b = connect();
+        while (!a.receiveUntil(PlayerConnectionCommand.class).isOpponentConnected()) {
+            // 상대가 들어올 때까지 대기
+        }
+
+        a.channel.send(new ReadyCommand(true));
+        b.channel.send(new ReadyCommand(true));
+        // 방 배정은 HELLO 응답 순서를 따르므로 누가 호스트인지는 정해져 있지 않음
+        int numberA = a.receiveUntil(GameStartCommand.class).getSettings().getPlayerNumber();
+        int numberB = b.receiveUntil(GameStartCommand.class).getSettings().getPlayerNumber();
+        assertEquals(3, numberA + numberB);
+
+        a.channel.send(new MoveLeftCommand());
+        b.receiveUntil(MoveLeftCommand.class);
+
+        b.channel.send(new PingCommand(77L));
+        assertEquals(77L, b.receiveUntil(PongCommand.class).getOriginalTimestamp());
+    }
+
+    @Test
+    public void testDisconnectDuringGameNotifiesOpponent() throws Exception {
+        Client a = connect();
+        Client b = connect();
+        a.channel.send(new ReadyCommand(true));
+        b.channel.send(new ReadyCommand(true));
+        a.receiveUntil(GameStartCommand.class);
+        b.receiveUntil(GameStartCommand.class);
+
+        a.close();
+
+        b.receiveUntil(DisconnectCommand.class);
+        assertTrue(b.receiveUntil(GameResultCommand.class).isWinner());
+        assertEquals(1, server.getRooms().getRoomCount());
+    }
+
+    // 협상을 마친 연결에 페이로드 그대로의 프레임을 보냄 (varint 길이 + 페이로드)
+    private static void sendRawFrame(Client client, byte[] payload) throws IOException {
+        java.io.OutputStream out = client.socket.getOutputStream();
+        out.write(payload.length); // 테스트 페이로드는 128바이트 미만
+        out.write(payload);
+        out.flush();
+    }
+
+    private static void assertClosedByServer(Client client) throws IOException {
+        try {
+            client.receiveUntil(DisconnectCommand.class);
+            fail("서버가 연결을 닫아야 함");
+        } catch (java.net.SocketTimeoutException e) {
+            fail("서버가 연결을 닫지 않음");
+        } catch (IOException expected) {
+            // 연결 끊김
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testBadFramesCloseOnlyThatConnection() throws Exception {
+        Client a = connect();
+        Client b = connect();
+        a.channel.send(new ReadyCommand(true));
+        b.channel.send(new ReadyCommand(true));
+        a.receiveUntil(GameStartCommand.class);
+        b.receiveUntil(GameStartCommand.class);
+
+        // 문자열 길이가 음수로 읽히는 DISCONNECT
+        Client bad = connect();
+        sendRawFrame(bad, new byte[] { 0x08, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F });
+        assertClosedByServer(bad);
+
+        // 올바른 커맨드라도 직렬화 프레임은 거부
+        Client serialized = connect();
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        bytes.write(0x7F);
+        try (java.io.ObjectOutputStream oos = new java.io.ObjectOutputStream(bytes)) {
+            oos.writeObject(new MoveLeftCommand());
+        }
+        sendRawFrame(serialized, bytes.toByteArray());
+        assertClosedByServer(serialized);
+
+        // 다른 방은 그대로 동작
+        a.channel.send(new MoveLeftCommand());
+        b.receiveUntil(MoveLeftCommand.class);
+        waitFor(() -> server.getConnectionCount() == 2);
+    }
+
+    @Test
+    public void testSoakThousandConnections() throws Exception {
+        final int connections = 1000;
+        for (int i = 0; i < connections; i++)
+            connect();
+
+        // 방 배정은 연결 수락 뒤에 일어나므로 방 수도 함께 기다림
+        waitFor(() -> server.getConnectionCount() == connections
+                && server.getRooms().getRoomCount() == connections / 2);
+
+        for (Client client : clients)
+            client.channel.send(new ReadyCommand(true));
+        Set<Integer> hosts = new HashSet<>();
+        for (int i = 0; i < connections; i++) {
+            if (clients.get(i).receiveUntil(GameStartCommand.class).getSettings().getPlayerNumber() == 1)
+                hosts.add(i);
+        }
+        assertEquals(connections / 2, hosts.size());
+
+        // 각 방의 호스트가 자기 번호를 보내면 상대가 받아야 함
+        for (int i : hosts)
+            clients.get(i).channel.send(new PingInfoCommand(i));
+        Set<Integer> relayed = new HashSet<>();
+        for (int i = 0; i < connections; i++) {
+            if (!hosts.contains(i))
+                relayed.add((int) clients.get(i).receiveUntil(PingInfoCommand.class).getPing());
+        }
+        assertEquals(hosts, relayed);
+
+        for (Client client : clients)
+            client.close();
+        waitFor(() -> server.getConnectionCount() == 0);
+        assertEquals(0, server.getRooms().getRoomCount());
+    }
+}
@@ -0,0 +1,130 @@
+package org.tetris.network.server;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.tetris.network.GameRoom;
+import org.tetris.network.comand.Command;
+import org.tetris.network.comand.GameStartCommand;
+import org.tetris.network.comand.ReadyCommand;
+import org.tetris.network.dto.MatchSettings;
+
+public class RoomRegistryTest {
+
+    private static class FakeMember implements GameRoom.Member {
+        final List<Command> received = new ArrayList<>();
+        int features = MatchSettings.ALL_FEATURES;
+
+        @Override
+        public int getFeatures() {
+            return features;
+        }
+
+        @Override
+        public void sendCommand(Command command) {
+            received.add(command);
+        }
+
+        long starts() {
+            return received.stream().filter(GameStartCommand.class::isInstance).count();
+        }
+    }
+
+    @Test
+    public void testPairsIntoRooms() {
+        RoomRegistry registry = new RoomRegistry();
+        GameRoom a = registry.assign(new FakeMember());
+        GameRoom b = registry.assign(new FakeMember());
+        GameRoom c = registry.assign(new FakeMember());
+
+        assertSame(a, b);
+        assertNotSame(a, c);
+        assertEquals(2, registry.getRoomCount());
+        assertEquals(1, registry.getWaitingCount());
+    }
+
+    @Test
+    public void testDropOneFromEachOfTwoRooms() {
+        RoomRegistry registry = new RoomRegistry();
+        FakeMember a1 = new FakeMember(), a2 = new FakeMember();
+        FakeMember b1 = new FakeMember(), b2 = new FakeMember();
+        GameRoom roomA = registry.assign(a1);
+        registry.assign(a2);
+        GameRoom roomB = registry.assign(b1);
+        registry.assign(b2);
+
+        registry.release(a2, roomA);
+        registry.release(b2, roomB);
+        assertEquals(2, registry.getWaitingCount());
+
+        // 남은 두 사람 모두 새 상대를 받아야 함 (먼저 빈 방부터)
+        assertSame(roomA, registry.assign(new FakeMember()));
+        assertSame(roomB, registry.assign(new FakeMember()));
+        assertTrue(roomA.isFull());
+        assertTrue(roomB.isFull());
+        assertEquals(0, registry.getWaitingCount());
+        assertEquals(2, registry.getRoomCount());
+    }
+
+    @Test
+    public void testReopenedRoomForgetsOldReadyState() {
+        RoomRegistry registry = new RoomRegistry();
+        FakeMember host = new FakeMember(), leaver = new FakeMember();
+        GameRoom room = registry.assign(host);
+        registry.assign(leaver);
+
+        // 지난 상대가 나가기 전에 Ready를 눌러 둔 상태
+        room.handle(host, new ReadyCommand(true));
+        registry.release(leaver, room);
+
+        FakeMember newcomer = new FakeMember();
+        assertSame(room, registry.assign(newcomer));
+        room.handle(newcomer, new ReadyCommand(true));
+        assertEquals(0, host.starts());
+
+        room.handle(host, new ReadyCommand(true));
+        assertEquals(1, host.starts());
+        assertEquals(1, newcomer.starts());
+    }
+
+    @Test
+    public void testEmptyRoomIsRemoved() {
+        RoomRegistry registry = new RoomRegistry();
+        FakeMember a = new FakeMember(), b = new FakeMember();
+        GameRoom room = registry.assign(a);
+        registry.assign(b);
+
+        registry.release(a, room);
+        registry.release(b, room);
+        assertEquals(0, registry.getRoomCount());
+        assertEquals(0, registry.getWaitingCount());
+        assertNotSame(room, registry.assign(new FakeMember()));
+    }
+
+    @Test
+    public void testGameStartCarriesOpponentFeatures() {
+        RoomRegistry registry = new RoomRegistry();
+        FakeMember current = new FakeMember(), legacy = new FakeMember();
+        legacy.features = 0;
+        GameRoom room = registry.assign(current);
+        registry.assign(legacy);
+
+        room.handle(current, new ReadyCommand(true));
+        room.handle(legacy, new ReadyCommand(true));
+
+        // 새 프로그램은 상대가 기존 프로그램임을 알고, 기존 프로그램 쪽에는 전체 기능이 알려짐 (무시됨)
+        assertEquals(0, startSettings(current).getOpponentFeatures());
+        assertEquals(MatchSettings.ALL_FEATURES, startSettings(legacy).getOpponentFeatures());
+    }
+
+    private static MatchSettings startSettings(FakeMember member) {
+        for (Command command : member.received) {
+            if (command instanceof GameStartCommand start)
+                return start.getSettings();
+        }
+        throw new AssertionError("GameStartCommand를 받지 못함");
+    }
+}
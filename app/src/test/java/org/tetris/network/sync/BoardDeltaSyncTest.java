@@ -0,0 +1,132 @@
+package org.tetris.network.sync;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.network.comand.BoardDeltaCommand;
+import org.tetris.network.comand.GameCommand;
+import org.tetris.network.comand.UpdateStateCommand;
+import org.tetris.network.protocol.BinaryCommandCodec;
+
+/**
+ * 델타 보드 동기화 (인코더 -> 디코더) 테스트
+ */
+public class BoardDeltaSyncTest {
+
+    private BoardDeltaEncoder encoder;
+    private BoardDeltaDecoder decoder;
+    private int[][] board;
+
+    @Before
+    public void setUp() {
+        encoder = new BoardDeltaEncoder();
+        decoder = new BoardDeltaDecoder();
+        board = new int[20][10];
+    }
+
+    private BoardDeltaCommand send() {
+        return (BoardDeltaCommand) encoder.encode(board, 0, 4, 0);
+    }
+
+    @Test
+    public void testFirstSendIsKeyframe() {
+        board[19][0] = 3;
+        BoardDeltaCommand delta = send();
+
+        assertTrue(delta.isKeyframe());
+        assertEquals(20, delta.getRowIndices().length);
+        assertArrayEquals(board, decoder.apply(delta));
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChangedRows() {
+        decoder.apply(send());
+
+        board[19][2] = 5;
+        board[18][2] = 5;
+        BoardDeltaCommand delta = send();
+
+        assertFalse(delta.isKeyframe());
+        assertArrayEquals(new int[] { 18, 19 }, delta.getRowIndices());
+        assertArrayEquals(board, decoder.apply(delta));
+    }
+
+    @Test
+    public void testPackRoundTrip() {
+        int[] row = { 0, 1, 2, 3, 4, 5, 6, 7, 15, 8 };
+        int[] out = new int[row.length];
+        BoardPacking.unpackRow(BoardPacking.packRow(row), out);
+        assertArrayEquals(row, out);
+    }
+
+    @Test
+    public void testKeyframeInterval() {
+        int keyframes = 0;
+        for (int i = 0; i < BoardDeltaEncoder.KEYFRAME_INTERVAL * 2; i++) {
+            board[19 - (i % 20)][i % 10] = 1 + i % 7;
+            BoardDeltaCommand delta = send();
+            if (delta.isKeyframe())
+                keyframes++;
+            assertArrayEquals(board, decoder.apply(delta));
+        }
+        assertEquals(2, keyframes);
+    }
+
+    @Test
+    public void testMissedDeltaRequiresKeyframe() {
+        decoder.apply(send());
+
+        board[19][0] = 1;
+        send(); // 유실
+        board[19][1] = 1;
+        assertNull(decoder.apply(send()));
+
+        // 키프레임 전까지는 계속 거부
+        board[19][2] = 1;
+        assertNull(decoder.apply(send()));
+        assertFalse(decoder.isSynced());
+
+        encoder.requestKeyframe();
+        board[19][3] = 1;
+        BoardDeltaCommand keyframe = send();
+        assertTrue(keyframe.isKeyframe());
+        assertArrayEquals(board, decoder.apply(keyframe));
+    }
+
+    @Test
+    public void testChecksumMismatchRejected() {
+        decoder.apply(send());
+
+        board[19][0] = 2;
+        BoardDeltaCommand delta = send();
+        BoardDeltaCommand corrupted = new BoardDeltaCommand(delta.getSequence(), delta.getBaseSequence(), false,
+                delta.getRows(), delta.getCols(), delta.getRowIndices(), new long[] { 3L },
+                delta.getChecksum(), 0, 4, 0);
+
+        assertNull(decoder.apply(corrupted));
+    }
+
+    @Test
+    public void testUnpackableBoardFallsBackToFullState() {
+        board[19][0] = 16;
+        GameCommand command = encoder.encode(board, 0, 4, 0);
+        assertTrue(command instanceof UpdateStateCommand);
+    }
+
+    @Test
+    public void testDeltaMuchSmallerThanFullState() throws Exception {
+        for (int r = 10; r < 20; r++) {
+            for (int c = 0; c < 10; c++)
+                board[r][c] = (c == r % 10) ? 0 : 1 + (r + c) % 7;
+        }
+        send();
+
+        board[9][3] = 4;
+        board[9][4] = 4;
+        byte[] delta = BinaryCommandCodec.encode(send());
+        byte[] full = BinaryCommandCodec.encode(new UpdateStateCommand(board, 0, 4, 0));
+
+        assertTrue(delta.length * 4 < full.length);
+    }
+}
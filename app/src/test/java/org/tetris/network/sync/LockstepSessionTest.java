@@ -0,0 +1,243 @@
+package org.tetris.network.sync;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.game.model.GameSimulation;
+import org.tetris.game.model.GameSimulation.Input;
+import org.util.Difficulty;
+
+/**
+ * 락스텝 세션 테스트. 두 클라이언트를 지연이 있는 메모리 전송으로 연결해 실행합니다.
+ */
+public class LockstepSessionTest {
+
+    private static final Input[] INPUTS = Input.values();
+
+    /**
+     * 한쪽 방향 전송. 보낸 메시지는 latency번의 프레임이 지나야 도착합니다.
+     */
+    private static class Link implements LockstepSession.Transport {
+        private record Message(long deliverAt, boolean hash, int tick, long value) {
+        }
+
+        private final Queue<Message> queue = new ArrayDeque<>();
+        private final int latency;
+        private long now = 0;
+        LockstepSession receiver;
+        int sentInputs = 0;
+
+        Link(int latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public void sendInput(int tick, int inputs) {
+            sentInputs++;
+            queue.add(new Message(now + latency, false, tick, inputs));
+        }
+
+        @Override
+        public void sendHash(int tick, long hash) {
+            queue.add(new Message(now + latency, true, tick, hash));
+        }
+
+        void deliver(long frame) {
+            now = frame;
+            deliverUntil(frame);
+        }
+
+        // 보낸 메시지를 모두 도착시킴
+        void flush() {
+            deliverUntil(Long.MAX_VALUE);
+        }
+
+        private void deliverUntil(long frame) {
+            while (!queue.isEmpty() && queue.peek().deliverAt() <= frame) {
+                Message m = queue.poll();
+                if (m.hash())
+                    receiver.onRemoteHash(m.tick(), m.value());
+                else
+                    receiver.onRemoteInput(m.tick(), (int) m.value());
+            }
+        }
+    }
+
+    /**
+     * 한 클라이언트: 두 보드의 시뮬레이션과 세션
+     */
+    private static class Client {
+        final GameSimulation player1;
+        final GameSimulation player2;
+        final LockstepSession session;
+
+        Client(long seed1, long seed2, boolean itemMode, int localPlayer, int hashInterval, Link out) {
+            player1 = new GameSimulation(seed1, itemMode);
+            player2 = new GameSimulation(seed2, itemMode);
+            GameSimulation.connect(player1, player2);
+            session = new LockstepSession(player1, player2, localPlayer,
+                    LockstepSession.DEFAULT_INPUT_DELAY, hashInterval, out);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        Difficulty.setCurrentDifficulty(Difficulty.NORMAL_STRING);
+    }
+
+    // 두 클라이언트를 target 틱까지 진행 (각자 무작위 입력)
+    private static void play(Client host, Client guest, Link toGuest, Link toHost,
+            Random hostInput, Random guestInput, int target) {
+        long frame = toGuest.now;
+        long limit = frame + target * 4L;
+        while (host.session.getTick() < target || guest.session.getTick() < target) {
+            frame++;
+            toGuest.deliver(frame);
+            toHost.deliver(frame);
+
+            if (host.session.getTick() < target) {
+                randomInput(host.session, hostInput);
+                host.session.update();
+            }
+            if (guest.session.getTick() < target) {
+                randomInput(guest.session, guestInput);
+                guest.session.update();
+            }
+            assertTrue("진행이 멈춤", frame < limit);
+        }
+        // 마지막으로 보낸 해시까지 비교
+        toGuest.flush();
+        toHost.flush();
+    }
+
+    private static void randomInput(LockstepSession session, Random random) {
+        if (random.nextInt(100) < 15)
+            session.addLocalInput(INPUTS[random.nextInt(INPUTS.length)]);
+    }
+
+    private static Client[] connect(long seed1, long seed2, boolean itemMode, int hashInterval,
+            Link toGuest, Link toHost) {
+        Client host = new Client(seed1, seed2, itemMode, 1, hashInterval, toGuest);
+        Client guest = new Client(seed1, seed2, itemMode, 2, hashInterval, toHost);
+        toGuest.receiver = guest.session;
+        toHost.receiver = host.session;
+        return new Client[] { host, guest };
+    }
+
+    @Test
+    public void testTwoClientsStayBitIdenticalFor100kTicks() {
+        final int totalTicks = 100_000;
+        final int roundTicks = 5_000;
+
+        Random hostInput = new Random(1);
+        Random guestInput = new Random(2);
+
+        int ticks = 0;
+        for (int round = 0; ticks < totalTicks; round++) {
+            // 게임이 끝나도 틱은 계속 비교되지만, 살아 있는 보드를 더 오래 검증하도록 라운드마다 새 게임
+            Link toGuest = new Link(5);
+            Link toHost = new Link(7);
+            Client[] clients = connect(1000L + round, 2000L + round, round % 2 == 1, 1, toGuest, toHost);
+            Client host = clients[0];
+            Client guest = clients[1];
+
+            play(host, guest, toGuest, toHost, hostInput, guestInput, roundTicks);
+
+            assertFalse("round " + round + " diverged at " + host.session.getDivergedTick(),
+                    host.session.isDiverged());
+            assertFalse(guest.session.isDiverged());
+            assertEquals(host.session.getTick(), guest.session.getTick());
+            assertEquals(host.session.stateHash(), guest.session.stateHash());
+            assertEquals(host.player1.getBoard().toString(), guest.player1.getBoard().toString());
+            assertEquals(host.player2.getScoreModel().getScore(), guest.player2.getScoreModel().getScore());
+
+            ticks += host.session.getTick();
+        }
+        assertTrue(ticks >= totalTicks);
+    }
+
+    @Test
+    public void testDivergenceIsDetected() {
+        Link toGuest = new Link(3);
+        Link toHost = new Link(3);
+        Client[] clients = connect(5L, 6L, false, 10, toGuest, toHost);
+        Client host = clients[0];
+        Client guest = clients[1];
+
+        int[] reported = { -1 };
+        guest.session.setDivergenceListener((tick, localHash, remoteHash) -> reported[0] = tick);
+
+        play(host, guest, toGuest, toHost, new Random(3), new Random(4), 100);
+        assertFalse(guest.session.isDiverged());
+
+        // 한쪽 보드만 바꿈 -> 다음 해시 교환에서 감지
+        int[][] cells = guest.player2.getBoard().getBoard();
+        cells[19][0] = cells[19][0] == 5 ? 6 : 5;
+        play(host, guest, toGuest, toHost, new Random(3), new Random(4), 120);
+
+        assertTrue(guest.session.isDiverged());
+        assertTrue(host.session.isDiverged());
+        assertEquals(110, reported[0]);
+    }
+
+    @Test
+    public void testWaitsForRemoteInput() {
+        Link out = new Link(0);
+        GameSimulation p1 = new GameSimulation(1L, false);
+        GameSimulation p2 = new GameSimulation(2L, false);
+        LockstepSession session = new LockstepSession(p1, p2, 1, out);
+
+        // 지연만큼 빈 입력 + 이번 틱의 입력을 미리 보냄
+        assertEquals(0, session.update());
+        assertEquals(LockstepSession.DEFAULT_INPUT_DELAY + 1, out.sentInputs);
+        assertTrue(session.isWaitingForRemote());
+
+        session.update();
+        assertEquals(0, session.getTick());
+        assertEquals(2, session.getStalledUpdates());
+        // 대기 중에는 더 앞서 보내지 않음
+        assertEquals(LockstepSession.DEFAULT_INPUT_DELAY + 1, out.sentInputs);
+
+        session.onRemoteInput(0, 0);
+        assertEquals(1, session.update());
+        assertEquals(1, session.getTick());
+    }
+
+    @Test
+    public void testInputsAreAppliedAfterDelay() {
+        Link out = new Link(0);
+        GameSimulation p1 = new GameSimulation(1L, false);
+        GameSimulation p2 = new GameSimulation(2L, false);
+        LockstepSession session = new LockstepSession(p1, p2, 2, 2, 60, out);
+        int startCol = p2.getBoard().getCurCol();
+        session.addLocalInput(Input.LEFT);
+        session.onRemoteInput(0, 0);
+        session.update(); // 틱 0 진행, LEFT는 틱 2에 예약
+        session.onRemoteInput(1, 0);
+        session.update(); // 틱 1
+        assertEquals(startCol, p2.getBoard().getCurCol());
+
+        session.onRemoteInput(2, 0);
+        session.update(); // 틱 2
+        assertEquals(startCol - 1, p2.getBoard().getCurCol());
+        // 원격(Player 1) 보드는 입력 없음
+        assertEquals(startCol, p1.getBoard().getCurCol());
+    }
+
+    @Test
+    public void testMissingRemoteInputIsDivergence() {
+        Link out = new Link(0);
+        LockstepSession session = new LockstepSession(new GameSimulation(1L, false), new GameSimulation(2L, false),
+                1, out);
+        session.onRemoteInput(0, 0);
+        session.onRemoteInput(2, 0);
+
+        assertTrue(session.isDiverged());
+        assertEquals(2, session.getDivergedTick());
+    }
+}
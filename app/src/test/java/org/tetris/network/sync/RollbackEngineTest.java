@@ -0,0 +1,212 @@
+package org.tetris.network.sync;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.tetris.game.model.Board;
+import org.tetris.game.model.GameModel;
+import org.tetris.game.model.GameSimulation.Input;
+import org.tetris.game.model.blocks.OBlock;
+
+/**
+ * 롤백/재시뮬레이션 테스트
+ */
+public class RollbackEngineTest {
+
+    /**
+     * 입력/틱 순서를 해시로 누적하는 가짜 시뮬레이션 (순서가 달라지면 값이 달라짐)
+     */
+    private static class HashSimulation implements RollbackEngine.Simulation {
+        long hash = 1;
+        boolean diverged = false;
+        final long[] saved = new long[64];
+
+        @Override
+        public void saveState(int slot) {
+            saved[slot] = hash;
+        }
+
+        @Override
+        public boolean loadState(int slot) {
+            if (diverged)
+                return false;
+            hash = saved[slot];
+            return true;
+        }
+
+        @Override
+        public void applyInput(Input input) {
+            hash = hash * 31 + input.ordinal() + 1;
+        }
+
+        @Override
+        public void tick() {
+            hash = hash * 17 + 1;
+        }
+    }
+
+    @Test
+    public void testLateInputMatchesOnTimeInput() {
+        HashSimulation onTimeSim = new HashSimulation();
+        RollbackEngine onTime = new RollbackEngine(onTimeSim, 10);
+        onTime.addInput(5, Input.LEFT);
+        onTime.addInput(7, Input.ROTATE);
+        onTime.advanceTo(20);
+
+        HashSimulation lateSim = new HashSimulation();
+        RollbackEngine late = new RollbackEngine(lateSim, 10);
+        late.advanceTo(12);
+        late.addInput(5, Input.LEFT);
+        late.addInput(7, Input.ROTATE);
+        late.advanceTo(20);
+
+        assertEquals(onTimeSim.hash, lateSim.hash);
+        assertEquals(2, late.getRollbackCount());
+        assertEquals(7 + 5, late.getResimulatedFrames());
+        assertEquals(0, late.getLateInputCount());
+        assertEquals(0, onTime.getRollbackCount());
+    }
+
+    @Test
+    public void testOutOfOrderInputsKeepFrameOrder() {
+        HashSimulation inOrderSim = new HashSimulation();
+        RollbackEngine inOrder = new RollbackEngine(inOrderSim, 10);
+        inOrder.advanceTo(10);
+        inOrder.addInput(3, Input.LEFT);
+        inOrder.addInput(6, Input.RIGHT);
+
+        HashSimulation reversedSim = new HashSimulation();
+        RollbackEngine reversed = new RollbackEngine(reversedSim, 10);
+        reversed.advanceTo(10);
+        reversed.addInput(6, Input.RIGHT);
+        reversed.addInput(3, Input.LEFT);
+
+        assertEquals(inOrderSim.hash, reversedSim.hash);
+    }
+
+    @Test
+    public void testFutureInputIsHeldUntilFrame() {
+        HashSimulation sim = new HashSimulation();
+        RollbackEngine engine = new RollbackEngine(sim, 10);
+        engine.addInput(3, Input.SOFT_DROP);
+        assertEquals(1, engine.getPendingCount());
+
+        engine.advanceTo(3);
+        assertEquals(1, engine.getPendingCount());
+
+        engine.advance();
+        assertEquals(0, engine.getPendingCount());
+        assertEquals(0, engine.getRollbackCount());
+    }
+
+    @Test
+    public void testInputOlderThanWindowIsClamped() {
+        HashSimulation sim = new HashSimulation();
+        RollbackEngine engine = new RollbackEngine(sim, 5);
+        engine.advanceTo(20);
+        engine.addInput(3, Input.LEFT);
+
+        assertEquals(1, engine.getLateInputCount());
+        assertEquals(5, engine.getResimulatedFrames());
+
+        // 같은 입력을 되돌릴 수 있는 가장 오래된 프레임(15)에 넣은 것과 같아야 함
+        HashSimulation expectedSim = new HashSimulation();
+        RollbackEngine expected = new RollbackEngine(expectedSim, 5);
+        expected.addInput(15, Input.LEFT);
+        expected.advanceTo(20);
+        assertEquals(expectedSim.hash, sim.hash);
+    }
+
+    @Test
+    public void testRebaseDropsHistory() {
+        HashSimulation sim = new HashSimulation();
+        RollbackEngine engine = new RollbackEngine(sim, 10);
+        engine.advanceTo(10);
+        engine.rebase(12);
+
+        assertEquals(12, engine.getFrame());
+
+        // rebase 이전 프레임으로는 되돌릴 수 없으므로 다음 프레임에 적용
+        long before = sim.hash;
+        engine.addInput(11, Input.LEFT);
+        assertEquals(before, sim.hash);
+        assertEquals(1, engine.getLateInputCount());
+        assertEquals(1, engine.getPendingCount());
+
+        engine.advance();
+        assertEquals(0, engine.getPendingCount());
+    }
+
+    @Test
+    public void testDivergedStateIsNotResimulated() {
+        HashSimulation sim = new HashSimulation();
+        RollbackEngine engine = new RollbackEngine(sim, 10);
+        engine.advanceTo(10);
+
+        // 저장된 상태로 되돌릴 수 없으면 재시뮬레이션하지 않고 다음 프레임에 적용
+        sim.diverged = true;
+        long before = sim.hash;
+        engine.addInput(5, Input.LEFT);
+        assertEquals(before, sim.hash);
+        assertEquals(0, engine.getRollbackCount());
+        assertEquals(1, engine.getDivergenceCount());
+        assertEquals(1, engine.getPendingCount());
+
+        // 기록을 버렸으므로 이후 늦은 입력도 되돌리지 않음
+        sim.diverged = false;
+        engine.addInput(7, Input.RIGHT);
+        assertEquals(0, engine.getRollbackCount());
+        assertEquals(1, engine.getLateInputCount());
+
+        engine.advance();
+        assertEquals(0, engine.getPendingCount());
+        assertEquals(11, engine.getFrame());
+    }
+
+    @Test
+    public void testPredictedPieceRejectsStateOfOtherBlock() {
+        GameModel model = new GameModel();
+        model.reset(42L);
+        PredictedPieceSimulation sim = new PredictedPieceSimulation(model, RollbackEngine.slotCount(10));
+        sim.saveState(0);
+        assertTrue(sim.loadState(0));
+
+        // 저장 이후 새 블럭이 스폰됨
+        model.getBoardModel().activeBlock = new OBlock();
+        assertFalse(sim.loadState(0));
+    }
+
+    @Test
+    public void testPredictedPieceLateInputMatchesOnTime() {
+        GameModel onTimeModel = new GameModel();
+        onTimeModel.reset(42L);
+        PredictedPieceSimulation onTimeSim = new PredictedPieceSimulation(onTimeModel, RollbackEngine.slotCount(30));
+        RollbackEngine onTime = new RollbackEngine(onTimeSim, 30);
+
+        GameModel lateModel = new GameModel();
+        lateModel.reset(42L);
+        PredictedPieceSimulation lateSim = new PredictedPieceSimulation(lateModel, RollbackEngine.slotCount(30));
+        RollbackEngine late = new RollbackEngine(lateSim, 30);
+
+        onTime.addInput(2, Input.LEFT);
+        onTime.addInput(4, Input.ROTATE);
+        onTime.addInput(6, Input.SOFT_DROP);
+        onTime.advanceTo(90);
+
+        // 9프레임(150ms) 늦게 도착
+        late.advanceTo(11);
+        late.addInput(2, Input.LEFT);
+        late.addInput(4, Input.ROTATE);
+        late.advanceTo(15);
+        late.addInput(6, Input.SOFT_DROP);
+        late.advanceTo(90);
+
+        Board expected = onTimeModel.getBoardModel();
+        Board actual = lateModel.getBoardModel();
+        assertEquals(expected.getCurRow(), actual.getCurRow());
+        assertEquals(expected.getCurCol(), actual.getCurCol());
+        assertEquals(expected.activeBlock.getRotation(), actual.activeBlock.getRotation());
+        assertArrayEquals(expected.getBoard(), actual.getBoard());
+        assertEquals(onTimeModel.getScoreModel().getScore(), lateModel.getScoreModel().getScore());
+    }
+}
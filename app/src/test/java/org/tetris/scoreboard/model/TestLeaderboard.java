@@ -0,0 +1,108 @@
+package org.tetris.scoreboard.model;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.tetris.game.model.GameMode;
+
+public class TestLeaderboard {
+
+    private static final String[] DIFFICULTIES = { "EASY", "NORMAL", "HARD" };
+
+    @Test
+    public void testInsertIndexAndTies() {
+        Leaderboard board = new Leaderboard();
+
+        assertEquals(0, board.insert(GameMode.NORMAL, new ScoreInfo(100, "A", "EASY")));
+        assertEquals(1, board.insert(GameMode.NORMAL, new ScoreInfo(100, "B", "HARD"))); // 같은 점수는 뒤로
+        assertEquals(0, board.insert(GameMode.NORMAL, new ScoreInfo(200, "C", "EASY")));
+        assertEquals(3, board.insert(GameMode.NORMAL, new ScoreInfo(50, "D", "NORMAL")));
+        assertEquals(0, board.insert(GameMode.ITEM, new ScoreInfo(10, "E", "EASY")));
+
+        List<ScoreInfo> top = board.top(GameMode.NORMAL, null, 10);
+        assertEquals(List.of("C", "A", "B", "D"), top.stream().map(ScoreInfo::name).toList());
+
+        assertEquals(1, board.rankOf(GameMode.NORMAL, null, 300));
+        assertEquals(2, board.rankOf(GameMode.NORMAL, null, 100));
+        assertEquals(2, board.rankOf(GameMode.NORMAL, null, 150));
+        assertEquals(1, board.rankOf(GameMode.NORMAL, "HARD", 100));
+        assertEquals(1, board.rankOf(GameMode.TIME_ATTACK, null, 0));
+
+        assertEquals(4, board.size(GameMode.NORMAL, null));
+        assertEquals(2, board.size(GameMode.NORMAL, "EASY"));
+        assertEquals(1, board.size(GameMode.ITEM, null));
+
+        board.clear(GameMode.NORMAL);
+        assertEquals(0, board.size(GameMode.NORMAL, null));
+        assertEquals(1, board.size(GameMode.ITEM, null));
+    }
+
+    @Test
+    public void testMatchesSortedList() {
+        Random random = new Random(7);
+        Leaderboard board = new Leaderboard();
+        List<ScoreInfo> all = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            ScoreInfo info = new ScoreInfo(random.nextInt(5000), "P" + i, DIFFICULTIES[random.nextInt(3)]);
+            long index = board.insert(GameMode.NORMAL, info);
+
+            // 안정 정렬: 같은 점수는 먼저 넣은 순서
+            int expected = 0;
+            while (expected < all.size() && all.get(expected).score() >= info.score())
+                expected++;
+            all.add(expected, info);
+            assertEquals(expected, index);
+        }
+
+        assertEquals(all.subList(0, 100), board.top(GameMode.NORMAL, null, 100));
+
+        List<ScoreInfo> hard = all.stream().filter(s -> s.difficulty().equals("HARD")).toList();
+        assertEquals(hard.subList(0, 50), board.top(GameMode.NORMAL, "HARD", 50));
+        assertEquals(hard.size(), board.top(GameMode.NORMAL, "HARD", Integer.MAX_VALUE).size());
+        for (int i = 0; i < hard.size(); i += 97) {
+            assertSame(hard.get(i), board.get(GameMode.NORMAL, "HARD", i));
+        }
+        assertNull(board.get(GameMode.NORMAL, "HARD", hard.size()));
+
+        for (int score = -1; score <= 5001; score += 37) {
+            final int s = score;
+            long above = all.stream().filter(x -> x.score() > s).count();
+            long hardAbove = hard.stream().filter(x -> x.score() > s).count();
+            assertEquals(above + 1, board.rankOf(GameMode.NORMAL, null, score));
+            assertEquals(hardAbove + 1, board.rankOf(GameMode.NORMAL, "HARD", score));
+        }
+    }
+
+    @Test
+    public void testMillionEntries() {
+        final int n = 1_000_000;
+        Random random = new Random(3);
+        Leaderboard board = new Leaderboard();
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            int score = random.nextInt(1_000_000);
+            max = Math.max(max, score);
+            board.insert(GameMode.TIME_ATTACK, new ScoreInfo(score, "P", "NORMAL"));
+        }
+
+        assertEquals(n, board.size(GameMode.TIME_ATTACK, "NORMAL"));
+        assertEquals(1, board.rankOf(GameMode.TIME_ATTACK, "NORMAL", max));
+        assertEquals(n + 1, board.rankOf(GameMode.TIME_ATTACK, "NORMAL", -1));
+
+        List<ScoreInfo> top = board.top(GameMode.TIME_ATTACK, "NORMAL", 10);
+        assertEquals(max, top.get(0).score());
+        List<ScoreInfo> sorted = new ArrayList<>(top);
+        sorted.sort(Comparator.comparingInt(ScoreInfo::score).reversed());
+        assertEquals(sorted, top);
+
+        // k번째 항목의 등수는 k 이하 (같은 점수면 더 작음)
+        ScoreInfo middle = board.get(GameMode.TIME_ATTACK, "NORMAL", n / 2);
+        assertTrue(board.rankOf(GameMode.TIME_ATTACK, "NORMAL", middle.score()) <= n / 2 + 1);
+    }
+}
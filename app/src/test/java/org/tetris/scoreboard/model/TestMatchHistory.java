@@ -0,0 +1,162 @@
+package org.tetris.scoreboard.model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tetris.game.model.GameMode;
+
+public class TestMatchHistory {
+
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("match_history", ".dat");
+        Files.delete(path);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void testAppendAndGet() throws IOException {
+        MatchRecord record = new MatchRecord(12345, 42, 5, GameMode.TIME_ATTACK, "HARD", 180_000, 1_700_000_000_000L);
+
+        try (MatchHistory history = MatchHistory.open(path)) {
+            assertEquals(0, history.size());
+            assertEquals(0, history.append(record));
+            assertEquals(1, history.append(new MatchRecord(10, 1, 1, GameMode.ITEM, "NORMAL", 5_000, 1L)));
+
+            assertEquals(2, history.size());
+            assertEquals(record, history.get(0));
+            assertEquals(10, history.getScore(1));
+            assertEquals(1L, history.getTimestamp(1));
+        }
+    }
+
+    @Test
+    public void testReopenKeepsRecords() throws IOException {
+        try (MatchHistory history = MatchHistory.open(path)) {
+            for (int i = 0; i < 3000; i++) // 처음 매핑 크기를 넘겨 확장
+                history.append(new MatchRecord(i, i % 7, 1 + i % 10, GameMode.NORMAL, "EASY", i, i));
+        }
+
+        try (MatchHistory history = MatchHistory.open(path)) {
+            assertEquals(3000, history.size());
+            assertEquals(new MatchRecord(2999, 2999 % 7, 1 + 2999 % 10, GameMode.NORMAL, "EASY", 2999, 2999),
+                    history.get(2999));
+
+            history.append(new MatchRecord(1, 1, 1, GameMode.ITEM, "HARD", 1, 1));
+            assertEquals(3001, history.size());
+        }
+
+        try (MatchHistory history = MatchHistory.open(path)) {
+            assertEquals(3001, history.size());
+            assertEquals(GameMode.ITEM, history.get(3000).mode());
+        }
+    }
+
+    @Test
+    public void testStats() throws IOException {
+        try (MatchHistory history = MatchHistory.open(path)) {
+            history.append(new MatchRecord(100, 10, 2, GameMode.NORMAL, "EASY", 1000, 10));
+            history.append(new MatchRecord(300, 30, 4, GameMode.NORMAL, "EASY", 3000, 20));
+            history.append(new MatchRecord(500, 50, 6, GameMode.NORMAL, "HARD", 5000, 30));
+            history.append(new MatchRecord(700, 70, 8, GameMode.ITEM, "EASY", 7000, 40));
+
+            MatchHistory.Stats all = history.stats(null, null);
+            assertEquals(4, all.count());
+            assertEquals(700, all.bestScore());
+            assertEquals(1600, all.totalScore());
+            assertEquals(160, all.totalLines());
+            assertEquals(16000, all.totalDurationMillis());
+
+            MatchHistory.Stats normalEasy = history.stats(GameMode.NORMAL, "EASY");
+            assertEquals(2, normalEasy.count());
+            assertEquals(300, normalEasy.bestScore());
+            assertEquals(200.0, normalEasy.averageScore(), 0.0);
+
+            MatchHistory.Stats period = history.stats(null, null, 20, 40);
+            assertEquals(2, period.count());
+            assertEquals(800, period.totalScore());
+
+            assertEquals(0, history.stats(GameMode.TIME_ATTACK, null).count());
+            assertEquals(0.0, history.stats(GameMode.TIME_ATTACK, null).averageScore(), 0.0);
+        }
+    }
+
+    @Test
+    public void testScanMillionRecords() throws IOException {
+        final int n = 1_000_000;
+        long expectedTotal = 0;
+        try (MatchHistory history = MatchHistory.open(path)) {
+            for (int i = 0; i < n; i++) {
+                int score = i % 10_000;
+                history.append(new MatchRecord(score, 1, 1, GameMode.values()[i % 3], "NORMAL", 1, i));
+                if (i % 3 == 0)
+                    expectedTotal += score;
+            }
+
+            MatchHistory.Stats stats = history.stats(GameMode.NORMAL, "NORMAL");
+            assertEquals((n + 2) / 3, stats.count());
+            assertEquals(expectedTotal, stats.totalScore());
+            assertEquals(9999, stats.bestScore());
+        }
+        assertTrue(Files.size(path) >= (long) n * MatchHistory.RECORD_SIZE);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() throws IOException {
+        try (MatchHistory history = MatchHistory.open(path)) {
+            history.get(0);
+        }
+    }
+
+    @Test
+    public void testCorruptRecordIsReportedAndSkipped() throws IOException {
+        try (MatchHistory history = MatchHistory.open(path)) {
+            history.append(new MatchRecord(100, 1, 1, GameMode.NORMAL, "EASY", 1, 1));
+            history.append(new MatchRecord(200, 2, 1, GameMode.NORMAL, "EASY", 1, 2));
+            history.append(new MatchRecord(300, 3, 1, GameMode.NORMAL, "EASY", 1, 3));
+        }
+        // 1번 레코드의 모드(+22), 2번 레코드의 난이도(+23) 바이트를 범위 밖 값으로 덮어씀
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 9 }), MatchHistory.HEADER_SIZE + MatchHistory.RECORD_SIZE + 22);
+            channel.write(ByteBuffer.wrap(new byte[] { (byte) 0x80 }),
+                    MatchHistory.HEADER_SIZE + 2 * MatchHistory.RECORD_SIZE + 23);
+        }
+
+        try (MatchHistory history = MatchHistory.open(path)) {
+            assertEquals(100, history.get(0).score());
+            for (int i = 1; i <= 2; i++) {
+                try {
+                    history.get(i);
+                    fail("StreamCorruptedException expected for record " + i);
+                } catch (StreamCorruptedException expected) {
+                }
+            }
+
+            MatchHistory.Stats all = history.stats(null, null);
+            assertEquals(1, all.count());
+            assertEquals(100, all.totalScore());
+        }
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void testRejectsOtherFile() throws IOException {
+        Files.write(path, new byte[64]);
+        MatchHistory.open(path).close();
+    }
+}
@@ -2,8 +2,15 @@ package org.tetris.scoreboard.model;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Random;
 
+import org.junit.After;
 import org.junit.Test;
 
 public class TestScoreBoard {
@@ -11,10 +18,34 @@ public class TestScoreBoard {
     private ScoreBoard scoreBoard;
     private final String testReadFilePath = "src/test/java/org/tetris/scoreboard/TestReadScore.csv";
     private final String testWriteFilePath = "src/test/java/org/tetris/scoreboard/TestWriteScore.csv";
+    private Path tempFile;
+
+    @After
+    public void tearDown() throws IOException {
+        ScoreBoard.closeAll();
+        if (tempFile != null) {
+            Path itemFile = Paths.get(ScoreBoard.itemPathOf(tempFile.toString()));
+            Files.deleteIfExists(tempFile);
+            Files.deleteIfExists(Paths.get(tempFile + ScoreLog.WAL_SUFFIX));
+            Files.deleteIfExists(itemFile);
+            Files.deleteIfExists(Paths.get(itemFile + ScoreLog.WAL_SUFFIX));
+        }
+    }
+
+    // insert는 바로 파일에 기록되므로 저장소의 파일이 아닌 복사본에서 시험
+    private String copyOf(String path) throws IOException {
+        tempFile = Files.createTempFile("score", ".csv");
+        Files.copy(Paths.get(path), tempFile, StandardCopyOption.REPLACE_EXISTING);
+        return tempFile.toString();
+    }
+
+    private String copyOfReadFile() throws IOException {
+        return copyOf(testReadFilePath);
+    }
 
     @Test
-    public void testInsert() {
-        scoreBoard = new ScoreBoard(2, testReadFilePath);
+    public void testInsert() throws IOException {
+        scoreBoard = new ScoreBoard(2, copyOfReadFile());
         scoreBoard.insert(new ScoreInfo(100, "TEST1", "EASY"));
         scoreBoard.insert(new ScoreInfo(200, "TEST2", "HARD"));
         scoreBoard.insert(new ScoreInfo(150, "TEST3", "MEDIUM"));
@@ -41,8 +72,8 @@ public class TestScoreBoard {
     }
 
     @Test
-    public void testWriteHighScore() {
-        scoreBoard = new ScoreBoard(2, testWriteFilePath);
+    public void testWriteHighScore() throws IOException {
+        scoreBoard = new ScoreBoard(2, copyOf(testWriteFilePath));
         var randomScore = new Random().nextInt(1000);
         var playerName = "TEST_WRITE";
         var difficulty = "HARD";
@@ -56,4 +87,55 @@ public class TestScoreBoard {
         assertEquals(playerName, scores.get(0).name());
         assertEquals(difficulty, scores.get(0).difficulty());
     }
+
+    @Test
+    public void testRankAndTopScores() throws IOException {
+        scoreBoard = new ScoreBoard(2, copyOfReadFile());
+        long before = scoreBoard.size();
+        scoreBoard.insert(new ScoreInfo(5000, "TOP", "HARD"));
+        scoreBoard.insert(new ScoreInfo(4000, "SECOND", "EASY"));
+        assertEquals(-1, scoreBoard.insert(new ScoreInfo(3000, "THIRD", "HARD"))); // 상위 2개 밖
+
+        assertEquals(before + 3, scoreBoard.size());
+        assertEquals(1, scoreBoard.getRank(6000, null));
+        assertEquals(3, scoreBoard.getRank(3000, null));
+        assertEquals(2, scoreBoard.getRank(3000, "HARD"));
+
+        var hard = scoreBoard.getTopScores("HARD", 2);
+        assertEquals("TOP", hard.get(0).name());
+        assertEquals("THIRD", hard.get(1).name());
+    }
+
+    @Test
+    public void testItemScoresUseFileNextToHighScorePath() throws IOException {
+        assertEquals("dir/scores.item.csv", ScoreBoard.itemPathOf("dir/scores.csv"));
+        assertEquals("dir.v2/scores.item", ScoreBoard.itemPathOf("dir.v2/scores"));
+
+        scoreBoard = new ScoreBoard(2, copyOfReadFile());
+        scoreBoard.setHighScorePath(true);
+        scoreBoard.insert(new ScoreInfo(700, "ITEM", "EASY"));
+        scoreBoard.writeHighScoreList();
+
+        List<String> lines = Files.readAllLines(Paths.get(ScoreBoard.itemPathOf(tempFile.toString())));
+        assertEquals("700,ITEM,EASY", lines.get(1));
+    }
+
+    @Test
+    public void testBoardsOnSamePathShareOpenFile() throws IOException {
+        String path = copyOfReadFile();
+        scoreBoard = new ScoreBoard(2, path);
+        ScoreBoard other = new ScoreBoard(2, path);
+        long before = other.size();
+
+        // 같은 경로는 다시 복구하지 않고 같은 기록을 봄
+        scoreBoard.insert(new ScoreInfo(9000, "SHARED", "EASY"));
+        assertEquals(before + 1, other.size());
+        assertEquals("SHARED", other.getHighScoreList().get(0).name());
+
+        // 닫은 뒤에 만들면 파일에서 다시 복구
+        ScoreBoard.closeAll();
+        ScoreBoard reopened = new ScoreBoard(2, path);
+        assertEquals(before + 1, reopened.size());
+        assertEquals("SHARED", reopened.getHighScoreList().get(0).name());
+    }
 }
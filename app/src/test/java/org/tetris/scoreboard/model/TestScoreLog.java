@@ -0,0 +1,122 @@
+package org.tetris.scoreboard.model;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestScoreLog {
+
+    private Path dir;
+    private Path snapshot;
+    private Path wal;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("score_log");
+        snapshot = dir.resolve("scores.csv");
+        wal = dir.resolve("scores.csv" + ScoreLog.WAL_SUFFIX);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ScoreLog.flush();
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList())
+                Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testRecoverFromLog() {
+        ScoreLog log = new ScoreLog(snapshot);
+        assertTrue(log.recover().isEmpty());
+        log.append(new ScoreInfo(100, "A", "EASY"));
+        log.append(new ScoreInfo(300, "B", "HARD"));
+        log.close();
+
+        ScoreLog reopened = new ScoreLog(snapshot);
+        List<ScoreInfo> scores = reopened.recover();
+        assertEquals(List.of(new ScoreInfo(100, "A", "EASY"), new ScoreInfo(300, "B", "HARD")), scores);
+        assertEquals(2, reopened.pendingCount());
+        reopened.close();
+    }
+
+    @Test
+    public void testCompactWritesSnapshotAndEmptiesLog() throws IOException {
+        ScoreLog log = new ScoreLog(snapshot);
+        log.recover();
+        log.append(new ScoreInfo(100, "A", "EASY"));
+        log.append(new ScoreInfo(300, "B", "HARD"));
+        log.compact(List.of(new ScoreInfo(300, "B", "HARD"), new ScoreInfo(100, "A", "EASY"))).join();
+        assertEquals(0, log.pendingCount());
+        assertEquals(0, Files.size(wal));
+
+        log.append(new ScoreInfo(200, "C", "NORMAL")); // 합친 뒤 추가된 점수는 로그에 남음
+        log.close();
+
+        List<String> lines = Files.readAllLines(snapshot);
+        assertEquals(List.of("#wal,2", "300,B,HARD", "100,A,EASY"), lines);
+
+        ScoreLog reopened = new ScoreLog(snapshot);
+        assertEquals(List.of(new ScoreInfo(300, "B", "HARD"), new ScoreInfo(100, "A", "EASY"),
+                new ScoreInfo(200, "C", "NORMAL")), reopened.recover());
+        reopened.close();
+    }
+
+    @Test
+    public void testCompactSortsRecordedScores() throws IOException {
+        Files.write(snapshot, List.of("500,OLD,HARD", "100,OLDER,EASY"));
+        ScoreLog log = new ScoreLog(snapshot);
+        log.recover();
+        log.append(new ScoreInfo(300, "A", "EASY"));
+        log.append(new ScoreInfo(100, "B", "EASY"));
+        log.compact().join();
+        log.close();
+
+        // 같은 점수는 먼저 기록된 순서
+        assertEquals(List.of("#wal,2", "500,OLD,HARD", "300,A,EASY", "100,OLDER,EASY", "100,B,EASY"),
+                Files.readAllLines(snapshot));
+    }
+
+    @Test
+    public void testIgnoresTornAndAlreadyCompactedLines() throws IOException {
+        ScoreLog log = new ScoreLog(snapshot);
+        log.recover();
+        log.append(new ScoreInfo(100, "A", "EASY"));
+        log.append(new ScoreInfo(200, "B", "EASY"));
+        log.close();
+        List<String> walLines = Files.readAllLines(wal);
+
+        // 스냅샷 교체 직후, 로그를 비우기 전에 죽은 상황: 1번은 이미 스냅샷에 있음
+        Files.write(snapshot, List.of("#wal,1", "100,A,EASY"));
+        // 마지막 줄은 쓰다가 잘림
+        Files.writeString(wal, walLines.get(1).substring(0, 8), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ScoreLog reopened = new ScoreLog(snapshot);
+        assertEquals(List.of(new ScoreInfo(100, "A", "EASY"), new ScoreInfo(200, "B", "EASY")), reopened.recover());
+
+        // 번호는 이어서 매김
+        reopened.append(new ScoreInfo(50, "C", "HARD"));
+        reopened.close();
+        assertTrue(Files.readAllLines(wal).get(Files.readAllLines(wal).size() - 1).startsWith("3,50,C,HARD,"));
+    }
+
+    @Test
+    public void testReadsPlainCsvSnapshot() throws IOException {
+        Files.write(snapshot, List.of("500,OLD,HARD", "100,OLDER,EASY"));
+        ScoreLog log = new ScoreLog(snapshot);
+        assertEquals(List.of(new ScoreInfo(500, "OLD", "HARD"), new ScoreInfo(100, "OLDER", "EASY")), log.recover());
+        assertEquals(0, log.pendingCount());
+        log.close();
+    }
+}